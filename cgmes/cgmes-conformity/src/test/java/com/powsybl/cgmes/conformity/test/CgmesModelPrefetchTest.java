@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conformity.test;
+
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CgmesModelPrefetchTest {
+
+    private static final List<String> QUERIES = List.of("substations", "voltageLevels", "terminals", "switches",
+            "acLineSegments", "transformers", "operationalLimits", "unknownQuery");
+
+    private static void testPrefetch(String implementation) {
+        ReadOnlyDataSource ds = CgmesConformity1Catalog.microGridBaseCaseBE().dataSource();
+        CgmesModel expected = CgmesModelFactory.create(ds, implementation);
+        CgmesModel actual = CgmesModelFactory.create(ds, implementation);
+        actual.prefetchQueries(QUERIES, 4);
+
+        PropertyBags substations = actual.substations();
+        assertEquals(solutions(expected.substations()), solutions(substations));
+        assertEquals(solutions(expected.voltageLevels()), solutions(actual.voltageLevels()));
+        assertEquals(solutions(expected.terminals()), solutions(actual.terminals()));
+        assertEquals(solutions(expected.switches()), solutions(actual.switches()));
+        assertEquals(solutions(expected.acLineSegments()), solutions(actual.acLineSegments()));
+        assertEquals(solutions(expected.transformers()), solutions(actual.transformers()));
+        assertEquals(solutions(expected.operationalLimits()), solutions(actual.operationalLimits()));
+
+        // a prefetched result is returned only once
+        PropertyBags substations2 = actual.substations();
+        assertNotSame(substations, substations2);
+        assertEquals(solutions(substations), solutions(substations2));
+
+        // results not used are released when the model is updated
+        actual.prefetchQueries(QUERIES, 4);
+        actual.setQueryCatalog("-update");
+        assertEquals(solutions(expected.substations()), solutions(actual.substations()));
+    }
+
+    private static Set<Map<String, String>> solutions(PropertyBags bags) {
+        return bags.stream().map(bag -> (Map<String, String>) new HashMap<>(bag)).collect(Collectors.toSet());
+    }
+
+    @Test
+    void testTripleStore() {
+        testPrefetch(TripleStoreFactory.defaultImplementation());
+    }
+}
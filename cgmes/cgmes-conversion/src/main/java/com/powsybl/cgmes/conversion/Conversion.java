@@ -31,6 +31,10 @@ import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -157,6 +161,7 @@ public class Conversion {
             CgmesReports.applyingProcessorReport(preProcessorsNode, preProcessor.getName());
             preProcessor.process(cgmes);
         }
+        cgmes.prefetchQueries(conversionQueries(), config.getQueryPrefetchParallelism());
         if (LOG.isTraceEnabled() && cgmes.baseVoltages() != null) {
             LOG.trace("{}{}{}", "BaseVoltages", System.lineSeparator(), cgmes.baseVoltages().tabulate());
         }
@@ -260,6 +265,7 @@ public class Conversion {
         }
 
         CgmesReports.importedCgmesNetworkReport(reportNode, network.getId());
+        cgmes.clearPrefetchedQueries();
 
         updateWithAllInputs(network, reportNode);
 
@@ -434,40 +440,113 @@ public class Conversion {
 
     private void convert(PropertyBags elements, String elementType, Context context) {
         context.pushReportNode(CgmesReports.convertingElementTypeReport(context.getReportNode(), elementType));
-        for (PropertyBag element : elements) {
-            if (LOG.isTraceEnabled()) {
-                LOG.trace(element.tabulateLocals(elementType));
-            }
-            AbstractObjectConversion c = switch (elementType) {
-                case CgmesNames.SUBSTATION -> new SubstationConversion(element, context);
-                case CgmesNames.VOLTAGE_LEVEL -> new VoltageLevelConversion(element, context);
-                case CgmesNames.CONNECTIVITY_NODE, CgmesNames.TOPOLOGICAL_NODE -> new NodeConversion(elementType, element, context);
-                case CgmesNames.BUSBAR_SECTION -> new BusbarSectionConversion(element, context);
-                case CgmesNames.GROUND -> new GroundConversion(element, context);
-                case CgmesNames.ENERGY_CONSUMER -> new EnergyConsumerConversion(element, context);
-                case CgmesNames.ENERGY_SOURCE -> new EnergySourceConversion(element, context);
-                case CgmesNames.EQUIVALENT_INJECTION -> new EquivalentInjectionConversion(element, context);
-                case CgmesNames.EXTERNAL_NETWORK_INJECTION -> new ExternalNetworkInjectionConversion(element, context);
-                case CgmesNames.SHUNT_COMPENSATOR -> new ShuntConversion(element, context);
-                case CgmesNames.EQUIVALENT_SHUNT -> new EquivalentShuntConversion(element, context);
-                case CgmesNames.STATIC_VAR_COMPENSATOR -> new StaticVarCompensatorConversion(element, context);
-                case CgmesNames.ASYNCHRONOUS_MACHINE -> new AsynchronousMachineConversion(element, context);
-                case CgmesNames.SYNCHRONOUS_MACHINE -> new SynchronousMachineConversion(element, context);
-                case CgmesNames.SERIES_COMPENSATOR -> new SeriesCompensatorConversion(element, context);
-                case CgmesNames.OPERATIONAL_LIMIT -> new OperationalLimitConversion(element, context);
-                case CgmesNames.CONTROL_AREA -> new ControlAreaConversion(element, context);
-                case CgmesNames.TIE_FLOW -> new TieFlowConversion(element, context);
-                default -> throw new IllegalArgumentException("Invalid elementType.");
-            };
-            if (c.insideBoundary()) {
-                c.convertInsideBoundary();
-            } else if (c.valid()) {
-                c.convert();
+        if (config.getConversionParallelism() > 1
+                && PARTITIONED_ELEMENT_TYPES.contains(elementType)
+                && elements.size() >= 2 * config.getConversionPartitionMinSize()) {
+            convertPartitioned(elements, elementType, context);
+        } else {
+            for (PropertyBag element : elements) {
+                AbstractObjectConversion c = createConversion(element, elementType, context);
+                if (c.insideBoundary()) {
+                    c.convertInsideBoundary();
+                } else if (c.valid()) {
+                    c.convert();
+                }
             }
         }
         context.popReportNode();
     }
 
+    private static AbstractObjectConversion createConversion(PropertyBag element, String elementType, Context context) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace(element.tabulateLocals(elementType));
+        }
+        return switch (elementType) {
+            case CgmesNames.SUBSTATION -> new SubstationConversion(element, context);
+            case CgmesNames.VOLTAGE_LEVEL -> new VoltageLevelConversion(element, context);
+            case CgmesNames.CONNECTIVITY_NODE, CgmesNames.TOPOLOGICAL_NODE -> new NodeConversion(elementType, element, context);
+            case CgmesNames.BUSBAR_SECTION -> new BusbarSectionConversion(element, context);
+            case CgmesNames.GROUND -> new GroundConversion(element, context);
+            case CgmesNames.ENERGY_CONSUMER -> new EnergyConsumerConversion(element, context);
+            case CgmesNames.ENERGY_SOURCE -> new EnergySourceConversion(element, context);
+            case CgmesNames.EQUIVALENT_INJECTION -> new EquivalentInjectionConversion(element, context);
+            case CgmesNames.EXTERNAL_NETWORK_INJECTION -> new ExternalNetworkInjectionConversion(element, context);
+            case CgmesNames.SHUNT_COMPENSATOR -> new ShuntConversion(element, context);
+            case CgmesNames.EQUIVALENT_SHUNT -> new EquivalentShuntConversion(element, context);
+            case CgmesNames.STATIC_VAR_COMPENSATOR -> new StaticVarCompensatorConversion(element, context);
+            case CgmesNames.ASYNCHRONOUS_MACHINE -> new AsynchronousMachineConversion(element, context);
+            case CgmesNames.SYNCHRONOUS_MACHINE -> new SynchronousMachineConversion(element, context);
+            case CgmesNames.SERIES_COMPENSATOR -> new SeriesCompensatorConversion(element, context);
+            case CgmesNames.OPERATIONAL_LIMIT -> new OperationalLimitConversion(element, context);
+            case CgmesNames.CONTROL_AREA -> new ControlAreaConversion(element, context);
+            case CgmesNames.TIE_FLOW -> new TieFlowConversion(element, context);
+            default -> throw new IllegalArgumentException("Invalid elementType.");
+        };
+    }
+
+    /**
+     * A conversion whose CGMES data has been resolved and validated, ready to create the IIDM object.
+     */
+    private record PreparedConversion(AbstractObjectConversion conversion, boolean insideBoundary, boolean valid) {
+
+        static PreparedConversion prepare(PropertyBag element, String elementType, Context context) {
+            AbstractObjectConversion c = createConversion(element, elementType, context);
+            boolean insideBoundary = c.insideBoundary();
+            // Elements inside boundary are validated when converted, depending on the configuration
+            return new PreparedConversion(c, insideBoundary, !insideBoundary && c.valid());
+        }
+
+        void convert() {
+            if (insideBoundary) {
+                conversion.convertInsideBoundary();
+            } else if (valid) {
+                conversion.convert();
+            }
+        }
+    }
+
+    /**
+     * The elements are split in contiguous partitions whose conversions are prepared concurrently: the terminals,
+     * nodes and voltage levels of the elements are resolved and the elements are validated while the network is only
+     * read. The IIDM objects are then created one after the other, in the order of the elements, so the network is
+     * identical to the one of the sequential conversion.
+     */
+    private void convertPartitioned(PropertyBags elements, String elementType, Context context) {
+        int size = elements.size();
+        int numPartitions = Math.min(config.getConversionParallelism(), size / config.getConversionPartitionMinSize());
+        int partitionSize = (size + numPartitions - 1) / numPartitions;
+        PreparedConversion[] prepared = new PreparedConversion[size];
+        ExecutorService executor = Executors.newFixedThreadPool(numPartitions);
+        try {
+            List<Future<?>> futures = new ArrayList<>(numPartitions);
+            for (int start = 0; start < size; start += partitionSize) {
+                int from = start;
+                int to = Math.min(start + partitionSize, size);
+                futures.add(executor.submit(() -> {
+                    for (int i = from; i < to; i++) {
+                        prepared[i] = PreparedConversion.prepare(elements.get(i), elementType, context);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConversionException("Preparing conversion of " + elementType, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new ConversionException("Preparing conversion of " + elementType, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        for (PreparedConversion p : prepared) {
+            p.convert();
+        }
+    }
+
     private Network createNetwork() {
         String networkId = cgmes.modelId();
         String sourceFormat = "CGMES";
@@ -475,11 +554,29 @@ public class Conversion {
     }
 
     private Context createUpdateContext(Network network, ReportNode reportNode) {
+        cgmes.prefetchQueries(UPDATE_CONTEXT_QUERIES, config.getQueryPrefetchParallelism());
         Context context = new Context(cgmes, config, network, reportNode);
         context.buildUpdateCache();
+        cgmes.clearPrefetchedQueries();
         return context;
     }
 
+    /**
+     * Queries evaluated once during the conversion, whatever the content of the model.
+     */
+    private List<String> conversionQueries() {
+        List<String> queries = new ArrayList<>(CONTEXT_QUERIES);
+        queries.addAll(List.of("terminals", "regulatingControls", "substations", "voltageLevels",
+                "grounds", "energyConsumers", "energySources", "equivalentInjections", "externalNetworkInjections",
+                "shuntCompensators", "equivalentShunts", "staticVarCompensators", "asynchronousMachines",
+                "synchronousMachinesGenerators", "synchronousMachinesCondensers",
+                "switches", "acLineSegments", "equivalentBranches", "seriesCompensators", "transformers", "operationalLimits"));
+        if (config.importControlAreas()) {
+            queries.addAll(List.of("controlAreas", "tieFlows"));
+        }
+        return queries;
+    }
+
     private void assignNetworkProperties(Context context) {
         context.network().setProperty(NETWORK_PS_CGMES_MODEL_DETAIL,
                 context.nodeBreaker()
@@ -1040,6 +1137,60 @@ public class Conversion {
             return this;
         }
 
+        public int getConversionParallelism() {
+            return conversionParallelism;
+        }
+
+        /**
+         * Maximum number of threads resolving and validating the CGMES data of injections before the creation of the
+         * IIDM objects, that is always sequential. 1, the default, to convert each element completely before the next
+         * one.
+         */
+        public Config setConversionParallelism(int conversionParallelism) {
+            if (conversionParallelism < 1) {
+                throw new IllegalArgumentException("Invalid conversion parallelism: " + conversionParallelism);
+            }
+            this.conversionParallelism = conversionParallelism;
+            return this;
+        }
+
+        public int getConversionPartitionMinSize() {
+            return conversionPartitionMinSize;
+        }
+
+        /**
+         * Minimum number of elements prepared by each thread of a concurrent conversion, 32 by default. Element types
+         * with less than twice this number of elements are converted sequentially.
+         */
+        public Config setConversionPartitionMinSize(int conversionPartitionMinSize) {
+            if (conversionPartitionMinSize < 1) {
+                throw new IllegalArgumentException("Invalid conversion partition minimum size: " + conversionPartitionMinSize);
+            }
+            this.conversionPartitionMinSize = conversionPartitionMinSize;
+            return this;
+        }
+
+        public int getQueryPrefetchParallelism() {
+            return queryPrefetchParallelism;
+        }
+
+        /**
+         * Maximum number of CGMES queries evaluated concurrently before the conversion, 1, the default, to evaluate
+         * the queries one after the other when they are needed.
+         * <p>
+         * With a greater value, the results of all the queries used by the conversion are evaluated before it starts
+         * and kept in memory together, each one being released only once it has been used. The peak memory used by
+         * the import is then close to the sum of the sizes of all these query results, instead of the size of the
+         * largest one.
+         */
+        public Config setQueryPrefetchParallelism(int queryPrefetchParallelism) {
+            if (queryPrefetchParallelism < 1) {
+                throw new IllegalArgumentException("Invalid query prefetch parallelism: " + queryPrefetchParallelism);
+            }
+            this.queryPrefetchParallelism = queryPrefetchParallelism;
+            return this;
+        }
+
         private boolean convertBoundary = false;
 
         private boolean createBusbarSectionForEveryConnectivityNode = false;
@@ -1070,8 +1221,26 @@ public class Conversion {
         private boolean createFictitiousVoltageLevelsForEveryNode = true;
         private static final boolean UPDATE_TERMINAL_CONNECTION_IN_NODE_BREAKER_VOLTAGE_LEVEL = false;
         private boolean usePreviousValuesDuringUpdate = false;
+        private int queryPrefetchParallelism = 1;
+        private int conversionParallelism = 1;
+        private int conversionPartitionMinSize = 32;
     }
 
+    // Queries of the caches built when creating a context
+    private static final List<String> CONTEXT_QUERIES = List.of("transformerEnds", "ratioTapChangers", "ratioTapChangerTablePoints",
+            "phaseTapChangers", "phaseTapChangerTablePoints", "nonlinearShuntCompensatorPoints", "reactiveCapabilityCurveData");
+
+    private static final List<String> UPDATE_CONTEXT_QUERIES = Stream.concat(CONTEXT_QUERIES.stream(),
+            Stream.of("terminals", "regulatingControls", "operationalLimits", "generatingUnits", "equivalentInjections", "svVoltages", "switches"))
+            .toList();
+
+    // Element types whose conversion only reads the network and the mappings of the context before creating the
+    // IIDM objects, so it can be prepared concurrently
+    private static final Set<String> PARTITIONED_ELEMENT_TYPES = Set.of(CgmesNames.GROUND, CgmesNames.ENERGY_CONSUMER,
+            CgmesNames.ENERGY_SOURCE, CgmesNames.EQUIVALENT_INJECTION, CgmesNames.EXTERNAL_NETWORK_INJECTION,
+            CgmesNames.SHUNT_COMPENSATOR, CgmesNames.EQUIVALENT_SHUNT, CgmesNames.STATIC_VAR_COMPENSATOR,
+            CgmesNames.ASYNCHRONOUS_MACHINE, CgmesNames.SYNCHRONOUS_MACHINE);
+
     private final CgmesModel cgmes;
     private final Config config;
     private final List<CgmesImportPostProcessor> postProcessors;
@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.test;
+
+import com.powsybl.cgmes.conformity.Cgmes3Catalog;
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.Conversion;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.commons.test.AbstractSerDeTest;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class PartitionedConversionTest extends AbstractSerDeTest {
+
+    private void testSameAsSequential(GridModelReference gridModel) throws IOException {
+        // small partitions, so that the loads and generators of the conformity cases are converted concurrently
+        Network actual = testSameAsSequential(gridModel, new Conversion.Config().setConversionParallelism(4).setConversionPartitionMinSize(1));
+        assertTrue(actual.getLoadCount() >= 2);
+        assertTrue(actual.getGeneratorCount() >= 2);
+    }
+
+    private Network testSameAsSequential(GridModelReference gridModel, Conversion.Config config) throws IOException {
+        Network expected = ConversionUtil.networkModel(gridModel, new Conversion.Config().setConversionParallelism(1));
+        Network actual = ConversionUtil.networkModel(gridModel, config);
+
+        // exports are not sorted, so that the order of creation of the objects is compared too
+        Path expectedPath = tmpDir.resolve("expected.xiidm");
+        Path actualPath = tmpDir.resolve("actual.xiidm");
+        NetworkSerDe.write(expected, expectedPath);
+        NetworkSerDe.write(actual, actualPath);
+        assertEquals(Files.readString(expectedPath), Files.readString(actualPath));
+        return actual;
+    }
+
+    @Test
+    void smallBusBranch() throws IOException {
+        testSameAsSequential(CgmesConformity1Catalog.smallBusBranch());
+    }
+
+    @Test
+    void smallNodeBreaker() throws IOException {
+        testSameAsSequential(CgmesConformity1Catalog.smallNodeBreaker());
+    }
+
+    @Test
+    void cgmes3SmallGrid() throws IOException {
+        testSameAsSequential(Cgmes3Catalog.smallGrid());
+    }
+
+    @Test
+    void invalidParallelism() {
+        Conversion.Config config = new Conversion.Config();
+        assertEquals(1, config.getQueryPrefetchParallelism());
+        assertThrows(IllegalArgumentException.class, () -> config.setConversionParallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> config.setQueryPrefetchParallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> config.setConversionPartitionMinSize(0));
+    }
+}
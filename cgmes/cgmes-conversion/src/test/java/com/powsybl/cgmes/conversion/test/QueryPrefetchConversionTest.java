@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.test;
+
+import com.powsybl.cgmes.conformity.Cgmes3Catalog;
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.Conversion;
+import com.powsybl.cgmes.model.CgmesOnDataSource;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.test.AbstractSerDeTest;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import com.powsybl.triplestore.api.TripleStoreOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conversions with the queries prefetched concurrently on the shared triple store, compared with sequential ones.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class QueryPrefetchConversionTest extends AbstractSerDeTest {
+
+    /**
+     * Triple store model recording the queries evaluated by another thread than the converting one.
+     */
+    private static final class RecordingCgmesModel extends CgmesModelTripleStore {
+
+        private final Thread convertingThread = Thread.currentThread();
+
+        private final Set<String> concurrentQueries = ConcurrentHashMap.newKeySet();
+
+        private RecordingCgmesModel(ReadOnlyDataSource ds) {
+            super(new CgmesOnDataSource(ds).cimNamespace(), TripleStoreFactory.create(new TripleStoreOptions()),
+                    new TripleStoreOptions().queryCatalog());
+        }
+
+        @Override
+        protected PropertyBags evaluateNamedQuery(String name, String... params) {
+            if (Thread.currentThread() != convertingThread) {
+                concurrentQueries.add(name);
+            }
+            return super.evaluateNamedQuery(name, params);
+        }
+    }
+
+    private static RecordingCgmesModel read(GridModelReference gridModel) {
+        ReadOnlyDataSource ds = gridModel.dataSource();
+        RecordingCgmesModel cgmes = new RecordingCgmesModel(ds);
+        cgmes.read(ds, null, ReportNode.NO_OP);
+        return cgmes;
+    }
+
+    private String export(Network network, String name) throws IOException {
+        // not sorted, so that the order of creation of the objects is compared too
+        Path path = tmpDir.resolve(name + ".xiidm");
+        NetworkSerDe.write(network, path);
+        return Files.readString(path);
+    }
+
+    private void testSameAsSequential(GridModelReference gridModel, Conversion.Config config) throws IOException {
+        RecordingCgmesModel sequentialModel = read(gridModel);
+        String expected = export(new Conversion(sequentialModel, new Conversion.Config()).convert(), "expected");
+        assertTrue(sequentialModel.concurrentQueries.isEmpty());
+
+        RecordingCgmesModel prefetchedModel = read(gridModel);
+        String actual = export(new Conversion(prefetchedModel, config).convert(), "actual");
+        assertFalse(prefetchedModel.concurrentQueries.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    private void testSameAsSequential(GridModelReference gridModel) throws IOException {
+        testSameAsSequential(gridModel, new Conversion.Config().setQueryPrefetchParallelism(4));
+    }
+
+    @Test
+    void smallBusBranch() throws IOException {
+        testSameAsSequential(CgmesConformity1Catalog.smallBusBranch());
+    }
+
+    @Test
+    void smallNodeBreaker() throws IOException {
+        testSameAsSequential(CgmesConformity1Catalog.smallNodeBreaker());
+    }
+
+    @Test
+    void cgmes3SmallGrid() throws IOException {
+        testSameAsSequential(Cgmes3Catalog.smallGrid());
+    }
+
+    @Test
+    void withConcurrentConversion() throws IOException {
+        testSameAsSequential(CgmesConformity1Catalog.smallNodeBreaker(), new Conversion.Config()
+                .setQueryPrefetchParallelism(4)
+                .setConversionParallelism(4)
+                .setConversionPartitionMinSize(1));
+    }
+}
@@ -36,18 +36,27 @@ public abstract class AbstractCgmesModel implements CgmesModel {
 
     @Override
     public Collection<CgmesTerminal> computedTerminals() {
-        if (cachedTerminals == null) {
-            cachedTerminals = computeTerminals();
-        }
-        return cachedTerminals.values();
+        return terminalsById().values();
     }
 
     @Override
     public CgmesTerminal terminal(String terminalId) {
-        if (cachedTerminals == null) {
-            cachedTerminals = computeTerminals();
+        return terminalsById().get(terminalId);
+    }
+
+    // Caches are computed at first use, possibly by several threads converting elements concurrently
+    private Map<String, CgmesTerminal> terminalsById() {
+        Map<String, CgmesTerminal> ts = cachedTerminals;
+        if (ts == null) {
+            synchronized (this) {
+                ts = cachedTerminals;
+                if (ts == null) {
+                    ts = computeTerminals();
+                    cachedTerminals = ts;
+                }
+            }
         }
-        return cachedTerminals.get(terminalId);
+        return ts;
     }
 
     @Override
@@ -70,23 +79,39 @@ public abstract class AbstractCgmesModel implements CgmesModel {
 
     @Override
     public CgmesContainer container(String containerId) {
-        if (cachedContainers == null) {
-            cachedContainers = computeContainers();
+        Map<String, CgmesContainer> cs = cachedContainers;
+        if (cs == null) {
+            synchronized (this) {
+                cs = cachedContainers;
+                if (cs == null) {
+                    cs = computeContainers();
+                    cachedContainers = cs;
+                }
+            }
         }
-        if (cachedContainers.get(containerId) == null) {
+        CgmesContainer c = cs.get(containerId);
+        if (c == null) {
             throw new CgmesModelException("Unexpected CgmesContainer for containerId: " + containerId);
         }
-        return cachedContainers.get(containerId);
+        return c;
     }
 
     @Override
     public double nominalVoltage(String baseVoltageId) {
-        if (cachedBaseVoltages == null) {
-            cachedBaseVoltages = new HashMap<>();
-            baseVoltages()
-                .forEach(bv -> cachedBaseVoltages.put(bv.getId("BaseVoltage"), bv.asDouble("nominalVoltage")));
+        Map<String, Double> bvs = cachedBaseVoltages;
+        if (bvs == null) {
+            synchronized (this) {
+                bvs = cachedBaseVoltages;
+                if (bvs == null) {
+                    Map<String, Double> bvs1 = new HashMap<>();
+                    baseVoltages()
+                        .forEach(bv -> bvs1.put(bv.getId("BaseVoltage"), bv.asDouble("nominalVoltage")));
+                    bvs = bvs1;
+                    cachedBaseVoltages = bvs;
+                }
+            }
         }
-        return cachedBaseVoltages.getOrDefault(baseVoltageId, Double.NaN);
+        return bvs.getOrDefault(baseVoltageId, Double.NaN);
     }
 
     @Override
@@ -135,12 +160,16 @@ public abstract class AbstractCgmesModel implements CgmesModel {
 
     protected void cacheNodes() {
         if (!cachedNodes) {
-            cachedConnectivityNodes = connectivityNodes();
-            cachedTopologicalNodes = topologicalNodes();
-            cachedNodesById = new HashMap<>();
-            cachedConnectivityNodes.forEach(cn -> cachedNodesById.put(cn.getId("ConnectivityNode"), cn));
-            cachedTopologicalNodes.forEach(tn -> cachedNodesById.put(tn.getId("TopologicalNode"), tn));
-            cachedNodes = true;
+            synchronized (this) {
+                if (!cachedNodes) {
+                    cachedConnectivityNodes = connectivityNodes();
+                    cachedTopologicalNodes = topologicalNodes();
+                    cachedNodesById = new HashMap<>();
+                    cachedConnectivityNodes.forEach(cn -> cachedNodesById.put(cn.getId("ConnectivityNode"), cn));
+                    cachedTopologicalNodes.forEach(tn -> cachedNodesById.put(tn.getId("TopologicalNode"), tn));
+                    cachedNodes = true;
+                }
+            }
         }
     }
 
@@ -198,10 +227,18 @@ public abstract class AbstractCgmesModel implements CgmesModel {
         Objects.requireNonNull(reportNode);
         invalidateCaches();
         CgmesOnDataSource cds = new CgmesOnDataSource(ds);
-        for (String name : cds.names()) {
+        read(cds.dataSource(), cds.names(), reportNode);
+    }
+
+    /**
+     * Read the given CGMES files of a data source. Files are read one after the other by default, implementations
+     * able to read several files at once may override it.
+     */
+    protected void read(ReadOnlyDataSource ds, Set<String> names, ReportNode reportNode) {
+        for (String name : names) {
             LOG.info("Reading [{}]", name);
             CgmesModelReports.readFile(reportNode, name);
-            try (InputStream is = cds.dataSource().newInputStream(name)) {
+            try (InputStream is = ds.newInputStream(name)) {
                 read(is, baseName, name, reportNode);
             } catch (IOException e) {
                 String msg = String.format("Reading [%s]", name);
@@ -225,10 +262,10 @@ public abstract class AbstractCgmesModel implements CgmesModel {
     private String baseName;
 
     // Caches
-    private Map<String, CgmesTerminal> cachedTerminals;
-    private Map<String, CgmesContainer> cachedContainers;
-    private Map<String, Double> cachedBaseVoltages;
-    protected boolean cachedNodes = false;
+    private volatile Map<String, CgmesTerminal> cachedTerminals;
+    private volatile Map<String, CgmesContainer> cachedContainers;
+    private volatile Map<String, Double> cachedBaseVoltages;
+    protected volatile boolean cachedNodes = false;
     protected PropertyBags cachedConnectivityNodes;
     protected PropertyBags cachedTopologicalNodes;
     private Map<String, PropertyBag> cachedNodesById;
@@ -221,6 +221,26 @@ public interface CgmesModel {
 
     void read(InputStream is, String baseName, String contextName, ReportNode reportNode);
 
+    /**
+     * Evaluate in advance the queries with the given names, possibly concurrently, so that the results are already
+     * available when the corresponding methods are called. Each prefetched result is returned once, by the next call
+     * to the corresponding method, and released then. Until then, all the prefetched results are kept in memory
+     * together. Models that do not rely on queries ignore it.
+     *
+     * @param queryNames names of the queries to evaluate
+     * @param parallelism maximum number of queries evaluated concurrently
+     */
+    default void prefetchQueries(Collection<String> queryNames, int parallelism) {
+        // Nothing to prefetch by default
+    }
+
+    /**
+     * Release the prefetched results that have not been used.
+     */
+    default void clearPrefetchedQueries() {
+        // Nothing to prefetch by default
+    }
+
     // Helper mappings
 
     /**
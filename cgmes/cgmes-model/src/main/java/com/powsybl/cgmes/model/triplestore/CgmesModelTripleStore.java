@@ -12,6 +12,7 @@ import com.google.re2j.Matcher;
 import com.google.re2j.Pattern;
 import com.powsybl.cgmes.model.*;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.triplestore.api.*;
 import org.apache.commons.lang3.EnumUtils;
@@ -28,10 +29,12 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import static com.powsybl.cgmes.model.CgmesNamespace.CGMES_EQ_3_OR_GREATER_PREFIX;
@@ -57,6 +60,7 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
     @Override
     public void setQueryCatalog(String queryCatalogName) {
         this.invalidateCaches();
+        prefetchedQueries.clear();
         this.queryCatalog = queryCatalogFor(this.cimVersion, queryCatalogName);
     }
 
@@ -64,9 +68,27 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
     public void read(InputStream is, String baseName, String contextName, ReportNode reportNode) {
         // Reset cached nodeBreaker value everytime we read new data
         nodeBreaker = null;
+        prefetchedQueries.clear();
         tripleStore.read(is, baseName, contextName);
     }
 
+    @Override
+    protected void read(ReadOnlyDataSource ds, Set<String> names, ReportNode reportNode) {
+        // Reset cached nodeBreaker value everytime we read new data
+        nodeBreaker = null;
+        prefetchedQueries.clear();
+        for (String name : names) {
+            LOG.info("Reading [{}]", name);
+            CgmesModelReports.readFile(reportNode, name);
+        }
+        // Let the triple store read all the files at once, it may parse them concurrently
+        readData(ds, names, getBasename());
+    }
+
+    protected void readData(ReadOnlyDataSource ds, Set<String> names, String baseName) {
+        tripleStore.read(ds, names, baseName);
+    }
+
     @Override
     public void print(PrintStream out) {
         tripleStore.print(out);
@@ -614,7 +636,58 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         return namedQuery(MODEL_PROFILES);
     }
 
+    @Override
+    public void prefetchQueries(Collection<String> queryNames, int parallelism) {
+        List<String> names = queryNames.stream()
+                .distinct()
+                .filter(queryCatalog::containsKey)
+                .filter(name -> !prefetchedQueries.containsKey(name))
+                .toList();
+        // Evaluating the queries one after the other here would not be faster than evaluating them when needed
+        if (parallelism <= 1 || names.size() <= 1) {
+            return;
+        }
+        final long t0 = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, names.size()));
+        try {
+            // Each query is evaluated on its own connection to the triple store, that supports concurrent reads
+            Map<String, Future<PropertyBags>> results = new LinkedHashMap<>();
+            for (String name : names) {
+                results.put(name, executor.submit(() -> evaluateNamedQuery(name)));
+            }
+            for (Map.Entry<String, Future<PropertyBags>> e : results.entrySet()) {
+                prefetchedQueries.put(e.getKey(), e.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CgmesModelException("Prefetching queries " + names, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new CgmesModelException("Prefetching queries " + names, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        LOG.info("Prefetched {} queries in {} ms", names.size(), System.currentTimeMillis() - t0);
+    }
+
+    @Override
+    public void clearPrefetchedQueries() {
+        prefetchedQueries.clear();
+    }
+
     public PropertyBags namedQuery(String name, String... params) {
+        if (params.length == 0) {
+            PropertyBags prefetched = prefetchedQueries.remove(name);
+            if (prefetched != null) {
+                return prefetched;
+            }
+        }
+        return evaluateNamedQuery(name, params);
+    }
+
+    protected PropertyBags evaluateNamedQuery(String name, String... params) {
         String queryText = queryCatalog.get(name);
         if (queryText == null) {
             LOG.warn("Query [{}] not found in catalog", name);
@@ -656,6 +729,7 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
     }
 
     public void update(String queryText) {
+        prefetchedQueries.clear();
         tripleStore.update(queryText);
     }
 
@@ -702,6 +776,7 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         // TODO Remove all contexts that are related to the profile of the subset
         // For example for state variables:
         // <md:Model.profile>http://entsoe.eu/CIM/StateVariables/4/1</md:Model.profile>
+        prefetchedQueries.clear();
         Set<String> contextNames = tripleStore.contextNames();
         for (String contextName : contextNames) {
             if (subset.isValidName(contextName)) {
@@ -713,6 +788,7 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
     @Override
     public void add(CgmesSubset subset, String type, PropertyBags objects) {
         String contextName = contextNameFor(subset);
+        prefetchedQueries.clear();
         try {
             tripleStore.add(contextName, cimNamespace, type, objects);
         } catch (TripleStoreException x) {
@@ -726,6 +802,7 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         String contextName = EnumUtils.isValidEnum(CgmesSubset.class, context)
             ? contextNameFor(CgmesSubset.valueOf(context))
             : context;
+        prefetchedQueries.clear();
         try {
             if (type.equals(CgmesNames.FULL_MODEL)) {
                 tripleStore.add(contextName, mdNamespace(), type, objects);
@@ -802,6 +879,8 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
     private final TripleStore tripleStore;
     private QueryCatalog queryCatalog;
     private Boolean nodeBreaker = null;
+    // Results of queries evaluated in advance, each one is returned once
+    private final Map<String, PropertyBags> prefetchedQueries = new ConcurrentHashMap<>();
 
     private static final String MODEL_PROFILES = "modelProfiles";
     private static final String PROFILE = "profile";
@@ -93,7 +93,7 @@ class DynamicSecurityAnalysisToolTest extends AbstractToolTest {
     public void assertCommand() {
         Command command = tool.getCommand();
         Options options = command.getOptions();
-        assertCommand(command, "dynamic-security-analysis", 16, 2);
+        assertCommand(command, "dynamic-security-analysis", 17, 2);
         assertOption(options, "case-file", true, true);
         assertOption(options, "dynamic-models-file", true, true);
         assertOption(options, "parameters-file", false, true);
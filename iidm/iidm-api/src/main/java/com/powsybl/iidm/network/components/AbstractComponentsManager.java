@@ -17,6 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * @author Mathieu Bague {@literal <mathieu.bague@rte-france.com>}
@@ -33,6 +34,20 @@ abstract class AbstractComponentsManager<C extends Component> {
 
     private final boolean dc;
 
+    /**
+     * Buses of each component by bus id, kept to incrementally update the components.
+     */
+    private final Map<String, BusGroup> groupByBusId = new HashMap<>();
+
+    private final Set<BusGroup> groups = new HashSet<>();
+
+    private static final class BusGroup {
+
+        private final Set<String> busIds = new HashSet<>();
+
+        private int num = -1;
+    }
+
     protected AbstractComponentsManager(String label, boolean ac, boolean dc) {
         this.label = Objects.requireNonNull(label);
         this.ac = ac;
@@ -41,6 +56,8 @@ abstract class AbstractComponentsManager<C extends Component> {
 
     public void invalidate() {
         components = null;
+        groupByBusId.clear();
+        groups.clear();
     }
 
     public void update() {
@@ -94,9 +111,341 @@ abstract class AbstractComponentsManager<C extends Component> {
             }
         }
 
+        if (isIncrementalUpdateSupported()) {
+            BusGroup[] num2group = new BusGroup[components.size()];
+            for (int i = 0; i < nbAcBuses; i++) {
+                int componentNum = result.getComponentNumber()[i];
+                BusGroup group = num2group[componentNum];
+                if (group == null) {
+                    group = new BusGroup();
+                    group.num = componentNum;
+                    num2group[componentNum] = group;
+                    groups.add(group);
+                }
+                String busId = num2AcBus.get(i).getId();
+                group.busIds.add(busId);
+                groupByBusId.put(busId, group);
+            }
+        }
+
         LOGGER.debug("{} components computed in {} ms", getComponentLabel(), System.currentTimeMillis() - startTime);
     }
 
+    private boolean isIncrementalUpdateSupported() {
+        return ac && (!dc || getNetwork().getDcBusCount() == 0);
+    }
+
+    /**
+     * Incrementally update the components after some buses of the bus view have been replaced by other ones, for
+     * instance when a switch is opened or closed. The components of the buses connected to the added buses are
+     * merged, and the components of the removed buses are split by a local traversal starting from the buses which
+     * were adjacent to the removed ones, stopped as soon as these buses are found connected. The components are then
+     * numbered as a full computation would do. If the components have not been computed yet, nothing is done.
+     *
+     * @param removedBusIds the ids of the removed buses
+     * @param removedTerminals the terminals which were connected to the removed buses
+     * @param addedBuses the added buses
+     */
+    public void replaceBuses(Collection<String> removedBusIds, Collection<? extends Terminal> removedTerminals,
+                             Collection<? extends Bus> addedBuses) {
+        if (components == null) {
+            return;
+        }
+        if (!isIncrementalUpdateSupported()) {
+            invalidate();
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        Set<String> untaggedBusIds = new HashSet<>();
+        for (String busId : removedBusIds) {
+            BusGroup group = groupByBusId.remove(busId);
+            if (group != null) {
+                group.busIds.remove(busId);
+                if (group.busIds.isEmpty()) {
+                    groups.remove(group);
+                }
+            }
+        }
+        for (Bus bus : addedBuses) {
+            BusGroup group = new BusGroup();
+            group.busIds.add(bus.getId());
+            groupByBusId.put(bus.getId(), group);
+            groups.add(group);
+            untaggedBusIds.add(bus.getId());
+        }
+
+        // edge insertions: union of the components of the added buses and of their neighbors
+        for (Bus bus : addedBuses) {
+            for (Bus neighbor : getAdjacentBuses(bus)) {
+                if (!groupByBusId.containsKey(neighbor.getId())) {
+                    // not consistent with the bus view, recompute everything
+                    invalidate();
+                    return;
+                }
+                union(groupByBusId.get(bus.getId()), groupByBusId.get(neighbor.getId()), untaggedBusIds);
+            }
+        }
+
+        // edge deletions: a component can only be split between the buses which were adjacent to the removed ones
+        Map<String, Bus> anchors = new LinkedHashMap<>();
+        addedBuses.forEach(bus -> anchors.put(bus.getId(), bus));
+        for (Terminal terminal : removedTerminals) {
+            Bus bus = terminal.getBusView().getBus();
+            if (bus != null) {
+                anchors.put(bus.getId(), bus);
+            } else {
+                // the terminal is not in a component anymore
+                Bus busBreakerViewBus = terminal.getBusBreakerView().getBus();
+                if (busBreakerViewBus != null) {
+                    setComponentNumber(busBreakerViewBus, -1);
+                }
+            }
+            forEachAdjacentBus(terminal, neighbor -> anchors.put(neighbor.getId(), neighbor));
+        }
+        Map<BusGroup, List<Bus>> anchorsByGroup = new IdentityHashMap<>();
+        for (Bus anchor : anchors.values()) {
+            BusGroup group = groupByBusId.get(anchor.getId());
+            if (group == null) {
+                invalidate();
+                return;
+            }
+            anchorsByGroup.computeIfAbsent(group, g -> new ArrayList<>()).add(anchor);
+        }
+        anchorsByGroup.forEach((group, groupAnchors) -> {
+            if (groupAnchors.size() > 1) {
+                split(group, groupAnchors);
+            }
+        });
+
+        renumber(untaggedBusIds);
+
+        LOGGER.debug("{} components incrementally updated in {} ms", getComponentLabel(), System.currentTimeMillis() - startTime);
+    }
+
+    private void union(BusGroup group1, BusGroup group2, Set<String> untaggedBusIds) {
+        if (group1 == group2) {
+            return;
+        }
+        BusGroup smallest = group1.busIds.size() < group2.busIds.size() ? group1 : group2;
+        BusGroup largest = smallest == group1 ? group2 : group1;
+        for (String busId : smallest.busIds) {
+            groupByBusId.put(busId, largest);
+        }
+        largest.busIds.addAll(smallest.busIds);
+        untaggedBusIds.addAll(smallest.busIds);
+        groups.remove(smallest);
+    }
+
+    /**
+     * Split a group if its anchors are not connected anymore. A breadth first traversal is started from each anchor,
+     * one step at a time for each of them, and traversals reaching each other are merged, so that only the smallest
+     * parts are fully traversed. Traversal stops when at most one set of connected anchors can still be extended: the
+     * other ones are disconnected parts, and the not traversed buses belong to the remaining one.
+     */
+    private void split(BusGroup group, List<Bus> anchors) {
+        int anchorCount = anchors.size();
+        int[] parent = new int[anchorCount];
+        List<Deque<Bus>> queues = new ArrayList<>(anchorCount);
+        Map<String, Integer> visitedBy = new HashMap<>();
+        for (int i = 0; i < anchorCount; i++) {
+            parent[i] = i;
+            Deque<Bus> queue = new ArrayDeque<>();
+            queue.add(anchors.get(i));
+            queues.add(queue);
+            visitedBy.put(anchors.get(i).getId(), i);
+        }
+        int rootCount = anchorCount;
+        boolean[] exhausted = new boolean[anchorCount];
+        int activeRootCount = anchorCount;
+        while (rootCount > 1 && activeRootCount > 1) {
+            for (int i = 0; i < anchorCount; i++) {
+                Bus bus = queues.get(i).poll();
+                if (bus == null) {
+                    continue;
+                }
+                for (Bus neighbor : getAdjacentBuses(bus)) {
+                    Integer j = visitedBy.putIfAbsent(neighbor.getId(), i);
+                    if (j == null) {
+                        queues.get(i).add(neighbor);
+                    } else {
+                        int root1 = findRoot(parent, i);
+                        int root2 = findRoot(parent, j);
+                        if (root1 != root2) {
+                            parent[root2] = root1;
+                            rootCount--;
+                        }
+                    }
+                }
+            }
+            Arrays.fill(exhausted, true);
+            for (int i = 0; i < anchorCount; i++) {
+                if (!queues.get(i).isEmpty()) {
+                    exhausted[findRoot(parent, i)] = false;
+                }
+            }
+            activeRootCount = 0;
+            for (int i = 0; i < anchorCount; i++) {
+                if (parent[i] == i && !exhausted[i]) {
+                    activeRootCount++;
+                }
+            }
+        }
+        if (rootCount == 1) {
+            return;
+        }
+
+        // the remaining part keeps the group, the other ones, fully traversed, are moved to new groups
+        int remainingRoot = -1;
+        for (int i = 0; i < anchorCount; i++) {
+            if (parent[i] == i && !exhausted[i]) {
+                remainingRoot = i;
+            }
+        }
+        Map<Integer, BusGroup> newGroups = new HashMap<>();
+        for (Map.Entry<String, Integer> e : visitedBy.entrySet()) {
+            int root = findRoot(parent, e.getValue());
+            if (remainingRoot == -1) {
+                remainingRoot = root;
+            }
+            if (root != remainingRoot) {
+                BusGroup newGroup = newGroups.computeIfAbsent(root, r -> {
+                    BusGroup g = new BusGroup();
+                    groups.add(g);
+                    return g;
+                });
+                String busId = e.getKey();
+                group.busIds.remove(busId);
+                newGroup.busIds.add(busId);
+                groupByBusId.put(busId, newGroup);
+            }
+        }
+    }
+
+    private static int findRoot(int[] parent, int i) {
+        int root = i;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        return root;
+    }
+
+    /**
+     * Number the components by decreasing size, ties being broken by the position in the bus view of their first
+     * bus, as in a full computation.
+     */
+    private void renumber(Set<String> untaggedBusIds) {
+        List<BusGroup> sortedGroups = new ArrayList<>(groups);
+        sortedGroups.sort(Comparator.comparingInt(g -> -g.busIds.size()));
+        BusRanks busRanks = new BusRanks();
+        int start = 0;
+        while (start < sortedGroups.size()) {
+            int size = sortedGroups.get(start).busIds.size();
+            int end = start + 1;
+            while (end < sortedGroups.size() && sortedGroups.get(end).busIds.size() == size) {
+                end++;
+            }
+            if (end - start > 1) {
+                sortedGroups.subList(start, end).sort(Comparator.comparingLong(g -> busRanks.getMinRank(g.busIds)));
+            }
+            start = end;
+        }
+
+        components = new ArrayList<>(sortedGroups.size());
+        Network.BusView busView = getNetwork().getBusView();
+        Set<BusGroup> renumberedGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int num = 0; num < sortedGroups.size(); num++) {
+            BusGroup group = sortedGroups.get(num);
+            components.add(createComponent(num, group.busIds.size()));
+            if (group.num != num) {
+                group.num = num;
+                renumberedGroups.add(group);
+                for (String busId : group.busIds) {
+                    setComponentNumber(busView.getBus(busId), num);
+                }
+            }
+        }
+        for (String busId : untaggedBusIds) {
+            BusGroup group = groupByBusId.get(busId);
+            if (group != null && !renumberedGroups.contains(group)) {
+                setComponentNumber(busView.getBus(busId), group.num);
+            }
+        }
+    }
+
+    /**
+     * Position of the buses in the bus view, lazily computed by voltage level.
+     */
+    private final class BusRanks {
+
+        private Map<String, Integer> voltageLevelRanks;
+
+        private final Map<String, Integer> busRanks = new HashMap<>();
+
+        private long getRank(Bus bus) {
+            if (voltageLevelRanks == null) {
+                voltageLevelRanks = new HashMap<>();
+                for (VoltageLevel vl : getNetwork().getVoltageLevels()) {
+                    voltageLevelRanks.put(vl.getId(), voltageLevelRanks.size());
+                }
+            }
+            VoltageLevel vl = bus.getVoltageLevel();
+            if (!busRanks.containsKey(bus.getId())) {
+                int rank = 0;
+                for (Bus other : vl.getBusView().getBuses()) {
+                    busRanks.put(other.getId(), rank++);
+                }
+            }
+            return ((long) voltageLevelRanks.get(vl.getId()) << 32) | busRanks.get(bus.getId());
+        }
+
+        private long getMinRank(Set<String> busIds) {
+            Network.BusView busView = getNetwork().getBusView();
+            long minRank = Long.MAX_VALUE;
+            for (String busId : busIds) {
+                minRank = Math.min(minRank, getRank(busView.getBus(busId)));
+            }
+            return minRank;
+        }
+    }
+
+    private List<Bus> getAdjacentBuses(Bus bus) {
+        List<Bus> adjacentBuses = new ArrayList<>();
+        bus.getConnectedTerminals().forEach(terminal -> forEachAdjacentBus(terminal, adjacentBuses::add));
+        return adjacentBuses;
+    }
+
+    /**
+     * The buses connected to a terminal through its equipment, consistently with {@link #fillAdjacencyList}.
+     */
+    private void forEachAdjacentBus(Terminal terminal, Consumer<Bus> consumer) {
+        Connectable<?> connectable = terminal.getConnectable();
+        List<Terminal> otherTerminals = new ArrayList<>(2);
+        if (connectable instanceof Line || connectable instanceof TwoWindingsTransformer
+                || connectable instanceof ThreeWindingsTransformer) {
+            for (Terminal other : connectable.getTerminals()) {
+                if (other != terminal) {
+                    otherTerminals.add(other);
+                }
+            }
+        } else if (connectable instanceof DanglingLine danglingLine) {
+            danglingLine.getTieLine().ifPresent(tieLine -> otherTerminals.add(tieLine.getDanglingLine1() == danglingLine
+                    ? tieLine.getDanglingLine2().getTerminal()
+                    : tieLine.getDanglingLine1().getTerminal()));
+        } else if (dc && connectable instanceof HvdcConverterStation<?> station) {
+            station.getOtherConverterStation().ifPresent(other -> otherTerminals.add(other.getTerminal()));
+        } else if (dc && connectable instanceof AcDcConverter<?> converter) {
+            converter.getTerminal2().ifPresent(terminal2 -> otherTerminals.add(terminal2 == terminal ? converter.getTerminal1() : terminal2));
+        }
+        for (Terminal other : otherTerminals) {
+            Bus bus = other.getBusView().getBus();
+            if (bus != null) {
+                consumer.accept(bus);
+            }
+        }
+    }
+
     public List<C> getConnectedComponents() {
         update();
         return components;
@@ -132,6 +132,15 @@ abstract class AbstractConnectable<I extends Connectable<I>> extends AbstractIde
         }
     }
 
+    /**
+     * Move the variant dependent values of this connectable to the storage of another network.
+     */
+    void moveVariantDoubleStorage(VariantDoubleTables tables) {
+        for (TerminalExt t : terminals) {
+            t.moveVariantDoubleStorage(tables);
+        }
+    }
+
     protected void move(TerminalExt oldTerminal, int node, String voltageLevelId) {
         VoltageLevelExt voltageLevel = getNetwork().getVoltageLevel(voltageLevelId);
         if (voltageLevel == null) {
@@ -212,6 +221,9 @@ abstract class AbstractConnectable<I extends Connectable<I>> extends AbstractIde
         for (Referrer<Terminal> referrer : oldTerminal.getReferrerManager().getReferrers()) {
             referrer.onReferencedReplacement(oldTerminal, newTerminalExt);
         }
+
+        // finally release the variant storage of the old terminal
+        oldTerminal.remove();
     }
 
     @Override
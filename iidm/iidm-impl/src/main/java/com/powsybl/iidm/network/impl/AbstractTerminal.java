@@ -11,7 +11,6 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.ref.Ref;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.util.SwitchPredicates;
-import gnu.trove.list.array.TDoubleArrayList;
 
 import java.util.List;
 import java.util.function.Predicate;
@@ -38,9 +37,11 @@ abstract class AbstractTerminal implements TerminalExt {
 
     // attributes depending on the variant
 
-    protected final TDoubleArrayList p;
+    private static final int P = 0;
 
-    protected final TDoubleArrayList q;
+    private static final int Q = 1;
+
+    private VariantDoubleStorage powerFlows;
 
     protected boolean removed = false;
 
@@ -51,13 +52,7 @@ abstract class AbstractTerminal implements TerminalExt {
         this.side = side;
         this.terminalNumber = terminalNumber;
         this.network = network;
-        int variantArraySize = network.get().getVariantManager().getVariantArraySize();
-        p = new TDoubleArrayList(variantArraySize);
-        q = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            p.add(Double.NaN);
-            q.add(Double.NaN);
-        }
+        powerFlows = network.get().getVariantManager().getDoubleTables().create(AbstractTerminal.class, Double.NaN, Double.NaN);
     }
 
     @Override
@@ -109,7 +104,7 @@ abstract class AbstractTerminal implements TerminalExt {
         if (removed) {
             throw new PowsyblException("Cannot access p of removed equipment " + connectable.id);
         }
-        return p.get(network.get().getVariantIndex());
+        return powerFlows.get(P, network.get().getVariantIndex());
     }
 
     @Override
@@ -121,7 +116,7 @@ abstract class AbstractTerminal implements TerminalExt {
             throw new ValidationException(connectable, "cannot set active power on a busbar section");
         }
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.p.set(variantIndex, p);
+        double oldValue = powerFlows.set(P, variantIndex, p);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         getConnectable().notifyUpdate(() -> "p" + getAttributeSideOrNumberSuffix(), variantId, oldValue, p);
         return this;
@@ -132,7 +127,7 @@ abstract class AbstractTerminal implements TerminalExt {
         if (removed) {
             throw new PowsyblException("Cannot access q of removed equipment " + connectable.id);
         }
-        return q.get(network.get().getVariantIndex());
+        return powerFlows.get(Q, network.get().getVariantIndex());
     }
 
     @Override
@@ -144,7 +139,7 @@ abstract class AbstractTerminal implements TerminalExt {
             throw new ValidationException(connectable, "cannot set reactive power on a busbar section");
         }
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.q.set(variantIndex, q);
+        double oldValue = powerFlows.set(Q, variantIndex, q);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         getConnectable().notifyUpdate(() -> "q" + getAttributeSideOrNumberSuffix(), variantId, oldValue, q);
         return this;
@@ -161,7 +156,7 @@ abstract class AbstractTerminal implements TerminalExt {
             return 0;
         }
         int variantIndex = network.get().getVariantIndex();
-        return Math.hypot(p.get(variantIndex), q.get(variantIndex))
+        return Math.hypot(powerFlows.get(P, variantIndex), powerFlows.get(Q, variantIndex))
                 / (Math.sqrt(3.) * getV() / 1000);
     }
 
@@ -221,35 +216,34 @@ abstract class AbstractTerminal implements TerminalExt {
 
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
-        p.ensureCapacity(p.size() + number);
-        q.ensureCapacity(q.size() + number);
-        for (int i = 0; i < number; i++) {
-            p.add(p.get(sourceIndex));
-            q.add(q.get(sourceIndex));
-        }
+        powerFlows.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
-        p.remove(p.size() - number, number);
-        q.remove(q.size() - number, number);
+        powerFlows.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
-        // nothing to do
+        powerFlows.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
-        for (int index : indexes) {
-            p.set(index, p.get(sourceIndex));
-            q.set(index, q.get(sourceIndex));
-        }
+        powerFlows.allocateVariantArrayElement(indexes, sourceIndex);
+    }
+
+    @Override
+    public void moveVariantDoubleStorage(VariantDoubleTables tables) {
+        powerFlows = powerFlows.moveTo(tables);
     }
 
     @Override
     public void remove() {
+        if (!removed) {
+            powerFlows.release();
+        }
         removed = true;
     }
 
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Base {@link VariantDoubleTable} implementation, the column type being defined by sub classes.
+ * Columns of a variant are copied in bulk when the variant is cloned, and released when the variant is deleted.
+ * <p>
+ * In copy-on-write mode, a cloned variant shares the columns of its source variant, and a shared column is only
+ * copied when one of the variants first modifies it. Variants can then be modified concurrently from different
+ * threads, but a variant must not be modified while it is being cloned.
+ *
+ * @param <C> column type
+ * @author agent {@literal <agent at local>}
+ */
+abstract class AbstractVariantDoubleTable<C> implements VariantDoubleTable {
+
+    private static final int INITIAL_ROW_CAPACITY = 16;
+
+    private final Class<?> ownerType;
+
+    private final int attributeCount;
+
+    private final boolean copyOnWrite;
+
+    /**
+     * Columns indexed by variant then by attribute, null for a deleted variant.
+     */
+    private Object[][] columns;
+
+    /**
+     * Indexed as the columns, false if the column may be shared with another variant.
+     */
+    private boolean[][] owned;
+
+    private int rowCapacity = INITIAL_ROW_CAPACITY;
+
+    private int rowCount = 0;
+
+    private final TIntArrayList freeRows = new TIntArrayList();
+
+    protected AbstractVariantDoubleTable(Class<?> ownerType, int attributeCount, int variantArraySize, boolean copyOnWrite) {
+        this.ownerType = Objects.requireNonNull(ownerType);
+        this.attributeCount = attributeCount;
+        this.copyOnWrite = copyOnWrite;
+        columns = new Object[variantArraySize][];
+        owned = new boolean[variantArraySize][];
+        for (int variantIndex = 0; variantIndex < variantArraySize; variantIndex++) {
+            columns[variantIndex] = createColumns();
+            owned[variantIndex] = createOwned(true);
+        }
+    }
+
+    protected abstract C createColumn(int capacity);
+
+    /**
+     * Create a column of the given capacity initialized with the first values of another column.
+     */
+    protected abstract C copyColumn(C column, int length, int capacity);
+
+    protected abstract void copyColumn(C source, C target, int length);
+
+    protected abstract double getValue(C column, int row);
+
+    protected abstract void setValue(C column, int row, double value);
+
+    private Object[] createColumns() {
+        Object[] variantColumns = new Object[attributeCount];
+        for (int attribute = 0; attribute < attributeCount; attribute++) {
+            variantColumns[attribute] = createColumn(rowCapacity);
+        }
+        return variantColumns;
+    }
+
+    private boolean[] createOwned(boolean value) {
+        boolean[] variantOwned = new boolean[attributeCount];
+        Arrays.fill(variantOwned, value);
+        return variantOwned;
+    }
+
+    /**
+     * Initialize the columns of a variant from the columns of another one.
+     */
+    private void cloneColumns(int sourceIndex, int index) {
+        if (copyOnWrite) {
+            columns[index] = columns[sourceIndex].clone();
+            owned[index] = createOwned(false);
+            Arrays.fill(owned[sourceIndex], false);
+        } else {
+            columns[index] = copyColumns(sourceIndex);
+            owned[index] = createOwned(true);
+        }
+    }
+
+    private Object[] copyColumns(int sourceIndex) {
+        Object[] sourceColumns = columns[sourceIndex];
+        Object[] variantColumns = new Object[attributeCount];
+        for (int attribute = 0; attribute < attributeCount; attribute++) {
+            variantColumns[attribute] = copyColumn((C) sourceColumns[attribute], rowCount, rowCapacity);
+        }
+        return variantColumns;
+    }
+
+    private C getColumn(int attribute, int variantIndex) {
+        return (C) columns[variantIndex][attribute];
+    }
+
+    @Override
+    public Class<?> getOwnerType() {
+        return ownerType;
+    }
+
+    @Override
+    public int getAttributeCount() {
+        return attributeCount;
+    }
+
+    int getRowCount() {
+        return rowCount - freeRows.size();
+    }
+
+    @Override
+    public int newRow(double... initialValues) {
+        if (initialValues.length != attributeCount) {
+            throw new IllegalArgumentException("Expected " + attributeCount + " values, got " + initialValues.length);
+        }
+        int row;
+        if (!freeRows.isEmpty()) {
+            row = freeRows.removeAt(freeRows.size() - 1);
+        } else {
+            if (rowCount == rowCapacity) {
+                growRows();
+            }
+            row = rowCount++;
+        }
+        for (Object[] variantColumns : columns) {
+            if (variantColumns != null) {
+                for (int attribute = 0; attribute < attributeCount; attribute++) {
+                    setValue((C) variantColumns[attribute], row, initialValues[attribute]);
+                }
+            }
+        }
+        return row;
+    }
+
+    private void growRows() {
+        int newRowCapacity = rowCapacity * 2;
+        // shared columns have to stay shared
+        Map<Object, Object> grownColumns = new IdentityHashMap<>();
+        for (Object[] variantColumns : columns) {
+            if (variantColumns != null) {
+                for (int attribute = 0; attribute < attributeCount; attribute++) {
+                    variantColumns[attribute] = grownColumns.computeIfAbsent(variantColumns[attribute],
+                        column -> copyColumn((C) column, rowCount, newRowCapacity));
+                }
+            }
+        }
+        rowCapacity = newRowCapacity;
+    }
+
+    @Override
+    public void releaseRow(int row) {
+        freeRows.add(row);
+    }
+
+    @Override
+    public double get(int attribute, int variantIndex, int row) {
+        return getValue(getColumn(attribute, variantIndex), row);
+    }
+
+    @Override
+    public void set(int attribute, int variantIndex, int row, double value) {
+        if (!owned[variantIndex][attribute]) {
+            columns[variantIndex][attribute] = copyColumn(getColumn(attribute, variantIndex), rowCount, rowCapacity);
+            owned[variantIndex][attribute] = true;
+        }
+        setValue(getColumn(attribute, variantIndex), row, value);
+    }
+
+    @Override
+    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
+        columns = Arrays.copyOf(columns, initVariantArraySize + number);
+        owned = Arrays.copyOf(owned, initVariantArraySize + number);
+        for (int variantIndex = initVariantArraySize; variantIndex < initVariantArraySize + number; variantIndex++) {
+            cloneColumns(sourceIndex, variantIndex);
+        }
+    }
+
+    @Override
+    public void reduceVariantArraySize(int number) {
+        columns = Arrays.copyOf(columns, columns.length - number);
+        owned = Arrays.copyOf(owned, owned.length - number);
+    }
+
+    @Override
+    public void deleteVariantArrayElement(int index) {
+        // release memory of the deleted variant, columns are allocated again if the index is recycled
+        columns[index] = null;
+        owned[index] = null;
+    }
+
+    @Override
+    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+        Object[] sourceColumns = columns[sourceIndex];
+        for (int index : indexes) {
+            if (index == sourceIndex) {
+                continue;
+            }
+            Object[] variantColumns = columns[index];
+            if (variantColumns == null || copyOnWrite) {
+                cloneColumns(sourceIndex, index);
+            } else {
+                for (int attribute = 0; attribute < attributeCount; attribute++) {
+                    copyColumn((C) sourceColumns[attribute], (C) variantColumns[attribute], rowCount);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+/**
+ * {@link VariantDoubleStorage} backed by a row of a {@link VariantDoubleTable}. Variant array changes are applied
+ * once to the whole table, so the variant callbacks of this class do nothing.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class ColumnVariantDoubleStorage implements VariantDoubleStorage {
+
+    private final VariantDoubleTable table;
+
+    private final int row;
+
+    ColumnVariantDoubleStorage(VariantDoubleTable table, int row) {
+        this.table = table;
+        this.row = row;
+    }
+
+    @Override
+    public double get(int attribute, int variantIndex) {
+        return table.get(attribute, variantIndex, row);
+    }
+
+    @Override
+    public double set(int attribute, int variantIndex, double value) {
+        double oldValue = table.get(attribute, variantIndex, row);
+        table.set(attribute, variantIndex, row, value);
+        return oldValue;
+    }
+
+    @Override
+    public VariantDoubleStorage moveTo(VariantDoubleTables tables) {
+        if (tables.contains(table)) {
+            return this;
+        }
+        double[] initialValues = new double[table.getAttributeCount()];
+        for (int attribute = 0; attribute < initialValues.length; attribute++) {
+            initialValues[attribute] = table.get(attribute, 0, row);
+        }
+        release();
+        return tables.create(table.getOwnerType(), initialValues);
+    }
+
+    @Override
+    public void release() {
+        table.releaseRow(row);
+    }
+
+    @Override
+    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
+        // done by the table
+    }
+
+    @Override
+    public void reduceVariantArraySize(int number) {
+        // done by the table
+    }
+
+    @Override
+    public void deleteVariantArrayElement(int index) {
+        // done by the table
+    }
+
+    @Override
+    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+        // done by the table
+    }
+}
@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Identifiable;
+import gnu.trove.impl.Constants;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Memory efficient {@link NetworkIndex}.
+ * <p>
+ * Each id is interned in a single primitive hash map which associates it to a dense integer handle, aliases directly
+ * refer to the handle of their object. Objects are stored in an array indexed by handle, and the objects of a given
+ * class as an insertion ordered array of handles, so no entry object is allocated per identifiable.
+ * Handles of removed objects are recycled.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class CompactNetworkIndex implements NetworkIndex {
+
+    private static final int NO_HANDLE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TObjectIntMap<String> handleById = createHandleMap();
+
+    private final TObjectIntMap<String> handleByAlias = createHandleMap();
+
+    private Identifiable<?>[] objects = new Identifiable<?>[INITIAL_CAPACITY];
+
+    /**
+     * Position of each object in the handle array of its class.
+     */
+    private int[] positionInClass = new int[INITIAL_CAPACITY];
+
+    private int handleCount = 0;
+
+    private int objectCount = 0;
+
+    private final TIntArrayList freeHandles = new TIntArrayList();
+
+    private final Map<Class<? extends Identifiable>, ClassHandles> handlesByClass = new HashMap<>();
+
+    private int modCount = 0;
+
+    private final Collection<Identifiable<?>> all = new AllObjects();
+
+    private static TObjectIntMap<String> createHandleMap() {
+        return new TObjectIntHashMap<>(Constants.DEFAULT_CAPACITY, Constants.DEFAULT_LOAD_FACTOR, NO_HANDLE);
+    }
+
+    /**
+     * Insertion ordered handles of the objects of a class. Removed objects leave a hole which is reclaimed when holes
+     * represent more than half of the array.
+     * <p>
+     * This is a read-only view: objects can only be removed through {@link #remove(Identifiable)}, so the iterator
+     * does not support {@link Iterator#remove()}.
+     */
+    private final class ClassHandles extends AbstractSet<Identifiable<?>> {
+
+        private int[] handles = new int[4];
+
+        private int length = 0;
+
+        private int size = 0;
+
+        private int modCount = 0;
+
+        private void addHandle(int handle) {
+            if (length == handles.length) {
+                if (size < length / 2) {
+                    compact();
+                } else {
+                    handles = Arrays.copyOf(handles, length * 2);
+                }
+            }
+            positionInClass[handle] = length;
+            handles[length++] = handle;
+            size++;
+            modCount++;
+        }
+
+        private void removeHandle(int handle) {
+            handles[positionInClass[handle]] = NO_HANDLE;
+            size--;
+            modCount++;
+            if (size == 0) {
+                length = 0;
+            }
+        }
+
+        private void compact() {
+            int j = 0;
+            for (int i = 0; i < length; i++) {
+                int handle = handles[i];
+                if (handle != NO_HANDLE) {
+                    positionInClass[handle] = j;
+                    handles[j++] = handle;
+                }
+            }
+            Arrays.fill(handles, j, length, NO_HANDLE);
+            length = j;
+        }
+
+        @Override
+        public Iterator<Identifiable<?>> iterator() {
+            return new Iterator<>() {
+
+                private final int expectedModCount = modCount;
+
+                private int next = skipHoles(0);
+
+                private int skipHoles(int i) {
+                    int j = i;
+                    while (j < length && handles[j] == NO_HANDLE) {
+                        j++;
+                    }
+                    return j;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < length;
+                }
+
+                @Override
+                public Identifiable<?> next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= length) {
+                        throw new NoSuchElementException();
+                    }
+                    Identifiable<?> obj = objects[handles[next]];
+                    next = skipHoles(next + 1);
+                    return obj;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Identifiable<?> identifiable) {
+                int handle = handleById.get(identifiable.getId());
+                return handle != NO_HANDLE && objects[handle] == o;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Read-only view of all the objects, in handle order.
+     */
+    private final class AllObjects extends AbstractCollection<Identifiable<?>> {
+
+        @Override
+        public Iterator<Identifiable<?>> iterator() {
+            return new Iterator<>() {
+
+                private final int expectedModCount = modCount;
+
+                private int next = skipHoles(0);
+
+                private int skipHoles(int i) {
+                    int j = i;
+                    while (j < handleCount && objects[j] == null) {
+                        j++;
+                    }
+                    return j;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < handleCount;
+                }
+
+                @Override
+                public Identifiable<?> next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= handleCount) {
+                        throw new NoSuchElementException();
+                    }
+                    Identifiable<?> obj = objects[next];
+                    next = skipHoles(next + 1);
+                    return obj;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return objectCount;
+        }
+    }
+
+    @Override
+    public NetworkIndexType getType() {
+        return NetworkIndexType.COMPACT;
+    }
+
+    private int newHandle() {
+        if (!freeHandles.isEmpty()) {
+            return freeHandles.removeAt(freeHandles.size() - 1);
+        }
+        if (handleCount == objects.length) {
+            int newCapacity = objects.length * 2;
+            objects = Arrays.copyOf(objects, newCapacity);
+            positionInClass = Arrays.copyOf(positionInClass, newCapacity);
+        }
+        return handleCount++;
+    }
+
+    private int getHandle(String idOrAlias) {
+        int handle = handleByAlias.get(idOrAlias);
+        return handle != NO_HANDLE ? handle : handleById.get(idOrAlias);
+    }
+
+    @Override
+    public void checkAndAdd(Identifiable<?> obj) {
+        String id = obj.getId();
+        NetworkIndex.checkId(id);
+        if (handleById.containsKey(id)) {
+            throw new PowsyblException("Object (" + obj.getClass().getName()
+                    + ") '" + id + "' already exists");
+        }
+        int handle = newHandle();
+        handleById.put(id, handle);
+        objects[handle] = obj;
+        objectCount++;
+        modCount++;
+        obj.getAliases().forEach(alias -> addAlias(obj, alias));
+
+        handlesByClass.computeIfAbsent(obj.getClass(), k -> new ClassHandles()).addHandle(handle);
+    }
+
+    @Override
+    public boolean addAlias(Identifiable<?> obj, String alias) {
+        int handle = handleById.get(alias);
+        if (handle != NO_HANDLE) {
+            Identifiable<?> aliasConflict = objects[handle];
+            if (aliasConflict.equals(obj)) {
+                // Silently ignore affecting the objects id to its own aliases
+                return false;
+            }
+            throw NetworkIndex.createAliasConflictException(obj, alias, aliasConflict);
+        }
+        handle = handleByAlias.get(alias);
+        if (handle != NO_HANDLE) {
+            Identifiable<?> aliasConflict = objects[handle];
+            if (aliasConflict.equals(obj)) {
+                // Silently ignore affecting the same alias twice to an object
+                return false;
+            }
+            throw NetworkIndex.createAliasConflictException(obj, alias, aliasConflict);
+        }
+        int objHandle = handleById.get(obj.getId());
+        if (objHandle == NO_HANDLE || objects[objHandle] != obj) {
+            throw new PowsyblException("Object '" + obj.getId() + "' is not in the network, alias '" + alias + "' cannot be added");
+        }
+        handleByAlias.put(alias, objHandle);
+        return true;
+    }
+
+    @Override
+    public void removeAlias(Identifiable<?> obj, String alias) {
+        int handle = handleByAlias.get(alias);
+        if (handle == NO_HANDLE) {
+            throw new PowsyblException(String.format("No alias '%s' found in the network", alias));
+        } else if (!objects[handle].getId().equals(obj.getId())) {
+            throw new PowsyblException(String.format("Alias '%s' do not correspond to object '%s'", alias, obj.getId()));
+        } else {
+            handleByAlias.remove(alias);
+        }
+    }
+
+    @Override
+    public Identifiable get(String idOrAlias) {
+        NetworkIndex.checkId(idOrAlias);
+        int handle = getHandle(idOrAlias);
+        return handle != NO_HANDLE ? objects[handle] : null;
+    }
+
+    @Override
+    public Collection<Identifiable<?>> getAll() {
+        return all;
+    }
+
+    @Override
+    public <T extends Identifiable> Set<T> getAll(Class<T> clazz) {
+        ClassHandles handles = handlesByClass.get(clazz);
+        if (handles == null) {
+            return Collections.emptySet();
+        }
+        return (Set<T>) handles;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        NetworkIndex.checkId(id);
+        return getHandle(id) != NO_HANDLE;
+    }
+
+    @Override
+    public boolean containsIdOrAlias(String idOrAlias) {
+        return handleById.containsKey(idOrAlias) || handleByAlias.containsKey(idOrAlias);
+    }
+
+    @Override
+    public void remove(Identifiable obj) {
+        NetworkIndex.checkId(obj.getId());
+        int handle = handleById.get(obj.getId());
+        if (handle == NO_HANDLE || objects[handle] != obj) {
+            throw new PowsyblException("Object (" + obj.getClass().getName()
+                    + ") '" + obj.getId() + "' not found");
+        }
+        handleById.remove(obj.getId());
+        for (Object alias : obj.getAliases()) {
+            handleByAlias.remove(alias);
+        }
+        ClassHandles handles = handlesByClass.get(obj.getClass());
+        if (handles != null) {
+            handles.removeHandle(handle);
+        }
+        objects[handle] = null;
+        objectCount--;
+        modCount++;
+        freeHandles.add(handle);
+    }
+
+    @Override
+    public void clean() {
+        handleById.clear();
+        handleByAlias.clear();
+        objects = new Identifiable<?>[INITIAL_CAPACITY];
+        positionInClass = new int[INITIAL_CAPACITY];
+        handleCount = 0;
+        objectCount = 0;
+        freeHandles.clear();
+        handlesByClass.clear();
+        modCount++;
+    }
+
+    @Override
+    public void printForDebug(PrintStream out) {
+        handleById.forEachEntry((id, handle) -> {
+            out.println(id + " " + System.identityHashCode(objects[handle]));
+            return true;
+        });
+        for (Map.Entry<Class<? extends Identifiable>, ClassHandles> entry : handlesByClass.entrySet()) {
+            out.println(entry.getKey() + " " + entry.getValue().stream().map(System::identityHashCode).toList());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2016, All partners of the iTesla project (http://www.itesla-project.eu/consortium)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Identifiable;
+
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * Hash based {@link NetworkIndex}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class DefaultNetworkIndex implements NetworkIndex {
+
+    private final Map<String, Identifiable<?>> objectsById = new HashMap<>();
+    private final Map<String, String> idByAlias = new HashMap<>();
+
+    private final Map<Class<? extends Identifiable>, Set<Identifiable<?>>> objectsByClass = new HashMap<>();
+
+    @Override
+    public NetworkIndexType getType() {
+        return NetworkIndexType.DEFAULT;
+    }
+
+    @Override
+    public void checkAndAdd(Identifiable<?> obj) {
+        NetworkIndex.checkId(obj.getId());
+        if (objectsById.containsKey(obj.getId())) {
+            throw new PowsyblException("Object (" + obj.getClass().getName()
+                    + ") '" + obj.getId() + "' already exists");
+        }
+        objectsById.put(obj.getId(), obj);
+        obj.getAliases().forEach(alias -> addAlias(obj, alias));
+
+        Set<Identifiable<?>> all = objectsByClass.computeIfAbsent(obj.getClass(), k -> new LinkedHashSet<>());
+        all.add(obj);
+    }
+
+    @Override
+    public boolean addAlias(Identifiable<?> obj, String alias) {
+        Identifiable<?> aliasConflict = objectsById.get(alias);
+        if (aliasConflict != null) {
+            if (aliasConflict.equals(obj)) {
+                // Silently ignore affecting the objects id to its own aliases
+                return false;
+            }
+            throw NetworkIndex.createAliasConflictException(obj, alias, aliasConflict);
+        }
+        String idForAlias = idByAlias.get(alias);
+        if (idForAlias != null) {
+            aliasConflict = objectsById.get(idForAlias);
+            if (aliasConflict.equals(obj)) {
+                // Silently ignore affecting the same alias twice to an object
+                return false;
+            }
+            throw NetworkIndex.createAliasConflictException(obj, alias, aliasConflict);
+        }
+        idByAlias.put(alias, obj.getId());
+        return true;
+    }
+
+    @Override
+    public void removeAlias(Identifiable<?> obj, String alias) {
+        String idForAlias = idByAlias.get(alias);
+        if (idForAlias == null) {
+            throw new PowsyblException(String.format("No alias '%s' found in the network", alias));
+        } else if (!idForAlias.equals(obj.getId())) {
+            throw new PowsyblException(String.format("Alias '%s' do not correspond to object '%s'", alias, obj.getId()));
+        } else {
+            idByAlias.remove(alias);
+        }
+    }
+
+    @Override
+    public Identifiable get(String idOrAlias) {
+        String id = idByAlias.getOrDefault(idOrAlias, idOrAlias);
+        NetworkIndex.checkId(id);
+        return objectsById.get(id);
+    }
+
+    @Override
+    public Collection<Identifiable<?>> getAll() {
+        return objectsById.values();
+    }
+
+    @Override
+    public <T extends Identifiable> Set<T> getAll(Class<T> clazz) {
+        Set<Identifiable<?>> all = objectsByClass.get(clazz);
+        if (all == null) {
+            return Collections.emptySet();
+        }
+        return (Set<T>) all;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        String idFromPotentialAlias = idByAlias.getOrDefault(id, id);
+        NetworkIndex.checkId(idFromPotentialAlias);
+        return objectsById.containsKey(idFromPotentialAlias);
+    }
+
+    @Override
+    public boolean containsIdOrAlias(String idOrAlias) {
+        return objectsById.containsKey(idOrAlias) || idByAlias.containsKey(idOrAlias);
+    }
+
+    @Override
+    public void remove(Identifiable obj) {
+        NetworkIndex.checkId(obj.getId());
+        Identifiable old = objectsById.remove(obj.getId());
+        if (old == null || old != obj) {
+            throw new PowsyblException("Object (" + obj.getClass().getName()
+                    + ") '" + obj.getId() + "' not found");
+        }
+        obj.getAliases().forEach(idByAlias::remove);
+        Set<Identifiable<?>> all = objectsByClass.get(obj.getClass());
+        if (all != null) {
+            all.remove(obj);
+        }
+    }
+
+    @Override
+    public void clean() {
+        objectsById.clear();
+        objectsByClass.clear();
+    }
+
+    @Override
+    public void printForDebug(PrintStream out) {
+        for (Map.Entry<String, Identifiable<?>> entry : objectsById.entrySet()) {
+            out.println(entry.getKey() + " " + System.identityHashCode(entry.getValue()));
+        }
+        for (Map.Entry<Class<? extends Identifiable>, Set<Identifiable<?>>> entry : objectsByClass.entrySet()) {
+            out.println(entry.getKey() + " " + entry.getValue().stream().map(System::identityHashCode).toList());
+        }
+    }
+}
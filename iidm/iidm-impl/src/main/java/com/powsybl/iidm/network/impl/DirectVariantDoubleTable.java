@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * {@link VariantDoubleTable} with columns stored in direct buffers, outside of the Java heap.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class DirectVariantDoubleTable extends AbstractVariantDoubleTable<DoubleBuffer> {
+
+    DirectVariantDoubleTable(Class<?> ownerType, int attributeCount, int variantArraySize, boolean copyOnWrite) {
+        super(ownerType, attributeCount, variantArraySize, copyOnWrite);
+    }
+
+    @Override
+    protected DoubleBuffer createColumn(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Double.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+    }
+
+    @Override
+    protected DoubleBuffer copyColumn(DoubleBuffer column, int length, int capacity) {
+        DoubleBuffer copy = createColumn(capacity);
+        copy.put(0, column, 0, length);
+        return copy;
+    }
+
+    @Override
+    protected void copyColumn(DoubleBuffer source, DoubleBuffer target, int length) {
+        target.put(0, source, 0, length);
+    }
+
+    @Override
+    protected double getValue(DoubleBuffer column, int row) {
+        return column.get(row);
+    }
+
+    @Override
+    protected void setValue(DoubleBuffer column, int row, double value) {
+        column.put(row, value);
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import java.util.Arrays;
+
+/**
+ * {@link VariantDoubleTable} with columns stored in Java arrays.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class HeapVariantDoubleTable extends AbstractVariantDoubleTable<double[]> {
+
+    HeapVariantDoubleTable(Class<?> ownerType, int attributeCount, int variantArraySize, boolean copyOnWrite) {
+        super(ownerType, attributeCount, variantArraySize, copyOnWrite);
+    }
+
+    @Override
+    protected double[] createColumn(int capacity) {
+        return new double[capacity];
+    }
+
+    @Override
+    protected double[] copyColumn(double[] column, int length, int capacity) {
+        return Arrays.copyOf(column, capacity);
+    }
+
+    @Override
+    protected void copyColumn(double[] source, double[] target, int length) {
+        System.arraycopy(source, 0, target, 0, length);
+    }
+
+    @Override
+    protected double getValue(double[] column, int row) {
+        return column[row];
+    }
+
+    @Override
+    protected void setValue(double[] column, int row, double value) {
+        column[row] = value;
+    }
+}
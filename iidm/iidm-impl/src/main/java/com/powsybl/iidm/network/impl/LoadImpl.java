@@ -12,7 +12,6 @@ import com.powsybl.iidm.network.LoadModel;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.ValidationUtil;
 import com.powsybl.commons.ref.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 import java.util.Optional;
 
@@ -30,9 +29,11 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     // attributes depending on the variant
 
-    private final TDoubleArrayList p0;
+    private static final int P0 = 0;
 
-    private final TDoubleArrayList q0;
+    private static final int Q0 = 1;
+
+    private VariantDoubleStorage powers;
 
     LoadImpl(Ref<NetworkImpl> networkRef,
              String id, String name, boolean fictitious, LoadType loadType, LoadModel model,
@@ -41,13 +42,7 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
         this.network = networkRef;
         this.loadType = loadType;
         this.model = model;
-        int variantArraySize = network.get().getVariantManager().getVariantArraySize();
-        this.p0 = new TDoubleArrayList(variantArraySize);
-        this.q0 = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.p0.add(p0);
-            this.q0.add(q0);
-        }
+        this.powers = network.get().getVariantManager().getDoubleTables().create(LoadImpl.class, p0, q0);
     }
 
     @Override
@@ -76,7 +71,7 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     @Override
     public double getP0() {
-        return p0.get(network.get().getVariantIndex());
+        return powers.get(P0, network.get().getVariantIndex());
     }
 
     @Override
@@ -84,7 +79,7 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
         NetworkImpl n = getNetwork();
         ValidationUtil.checkP0(this, p0, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.p0.set(variantIndex, p0);
+        double oldValue = powers.set(P0, variantIndex, p0);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
         notifyUpdate("p0", variantId, oldValue, p0);
@@ -93,7 +88,7 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     @Override
     public double getQ0() {
-        return q0.get(network.get().getVariantIndex());
+        return powers.get(Q0, network.get().getVariantIndex());
     }
 
     @Override
@@ -101,7 +96,7 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
         NetworkImpl n = getNetwork();
         ValidationUtil.checkQ0(this, q0, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
-        double oldValue = this.q0.set(variantIndex, q0);
+        double oldValue = powers.set(Q0, variantIndex, q0);
         String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
         notifyUpdate("q0", variantId, oldValue, q0);
@@ -116,34 +111,37 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        p0.ensureCapacity(p0.size() + number);
-        q0.ensureCapacity(q0.size() + number);
-        for (int i = 0; i < number; i++) {
-            p0.add(p0.get(sourceIndex));
-            q0.add(q0.get(sourceIndex));
-        }
+        powers.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
         super.reduceVariantArraySize(number);
-        p0.remove(p0.size() - number, number);
-        q0.remove(q0.size() - number, number);
+        powers.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
         super.deleteVariantArrayElement(index);
-        // nothing to do
+        powers.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            p0.set(index, p0.get(sourceIndex));
-            q0.set(index, q0.get(sourceIndex));
-        }
+        powers.allocateVariantArrayElement(indexes, sourceIndex);
+    }
+
+    @Override
+    void moveVariantDoubleStorage(VariantDoubleTables tables) {
+        super.moveVariantDoubleStorage(tables);
+        powers = powers.moveTo(tables);
+    }
+
+    @Override
+    public void remove() {
+        super.remove();
+        powers.release();
     }
 
 }
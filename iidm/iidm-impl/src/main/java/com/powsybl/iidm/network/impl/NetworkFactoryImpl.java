@@ -19,14 +19,38 @@ import java.util.stream.Collectors;
  */
 public class NetworkFactoryImpl implements NetworkFactory {
 
+    private final NetworkIndexType indexType;
+
+    private final VariantStorageType variantStorageType;
+
+    public NetworkFactoryImpl() {
+        this(NetworkIndexType.DEFAULT);
+    }
+
+    /**
+     * @param indexType the implementation used to index the identifiables of the created networks
+     */
+    public NetworkFactoryImpl(NetworkIndexType indexType) {
+        this(indexType, VariantStorageType.OBJECT);
+    }
+
+    /**
+     * @param indexType the implementation used to index the identifiables of the created networks
+     * @param variantStorageType the storage of the variant dependent values of the created networks
+     */
+    public NetworkFactoryImpl(NetworkIndexType indexType, VariantStorageType variantStorageType) {
+        this.indexType = Objects.requireNonNull(indexType);
+        this.variantStorageType = Objects.requireNonNull(variantStorageType);
+    }
+
     @Override
     public Network createNetwork(String id, String sourceFormat) {
-        return new NetworkImpl(id, id, sourceFormat);
+        return new NetworkImpl(id, id, sourceFormat, indexType, variantStorageType);
     }
 
     @Override
     public Network merge(String id, Network... networks) {
-        return NetworkImpl.merge(id, id, networks);
+        return NetworkImpl.merge(id, id, indexType, variantStorageType, networks);
     }
 
     @Override
@@ -7,8 +7,6 @@
  */
 package com.powsybl.iidm.network.impl;
 
-import com.google.common.base.Functions;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import com.google.common.primitives.Ints;
@@ -57,7 +55,7 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
     private ValidationLevel validationLevel = ValidationLevel.STEADY_STATE_HYPOTHESIS;
     private ValidationLevel minValidationLevel = ValidationLevel.STEADY_STATE_HYPOTHESIS;
 
-    private final NetworkIndex index = new NetworkIndex();
+    private final NetworkIndex index;
 
     private final Map<String, VoltageAngleLimit> voltageAngleLimitsIndex = new LinkedHashMap<>();
 
@@ -97,6 +95,10 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         void invalidateCache() {
             variants.get().busBreakerViewCache.invalidate();
         }
+
+        void updateCache(Collection<? extends Bus> removedBuses, Collection<? extends Bus> addedBuses) {
+            variants.get().busBreakerViewCache.update(removedBuses, addedBuses);
+        }
     }
 
     private final BusBreakerViewImpl busBreakerView = new BusBreakerViewImpl();
@@ -121,15 +123,24 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         void invalidateCache() {
             variants.get().busViewCache.invalidate();
         }
+
+        void updateCache(Collection<? extends Bus> removedBuses, Collection<? extends Bus> addedBuses) {
+            variants.get().busViewCache.update(removedBuses, addedBuses);
+        }
     }
 
     private final BusViewImpl busView = new BusViewImpl();
 
     NetworkImpl(String id, String name, String sourceFormat) {
+        this(id, name, sourceFormat, NetworkIndexType.DEFAULT, VariantStorageType.OBJECT);
+    }
+
+    NetworkImpl(String id, String name, String sourceFormat, NetworkIndexType indexType, VariantStorageType variantStorageType) {
         super(id, name, sourceFormat);
+        index = NetworkIndex.create(indexType);
         ref.setRef(new RefObj<>(this));
         this.reportNodeContext = new SimpleReportNodeContext();
-        variantManager = new VariantManagerImpl(this);
+        variantManager = new VariantManagerImpl(this, variantStorageType);
         variants = new VariantArray<>(ref, VariantImpl::new);
         // add the network the object list as it is a multi variant object
         // and it needs to be notified when and extension or a reduction of
@@ -139,11 +150,15 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
     }
 
     static Network merge(String id, String name, Network... networks) {
+        return merge(id, name, NetworkIndexType.DEFAULT, VariantStorageType.OBJECT, networks);
+    }
+
+    static Network merge(String id, String name, NetworkIndexType indexType, VariantStorageType variantStorageType, Network... networks) {
         if (networks == null || networks.length < 2) {
             throw new IllegalArgumentException("At least 2 networks are expected");
         }
 
-        NetworkImpl mergedNetwork = new NetworkImpl(id, name, networks[0].getSourceFormat());
+        NetworkImpl mergedNetwork = new NetworkImpl(id, name, networks[0].getSourceFormat(), indexType, variantStorageType);
         setValidationLevels(mergedNetwork, networks);
         setCommonCaseDate(mergedNetwork, networks);
         for (Network other : networks) {
@@ -1116,7 +1131,7 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
     /**
      * Caching buses by their ID :
      * the cache is fully builts on first call to {@link BusCache#getBus(String)},
-     * and must be invalidated on any topology change.
+     * and must be invalidated or updated on any topology change.
      */
     private static final class BusCache {
 
@@ -1128,22 +1143,32 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         }
 
         private void buildCache() {
-            cache = busStream.get().collect(ImmutableMap.toImmutableMap(Bus::getId, Functions.identity()));
+            // mutable to be incrementally updated, but still failing on duplicated ids
+            Map<String, Bus> newCache = new HashMap<>();
+            busStream.get().forEach(bus -> {
+                if (newCache.put(bus.getId(), bus) != null) {
+                    throw new IllegalArgumentException("Multiple entries with same key: " + bus.getId());
+                }
+            });
+            cache = newCache;
         }
 
         synchronized void invalidate() {
             cache = null;
         }
 
-        private synchronized Map<String, Bus> getCache() {
-            if (cache == null) {
-                buildCache();
+        synchronized void update(Collection<? extends Bus> removedBuses, Collection<? extends Bus> addedBuses) {
+            if (cache != null) {
+                removedBuses.forEach(bus -> cache.remove(bus.getId()));
+                addedBuses.forEach(bus -> cache.put(bus.getId(), bus));
             }
-            return cache;
         }
 
-        Bus getBus(String id) {
-            return getCache().get(id);
+        synchronized Bus getBus(String id) {
+            if (cache == null) {
+                buildCache();
+            }
+            return cache.get(id);
         }
     }
 
@@ -1275,6 +1300,9 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         // merge the indexes
         index.merge(otherNetwork.index);
 
+        // take over the variant dependent values of the other network objects
+        variantManager.getDoubleTables().merge(otherNetwork.variantManager.getDoubleTables());
+
         replaceDanglingLineByTieLine(lines);
 
         other.getVoltageAngleLimits().forEach(l -> getVoltageAngleLimitsIndex().put(l.getId(), l));
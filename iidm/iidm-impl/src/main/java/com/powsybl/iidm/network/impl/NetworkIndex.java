@@ -16,15 +16,18 @@ import java.io.PrintStream;
 import java.util.*;
 
 /**
+ * Index of all the identifiables of a network, by id, alias and class.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
-class NetworkIndex {
+interface NetworkIndex {
 
-    private final Map<String, Identifiable<?>> objectsById = new HashMap<>();
-    private final Map<String, String> idByAlias = new HashMap<>();
-
-    private final Map<Class<? extends Identifiable>, Set<Identifiable<?>>> objectsByClass = new HashMap<>();
+    static NetworkIndex create(NetworkIndexType type) {
+        return switch (Objects.requireNonNull(type)) {
+            case DEFAULT -> new DefaultNetworkIndex();
+            case COMPACT -> new CompactNetworkIndex();
+        };
+    }
 
     static void checkId(String id) {
         if (id == null || id.isEmpty()) {
@@ -36,69 +39,26 @@ class NetworkIndex {
         return UUID.randomUUID().toString();
     }
 
-    void checkAndAdd(Identifiable<?> obj) {
-        checkId(obj.getId());
-        if (objectsById.containsKey(obj.getId())) {
-            throw new PowsyblException("Object (" + obj.getClass().getName()
-                    + ") '" + obj.getId() + "' already exists");
-        }
-        objectsById.put(obj.getId(), obj);
-        obj.getAliases().forEach(alias -> addAlias(obj, alias));
-
-        Set<Identifiable<?>> all = objectsByClass.computeIfAbsent(obj.getClass(), k -> new LinkedHashSet<>());
-        all.add(obj);
+    static PowsyblException createAliasConflictException(Identifiable<?> obj, String alias, Identifiable<?> aliasConflict) {
+        String message = String.format("Object (%s) with alias '%s' cannot be created because alias already refers to object (%s) with ID '%s'",
+                obj.getClass(),
+                alias,
+                aliasConflict.getClass(),
+                aliasConflict.getId());
+        return new PowsyblException(message);
     }
 
-    boolean addAlias(Identifiable<?> obj, String alias) {
-        Identifiable<?> aliasConflict = objectsById.get(alias);
-        if (aliasConflict != null) {
-            if (aliasConflict.equals(obj)) {
-                // Silently ignore affecting the objects id to its own aliases
-                return false;
-            }
-            String message = String.format("Object (%s) with alias '%s' cannot be created because alias already refers to object (%s) with ID '%s'",
-                    obj.getClass(),
-                    alias,
-                    aliasConflict.getClass(),
-                    aliasConflict.getId());
-            throw new PowsyblException(message);
-        }
-        String idForAlias = idByAlias.get(alias);
-        if (idForAlias != null) {
-            aliasConflict = objectsById.get(idForAlias);
-            if (aliasConflict.equals(obj)) {
-                // Silently ignore affecting the same alias twice to an object
-                return false;
-            }
-            String message = String.format("Object (%s) with alias '%s' cannot be created because alias already refers to object (%s) with ID '%s'",
-                    obj.getClass(),
-                    alias,
-                    aliasConflict.getClass(),
-                    aliasConflict.getId());
-            throw new PowsyblException(message);
-        }
-        idByAlias.put(alias, obj.getId());
-        return true;
-    }
+    NetworkIndexType getType();
 
-    public <I extends Identifiable<I>> void removeAlias(Identifiable<?> obj, String alias) {
-        String idForAlias = idByAlias.get(alias);
-        if (idForAlias == null) {
-            throw new PowsyblException(String.format("No alias '%s' found in the network", alias));
-        } else if (!idForAlias.equals(obj.getId())) {
-            throw new PowsyblException(String.format("Alias '%s' do not correspond to object '%s'", alias, obj.getId()));
-        } else {
-            idByAlias.remove(alias);
-        }
-    }
+    void checkAndAdd(Identifiable<?> obj);
 
-    Identifiable get(String idOrAlias) {
-        String id = idByAlias.getOrDefault(idOrAlias, idOrAlias);
-        checkId(id);
-        return objectsById.get(id);
-    }
+    boolean addAlias(Identifiable<?> obj, String alias);
+
+    void removeAlias(Identifiable<?> obj, String alias);
 
-    <T extends Identifiable> T get(String id, Class<T> clazz) {
+    Identifiable get(String idOrAlias);
+
+    default <T extends Identifiable> T get(String id, Class<T> clazz) {
         Identifiable<?> obj = get(id);
         if (obj != null && clazz.isAssignableFrom(obj.getClass())) {
             return (T) obj;
@@ -107,62 +67,36 @@ class NetworkIndex {
         }
     }
 
-    Collection<Identifiable<?>> getAll() {
-        return objectsById.values();
-    }
+    Collection<Identifiable<?>> getAll();
 
-    <T extends Identifiable> Set<T> getAll(Class<T> clazz) {
-        Set<Identifiable<?>> all = objectsByClass.get(clazz);
-        if (all == null) {
-            return Collections.emptySet();
-        }
-        return (Set<T>) all;
-    }
+    <T extends Identifiable> Set<T> getAll(Class<T> clazz);
 
-    boolean contains(String id) {
-        String idFromPotentialAlias = idByAlias.getOrDefault(id, id);
-        checkId(idFromPotentialAlias);
-        return objectsById.containsKey(idFromPotentialAlias);
-    }
+    boolean contains(String id);
 
-    void remove(Identifiable obj) {
-        checkId(obj.getId());
-        Identifiable old = objectsById.remove(obj.getId());
-        if (old == null || old != obj) {
-            throw new PowsyblException("Object (" + obj.getClass().getName()
-                    + ") '" + obj.getId() + "' not found");
-        }
-        obj.getAliases().forEach(idByAlias::remove);
-        Set<Identifiable<?>> all = objectsByClass.get(obj.getClass());
-        if (all != null) {
-            all.remove(obj);
-        }
-    }
+    /**
+     * Check if an id or an alias is used in this index, without validating it.
+     */
+    boolean containsIdOrAlias(String idOrAlias);
 
-    void clean() {
-        objectsById.clear();
-        objectsByClass.clear();
-    }
+    void remove(Identifiable obj);
+
+    void clean();
 
     /**
      * Compute intersection between this index and another one.
      * @param other the other index
      * @return list of objects id or alias that exist in both indexes organized by class.
      */
-    Multimap<Class<? extends Identifiable>, String> intersection(NetworkIndex other) {
+    default Multimap<Class<? extends Identifiable>, String> intersection(NetworkIndex other) {
         Multimap<Class<? extends Identifiable>, String> intersection = HashMultimap.create();
-        for (Map.Entry<Class<? extends Identifiable>, Set<Identifiable<?>>> entry : other.objectsByClass.entrySet()) {
-            Class<? extends Identifiable> clazz = entry.getKey();
-            Set<Identifiable<?>> objects = entry.getValue();
-            for (Identifiable obj : objects) {
-                if (objectsById.containsKey(obj.getId()) || idByAlias.containsKey(obj.getId())) {
-                    intersection.put(clazz, obj.getId());
-                }
-                Set<String> aliases = obj.getAliases();
-                for (String alias : aliases) {
-                    if (objectsById.containsKey(alias) || idByAlias.containsKey(alias)) {
-                        intersection.put(clazz, alias);
-                    }
+        for (Identifiable<?> obj : other.getAll()) {
+            Class<? extends Identifiable> clazz = obj.getClass();
+            if (containsIdOrAlias(obj.getId())) {
+                intersection.put(clazz, obj.getId());
+            }
+            for (String alias : obj.getAliases()) {
+                if (containsIdOrAlias(alias)) {
+                    intersection.put(clazz, alias);
                 }
             }
         }
@@ -174,19 +108,12 @@ class NetworkIndex {
      * other index is empty.
      * @param other the index to merge
      */
-    void merge(NetworkIndex other) {
-        for (Identifiable obj : other.objectsById.values()) {
+    default void merge(NetworkIndex other) {
+        for (Identifiable<?> obj : other.getAll()) {
             checkAndAdd(obj);
         }
         other.clean();
     }
 
-    void printForDebug(PrintStream out) {
-        for (Map.Entry<String, Identifiable<?>> entry : objectsById.entrySet()) {
-            out.println(entry.getKey() + " " + System.identityHashCode(entry.getValue()));
-        }
-        for (Map.Entry<Class<? extends Identifiable>, Set<Identifiable<?>>> entry : objectsByClass.entrySet()) {
-            out.println(entry.getKey() + " " + entry.getValue().stream().map(System::identityHashCode).toList());
-        }
-    }
+    void printForDebug(PrintStream out);
 }
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+/**
+ * Implementation used to index the identifiables of a network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public enum NetworkIndexType {
+    /**
+     * Hash maps by id and by alias, and insertion ordered sets by class.
+     */
+    DEFAULT,
+
+    /**
+     * Ids and aliases mapped to dense integer handles, with objects and per class content stored in primitive arrays.
+     * Uses less memory than {@link #DEFAULT} on large networks.
+     */
+    COMPACT
+}
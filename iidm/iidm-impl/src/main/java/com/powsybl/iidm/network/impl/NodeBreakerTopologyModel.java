@@ -244,6 +244,17 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
         }
     }
 
+    /**
+     * Buses removed from and added to a bus cache by an incremental update.
+     */
+    private record BusCacheUpdate(List<CalculatedBus> removedBuses, List<String> removedBusIds,
+                                  List<TerminalExt> removedTerminals, List<CalculatedBus> addedBuses) {
+
+        boolean isEmpty() {
+            return removedBuses.isEmpty() && addedBuses.isEmpty();
+        }
+    }
+
     /**
      * Bus topology calculated from node breaker topology
      */
@@ -252,7 +263,14 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
         protected BusCache busCache;
 
         protected void updateCache() {
-            updateCache(Switch::isOpen);
+            updateCache(getTerminatePredicate());
+        }
+
+        /**
+         * Switches on which the bus traversal stops.
+         */
+        protected Predicate<SwitchImpl> getTerminatePredicate() {
+            return Switch::isOpen;
         }
 
         protected BusChecker getBusChecker() {
@@ -261,41 +279,49 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
 
         private void traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
             if (!encountered[n]) {
-                final TIntArrayList nodes = new TIntArrayList(1);
-                nodes.add(n);
-                Traverser traverser = (n1, e, n2) -> {
-                    SwitchImpl aSwitch = graph.getEdgeObject(e);
-                    if (aSwitch != null && terminate.test(aSwitch)) {
-                        return TraverseResult.TERMINATE_PATH;
-                    }
+                createBus(traverse(n, encountered, terminate), id2bus, node2bus);
+            }
+        }
 
-                    if (!encountered[n2]) {
-                        // We need to check this as the traverser might be called twice with the same n2 but with different edges.
-                        // Note that the "encountered" array is used and maintained inside graph::traverse method, hence we should not update it.
-                        nodes.add(n2);
-                    }
-                    return TraverseResult.CONTINUE;
-                };
-                graph.traverse(n, TraversalType.DEPTH_FIRST, traverser, encountered);
+        private TIntArrayList traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate) {
+            final TIntArrayList nodes = new TIntArrayList(1);
+            nodes.add(n);
+            Traverser traverser = (n1, e, n2) -> {
+                SwitchImpl aSwitch = graph.getEdgeObject(e);
+                if (aSwitch != null && terminate.test(aSwitch)) {
+                    return TraverseResult.TERMINATE_PATH;
+                }
 
-                // check that the component is a bus
-                String busId = Identifiables.getUniqueId(NAMING_STRATEGY.getId(voltageLevel, nodes), getNetwork().getIndex()::contains);
-                CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
-                for (int i = 0; i < nodes.size(); i++) {
-                    int n2 = nodes.getQuick(i);
-                    NodeTerminal terminal2 = graph.getVertexObject(n2);
-                    if (terminal2 != null) {
-                        terminals.add(terminal2);
-                    }
+                if (!encountered[n2]) {
+                    // We need to check this as the traverser might be called twice with the same n2 but with different edges.
+                    // Note that the "encountered" array is used and maintained inside graph::traverse method, hence we should not update it.
+                    nodes.add(n2);
                 }
-                if (getBusChecker().isValid(graph, nodes, terminals)) {
-                    addBus(nodes, id2bus, node2bus, busId, terminals);
+                return TraverseResult.CONTINUE;
+            };
+            graph.traverse(n, TraversalType.DEPTH_FIRST, traverser, encountered);
+            return nodes;
+        }
+
+        private CalculatedBus createBus(TIntArrayList nodes, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
+            // check that the component is a bus
+            String busId = Identifiables.getUniqueId(NAMING_STRATEGY.getId(voltageLevel, nodes), getNetwork().getIndex()::contains);
+            CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                int n2 = nodes.getQuick(i);
+                NodeTerminal terminal2 = graph.getVertexObject(n2);
+                if (terminal2 != null) {
+                    terminals.add(terminal2);
                 }
             }
+            if (getBusChecker().isValid(graph, nodes, terminals)) {
+                return addBus(nodes, id2bus, node2bus, busId, terminals);
+            }
+            return null;
         }
 
-        private void addBus(TIntArrayList nodes, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus,
-                            String busId, CopyOnWriteArrayList<NodeTerminal> terminals) {
+        private CalculatedBus addBus(TIntArrayList nodes, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus,
+                                     String busId, CopyOnWriteArrayList<NodeTerminal> terminals) {
             String busName = NAMING_STRATEGY.getName(voltageLevel, nodes);
             Function<Terminal, Bus> getBusFromTerminal = getBusChecker() == CALCULATED_BUS_CHECKER ? t -> t.getBusView().getBus() : t -> t.getBusBreakerView().getBus();
             CalculatedBusImpl bus = new CalculatedBusImpl(busId, busName, voltageLevel.isFictitious(), voltageLevel, nodes, terminals, getBusFromTerminal);
@@ -303,6 +329,7 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
             for (int i = 0; i < nodes.size(); i++) {
                 node2bus[nodes.getQuick(i)] = bus;
             }
+            return bus;
         }
 
         protected void updateCache(final Predicate<SwitchImpl> terminate) {
@@ -320,6 +347,74 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
             LOGGER.trace("Found buses {}", id2bus.values());
         }
 
+        /**
+         * Incrementally update the cache after the state of a switch between {@code node1} and {@code node2} has
+         * changed. Only the buses containing one of these nodes are merged or split, the other buses are kept as is.
+         *
+         * @return the removed and added buses, or {@code null} if the cache has to be invalidated instead
+         */
+        protected BusCacheUpdate updateCache(int node1, int node2) {
+            if (busCache == null || busCache.node2bus.length != graph.getVertexCapacity()) {
+                return null;
+            }
+            CalculatedBus[] node2bus = busCache.node2bus;
+            CalculatedBus bus1 = node2bus[node1];
+            CalculatedBus bus2 = node2bus[node2];
+            boolean[] encountered = new boolean[node2bus.length];
+            Predicate<SwitchImpl> terminate = getTerminatePredicate();
+            List<TIntArrayList> components = new ArrayList<>(2);
+            components.add(traverse(node1, encountered, terminate));
+            if (!encountered[node2]) {
+                components.add(traverse(node2, encountered, terminate));
+            }
+
+            // as the bus validity is monotonic on the set of nodes, the buses are only modified when a bus is split
+            // into 2 components or when 2 different components are merged
+            boolean sameBus = bus1 != null && bus1 == bus2;
+            boolean split = sameBus && components.size() == 2;
+            boolean merge = !sameBus && components.size() == 1;
+            if (!split && !merge) {
+                return new BusCacheUpdate(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+            }
+            LOGGER.trace("Update buses {} and {} of voltage level {}", bus1, bus2, voltageLevel.getId());
+
+            // the components contain all the nodes of the previous buses
+            List<CalculatedBus> removedBuses = new ArrayList<>(2);
+            List<String> removedBusIds = new ArrayList<>(2);
+            List<TerminalExt> removedTerminals = new ArrayList<>();
+            for (CalculatedBus bus : sameBus ? List.of(bus1) : Arrays.asList(bus1, bus2)) {
+                if (bus != null) {
+                    removedBuses.add(bus);
+                    removedBusIds.add(bus.getId());
+                    bus.getConnectedTerminals().forEach(removedTerminals::add);
+                    busCache.id2bus.remove(bus.getId());
+                    bus.invalidate();
+                }
+            }
+            for (TIntArrayList nodes : components) {
+                for (int i = 0; i < nodes.size(); i++) {
+                    node2bus[nodes.getQuick(i)] = null;
+                }
+            }
+            List<CalculatedBus> addedBuses = new ArrayList<>(2);
+            for (TIntArrayList nodes : components) {
+                CalculatedBus bus = createBus(nodes, busCache.id2bus, node2bus);
+                if (bus != null) {
+                    addedBuses.add(bus);
+                }
+            }
+
+            // keep the buses ordered as a full computation would
+            Map<String, CalculatedBus> id2bus = new LinkedHashMap<>();
+            for (CalculatedBus bus : node2bus) {
+                if (bus != null) {
+                    id2bus.putIfAbsent(bus.getId(), bus);
+                }
+            }
+            busCache = new BusCache(node2bus, id2bus);
+            return new BusCacheUpdate(removedBuses, removedBusIds, removedTerminals, addedBuses);
+        }
+
         protected void invalidateCache() {
             // detach buses
             if (busCache != null) {
@@ -393,8 +488,8 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
     class CalculatedBusBreakerTopology extends CalculatedBusTopology {
 
         @Override
-        protected void updateCache() {
-            updateCache(sw -> sw.isOpen() || sw.isRetained());
+        protected Predicate<SwitchImpl> getTerminatePredicate() {
+            return sw -> sw.isOpen() || sw.isRetained();
         }
 
         @Override
@@ -594,6 +689,39 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
         getNetwork().getSynchronousComponentsManager().invalidate();
     }
 
+    @Override
+    public void invalidateCache(SwitchImpl aSwitch) {
+        Integer e = switches.get(aSwitch.getId());
+        if (e == null) {
+            invalidateCache(aSwitch.isRetained());
+            return;
+        }
+        int node1 = graph.getEdgeVertex1(e);
+        int node2 = graph.getEdgeVertex2(e);
+        VariantImpl variant = variants.get();
+        NetworkImpl network = getNetwork();
+        if (!aSwitch.isRetained()) {
+            BusCacheUpdate update = variant.calculatedBusBreakerTopology.updateCache(node1, node2);
+            if (update == null) {
+                variant.calculatedBusBreakerTopology.invalidateCache();
+                network.getBusBreakerView().invalidateCache();
+            } else if (!update.isEmpty()) {
+                network.getBusBreakerView().updateCache(update.removedBuses(), update.addedBuses());
+            }
+        }
+        BusCacheUpdate update = variant.calculatedBusTopology.updateCache(node1, node2);
+        if (update == null) {
+            variant.calculatedBusTopology.invalidateCache();
+            network.getBusView().invalidateCache();
+            network.getConnectedComponentsManager().invalidate();
+            network.getSynchronousComponentsManager().invalidate();
+        } else if (!update.isEmpty()) {
+            network.getBusView().updateCache(update.removedBuses(), update.addedBuses());
+            network.getConnectedComponentsManager().replaceBuses(update.removedBusIds(), update.removedTerminals(), update.addedBuses());
+            network.getSynchronousComponentsManager().replaceBuses(update.removedBusIds(), update.removedTerminals(), update.addedBuses());
+        }
+    }
+
     private Integer getEdge(String switchId, boolean throwException) {
         Integer edge = switches.get(switchId);
         if (throwException && edge == null) {
@@ -1227,6 +1355,13 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
         checkTopologyKind(terminal);
 
         int node = ((NodeTerminal) terminal).getNode();
+        // a single path to a busbar section without any open switch is enough to know that there is nothing to close,
+        // as such a path would be the first one of the sorted paths below
+        if (!graph.findAllPaths(node, NodeBreakerTopologyModel::isBusbarSection, SwitchPredicates.IS_OPEN,
+                Comparator.comparing(TIntArrayList::size), 1).isEmpty()) {
+            return true;
+        }
+
         // find all paths starting from the current terminal to a busbar section that does not contain an open switch
         // that is not of the type of switch the user wants to operate
         // Paths are already sorted by the number of open switches and by the size of the paths
@@ -1284,6 +1419,13 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
         checkTopologyKind(terminal);
 
         int node = ((NodeTerminal) terminal).getNode();
+        // a single path to a terminal without any open or openable switch is enough to know that the terminal cannot
+        // be disconnected, before enumerating all the paths
+        if (!graph.findAllPaths(node, Objects::nonNull, sw -> SwitchPredicates.IS_OPEN.test(sw) || isSwitchOpenable.test(sw),
+                Comparator.comparing(TIntArrayList::size), 1).isEmpty()) {
+            return false;
+        }
+
         // find all paths starting from the current terminal to a terminal that does not contain an open switch
         List<TIntArrayList> paths = graph.findAllPaths(node, Objects::nonNull, SwitchPredicates.IS_OPEN);
         if (paths.isEmpty()) {
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import gnu.trove.list.array.TDoubleArrayList;
+
+/**
+ * {@link VariantDoubleStorage} keeping its own array of values per attribute.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class ObjectVariantDoubleStorage implements VariantDoubleStorage {
+
+    private final TDoubleArrayList[] values;
+
+    ObjectVariantDoubleStorage(int variantArraySize, double... initialValues) {
+        values = new TDoubleArrayList[initialValues.length];
+        for (int attribute = 0; attribute < initialValues.length; attribute++) {
+            values[attribute] = new TDoubleArrayList(variantArraySize);
+            for (int i = 0; i < variantArraySize; i++) {
+                values[attribute].add(initialValues[attribute]);
+            }
+        }
+    }
+
+    @Override
+    public double get(int attribute, int variantIndex) {
+        return values[attribute].get(variantIndex);
+    }
+
+    @Override
+    public double set(int attribute, int variantIndex, double value) {
+        return values[attribute].set(variantIndex, value);
+    }
+
+    @Override
+    public VariantDoubleStorage moveTo(VariantDoubleTables tables) {
+        // values are not shared with other objects
+        return this;
+    }
+
+    @Override
+    public void release() {
+        // nothing to do
+    }
+
+    @Override
+    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
+        for (TDoubleArrayList attributeValues : values) {
+            attributeValues.ensureCapacity(attributeValues.size() + number);
+            double value = attributeValues.get(sourceIndex);
+            for (int i = 0; i < number; i++) {
+                attributeValues.add(value);
+            }
+        }
+    }
+
+    @Override
+    public void reduceVariantArraySize(int number) {
+        for (TDoubleArrayList attributeValues : values) {
+            attributeValues.remove(attributeValues.size() - number, number);
+        }
+    }
+
+    @Override
+    public void deleteVariantArrayElement(int index) {
+        // nothing to do
+    }
+
+    @Override
+    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+        for (TDoubleArrayList attributeValues : values) {
+            double value = attributeValues.get(sourceIndex);
+            for (int index : indexes) {
+                attributeValues.set(index, value);
+            }
+        }
+    }
+}
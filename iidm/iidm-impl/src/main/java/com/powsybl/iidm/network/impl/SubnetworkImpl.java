@@ -996,7 +996,8 @@ public class SubnetworkImpl extends AbstractNetwork {
                 .forEach(t -> t.get().remove(true));
 
         // Create a new NetworkImpl and transfer the extensions to it
-        NetworkImpl detachedNetwork = new NetworkImpl(getId(), getNameOrId(), getSourceFormat());
+        NetworkImpl detachedNetwork = new NetworkImpl(getId(), getNameOrId(), getSourceFormat(), getNetwork().getIndex().getType(),
+                getNetwork().getVariantManager().getDoubleTables().getType());
         transferExtensions(this, detachedNetwork);
         transferProperties(this, detachedNetwork);
 
@@ -1019,11 +1020,15 @@ public class SubnetworkImpl extends AbstractNetwork {
         rootNetworkRef.setRef(detachedNetwork.getRef());
 
         // Remove all the identifiers from the parent's index and add them to the detached network's index
+        VariantDoubleTables detachedDoubleTables = detachedNetwork.getVariantManager().getDoubleTables();
         for (Identifiable<?> i : identifiables) {
             previousRootNetwork.getIndex().remove(i);
             if (i != this) {
                 detachedNetwork.getIndex().checkAndAdd(i);
             }
+            if (i instanceof AbstractConnectable<?> connectable) {
+                connectable.moveVariantDoubleStorage(detachedDoubleTables);
+            }
         }
         for (VoltageAngleLimit val : vals) {
             previousRootNetwork.getVoltageAngleLimitsIndex().remove(val.getId());
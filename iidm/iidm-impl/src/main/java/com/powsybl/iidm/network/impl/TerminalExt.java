@@ -57,5 +57,12 @@ public interface TerminalExt extends Terminal, MultiVariantObject {
 
     void remove();
 
+    /**
+     * Move the variant dependent values of this terminal to the storage of another network.
+     */
+    default void moveVariantDoubleStorage(VariantDoubleTables tables) {
+        // nothing to do by default
+    }
+
     ReferrerManager<Terminal> getReferrerManager();
 }
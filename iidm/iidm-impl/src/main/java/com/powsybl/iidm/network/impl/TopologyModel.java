@@ -18,6 +18,14 @@ interface TopologyModel {
 
     void invalidateCache();
 
+    /**
+     * Invalidate the cache after the open status of a switch has been modified. Implementations may update their
+     * cache incrementally.
+     */
+    default void invalidateCache(SwitchImpl aSwitch) {
+        invalidateCache(aSwitch.isRetained());
+    }
+
     void attach(TerminalExt terminal, boolean test);
 
     void detach(TerminalExt terminal);
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+/**
+ * Variant dependent double attributes of an object.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+interface VariantDoubleStorage extends MultiVariantObject {
+
+    double get(int attribute, int variantIndex);
+
+    /**
+     * Set the value of an attribute for a variant.
+     *
+     * @return the previous value
+     */
+    double set(int attribute, int variantIndex, double value);
+
+    /**
+     * Move the values to a storage created from other tables. Only supported when there is a single variant.
+     *
+     * @return the storage to use instead of this one
+     */
+    VariantDoubleStorage moveTo(VariantDoubleTables tables);
+
+    /**
+     * Release the resources of this storage, called when the object is removed from the network.
+     */
+    void release();
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+/**
+ * Columnar storage of the variant dependent double attributes of all the objects of a type. Each object is a row
+ * of the table, and for each variant an attribute is a column.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+interface VariantDoubleTable extends MultiVariantObject {
+
+    Class<?> getOwnerType();
+
+    int getAttributeCount();
+
+    /**
+     * Allocate a row and initialize it for all the variants.
+     *
+     * @param initialValues the values of the attributes
+     * @return the row
+     */
+    int newRow(double... initialValues);
+
+    void releaseRow(int row);
+
+    double get(int attribute, int variantIndex, int row);
+
+    void set(int attribute, int variantIndex, int row, double value);
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import java.util.*;
+import java.util.function.IntSupplier;
+
+/**
+ * Create the {@link VariantDoubleStorage} of the objects of a network according to a {@link VariantStorageType}, and
+ * forward the variant array changes to the column tables.
+ * <p>
+ * Tables of merged networks are adopted by the merged network, so that the objects of a merged network keep their
+ * values where they are.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class VariantDoubleTables implements MultiVariantObject {
+
+    private final VariantStorageType type;
+
+    private final IntSupplier variantArraySize;
+
+    private final Map<Class<?>, VariantDoubleTable> tablesByOwnerType = new HashMap<>();
+
+    private final List<VariantDoubleTable> tables = new ArrayList<>();
+
+    VariantDoubleTables(VariantStorageType type, IntSupplier variantArraySize) {
+        this.type = Objects.requireNonNull(type);
+        this.variantArraySize = Objects.requireNonNull(variantArraySize);
+    }
+
+    VariantStorageType getType() {
+        return type;
+    }
+
+    /**
+     * Create the storage of the double attributes of an object.
+     *
+     * @param ownerType the type of the object, objects of the same type share the same table
+     * @param initialValues initial values of the attributes, for all the variants
+     */
+    VariantDoubleStorage create(Class<?> ownerType, double... initialValues) {
+        if (type == VariantStorageType.OBJECT) {
+            return new ObjectVariantDoubleStorage(variantArraySize.getAsInt(), initialValues);
+        }
+        VariantDoubleTable table = tablesByOwnerType.computeIfAbsent(ownerType, k -> {
+            VariantDoubleTable newTable = createTable(ownerType, initialValues.length);
+            tables.add(newTable);
+            return newTable;
+        });
+        return new ColumnVariantDoubleStorage(table, table.newRow(initialValues));
+    }
+
+    private VariantDoubleTable createTable(Class<?> ownerType, int attributeCount) {
+        int size = variantArraySize.getAsInt();
+        return switch (type) {
+            case HEAP_COLUMNS -> new HeapVariantDoubleTable(ownerType, attributeCount, size, false);
+            case DIRECT_COLUMNS -> new DirectVariantDoubleTable(ownerType, attributeCount, size, false);
+            case COPY_ON_WRITE_HEAP_COLUMNS -> new HeapVariantDoubleTable(ownerType, attributeCount, size, true);
+            case COPY_ON_WRITE_DIRECT_COLUMNS -> new DirectVariantDoubleTable(ownerType, attributeCount, size, true);
+            case OBJECT -> throw new IllegalStateException("No table for " + type + " storage");
+        };
+    }
+
+    VariantDoubleTable getTable(Class<?> ownerType) {
+        return tablesByOwnerType.get(ownerType);
+    }
+
+    boolean contains(VariantDoubleTable table) {
+        return tables.contains(table);
+    }
+
+    /**
+     * Take over the tables of another network. At the end of the call the other instance is empty.
+     */
+    void merge(VariantDoubleTables other) {
+        tables.addAll(other.tables);
+        other.tables.clear();
+        other.tablesByOwnerType.clear();
+    }
+
+    @Override
+    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
+        for (VariantDoubleTable table : tables) {
+            table.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
+        }
+    }
+
+    @Override
+    public void reduceVariantArraySize(int number) {
+        for (VariantDoubleTable table : tables) {
+            table.reduceVariantArraySize(number);
+        }
+    }
+
+    @Override
+    public void deleteVariantArrayElement(int index) {
+        for (VariantDoubleTable table : tables) {
+            table.deleteVariantArrayElement(index);
+        }
+    }
+
+    @Override
+    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+        for (VariantDoubleTable table : tables) {
+            table.allocateVariantArrayElement(indexes, sourceIndex);
+        }
+    }
+}
@@ -10,6 +10,7 @@ package com.powsybl.iidm.network.impl;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Iterables;
 import com.google.common.primitives.Ints;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.VariantManager;
@@ -41,10 +42,17 @@ public class VariantManagerImpl implements VariantManager {
 
     private final NetworkImpl network;
 
+    private final VariantDoubleTables doubleTables;
+
     VariantManagerImpl(NetworkImpl network) {
+        this(network, VariantStorageType.OBJECT);
+    }
+
+    VariantManagerImpl(NetworkImpl network, VariantStorageType storageType) {
         this.network = network;
         this.variantContext = new MultiVariantContext(INITIAL_VARIANT_INDEX);
         this.networkIndex = network.getIndex();
+        this.doubleTables = new VariantDoubleTables(storageType, this::getVariantArraySize);
         // the network has always a zero index initial variant
         id2index.put(VariantManagerConstants.INITIAL_VARIANT_ID, INITIAL_VARIANT_INDEX);
         variantArraySize = INITIAL_VARIANT_INDEX + 1;
@@ -54,6 +62,10 @@ public class VariantManagerImpl implements VariantManager {
         return variantContext;
     }
 
+    VariantDoubleTables getDoubleTables() {
+        return doubleTables;
+    }
+
     @Override
     public Collection<String> getVariantIds() {
         return Collections.unmodifiableSet(id2index.keySet());
@@ -102,7 +114,9 @@ public class VariantManagerImpl implements VariantManager {
     }
 
     private Iterable<MultiVariantObject> getStafulObjects() {
-        return FluentIterable.from(networkIndex.getAll()).filter(MultiVariantObject.class);
+        // column tables are updated in bulk, before the objects
+        return Iterables.concat(Collections.singletonList(doubleTables),
+                FluentIterable.from(networkIndex.getAll()).filter(MultiVariantObject.class));
     }
 
     @Override
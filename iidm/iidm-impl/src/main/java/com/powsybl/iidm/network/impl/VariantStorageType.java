@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+/**
+ * Storage of the variant dependent numeric attributes of injections and terminals (generator targets, load
+ * constant powers, terminal active and reactive power flows).
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public enum VariantStorageType {
+    /**
+     * Each object stores its own values in one array per attribute.
+     */
+    OBJECT,
+
+    /**
+     * The values of all the objects of a type are stored in one on-heap column per attribute and per variant,
+     * so that cloning a variant is a bulk copy of the columns.
+     */
+    HEAP_COLUMNS,
+
+    /**
+     * Same as {@link #HEAP_COLUMNS} but the columns are allocated outside of the Java heap.
+     */
+    DIRECT_COLUMNS,
+
+    /**
+     * Same as {@link #HEAP_COLUMNS} but a cloned variant shares the columns of its source variant, a column being
+     * copied only when it is first modified in one of the variants. Cloning a variant is then almost free, and a
+     * variant only uses memory for the columns modified in it.
+     */
+    COPY_ON_WRITE_HEAP_COLUMNS,
+
+    /**
+     * Same as {@link #COPY_ON_WRITE_HEAP_COLUMNS} but the columns are allocated outside of the Java heap.
+     */
+    COPY_ON_WRITE_DIRECT_COLUMNS
+}
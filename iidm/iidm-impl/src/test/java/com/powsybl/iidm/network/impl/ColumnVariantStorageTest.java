@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ColumnVariantStorageTest {
+
+    private static NetworkFactory createFactory(VariantStorageType type) {
+        return new NetworkFactoryImpl(NetworkIndexType.DEFAULT, type);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VariantStorageType.class)
+    void cloneAndRemoveVariants(VariantStorageType type) {
+        Network network = EurostagTutorialExample1Factory.create(createFactory(type));
+        VariantManager variantManager = network.getVariantManager();
+        Generator gen = network.getGenerator("GEN");
+        Load load = network.getLoad("LOAD");
+        load.getTerminal().setP(600).setQ(200);
+
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, List.of("v1", "v2", "v3"));
+        variantManager.setWorkingVariant("v2");
+        assertEquals(607, gen.getTargetP(), 0);
+        assertEquals(600, load.getP0(), 0);
+        assertEquals(600, load.getTerminal().getP(), 0);
+        gen.setTargetP(500).setTargetQ(10).setTargetV(25);
+        load.setP0(700).setQ0(300);
+        load.getTerminal().setP(700);
+
+        variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(607, gen.getTargetP(), 0);
+        assertEquals(301, gen.getTargetQ(), 0);
+        assertEquals(24.5, gen.getTargetV(), 0);
+        assertEquals(600, load.getP0(), 0);
+        assertEquals(200, load.getQ0(), 0);
+        assertEquals(600, load.getTerminal().getP(), 0);
+
+        // recycle a removed variant index from a modified variant
+        variantManager.removeVariant("v1");
+        variantManager.cloneVariant("v2", "v4");
+        variantManager.setWorkingVariant("v4");
+        assertEquals(500, gen.getTargetP(), 0);
+        assertEquals(700, load.getP0(), 0);
+        assertEquals(700, load.getTerminal().getP(), 0);
+
+        // overwrite a variant
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v4", true);
+        assertEquals(607, gen.getTargetP(), 0);
+
+        // reduce the variant array
+        variantManager.removeVariant("v3");
+        variantManager.removeVariant("v4");
+        variantManager.setWorkingVariant("v2");
+        assertEquals(25, gen.getTargetV(), 0);
+        assertEquals(300, load.getQ0(), 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VariantStorageType.class)
+    void concurrentVariants(VariantStorageType type) throws Exception {
+        Network network = EurostagTutorialExample1Factory.create(createFactory(type));
+        VariantManager variantManager = network.getVariantManager();
+        int variantCount = 8;
+        List<String> variantIds = new ArrayList<>();
+        for (int i = 0; i < variantCount; i++) {
+            variantIds.add("v" + i);
+        }
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantIds);
+        variantManager.allowVariantMultiThreadAccess(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Double>> futures = new ArrayList<>();
+            for (int i = 0; i < variantCount; i++) {
+                String variantId = variantIds.get(i);
+                double targetP = 100 + i;
+                futures.add(executor.submit(() -> {
+                    variantManager.setWorkingVariant(variantId);
+                    Generator gen = network.getGenerator("GEN");
+                    gen.setTargetP(targetP);
+                    gen.getTerminal().setP(-targetP);
+                    return gen.getTargetP() + gen.getTerminal().getP();
+                }));
+            }
+            for (Future<Double> future : futures) {
+                assertEquals(0, future.get(), 0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < variantCount; i++) {
+            variantManager.setWorkingVariant(variantIds.get(i));
+            assertEquals(100 + i, network.getGenerator("GEN").getTargetP(), 0);
+        }
+        variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(607, network.getGenerator("GEN").getTargetP(), 0);
+        assertEquals(600, network.getLoad("LOAD").getP0(), 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VariantStorageType.class)
+    void addAndRemoveEquipments(VariantStorageType type) {
+        Network network = EurostagTutorialExample1Factory.create(createFactory(type));
+        VoltageLevel vl = network.getVoltageLevel("VLLOAD");
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getLoad("LOAD").remove();
+        Load load2 = vl.newLoad()
+                .setId("LOAD2")
+                .setBus("NLOAD")
+                .setP0(10)
+                .setQ0(5)
+                .add();
+        Load load3 = vl.newLoad()
+                .setId("LOAD3")
+                .setBus("NLOAD")
+                .setP0(20)
+                .setQ0(6)
+                .add();
+        network.getVariantManager().setWorkingVariant("v");
+        assertEquals(10, load2.getP0(), 0);
+        assertEquals(20, load3.getP0(), 0);
+        load2.setP0(11);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(10, load2.getP0(), 0);
+        assertEquals(5, load2.getQ0(), 0);
+        assertEquals(6, load3.getQ0(), 0);
+        assertTrue(Double.isNaN(load3.getTerminal().getP()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(VariantStorageType.class)
+    void mergeAndDetach(VariantStorageType type) {
+        NetworkFactory factory = createFactory(type);
+        Network n1 = EurostagTutorialExample1Factory.create(factory);
+        Network n2 = factory.createNetwork("n2", "test");
+        VoltageLevel vl = n2.newVoltageLevel()
+                .setId("VL")
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        vl.getBusBreakerView().newBus()
+                .setId("B")
+                .add();
+        vl.newLoad()
+                .setId("L")
+                .setBus("B")
+                .setP0(1)
+                .setQ0(2)
+                .add();
+        Network merged = factory.merge(n1, n2);
+        merged.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        merged.getVariantManager().setWorkingVariant("v");
+        merged.getLoad("L").setP0(3);
+        assertEquals(3, merged.getLoad("L").getP0(), 0);
+        merged.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(1, merged.getLoad("L").getP0(), 0);
+        merged.getVariantManager().removeVariant("v");
+
+        Network detached = merged.getSubnetwork("n2").detach();
+        detached.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        detached.getVariantManager().setWorkingVariant("v");
+        Load l = detached.getLoad("L");
+        assertEquals(1, l.getP0(), 0);
+        assertEquals(2, l.getQ0(), 0);
+        l.setQ0(4);
+        detached.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(2, l.getQ0(), 0);
+
+        // the remaining network is not affected
+        merged.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        merged.getVariantManager().setWorkingVariant("v");
+        assertEquals(600, merged.getLoad("LOAD").getP0(), 0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = VariantStorageType.class, names = "OBJECT", mode = EnumSource.Mode.EXCLUDE)
+    void moveTerminals(VariantStorageType type) {
+        NetworkImpl network = (NetworkImpl) EurostagTutorialExample1Factory.create(createFactory(type));
+        AbstractVariantDoubleTable<?> terminalTable = (AbstractVariantDoubleTable<?>) network.getVariantManager()
+                .getDoubleTables().getTable(AbstractTerminal.class);
+        int rowCount = terminalTable.getRowCount();
+        Load load = network.getLoad("LOAD");
+        for (int i = 0; i < 10; i++) {
+            load.getTerminal().getBusBreakerView().moveConnectable(i % 2 == 0 ? "NGEN" : "NLOAD", true);
+            load.getTerminal().setP(i);
+            assertEquals(rowCount, terminalTable.getRowCount());
+        }
+        assertEquals("NLOAD", load.getTerminal().getBusBreakerView().getBus().getId());
+        assertEquals(9, load.getTerminal().getP(), 0);
+        assertEquals(600, load.getP0(), 0);
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CompactNetworkIndexTest {
+
+    private static Set<String> ids(Network network) {
+        return network.getIdentifiables().stream().map(Identifiable::getId).collect(Collectors.toSet());
+    }
+
+    @Test
+    void sameContentAsDefaultIndex() {
+        Network expected = FourSubstationsNodeBreakerFactory.create(new NetworkFactoryImpl());
+        Network network = FourSubstationsNodeBreakerFactory.create(new NetworkFactoryImpl(NetworkIndexType.COMPACT));
+        assertEquals(NetworkIndexType.COMPACT, ((NetworkImpl) network).getIndex().getType());
+        assertEquals(ids(expected), ids(network));
+        assertEquals(expected.getGeneratorCount(), network.getGeneratorCount());
+        assertEquals(expected.getSwitchCount(), network.getSwitchCount());
+        for (Identifiable<?> identifiable : expected.getIdentifiables()) {
+            Identifiable<?> other = network.getIdentifiable(identifiable.getId());
+            assertNotNull(other);
+            assertSame(identifiable.getClass(), other.getClass());
+        }
+        // same insertion order by class
+        assertEquals(expected.getLoadStream().map(Identifiable::getId).toList(),
+                network.getLoadStream().map(Identifiable::getId).toList());
+    }
+
+    @Test
+    void aliases() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(NetworkIndexType.COMPACT));
+        Generator gen = network.getGenerator("GEN");
+        gen.addAlias("GEN_ALIAS");
+        assertSame(gen, network.getIdentifiable("GEN_ALIAS"));
+        assertSame(gen, network.getGenerator("GEN_ALIAS"));
+        assertNull(network.getLoad("GEN_ALIAS"));
+
+        // aliasing an object with its own id or twice with the same alias is ignored
+        gen.addAlias("GEN");
+        gen.addAlias("GEN_ALIAS");
+        assertEquals(Set.of("GEN_ALIAS"), gen.getAliases());
+
+        Load load = network.getLoad("LOAD");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> load.addAlias("GEN_ALIAS"));
+        assertTrue(e.getMessage().contains("alias already refers to object"));
+        e = assertThrows(PowsyblException.class, () -> load.addAlias("GEN"));
+        assertTrue(e.getMessage().contains("alias already refers to object"));
+
+        gen.removeAlias("GEN_ALIAS");
+        assertNull(network.getIdentifiable("GEN_ALIAS"));
+        assertThrows(PowsyblException.class, () -> network.getIdentifiable(""));
+    }
+
+    @Test
+    void aliasOfObjectNotIndexed() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(NetworkIndexType.COMPACT));
+        Load load = network.getLoad("LOAD");
+        CompactNetworkIndex index = new CompactNetworkIndex();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> index.addAlias(load, "LOAD_ALIAS"));
+        assertEquals("Object 'LOAD' is not in the network, alias 'LOAD_ALIAS' cannot be added", e.getMessage());
+        assertFalse(index.containsIdOrAlias("LOAD_ALIAS"));
+    }
+
+    @Test
+    void readOnlyViews() {
+        Network network = EurostagTutorialExample1Factory.create(new NetworkFactoryImpl(NetworkIndexType.COMPACT));
+        NetworkIndex index = ((NetworkImpl) network).getIndex();
+        Iterator<LoadImpl> it = index.getAll(LoadImpl.class).iterator();
+        it.next();
+        assertThrows(UnsupportedOperationException.class, it::remove);
+        Iterator<Identifiable<?>> allIt = index.getAll().iterator();
+        allIt.next();
+        assertThrows(UnsupportedOperationException.class, allIt::remove);
+        assertNotNull(network.getLoad("LOAD"));
+    }
+
+    @Test
+    void removeAndReuseHandles() {
+        Network network = FourSubstationsNodeBreakerFactory.create(new NetworkFactoryImpl(NetworkIndexType.COMPACT));
+        int identifiableCount = network.getIdentifiables().size();
+        List<String> loadIds = network.getLoadStream().map(Identifiable::getId).toList();
+        Load first = network.getLoad(loadIds.get(0));
+        first.remove();
+        assertNull(network.getLoad(loadIds.get(0)));
+        assertEquals(loadIds.subList(1, loadIds.size()), network.getLoadStream().map(Identifiable::getId).toList());
+        assertEquals(loadIds.size() - 1, network.getLoadCount());
+        assertEquals(identifiableCount - 1, network.getIdentifiables().size());
+
+        network.getVoltageLevel("S1VL1").newLoad()
+                .setId("NEW_LOAD")
+                .setNode(100)
+                .setP0(1)
+                .setQ0(1)
+                .add();
+        assertNotNull(network.getLoad("NEW_LOAD"));
+        assertEquals("NEW_LOAD", network.getLoadStream().reduce((a, b) -> b).orElseThrow().getId());
+        assertEquals(identifiableCount, network.getIdentifiables().size());
+    }
+
+    @Test
+    void failFastIteration() {
+        Network network = FourSubstationsNodeBreakerFactory.create(new NetworkFactoryImpl(NetworkIndexType.COMPACT));
+        Iterator<Load> it = network.getLoads().iterator();
+        it.next().remove();
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+
+    @Test
+    void merge() {
+        NetworkFactoryImpl factory = new NetworkFactoryImpl(NetworkIndexType.COMPACT);
+        Network n1 = EurostagTutorialExample1Factory.create(factory);
+        Network n2 = factory.createNetwork("n2", "test");
+        n2.newSubstation().setId("S").add();
+        Network merged = factory.merge(n1, n2);
+        assertNotNull(merged.getSubstation("S"));
+        assertNotNull(merged.getGenerator("GEN"));
+        assertEquals(NetworkIndexType.COMPACT, ((NetworkImpl) merged).getIndex().getType());
+
+        Network detached = merged.getSubnetwork("n2").detach();
+        assertEquals(NetworkIndexType.COMPACT, ((NetworkImpl) detached).getIndex().getType());
+        assertNotNull(detached.getSubstation("S"));
+        assertNull(merged.getSubstation("S"));
+    }
+}
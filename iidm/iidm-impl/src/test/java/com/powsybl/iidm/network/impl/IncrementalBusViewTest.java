@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class IncrementalBusViewTest {
+
+    private static List<String> describe(Stream<Bus> buses) {
+        return buses.map(bus -> bus.getId() + bus.getConnectedTerminalStream()
+                        .map(t -> t.getConnectable().getId())
+                        .sorted()
+                        .toList()
+                        + " cc=" + Optional.ofNullable(bus.getConnectedComponent()).map(Component::getNum).orElse(-1)
+                        + " sc=" + Optional.ofNullable(bus.getSynchronousComponent()).map(Component::getNum).orElse(-1))
+                .toList();
+    }
+
+    private static List<String> describe(Network network) {
+        List<String> description = new ArrayList<>();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            description.addAll(describe(vl.getBusView().getBusStream()));
+            description.addAll(describe(vl.getBusBreakerView().getBusStream()));
+        }
+        return description;
+    }
+
+    private static void invalidateAll(Network network) {
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            ((VoltageLevelExt) vl).getTopologyModel().invalidateCache();
+        }
+    }
+
+    @Test
+    void sameBusesAsFullComputation() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        List<Switch> switches = new ArrayList<>(network.getSwitchStream().toList());
+        Collections.shuffle(switches, new Random(42));
+        describe(network);
+        for (Switch sw : switches) {
+            sw.setOpen(!sw.isOpen());
+            List<String> incremental = describe(network);
+            for (Bus bus : network.getBusView().getBuses()) {
+                assertSame(bus, network.getBusView().getBus(bus.getId()));
+            }
+            for (Bus bus : network.getBusBreakerView().getBuses()) {
+                assertSame(bus, network.getBusBreakerView().getBus(bus.getId()));
+            }
+            invalidateAll(network);
+            assertEquals(describe(network), incremental, "After toggling " + sw.getId());
+        }
+    }
+
+    @Test
+    void onlyAffectedBusesAreRecomputed() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        List<Bus> otherBuses = network.getVoltageLevel("S1VL1").getBusView().getBusStream().toList();
+        Bus loadBus = network.getLoad("LD2").getTerminal().getBusView().getBus();
+        assertSame(loadBus, network.getGenerator("GH1").getTerminal().getBusView().getBus());
+        List<String> busIds = network.getVoltageLevel("S1VL2").getBusView().getBusStream().map(Identifiable::getId).toList();
+
+        // disconnecting the load only splits its bus
+        network.getSwitch("S1VL2_LD2_BREAKER").setOpen(true);
+        assertNull(network.getLoad("LD2").getTerminal().getBusView().getBus());
+        Bus newBus = network.getGenerator("GH1").getTerminal().getBusView().getBus();
+        assertNotSame(loadBus, newBus);
+        assertEquals(loadBus.getId(), newBus.getId());
+        assertThrows(PowsyblException.class, loadBus::getV);
+        assertSame(newBus, network.getBusView().getBus(newBus.getId()));
+        assertEquals(busIds, network.getVoltageLevel("S1VL2").getBusView().getBusStream().map(Identifiable::getId).toList());
+
+        // buses of other voltage levels are not affected
+        assertEquals(otherBuses, network.getVoltageLevel("S1VL1").getBusView().getBusStream().toList());
+        otherBuses.forEach(Bus::getV);
+
+        // closing a switch of the isolated part does not modify the bus view
+        List<Bus> buses = network.getVoltageLevel("S1VL2").getBusView().getBusStream().toList();
+        network.getSwitch("S1VL2_BBS1_LD2_DISCONNECTOR").setOpen(false);
+        assertEquals(buses, network.getVoltageLevel("S1VL2").getBusView().getBusStream().toList());
+        buses.forEach(Bus::getV);
+
+        network.getSwitch("S1VL2_LD2_BREAKER").setOpen(false);
+        assertSame(network.getLoad("LD2").getTerminal().getBusView().getBus(), network.getGenerator("GH1").getTerminal().getBusView().getBus());
+    }
+
+    @Test
+    void variants() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        List<String> initial = describe(network);
+        network.getVariantManager().setWorkingVariant("v");
+        describe(network);
+        network.getSwitch("S1VL2_LD2_BREAKER").setOpen(true);
+        assertNull(network.getLoad("LD2").getTerminal().getBusView().getBus());
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(initial, describe(network));
+        assertNotNull(network.getLoad("LD2").getTerminal().getBusView().getBus());
+    }
+}
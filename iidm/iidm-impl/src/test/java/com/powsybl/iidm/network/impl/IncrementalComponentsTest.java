@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class IncrementalComponentsTest {
+
+    private static List<String> describe(Network network) {
+        List<String> description = new ArrayList<>();
+        for (Bus bus : network.getBusView().getBuses()) {
+            description.add(bus.getId() + " cc=" + bus.getConnectedComponent().getNum()
+                    + " sc=" + bus.getSynchronousComponent().getNum());
+        }
+        for (Component cc : network.getBusView().getConnectedComponents()) {
+            description.add("cc" + cc.getNum() + " size=" + cc.getSize());
+        }
+        for (Component sc : network.getBusView().getSynchronousComponents()) {
+            description.add("sc" + sc.getNum() + " size=" + sc.getSize());
+        }
+        for (Load load : network.getLoads()) {
+            Bus bus = load.getTerminal().getBusBreakerView().getBus();
+            if (bus != null) {
+                description.add(bus.getId() + " " + Optional.ofNullable(bus.getConnectedComponent()).map(Component::getNum).orElse(-1));
+            }
+        }
+        return description;
+    }
+
+    private static void invalidateAll(Network network) {
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            ((VoltageLevelExt) vl).getTopologyModel().invalidateCache();
+        }
+    }
+
+    @Test
+    void sameComponentsAsFullComputation() {
+        Network network = SwitchToggleBenchmark.createNetwork(10, 3);
+        List<Switch> switches = new ArrayList<>(network.getSwitchStream().toList());
+        Random random = new Random(7);
+        describe(network);
+        for (int i = 0; i < 500; i++) {
+            Switch sw = switches.get(random.nextInt(switches.size()));
+            sw.setOpen(!sw.isOpen());
+            List<String> incremental = describe(network);
+            invalidateAll(network);
+            assertEquals(describe(network), incremental, "After toggling " + sw.getId());
+        }
+    }
+
+    @Test
+    void splitAndMerge() {
+        Network network = SwitchToggleBenchmark.createNetwork(5, 2);
+        Bus bus0 = network.getLoad("VL0_L0").getTerminal().getBusView().getBus();
+        Bus bus4 = network.getLoad("VL4_L0").getTerminal().getBusView().getBus();
+        assertEquals(1, network.getBusView().getConnectedComponents().size());
+        assertEquals(ComponentConstants.MAIN_NUM, bus0.getConnectedComponent().getNum());
+        assertSame(bus4.getConnectedComponent(), bus0.getConnectedComponent());
+
+        // split the chain between VL2 and VL3, the largest part is the main component
+        network.getSwitch("VL2_LINE_BREAKER1").setOpen(true);
+        assertEquals(2, network.getBusView().getConnectedComponents().size());
+        assertEquals(0, bus0.getConnectedComponent().getNum());
+        assertEquals(3, bus0.getConnectedComponent().getSize());
+        assertEquals(1, bus4.getConnectedComponent().getNum());
+        assertEquals(2, bus4.getSynchronousComponent().getSize());
+
+        // merge again
+        network.getSwitch("VL2_LINE_BREAKER1").setOpen(false);
+        assertEquals(1, network.getBusView().getSynchronousComponents().size());
+        assertEquals(5, bus4.getConnectedComponent().getSize());
+        assertTrue(bus4.isInMainConnectedComponent());
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare {@link NetworkIndexType#DEFAULT} and {@link NetworkIndexType#COMPACT} network indexes on a large bus/breaker
+ * network. Not run by unit tests, launch the {@link #main} method to run it.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NetworkIndexBenchmark {
+
+    @Param({"DEFAULT", "COMPACT"})
+    private NetworkIndexType indexType;
+
+    @Param({"60000"})
+    private int busCount;
+
+    private Network network;
+
+    private String[] ids;
+
+    static Network createNetwork(NetworkIndexType indexType, int busCount) {
+        Network network = new NetworkFactoryImpl(indexType).createNetwork("bench", "test");
+        Substation s = network.newSubstation()
+                .setId("S")
+                .add();
+        VoltageLevel vl = s.newVoltageLevel()
+                .setId("VL")
+                .setNominalV(400)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        for (int i = 0; i < busCount; i++) {
+            vl.getBusBreakerView().newBus()
+                    .setId("B" + i)
+                    .add();
+            vl.newLoad()
+                    .setId("L" + i)
+                    .setBus("B" + i)
+                    .setP0(1)
+                    .setQ0(1)
+                    .add();
+            vl.newGenerator()
+                    .setId("G" + i)
+                    .setBus("B" + i)
+                    .setMinP(0)
+                    .setMaxP(10)
+                    .setTargetP(1)
+                    .setVoltageRegulatorOn(false)
+                    .setTargetQ(0)
+                    .add();
+        }
+        return network;
+    }
+
+    @Setup
+    public void setUp() {
+        network = createNetwork(indexType, busCount);
+        ids = network.getIdentifiables().stream().map(Identifiable::getId).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public Network build() {
+        return createNetwork(indexType, busCount);
+    }
+
+    @Benchmark
+    public void getIdentifiable(Blackhole bh) {
+        for (String id : ids) {
+            bh.consume(network.getIdentifiable(id));
+        }
+    }
+
+    @Benchmark
+    public void iterateLoads(Blackhole bh) {
+        for (Load load : network.getLoads()) {
+            bh.consume(load);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NetworkIndexBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}
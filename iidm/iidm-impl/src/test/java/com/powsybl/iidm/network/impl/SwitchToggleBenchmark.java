@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Toggle 10k breakers of a large node/breaker network, reading the bus view after each toggle as a contingency loop
+ * would. The {@code FULL} mode invalidates the whole voltage level cache after each toggle to compare with the
+ * incremental update. Not run by unit tests, launch the {@link #main} method to run it.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwitchToggleBenchmark {
+
+    public enum CacheMode {
+        INCREMENTAL,
+        FULL
+    }
+
+    @Param({"INCREMENTAL", "FULL"})
+    private CacheMode mode;
+
+    @Param({"500"})
+    private int voltageLevelCount;
+
+    @Param({"20"})
+    private int feederCount;
+
+    private Network network;
+
+    private final List<Switch> breakers = new ArrayList<>();
+
+    private final List<Terminal> terminals = new ArrayList<>();
+
+    static Network createNetwork(int voltageLevelCount, int feederCount) {
+        Network network = Network.create("bench", "test");
+        for (int i = 0; i < voltageLevelCount; i++) {
+            VoltageLevel vl = network.newVoltageLevel()
+                    .setId("VL" + i)
+                    .setNominalV(400)
+                    .setTopologyKind(TopologyKind.NODE_BREAKER)
+                    .add();
+            VoltageLevel.NodeBreakerView view = vl.getNodeBreakerView();
+            view.newBusbarSection().setId("VL" + i + "_BBS1").setNode(0).add();
+            view.newBusbarSection().setId("VL" + i + "_BBS2").setNode(1).add();
+            view.newBreaker().setId("VL" + i + "_COUPLER").setNode1(0).setNode2(1).add();
+            for (int j = 0; j < feederCount; j++) {
+                int node = 2 + 3 * j;
+                view.newDisconnector().setId("VL" + i + "_D" + j).setNode1(j % 2).setNode2(node).add();
+                view.newBreaker().setId("VL" + i + "_B" + j).setNode1(node).setNode2(node + 1).add();
+                vl.newLoad()
+                        .setId("VL" + i + "_L" + j)
+                        .setNode(node + 1)
+                        .setP0(1)
+                        .setQ0(1)
+                        .add();
+            }
+            // chain the voltage levels with lines
+            int lineNode = 2 + 3 * feederCount;
+            view.newBreaker().setId("VL" + i + "_LINE_BREAKER1").setNode1(0).setNode2(lineNode).add();
+            view.newBreaker().setId("VL" + i + "_LINE_BREAKER2").setNode1(1).setNode2(lineNode + 1).add();
+            if (i > 0) {
+                network.newLine()
+                        .setId("LINE" + i)
+                        .setVoltageLevel1("VL" + (i - 1))
+                        .setNode1(2 + 3 * feederCount)
+                        .setVoltageLevel2("VL" + i)
+                        .setNode2(lineNode + 1)
+                        .setR(1)
+                        .setX(1)
+                        .add();
+            }
+        }
+        return network;
+    }
+
+    @Setup
+    public void setUp() {
+        network = createNetwork(voltageLevelCount, feederCount);
+        for (int i = 0; i < voltageLevelCount; i++) {
+            for (int j = 0; j < feederCount; j++) {
+                breakers.add(network.getSwitch("VL" + i + "_B" + j));
+                terminals.add(network.getLoad("VL" + i + "_L" + j).getTerminal());
+            }
+        }
+    }
+
+    private void toggle(Switch breaker, boolean open) {
+        breaker.setOpen(open);
+        if (mode == CacheMode.FULL) {
+            ((VoltageLevelExt) breaker.getVoltageLevel()).getTopologyModel().invalidateCache();
+        }
+    }
+
+    @Benchmark
+    public void toggleBreakers(Blackhole bh) {
+        for (int i = 0; i < breakers.size(); i++) {
+            Switch breaker = breakers.get(i);
+            Terminal terminal = terminals.get(i);
+            toggle(breaker, true);
+            bh.consume(terminal.getBusView().getBus());
+            bh.consume(breaker.getVoltageLevel().getBusView().getBuses());
+            toggle(breaker, false);
+            bh.consume(terminal.getBusView().getBus());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SwitchToggleBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}
@@ -13,6 +13,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.tck.AbstractNodeBreakerTest;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class NodeBreakerTest extends AbstractNodeBreakerTest {
@@ -21,7 +22,10 @@ class NodeBreakerTest extends AbstractNodeBreakerTest {
     void testFictitiousP0AndFictitiousQ0ForInvalidatedBus() {
         Network network = createNetwork();
         Bus bus = network.getVoltageLevel("VL1").getBusView().getBus("VL1_1");
+        // B_L1_1 and B_L1_2 are parallel breakers, the bus is only split when both are open
         network.getSwitch("B_L1_1").setOpen(true);
+        assertEquals(0.0, bus.getFictitiousP0());
+        network.getSwitch("B_L1_2").setOpen(true);
         assertThrows(PowsyblException.class, bus::getFictitiousP0, "Bus has been invalidated");
         assertThrows(PowsyblException.class, bus::getFictitiousQ0, "Bus has been invalidated");
     }
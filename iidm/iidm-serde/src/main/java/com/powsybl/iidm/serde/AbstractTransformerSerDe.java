@@ -276,10 +276,12 @@ abstract class AbstractTransformerSerDe<T extends Connectable<T>, A extends Iden
     }
 
     private static void readTapChangerTerminalRef(TapChangerAdder<?, ?, ?, ?, ?, ?> adder, Terminal terminal, NetworkDeserializerContext context) {
-        TerminalRefSerDe.readTerminalRef(context, terminal.getVoltageLevel().getNetwork(), tRef -> {
-            adder.setRegulationTerminal(tRef);
-            adder.add();
-        });
+        TerminalRefSerDe.readTerminalRef(context, terminal.getVoltageLevel().getNetwork(), adder, AbstractTransformerSerDe::addTapChanger);
+    }
+
+    private static void addTapChanger(TapChangerAdder<?, ?, ?, ?, ?, ?> adder, Terminal regulationTerminal) {
+        adder.setRegulationTerminal(regulationTerminal);
+        adder.add();
     }
 
     private static boolean readTapChangerAttributes(TapChangerAdder<?, ?, ?, ?, ?, ?> adder, NetworkDeserializerContext context) {
@@ -55,6 +55,8 @@ public abstract class AbstractTreeDataImporter implements Importer {
 
     public static final String MINIMAL_VALIDATION_LEVEL = "iidm.import.minimal-validation-level";
 
+    public static final String STREAMING = "iidm.import.xml.streaming";
+
     private static final Parameter THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER
             = new Parameter(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, ParameterType.BOOLEAN, "Throw exception if extension not found", Boolean.FALSE)
             .addAdditionalNames("throwExceptionIfExtensionNotFound");
@@ -74,6 +76,9 @@ public abstract class AbstractTreeDataImporter implements Importer {
             ParameterType.STRING, "Minimal validation level accepted",
             null);
 
+    public static final Parameter STREAMING_PARAMETER = new Parameter(STREAMING, ParameterType.BOOLEAN,
+            "Buffer as little data as possible during the import to lower the peak memory", Boolean.FALSE);
+
     private final ParameterDefaultValueConfig defaultValueConfig;
 
     static final String SUFFIX_MAPPING = "_mapping";
@@ -90,7 +95,7 @@ public abstract class AbstractTreeDataImporter implements Importer {
     public List<Parameter> getParameters() {
         List<Parameter> parameters = List.of(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER, EXTENSIONS_LIST_PARAMETER,
                 WITH_AUTOMATION_SYSTEMS_PARAMETER, MISSING_PERMANENT_LIMIT_PERCENTAGE_PARAMETER,
-                MINIMAL_VALIDATION_LEVEL_PARAMETER);
+                MINIMAL_VALIDATION_LEVEL_PARAMETER, STREAMING_PARAMETER);
         return ConfiguredParameter.load(parameters, getFormat(), defaultValueConfig);
     }
 
@@ -177,7 +182,8 @@ public abstract class AbstractTreeDataImporter implements Importer {
                 .setExtensions(Parameter.readStringList(getFormat(), parameters, EXTENSIONS_LIST_PARAMETER, defaultValueConfig) != null ? new HashSet<>(Parameter.readStringList(getFormat(), parameters, EXTENSIONS_LIST_PARAMETER, defaultValueConfig)) : null)
                 .setWithAutomationSystems(Parameter.readBoolean(getFormat(), parameters, WITH_AUTOMATION_SYSTEMS_PARAMETER, defaultValueConfig))
                 .setMissingPermanentLimitPercentage(Parameter.readDouble(getFormat(), parameters, MISSING_PERMANENT_LIMIT_PERCENTAGE_PARAMETER, defaultValueConfig))
-                .setMinimalValidationLevel(Parameter.readString(getFormat(), parameters, MINIMAL_VALIDATION_LEVEL_PARAMETER, defaultValueConfig));
+                .setMinimalValidationLevel(Parameter.readString(getFormat(), parameters, MINIMAL_VALIDATION_LEVEL_PARAMETER, defaultValueConfig))
+                .setStreaming(Parameter.readBoolean(getFormat(), parameters, STREAMING_PARAMETER, defaultValueConfig));
     }
 }
 
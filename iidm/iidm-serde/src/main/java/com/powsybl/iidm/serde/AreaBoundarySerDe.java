@@ -47,7 +47,7 @@ public class AreaBoundarySerDe {
         AreaBoundaryAdder adder = holder.newAreaBoundary().setAc(ac);
         String type = context.getReader().readStringAttribute("type");
         switch (type) {
-            case TERMINAL_REF -> TerminalRefSerDe.readTerminalRef(context, holder.getNetwork(), adder::setTerminal);
+            case TERMINAL_REF -> TerminalRefSerDe.readTerminalRef(context, holder.getNetwork(), adder, AreaBoundaryAdder::setTerminal);
             case BoundaryRefSerDe.ROOT_ELEMENT_NAME -> BoundaryRefSerDe.readBoundaryRef(context, holder.getNetwork(), adder::setBoundary);
             default -> throw new PowsyblException("Unexpected element for AreaBoundary: " + type + ". Should be " + BoundaryRefSerDe.ROOT_ELEMENT_NAME + " or " + TERMINAL_REF);
         }
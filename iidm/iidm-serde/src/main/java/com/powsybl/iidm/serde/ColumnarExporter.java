@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.iidm.network.Exporter;
+import com.powsybl.iidm.network.Network;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Properties;
+
+import static com.powsybl.iidm.serde.IidmSerDeConstants.CURRENT_IIDM_VERSION;
+
+/**
+ * Columnar export of an IIDM model.
+ * <p>
+ * The network is written in two files: the equipments in XIIDM, without the branch state variables, and the state
+ * variables in the columnar format of {@link ColumnarStateVariablesWriter}, so that they can be loaded selectively.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Exporter.class)
+public class ColumnarExporter implements Exporter {
+
+    static final String FORMAT = "CIIDM";
+
+    static final String EXTENSION = "ciidm";
+
+    static final String TOPOLOGY_EXTENSION = "xiidm";
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    public String getComment() {
+        return "IIDM columnar v" + CURRENT_IIDM_VERSION.toString(".") + " exporter";
+    }
+
+    @Override
+    public void export(Network network, Properties parameters, DataSource dataSource) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(dataSource);
+        try {
+            NetworkSerDe.write(network, new ExportOptions().setWithBranchSV(false), dataSource, TOPOLOGY_EXTENSION);
+            try (OutputStream os = new BufferedOutputStream(dataSource.newOutputStream(null, EXTENSION, false))) {
+                ColumnarStateVariablesWriter.write(network, os);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.google.auto.service.AutoService;
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.DirectoryDataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.parameters.ConfiguredParameter;
+import com.powsybl.commons.parameters.Parameter;
+import com.powsybl.commons.parameters.ParameterDefaultValueConfig;
+import com.powsybl.commons.parameters.ParameterType;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Importer;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.powsybl.iidm.serde.ColumnarExporter.EXTENSION;
+import static com.powsybl.iidm.serde.ColumnarExporter.FORMAT;
+import static com.powsybl.iidm.serde.ColumnarExporter.TOPOLOGY_EXTENSION;
+import static com.powsybl.iidm.serde.IidmSerDeConstants.CURRENT_IIDM_VERSION;
+
+/**
+ * Columnar import of an IIDM model written by {@link ColumnarExporter}.
+ * <p>
+ * The equipments are read from the XIIDM file, then the state variables are loaded from the columnar file, only for
+ * the substations given by the {@value #SUBSTATIONS} parameter if it is set. The columnar file is memory-mapped when
+ * the data source is an uncompressed directory, and fully read in memory otherwise.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@AutoService(Importer.class)
+public class ColumnarImporter implements Importer {
+
+    public static final String SUBSTATIONS = "iidm.import.ciidm.substations";
+
+    private static final Parameter SUBSTATIONS_PARAMETER = new Parameter(SUBSTATIONS, ParameterType.STRING_LIST,
+            "The substations whose state variables are loaded, all of them if not set", null);
+
+    private final ParameterDefaultValueConfig defaultValueConfig;
+
+    public ColumnarImporter() {
+        this(PlatformConfig.defaultConfig());
+    }
+
+    public ColumnarImporter(PlatformConfig platformConfig) {
+        defaultValueConfig = new ParameterDefaultValueConfig(platformConfig);
+    }
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    public List<String> getSupportedExtensions() {
+        return List.of(EXTENSION);
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return ConfiguredParameter.load(List.of(SUBSTATIONS_PARAMETER), getFormat(), defaultValueConfig);
+    }
+
+    @Override
+    public String getComment() {
+        return "IIDM columnar v " + CURRENT_IIDM_VERSION.toString(".") + " importer";
+    }
+
+    @Override
+    public boolean exists(ReadOnlyDataSource dataSource) {
+        try {
+            if (!dataSource.isDataExtension(EXTENSION) || !dataSource.exists(null, EXTENSION)
+                    || !dataSource.exists(null, TOPOLOGY_EXTENSION)) {
+                return false;
+            }
+            try (DataInputStream dis = new DataInputStream(dataSource.newInputStream(null, EXTENSION))) {
+                return dis.readInt() == ColumnarStateVariables.MAGIC;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void copy(ReadOnlyDataSource fromDataSource, DataSource toDataSource) {
+        if (!exists(fromDataSource)) {
+            throw new PowsyblException("From data source is not importable");
+        }
+        try {
+            for (String ext : List.of(TOPOLOGY_EXTENSION, EXTENSION)) {
+                try (InputStream is = fromDataSource.newInputStream(null, ext);
+                     OutputStream os = toDataSource.newOutputStream(null, ext, false)) {
+                    ByteStreams.copy(is, os);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Network importData(ReadOnlyDataSource dataSource, NetworkFactory networkFactory, Properties parameters, ReportNode reportNode) {
+        Objects.requireNonNull(dataSource);
+        Objects.requireNonNull(reportNode);
+        List<String> substationIds = Parameter.readStringList(getFormat(), parameters, SUBSTATIONS_PARAMETER, defaultValueConfig);
+        try {
+            Network network = NetworkSerDe.read(dataSource, networkFactory, new ImportOptions(), TOPOLOGY_EXTENSION, reportNode);
+            try (ColumnarStateVariablesReader reader = openReader(dataSource)) {
+                if (substationIds == null) {
+                    reader.apply(network);
+                } else {
+                    reader.apply(network, new HashSet<>(substationIds));
+                }
+            }
+            return network;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ColumnarStateVariablesReader openReader(ReadOnlyDataSource dataSource) throws IOException {
+        if (dataSource instanceof DirectoryDataSource directoryDataSource && directoryDataSource.getCompressionFormat() == null) {
+            Path file = directoryDataSource.getDirectory().resolve(directoryDataSource.getBaseName() + "." + EXTENSION);
+            if (Files.isRegularFile(file)) {
+                return ColumnarStateVariablesReader.open(file);
+            }
+        }
+        try (InputStream is = dataSource.newInputStream(null, EXTENSION)) {
+            return ColumnarStateVariablesReader.read(is);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Blocks of the columnar state variables format: one block per equipment type, each block having one column per state
+ * variable. Integer and boolean state variables (tap positions, section counts, switch states) are stored as doubles,
+ * NaN meaning an absent value.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class ColumnarStateVariables {
+
+    static final int MAGIC = 0x43535631; // "CSV1"
+
+    static final int VERSION = 2;
+
+    record Column<T>(String name, ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter) {
+    }
+
+    /**
+     * @param name the block name, stored in the file
+     * @param elements the elements of the block in the network
+     * @param finder find an element of the block by its id
+     * @param voltageLevels the voltage levels of an element, their substations being stored for a selective loading
+     * @param columns the state variables of the block
+     */
+    record Block<T extends Identifiable<?>>(String name,
+                                            Function<Network, Stream<T>> elements,
+                                            BiFunction<Network, String, T> finder,
+                                            Function<T, Stream<VoltageLevel>> voltageLevels,
+                                            List<Column<T>> columns) {
+    }
+
+    private static <T extends Injection<T>> Block<T> injectionBlock(String name, Function<Network, Stream<T>> elements,
+                                                                    BiFunction<Network, String, T> finder) {
+        return new Block<>(name, elements, finder, i -> Stream.of(i.getTerminal().getVoltageLevel()),
+                List.of(new Column<>("p", i -> i.getTerminal().getP(), (i, v) -> i.getTerminal().setP(v)),
+                        new Column<>("q", i -> i.getTerminal().getQ(), (i, v) -> i.getTerminal().setQ(v))));
+    }
+
+    private static <T extends Branch<T>> List<Column<T>> branchColumns() {
+        return List.of(new Column<>("p1", b -> b.getTerminal1().getP(), (b, v) -> b.getTerminal1().setP(v)),
+                new Column<>("q1", b -> b.getTerminal1().getQ(), (b, v) -> b.getTerminal1().setQ(v)),
+                new Column<>("p2", b -> b.getTerminal2().getP(), (b, v) -> b.getTerminal2().setP(v)),
+                new Column<>("q2", b -> b.getTerminal2().getQ(), (b, v) -> b.getTerminal2().setQ(v)));
+    }
+
+    private static Stream<VoltageLevel> branchVoltageLevels(Branch<?> b) {
+        return Stream.of(b.getTerminal1().getVoltageLevel(), b.getTerminal2().getVoltageLevel());
+    }
+
+    private static Column<ThreeWindingsTransformer> legColumn(String name, ThreeSides side, boolean p) {
+        return new Column<>(name,
+            twt -> p ? twt.getLeg(side).getTerminal().getP() : twt.getLeg(side).getTerminal().getQ(),
+            (twt, v) -> {
+                if (p) {
+                    twt.getLeg(side).getTerminal().setP(v);
+                } else {
+                    twt.getLeg(side).getTerminal().setQ(v);
+                }
+            });
+    }
+
+    private static double getTapPosition(TapChanger<?, ?, ?, ?> tapChanger) {
+        return tapChanger != null ? tapChanger.getTapPosition() : Double.NaN;
+    }
+
+    private static void setTapPosition(TapChanger<?, ?, ?, ?> tapChanger, double position) {
+        if (tapChanger != null && !Double.isNaN(position)) {
+            tapChanger.setTapPosition((int) position);
+        }
+    }
+
+    /**
+     * Blocks in their loading order: switches come first as the buses of the bus view depend on their state.
+     */
+    static final List<Block<?>> BLOCKS = List.of(
+            new Block<>("switch",
+                Network::getSwitchStream,
+                Network::getSwitch,
+                s -> Stream.of(s.getVoltageLevel()),
+                List.of(new Column<>("open", s -> s.isOpen() ? 1 : 0, (s, v) -> s.setOpen(v != 0)))),
+            new Block<>("bus",
+                n -> n.getBusView().getBusStream(),
+                (n, id) -> n.getBusView().getBus(id),
+                b -> Stream.of(b.getVoltageLevel()),
+                List.of(new Column<>("v", Bus::getV, Bus::setV),
+                        new Column<>("angle", Bus::getAngle, Bus::setAngle))),
+            injectionBlock("load", Network::getLoadStream, Network::getLoad),
+            injectionBlock("generator", Network::getGeneratorStream, Network::getGenerator),
+            injectionBlock("battery", Network::getBatteryStream, Network::getBattery),
+            new Block<>("shuntCompensator",
+                Network::getShuntCompensatorStream,
+                Network::getShuntCompensator,
+                s -> Stream.of(s.getTerminal().getVoltageLevel()),
+                List.of(new Column<>("p", s -> s.getTerminal().getP(), (s, v) -> s.getTerminal().setP(v)),
+                        new Column<>("q", s -> s.getTerminal().getQ(), (s, v) -> s.getTerminal().setQ(v)),
+                        new Column<ShuntCompensator>("sectionCount", ShuntCompensator::getSectionCount, (s, v) -> s.setSectionCount((int) v)))),
+            injectionBlock("staticVarCompensator", Network::getStaticVarCompensatorStream, Network::getStaticVarCompensator),
+            injectionBlock("vscConverterStation", Network::getVscConverterStationStream, Network::getVscConverterStation),
+            injectionBlock("lccConverterStation", Network::getLccConverterStationStream, Network::getLccConverterStation),
+            injectionBlock("danglingLine", Network::getDanglingLineStream, Network::getDanglingLine),
+            new Block<>("line",
+                Network::getLineStream,
+                Network::getLine,
+                ColumnarStateVariables::branchVoltageLevels,
+                branchColumns()),
+            new Block<TwoWindingsTransformer>("twoWindingsTransformer",
+                Network::getTwoWindingsTransformerStream,
+                Network::getTwoWindingsTransformer,
+                ColumnarStateVariables::branchVoltageLevels,
+                Stream.concat(ColumnarStateVariables.<TwoWindingsTransformer>branchColumns().stream(),
+                        Stream.of(new Column<TwoWindingsTransformer>("ratioTapPosition", t -> getTapPosition(t.getRatioTapChanger()), (t, v) -> setTapPosition(t.getRatioTapChanger(), v)),
+                                  new Column<TwoWindingsTransformer>("phaseTapPosition", t -> getTapPosition(t.getPhaseTapChanger()), (t, v) -> setTapPosition(t.getPhaseTapChanger(), v))))
+                        .toList()),
+            new Block<>("threeWindingsTransformer",
+                Network::getThreeWindingsTransformerStream,
+                Network::getThreeWindingsTransformer,
+                twt -> twt.getLegStream().map(leg -> leg.getTerminal().getVoltageLevel()),
+                List.of(legColumn("p1", ThreeSides.ONE, true), legColumn("q1", ThreeSides.ONE, false),
+                        legColumn("p2", ThreeSides.TWO, true), legColumn("q2", ThreeSides.TWO, false),
+                        legColumn("p3", ThreeSides.THREE, true), legColumn("q3", ThreeSides.THREE, false)))
+    );
+
+    private ColumnarStateVariables() {
+    }
+}
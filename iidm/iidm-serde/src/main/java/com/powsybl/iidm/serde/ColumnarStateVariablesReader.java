@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * Read a state variables file written by {@link ColumnarStateVariablesWriter}.
+ * <p>
+ * The file is memory-mapped and only its directory is read when it is opened: the blocks and the ids are decoded on
+ * demand, so that loading the state variables of a few equipment types or of a few substations only decodes the ids
+ * of the corresponding elements. A file that is not on the default file system can also be read from a stream, its
+ * content being then fully loaded in memory.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class ColumnarStateVariablesReader implements AutoCloseable {
+
+    private static final int TRAILER_SIZE = 2 * Long.BYTES + Integer.BYTES;
+
+    private record BlockEntry(int count, int substationCount, List<String> columnNames, int position) {
+    }
+
+    private final Closeable channel;
+
+    private final ByteBuffer buffer;
+
+    private final Map<String, BlockEntry> entries = new LinkedHashMap<>();
+
+    private final int idCount;
+
+    private final int idOffsetsPosition;
+
+    private final int idBytesPosition;
+
+    private ColumnarStateVariablesReader(ByteBuffer buffer, Closeable channel) {
+        this.buffer = buffer;
+        this.channel = channel;
+        int size = buffer.capacity();
+        if (size < 2 * Integer.BYTES + TRAILER_SIZE) {
+            throw new PowsyblException("Invalid state variables file");
+        }
+        if (buffer.getInt(0) != ColumnarStateVariables.MAGIC || buffer.getInt(size - Integer.BYTES) != ColumnarStateVariables.MAGIC) {
+            throw new PowsyblException("Invalid state variables file");
+        }
+        int version = buffer.getInt(Integer.BYTES);
+        if (version != ColumnarStateVariables.VERSION) {
+            throw new PowsyblException("Unsupported state variables file version: " + version);
+        }
+        int trailerPosition = size - TRAILER_SIZE;
+        int dictionaryPosition = (int) buffer.getLong(trailerPosition);
+        int directoryPosition = (int) buffer.getLong(trailerPosition + Long.BYTES);
+
+        idCount = buffer.getInt(dictionaryPosition);
+        idOffsetsPosition = dictionaryPosition + Integer.BYTES;
+        idBytesPosition = idOffsetsPosition + (idCount + 1) * Integer.BYTES;
+
+        ByteBuffer directory = buffer.duplicate().position(directoryPosition);
+        int blockCount = directory.getInt();
+        for (int i = 0; i < blockCount; i++) {
+            String name = readUtf(directory);
+            int count = directory.getInt();
+            int substationCount = directory.getInt();
+            int columnCount = directory.getInt();
+            List<String> columnNames = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                columnNames.add(readUtf(directory));
+            }
+            int position = (int) directory.getLong();
+            entries.put(name, new BlockEntry(count, substationCount, columnNames, position));
+        }
+    }
+
+    public static ColumnarStateVariablesReader open(Path file) {
+        Objects.requireNonNull(file);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new PowsyblException("State variables file is too large to be mapped: " + size + " bytes");
+                }
+                return new ColumnarStateVariablesReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), channel);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read a state variables file from a stream, for instance a compressed one, its whole content being loaded in memory.
+     */
+    public static ColumnarStateVariablesReader read(InputStream is) {
+        Objects.requireNonNull(is);
+        try {
+            return new ColumnarStateVariablesReader(ByteBuffer.wrap(is.readAllBytes()), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read a string written with {@link java.io.DataOutput#writeUTF}, limited to the ASCII subset of the modified UTF-8
+     * encoding for characters used in block and column names.
+     */
+    private static String readUtf(ByteBuffer directory) {
+        int length = Short.toUnsignedInt(directory.getShort());
+        byte[] bytes = new byte[length];
+        directory.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public Set<String> getBlockNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    private BlockEntry getEntry(String blockName) {
+        BlockEntry entry = entries.get(Objects.requireNonNull(blockName));
+        if (entry == null) {
+            throw new PowsyblException("Block '" + blockName + "' not found");
+        }
+        return entry;
+    }
+
+    public List<String> getColumnNames(String blockName) {
+        return Collections.unmodifiableList(getEntry(blockName).columnNames());
+    }
+
+    public int getCount(String blockName) {
+        return getEntry(blockName).count();
+    }
+
+    private String getIdFromDictionary(int idIndex) {
+        if (idIndex < 0 || idIndex >= idCount) {
+            throw new PowsyblException("Invalid id index: " + idIndex);
+        }
+        int start = buffer.getInt(idOffsetsPosition + idIndex * Integer.BYTES);
+        int end = buffer.getInt(idOffsetsPosition + (idIndex + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        buffer.get(idBytesPosition + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void checkIndex(BlockEntry entry, int index) {
+        if (index < 0 || index >= entry.count()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + entry.count());
+        }
+    }
+
+    public String getId(String blockName, int index) {
+        BlockEntry entry = getEntry(blockName);
+        checkIndex(entry, index);
+        return getIdFromDictionary(buffer.getInt(entry.position() + index * Integer.BYTES));
+    }
+
+    private static int getColumnPosition(BlockEntry entry, int columnIndex) {
+        return entry.position() + (1 + entry.substationCount()) * entry.count() * Integer.BYTES + columnIndex * entry.count() * Double.BYTES;
+    }
+
+    public double getValue(String blockName, String columnName, int index) {
+        BlockEntry entry = getEntry(blockName);
+        checkIndex(entry, index);
+        int columnIndex = entry.columnNames().indexOf(Objects.requireNonNull(columnName));
+        if (columnIndex == -1) {
+            throw new PowsyblException("Column '" + columnName + "' not found in block '" + blockName + "'");
+        }
+        return buffer.getDouble(getColumnPosition(entry, columnIndex) + index * Double.BYTES);
+    }
+
+    /**
+     * Update the state variables of the network with the ones of the file.
+     */
+    public void apply(Network network) {
+        Objects.requireNonNull(network);
+        for (ColumnarStateVariables.Block<?> block : ColumnarStateVariables.BLOCKS) {
+            BlockEntry entry = entries.get(block.name());
+            if (entry != null) {
+                apply(network, block, entry, null);
+            }
+        }
+    }
+
+    /**
+     * Update the state variables of the equipments of the given substations only. The state variables of a branch are
+     * updated if one of its sides is in one of the given substations.
+     * <p>
+     * The elements are selected from the substations stored in the file, so the ids of the other elements are not
+     * decoded, and the network may only contain a part of the equipments of the file: an element of the given
+     * substations that is not in the network is ignored.
+     */
+    public void apply(Network network, Set<String> substationIds) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(substationIds);
+        // selection state of the dictionary ids used as substation ids: 0 if not known yet, 1 if selected, 2 otherwise
+        byte[] selectedSubstations = new byte[idCount];
+        for (ColumnarStateVariables.Block<?> block : ColumnarStateVariables.BLOCKS) {
+            BlockEntry entry = entries.get(block.name());
+            if (entry != null) {
+                apply(network, block, entry, row -> isInSubstations(entry, row, substationIds, selectedSubstations));
+            }
+        }
+    }
+
+    private boolean isInSubstations(BlockEntry entry, int row, Set<String> substationIds, byte[] selectedSubstations) {
+        int substationsPosition = entry.position() + entry.count() * Integer.BYTES;
+        for (int j = 0; j < entry.substationCount(); j++) {
+            int idIndex = buffer.getInt(substationsPosition + (j * entry.count() + row) * Integer.BYTES);
+            if (idIndex != -1) {
+                if (selectedSubstations[idIndex] == 0) {
+                    selectedSubstations[idIndex] = substationIds.contains(getIdFromDictionary(idIndex)) ? (byte) 1 : (byte) 2;
+                }
+                if (selectedSubstations[idIndex] == 1) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param rowFilter the rows to load, null to load all of them and to fail on an element missing from the network
+     */
+    private <T extends Identifiable<?>> void apply(Network network, ColumnarStateVariables.Block<T> block, BlockEntry entry,
+                                                   IntPredicate rowFilter) {
+        // columns of the file that are known by this version of the format
+        List<ColumnarStateVariables.Column<T>> columns = new ArrayList<>();
+        List<Integer> columnPositions = new ArrayList<>();
+        for (ColumnarStateVariables.Column<T> column : block.columns()) {
+            int columnIndex = entry.columnNames().indexOf(column.name());
+            if (columnIndex != -1) {
+                columns.add(column);
+                columnPositions.add(getColumnPosition(entry, columnIndex));
+            }
+        }
+        for (int i = 0; i < entry.count(); i++) {
+            if (rowFilter != null && !rowFilter.test(i)) {
+                continue;
+            }
+            String id = getIdFromDictionary(buffer.getInt(entry.position() + i * Integer.BYTES));
+            T element = block.finder().apply(network, id);
+            if (element == null) {
+                if (rowFilter == null) {
+                    throw new PowsyblException("Element '" + id + "' of block '" + block.name() + "' not found");
+                }
+                continue;
+            }
+            for (int j = 0; j < columns.size(); j++) {
+                columns.get(j).setter().accept(element, buffer.getDouble(columnPositions.get(j) + i * Double.BYTES));
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
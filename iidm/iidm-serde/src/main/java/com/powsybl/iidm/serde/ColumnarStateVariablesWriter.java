@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.google.common.io.CountingOutputStream;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Write the state variables of a network in a columnar binary file.
+ * <p>
+ * The file is made of one block per equipment type, followed by a dictionary of the ids, a directory of the blocks and
+ * a fixed size trailer giving the position of the dictionary and of the directory:
+ * <pre>
+ * header     : magic (int), version (int)
+ * block *    : id indexes in the dictionary (int * count), then substation id indexes in the dictionary
+ *              (int * count * substation count, -1 if absent), then each column (double * count)
+ * dictionary : id count (int), id offsets (int * (id count + 1)), UTF-8 bytes of the ids
+ * directory  : block count (int), then for each block: name (UTF), element count (int), substation count (int),
+ *              column count (int), column names (UTF * column count), block position (long)
+ * trailer    : dictionary position (long), directory position (long), magic (int)
+ * </pre>
+ * Each block can then be read from a memory-mapped file without reading the other ones, see
+ * {@link ColumnarStateVariablesReader}. The substation count of a block is the maximum number of distinct substations
+ * of one of its elements, the substations of the elements allowing to select the elements to load without decoding
+ * their ids.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class ColumnarStateVariablesWriter {
+
+    private record BlockEntry(String name, int count, int substationCount, List<String> columnNames, long position) {
+    }
+
+    private ColumnarStateVariablesWriter() {
+    }
+
+    public static void write(Network network, Path file) {
+        Objects.requireNonNull(file);
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(network, os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(Network network, OutputStream os) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(os);
+        try {
+            CountingOutputStream cos = new CountingOutputStream(os);
+            DataOutputStream dos = new DataOutputStream(cos);
+            dos.writeInt(ColumnarStateVariables.MAGIC);
+            dos.writeInt(ColumnarStateVariables.VERSION);
+
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            List<BlockEntry> entries = new ArrayList<>(ColumnarStateVariables.BLOCKS.size());
+            for (ColumnarStateVariables.Block<?> block : ColumnarStateVariables.BLOCKS) {
+                long position = cos.getCount();
+                entries.add(writeBlock(network, block, dictionary, dos, position));
+            }
+
+            long dictionaryPosition = cos.getCount();
+            writeDictionary(dictionary.keySet(), dos);
+
+            long directoryPosition = cos.getCount();
+            dos.writeInt(entries.size());
+            for (BlockEntry entry : entries) {
+                dos.writeUTF(entry.name());
+                dos.writeInt(entry.count());
+                dos.writeInt(entry.substationCount());
+                dos.writeInt(entry.columnNames().size());
+                for (String columnName : entry.columnNames()) {
+                    dos.writeUTF(columnName);
+                }
+                dos.writeLong(entry.position());
+            }
+
+            dos.writeLong(dictionaryPosition);
+            dos.writeLong(directoryPosition);
+            dos.writeInt(ColumnarStateVariables.MAGIC);
+            dos.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T extends Identifiable<?>> BlockEntry writeBlock(Network network, ColumnarStateVariables.Block<T> block,
+                                                                     Map<String, Integer> dictionary, DataOutputStream dos,
+                                                                     long position) throws IOException {
+        List<T> elements = block.elements().apply(network).toList();
+        List<List<String>> substationIds = new ArrayList<>(elements.size());
+        int substationCount = 0;
+        for (T element : elements) {
+            dos.writeInt(getIdIndex(element.getId(), dictionary));
+            List<String> elementSubstationIds = block.voltageLevels().apply(element)
+                    .flatMap(vl -> vl.getSubstation().stream())
+                    .map(Identifiable::getId)
+                    .distinct()
+                    .toList();
+            substationIds.add(elementSubstationIds);
+            substationCount = Math.max(substationCount, elementSubstationIds.size());
+        }
+        for (int j = 0; j < substationCount; j++) {
+            for (List<String> elementSubstationIds : substationIds) {
+                dos.writeInt(j < elementSubstationIds.size() ? getIdIndex(elementSubstationIds.get(j), dictionary) : -1);
+            }
+        }
+        for (ColumnarStateVariables.Column<T> column : block.columns()) {
+            for (T element : elements) {
+                dos.writeDouble(column.getter().applyAsDouble(element));
+            }
+        }
+        return new BlockEntry(block.name(), elements.size(), substationCount,
+                block.columns().stream().map(ColumnarStateVariables.Column::name).toList(), position);
+    }
+
+    private static int getIdIndex(String id, Map<String, Integer> dictionary) {
+        return dictionary.computeIfAbsent(id, k -> dictionary.size());
+    }
+
+    private static void writeDictionary(Collection<String> ids, DataOutputStream dos) throws IOException {
+        List<byte[]> bytes = ids.stream().map(id -> id.getBytes(StandardCharsets.UTF_8)).toList();
+        dos.writeInt(bytes.size());
+        int offset = 0;
+        dos.writeInt(offset);
+        for (byte[] b : bytes) {
+            offset += b.length;
+            dos.writeInt(offset);
+        }
+        for (byte[] b : bytes) {
+            dos.write(b);
+        }
+    }
+}
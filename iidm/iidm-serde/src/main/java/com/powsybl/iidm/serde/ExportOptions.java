@@ -65,6 +65,8 @@ public class ExportOptions extends AbstractOptions<ExportOptions> {
 
     private boolean withAutomationSystems = true;
 
+    private boolean parallel = false;
+
     public ExportOptions() {
     }
 
@@ -249,4 +251,17 @@ public class ExportOptions extends AbstractOptions<ExportOptions> {
         this.withAutomationSystems = withAutomationSystems;
         return this;
     }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * If true, substations are serialized in parallel and written in document order, the output being the same as the
+     * one of a sequential export. Ignored for an anonymized export.
+     */
+    public ExportOptions setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
 }
@@ -27,6 +27,8 @@ public class ImportOptions extends AbstractOptions<ImportOptions> {
 
     private ValidationLevel minimalValidationLevel = null;
 
+    private boolean streaming = false;
+
     public ImportOptions() {
     }
 
@@ -105,4 +107,19 @@ public class ImportOptions extends AbstractOptions<ImportOptions> {
     public Optional<ValidationLevel> getMinimalValidationLevel() {
         return Optional.ofNullable(minimalValidationLevel);
     }
+
+    /**
+     * <p>If true, the deserialization keeps as little state as possible until the end of the import: terminal
+     * references are buffered in a compact table instead of generic end tasks, and end tasks are released as soon
+     * as they have been executed, so that the peak memory is close to the size of the imported network.</p>
+     * @return true if the streaming mode is enabled
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public ImportOptions setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
 }
@@ -12,11 +12,14 @@ import com.powsybl.commons.io.DeserializerContext;
 import com.powsybl.commons.io.TreeDataReader;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.ThreeSides;
 import com.powsybl.iidm.network.ValidationLevel;
 import com.powsybl.iidm.network.util.Networks;
 import com.powsybl.iidm.serde.anonymizer.Anonymizer;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import static com.powsybl.iidm.serde.IidmSerDeConstants.CURRENT_IIDM_VERSION;
 
@@ -28,6 +31,7 @@ public class NetworkDeserializerContext extends AbstractNetworkSerDeContext<Impo
     private final TreeDataReader reader;
 
     private final List<DeserializationEndTask> endTasks = new ArrayList<>();
+    private final PendingTerminalReferences pendingTerminalReferences = new PendingTerminalReferences();
     private final ImportOptions options;
 
     private final Map<String, String> extensionVersions;
@@ -58,19 +62,53 @@ public class NetworkDeserializerContext extends AbstractNetworkSerDeContext<Impo
         endTasks.add(new DeserializationEndTask(step, task));
     }
 
+    /**
+     * Set the terminal referenced by {@code id} and {@code side} on {@code referrer} using the given setter, at the end
+     * of the import. In streaming mode, the reference is buffered in a compact table, else an end task is added.
+     * The setter should not capture any state, so that it can be shared by all the references of the same kind.
+     */
+    public <T> void addTerminalReference(String id, ThreeSides side, Network network, T referrer, BiConsumer<? super T, Terminal> setter) {
+        Objects.requireNonNull(referrer);
+        Objects.requireNonNull(setter);
+        if (options.isStreaming()) {
+            pendingTerminalReferences.add(id, side, network, referrer, setter);
+        } else {
+            addEndTask(DeserializationEndTask.Step.AFTER_EXTENSIONS, () -> setter.accept(referrer, TerminalRefSerDe.resolve(id, side, network)));
+        }
+    }
+
+    int getPendingTerminalReferenceCount() {
+        return pendingTerminalReferences.size();
+    }
+
+    int getEndTaskCount() {
+        return endTasks.size();
+    }
+
     public void executeEndTasks(Network network, DeserializationEndTask.Step step, ReportNode reportNode) {
+        if (options.isStreaming() && step == DeserializationEndTask.Step.AFTER_EXTENSIONS) {
+            // no "extensions" tag was found: create the postponed elements before resolving the references
+            executeEndTasks(network, DeserializationEndTask.Step.BEFORE_EXTENSIONS, reportNode);
+        }
         if (!processedEndTasksSteps.add(step)) {
             // Skip if step was already processed
             return;
         }
-        Networks.executeWithReportNode(network, reportNode, () -> endTasks.stream()
-                .filter(t -> t.getStep() == step
-                        || step == DeserializationEndTask.Step.AFTER_EXTENSIONS &&
-                            t.getStep() == DeserializationEndTask.Step.BEFORE_EXTENSIONS && !t.isProcessed()) // If no "extensions" tag was found, BEFORE_EXTENSIONS tasks were not processed.
-                .forEach(t -> {
-                    t.setProcessed(true);
-                    t.getTask().run();
-                }));
+        Networks.executeWithReportNode(network, reportNode, () -> {
+            if (step == DeserializationEndTask.Step.AFTER_EXTENSIONS) {
+                pendingTerminalReferences.resolve();
+            }
+            endTasks.stream()
+                    .filter(t -> t.getStep() == step
+                            || step == DeserializationEndTask.Step.AFTER_EXTENSIONS &&
+                                t.getStep() == DeserializationEndTask.Step.BEFORE_EXTENSIONS && !t.isProcessed()) // If no "extensions" tag was found, BEFORE_EXTENSIONS tasks were not processed.
+                    .forEach(t -> {
+                        t.setProcessed(true);
+                        t.getTask().run();
+                    });
+            // executed tasks are not needed anymore, release the adders and the data they retain
+            endTasks.removeIf(DeserializationEndTask::isProcessed);
+        });
     }
 
     @Override
@@ -15,6 +15,7 @@ import com.powsybl.commons.binary.BinReader;
 import com.powsybl.commons.binary.BinWriter;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
 import com.powsybl.commons.exceptions.UncheckedSaxException;
 import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
 import com.powsybl.commons.extensions.*;
@@ -52,8 +53,11 @@ import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
@@ -406,14 +410,75 @@ public final class NetworkSerDe {
 
     private static void writeSubstations(Network n, NetworkSerializerContext context) {
         context.getWriter().writeStartNodes();
+        List<Substation> substations = new ArrayList<>();
         for (Substation s : IidmSerDeUtil.sorted(n.getSubstations(), context.getOptions())) {
             if (isElementWrittenInsideNetwork(s, n, context)) {
+                substations.add(s);
+            }
+        }
+        // the anonymizer maps the ids in their writing order, so an anonymized export is always sequential
+        if (context.getOptions().isParallel() && !context.getOptions().isAnonymized() && substations.size() > 1) {
+            writeSubstationsInParallel(n, substations, context);
+        } else {
+            for (Substation s : substations) {
                 SubstationSerDe.INSTANCE.write(s, n, context);
             }
         }
         context.getWriter().writeEndNodes();
     }
 
+    /**
+     * Serialize each substation in a recording writer in a worker thread, then replay the recordings in document order on
+     * the actual writer, so that the output is exactly the same as the one of a sequential export whatever the format.
+     */
+    private static void writeSubstationsInParallel(Network n, List<Substation> substations, NetworkSerializerContext context) {
+        // bus views are computed lazily and their cache is not thread safe, so compute them before the parallel phase
+        for (Substation s : substations) {
+            for (VoltageLevel vl : s.getVoltageLevels()) {
+                vl.getBusBreakerView().getBuses();
+                vl.getBusView().getBuses();
+            }
+        }
+        VariantManager variantManager = n.getVariantManager();
+        boolean variantMultiThreadAccess = variantManager.isVariantMultiThreadAccessAllowed();
+        String variantId = variantManager.getWorkingVariantId();
+        // a dedicated executor, as the working variant set by the workers is thread local and must not leak into
+        // unrelated tasks, and as its workers can be interrupted on failure
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(substations.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<NetworkSerializerContext>> futures = new ArrayList<>(substations.size());
+            for (Substation s : substations) {
+                futures.add(executor.submit(() -> {
+                    if (variantMultiThreadAccess) {
+                        variantManager.setWorkingVariant(variantId);
+                    }
+                    NetworkSerializerContext substationContext = new NetworkSerializerContext(context, new RecordingTreeDataWriter());
+                    SubstationSerDe.INSTANCE.write(s, n, substationContext);
+                    return substationContext;
+                }));
+            }
+            for (Future<NetworkSerializerContext> future : futures) {
+                NetworkSerializerContext substationContext = future.get();
+                ((RecordingTreeDataWriter) substationContext.getWriter()).replay(context.getWriter());
+                context.addExportedEquipments(substationContext.getExportedEquipments());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new PowsyblException(e.getCause());
+        } finally {
+            // on failure, the substations not serialized yet are discarded and the running workers are interrupted
+            executor.shutdownNow();
+        }
+    }
+
     private static void writeLines(Network n, NetworkSerializerContext context) {
         BusFilter filter = context.getFilter();
         context.getWriter().writeStartNodes();
@@ -34,6 +34,14 @@ public class NetworkSerializerContext extends AbstractNetworkSerDeContext<Export
         this.exportedEquipments = new HashSet<>();
     }
 
+    /**
+     * Create a context sharing the options of the given context but writing with the given writer and collecting its
+     * own exported equipments, to serialize a part of the network in another thread.
+     */
+    NetworkSerializerContext(NetworkSerializerContext context, TreeDataWriter writer) {
+        this(context.getAnonymizer(), writer, context.options, context.filter, context.getVersion(), context.valid);
+    }
+
     @Override
     public TreeDataWriter getWriter() {
         return writer;
@@ -60,6 +68,10 @@ public class NetworkSerializerContext extends AbstractNetworkSerDeContext<Export
         exportedEquipments.add(equipment);
     }
 
+    void addExportedEquipments(Collection<Identifiable> equipments) {
+        exportedEquipments.addAll(equipments);
+    }
+
     public boolean isExportedEquipment(Identifiable<?> equipment) {
         return exportedEquipments.contains(equipment);
     }
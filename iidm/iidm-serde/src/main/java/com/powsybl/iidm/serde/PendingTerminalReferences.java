@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.ThreeSides;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Terminal references read during a streaming import, waiting to be resolved at the end of the import.
+ * <p>
+ * References are stored in parallel arrays instead of one end task and one closure per reference: a reference is the
+ * id and the side of the terminal, and the object to set it on, the setter being shared by all the references of a
+ * given kind. When the referenced identifiable has already been read, the identifiable itself is stored instead of its
+ * id, so that the id string read from the file is not retained: only forward references keep their id until the end
+ * of the import.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class PendingTerminalReferences {
+
+    private static final ThreeSides[] SIDES = ThreeSides.values();
+
+    private static final byte NO_SIDE = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Referenced identifiable, or its id for a forward reference.
+     */
+    private Object[] targets = new Object[INITIAL_CAPACITY];
+
+    private byte[] sides = new byte[INITIAL_CAPACITY];
+
+    private Network[] networks = new Network[INITIAL_CAPACITY];
+
+    /**
+     * Objects to set the terminals on.
+     */
+    private Object[] referrers = new Object[INITIAL_CAPACITY];
+
+    private BiConsumer<Object, Terminal>[] setters = newSetterArray(INITIAL_CAPACITY);
+
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Terminal>[] newSetterArray(int capacity) {
+        return new BiConsumer[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void add(String id, ThreeSides side, Network network, T referrer, BiConsumer<? super T, Terminal> setter) {
+        if (size == targets.length) {
+            int newCapacity = Math.max(INITIAL_CAPACITY, size * 2);
+            targets = Arrays.copyOf(targets, newCapacity);
+            sides = Arrays.copyOf(sides, newCapacity);
+            networks = Arrays.copyOf(networks, newCapacity);
+            referrers = Arrays.copyOf(referrers, newCapacity);
+            setters = Arrays.copyOf(setters, newCapacity);
+        }
+        Identifiable<?> identifiable = network.getIdentifiable(id);
+        targets[size] = identifiable != null ? identifiable : id;
+        sides[size] = side != null ? (byte) side.ordinal() : NO_SIDE;
+        networks[size] = network;
+        referrers[size] = referrer;
+        setters[size] = (BiConsumer<Object, Terminal>) setter;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Resolve the references in their reading order, and release them.
+     */
+    void resolve() {
+        for (int i = 0; i < size; i++) {
+            ThreeSides side = sides[i] != NO_SIDE ? SIDES[sides[i]] : null;
+            Terminal terminal = targets[i] instanceof Identifiable<?> identifiable
+                    ? Terminal.getTerminal(identifiable, side != null ? side : ThreeSides.ONE)
+                    : TerminalRefSerDe.resolve((String) targets[i], side, networks[i]);
+            setters[i].accept(referrers[i], terminal);
+            // release the reference as soon as it is resolved
+            targets[i] = null;
+            networks[i] = null;
+            referrers[i] = null;
+            setters[i] = null;
+        }
+        targets = new Object[0];
+        sides = new byte[0];
+        networks = new Network[0];
+        referrers = new Object[0];
+        setters = newSetterArray(0);
+        size = 0;
+    }
+}
@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.io.TreeDataWriter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Tree data writer recording the calls it receives, so that they can be replayed later on another writer.
+ * <p>
+ * It is used to serialize parts of a network in parallel: each part is recorded by a worker thread, then the
+ * recordings are replayed in document order on the actual writer, which gives exactly the same output as a sequential
+ * serialization whatever the format. Calls are stored in flat arrays (an opcode per call, its object and numeric
+ * arguments in two separate arrays) to keep the recording compact.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class RecordingTreeDataWriter implements TreeDataWriter {
+
+    private static final byte START_NODES = 0;
+    private static final byte END_NODES = 1;
+    private static final byte START_NODE = 2;
+    private static final byte END_NODE = 3;
+    private static final byte NAMESPACE = 4;
+    private static final byte NODE_CONTENT = 5;
+    private static final byte STRING = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte DOUBLE_WITH_ABSENT_VALUE = 9;
+    private static final byte OPTIONAL_DOUBLE = 10;
+    private static final byte INT = 11;
+    private static final byte INT_WITH_ABSENT_VALUE = 12;
+    private static final byte OPTIONAL_INT = 13;
+    private static final byte INT_ARRAY = 14;
+    private static final byte STRING_ARRAY = 15;
+    private static final byte ENUM = 16;
+    private static final byte BOOLEAN = 17;
+    private static final byte BOOLEAN_WITH_ABSENT_VALUE = 18;
+    private static final byte OPTIONAL_BOOLEAN = 19;
+    private static final byte VERSIONS = 20;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private byte[] opcodes = new byte[INITIAL_CAPACITY];
+    private int opcodeCount = 0;
+
+    private Object[] objects = new Object[INITIAL_CAPACITY];
+    private int objectCount = 0;
+
+    private long[] numbers = new long[INITIAL_CAPACITY];
+    private int numberCount = 0;
+
+    private void addOpcode(byte opcode) {
+        if (opcodeCount == opcodes.length) {
+            opcodes = Arrays.copyOf(opcodes, Math.max(INITIAL_CAPACITY, opcodeCount * 2));
+        }
+        opcodes[opcodeCount++] = opcode;
+    }
+
+    private void addObject(Object o) {
+        if (objectCount == objects.length) {
+            objects = Arrays.copyOf(objects, Math.max(INITIAL_CAPACITY, objectCount * 2));
+        }
+        objects[objectCount++] = o;
+    }
+
+    private void addNumber(long l) {
+        if (numberCount == numbers.length) {
+            numbers = Arrays.copyOf(numbers, Math.max(INITIAL_CAPACITY, numberCount * 2));
+        }
+        numbers[numberCount++] = l;
+    }
+
+    private void addDouble(double d) {
+        addNumber(Double.doubleToRawLongBits(d));
+    }
+
+    private void addBoolean(boolean b) {
+        addNumber(b ? 1 : 0);
+    }
+
+    private void add(byte opcode, Object o1, Object o2) {
+        addOpcode(opcode);
+        addObject(o1);
+        addObject(o2);
+    }
+
+    @Override
+    public void writeStartNodes() {
+        addOpcode(START_NODES);
+    }
+
+    @Override
+    public void writeEndNodes() {
+        addOpcode(END_NODES);
+    }
+
+    @Override
+    public void writeStartNode(String namespace, String name) {
+        add(START_NODE, namespace, name);
+    }
+
+    @Override
+    public void writeEndNode() {
+        addOpcode(END_NODE);
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespace) {
+        add(NAMESPACE, prefix, namespace);
+    }
+
+    @Override
+    public void writeNodeContent(String value) {
+        addOpcode(NODE_CONTENT);
+        addObject(value);
+    }
+
+    @Override
+    public void writeStringAttribute(String name, String value) {
+        add(STRING, name, value);
+    }
+
+    @Override
+    public void writeFloatAttribute(String name, float value) {
+        addOpcode(FLOAT);
+        addObject(name);
+        addNumber(Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public void writeDoubleAttribute(String name, double value) {
+        addOpcode(DOUBLE);
+        addObject(name);
+        addDouble(value);
+    }
+
+    @Override
+    public void writeDoubleAttribute(String name, double value, double absentValue) {
+        addOpcode(DOUBLE_WITH_ABSENT_VALUE);
+        addObject(name);
+        addDouble(value);
+        addDouble(absentValue);
+    }
+
+    @Override
+    public void writeOptionalDoubleAttribute(String name, Double value) {
+        add(OPTIONAL_DOUBLE, name, value);
+    }
+
+    @Override
+    public void writeIntAttribute(String name, int value) {
+        addOpcode(INT);
+        addObject(name);
+        addNumber(value);
+    }
+
+    @Override
+    public void writeIntAttribute(String name, int value, int absentValue) {
+        addOpcode(INT_WITH_ABSENT_VALUE);
+        addObject(name);
+        addNumber(value);
+        addNumber(absentValue);
+    }
+
+    @Override
+    public void writeOptionalIntAttribute(String name, Integer value) {
+        add(OPTIONAL_INT, name, value);
+    }
+
+    @Override
+    public void writeIntArrayAttribute(String name, Collection<Integer> values) {
+        add(INT_ARRAY, name, values);
+    }
+
+    @Override
+    public void writeStringArrayAttribute(String name, Collection<String> values) {
+        add(STRING_ARRAY, name, values);
+    }
+
+    @Override
+    public <E extends Enum<E>> void writeEnumAttribute(String name, E value) {
+        add(ENUM, name, value);
+    }
+
+    @Override
+    public void writeBooleanAttribute(String name, boolean value) {
+        addOpcode(BOOLEAN);
+        addObject(name);
+        addBoolean(value);
+    }
+
+    @Override
+    public void writeBooleanAttribute(String name, boolean value, boolean absentValue) {
+        addOpcode(BOOLEAN_WITH_ABSENT_VALUE);
+        addObject(name);
+        addBoolean(value);
+        addBoolean(absentValue);
+    }
+
+    @Override
+    public void writeOptionalBooleanAttribute(String name, Boolean value) {
+        add(OPTIONAL_BOOLEAN, name, value);
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    @Override
+    public void setVersions(Map<String, String> extensionVersions) {
+        addOpcode(VERSIONS);
+        addObject(extensionVersions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> void writeEnumAttribute(TreeDataWriter writer, String name, Object value) {
+        writer.writeEnumAttribute(name, (E) value);
+    }
+
+    /**
+     * Replay the recorded calls in their recording order on the given writer, and release the recording.
+     */
+    @SuppressWarnings("unchecked")
+    void replay(TreeDataWriter writer) {
+        int o = 0;
+        int n = 0;
+        for (int i = 0; i < opcodeCount; i++) {
+            switch (opcodes[i]) {
+                case START_NODES -> writer.writeStartNodes();
+                case END_NODES -> writer.writeEndNodes();
+                case START_NODE -> writer.writeStartNode((String) objects[o++], (String) objects[o++]);
+                case END_NODE -> writer.writeEndNode();
+                case NAMESPACE -> writer.writeNamespace((String) objects[o++], (String) objects[o++]);
+                case NODE_CONTENT -> writer.writeNodeContent((String) objects[o++]);
+                case STRING -> writer.writeStringAttribute((String) objects[o++], (String) objects[o++]);
+                case FLOAT -> writer.writeFloatAttribute((String) objects[o++], Float.intBitsToFloat((int) numbers[n++]));
+                case DOUBLE -> writer.writeDoubleAttribute((String) objects[o++], Double.longBitsToDouble(numbers[n++]));
+                case DOUBLE_WITH_ABSENT_VALUE -> writer.writeDoubleAttribute((String) objects[o++], Double.longBitsToDouble(numbers[n++]),
+                        Double.longBitsToDouble(numbers[n++]));
+                case OPTIONAL_DOUBLE -> writer.writeOptionalDoubleAttribute((String) objects[o++], (Double) objects[o++]);
+                case INT -> writer.writeIntAttribute((String) objects[o++], (int) numbers[n++]);
+                case INT_WITH_ABSENT_VALUE -> writer.writeIntAttribute((String) objects[o++], (int) numbers[n++], (int) numbers[n++]);
+                case OPTIONAL_INT -> writer.writeOptionalIntAttribute((String) objects[o++], (Integer) objects[o++]);
+                case INT_ARRAY -> writer.writeIntArrayAttribute((String) objects[o++], (Collection<Integer>) objects[o++]);
+                case STRING_ARRAY -> writer.writeStringArrayAttribute((String) objects[o++], (Collection<String>) objects[o++]);
+                case ENUM -> writeEnumAttribute(writer, (String) objects[o++], objects[o++]);
+                case BOOLEAN -> writer.writeBooleanAttribute((String) objects[o++], numbers[n++] != 0);
+                case BOOLEAN_WITH_ABSENT_VALUE -> writer.writeBooleanAttribute((String) objects[o++], numbers[n++] != 0, numbers[n++] != 0);
+                case OPTIONAL_BOOLEAN -> writer.writeOptionalBooleanAttribute((String) objects[o++], (Boolean) objects[o++]);
+                case VERSIONS -> writer.setVersions((Map<String, String>) objects[o++]);
+                default -> throw new IllegalStateException("Unknown opcode: " + opcodes[i]);
+            }
+        }
+        opcodes = new byte[0];
+        objects = new Object[0];
+        numbers = new long[0];
+        opcodeCount = 0;
+        objectCount = 0;
+        numberCount = 0;
+    }
+}
@@ -138,7 +138,7 @@ public class StaticVarCompensatorSerDe extends AbstractSimpleIdentifiableSerDe<S
         context.getReader().readChildNodes(elementName -> {
             if (elementName.equals(REGULATING_TERMINAL)) {
                 IidmSerDeUtil.assertMinimumVersion(ROOT_ELEMENT_NAME, REGULATING_TERMINAL, IidmSerDeUtil.ErrorMessage.NOT_SUPPORTED, IidmVersion.V_1_1, context);
-                TerminalRefSerDe.readTerminalRef(context, svc.getNetwork(), svc::setRegulatingTerminal);
+                TerminalRefSerDe.readTerminalRef(context, svc.getNetwork(), svc, StaticVarCompensator::setRegulatingTerminal);
             } else {
                 readSubElement(elementName, svc, context);
             }
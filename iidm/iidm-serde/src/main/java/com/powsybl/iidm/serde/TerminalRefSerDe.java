@@ -13,6 +13,7 @@ import com.powsybl.commons.io.TreeDataWriter;
 import com.powsybl.iidm.network.*;
 
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -83,10 +84,19 @@ public final class TerminalRefSerDe {
         String id = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute(ID));
         ThreeSides side = context.getReader().readEnumAttribute(SIDE, ThreeSides.class);
         context.getReader().readEndNode();
-        context.addEndTask(DeserializationEndTask.Step.AFTER_EXTENSIONS, () -> {
-            Terminal t = resolve(id, side, network);
-            endTaskTerminalConsumer.accept(t);
-        });
+        context.addTerminalReference(id, side, network, endTaskTerminalConsumer, Consumer::accept);
+    }
+
+    /**
+     * Read a terminal reference and set the referenced terminal on {@code referrer} at the end of the import.
+     * Unlike {@link #readTerminalRef(NetworkDeserializerContext, Network, Consumer)}, no closure has to be allocated
+     * per reference when the setter is a method reference.
+     */
+    public static <T> void readTerminalRef(NetworkDeserializerContext context, Network network, T referrer, BiConsumer<? super T, Terminal> setter) {
+        String id = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute(ID));
+        ThreeSides side = context.getReader().readEnumAttribute(SIDE, ThreeSides.class);
+        context.getReader().readEndNode();
+        context.addTerminalReference(id, side, network, referrer, setter);
     }
 
     public static Terminal resolve(String id, ThreeSides side, Network network) {
@@ -82,7 +82,7 @@ class VscConverterStationSerDe extends AbstractSimpleIdentifiableSerDe<VscConver
                 case ReactiveLimitsSerDe.ELEM_MIN_MAX_REACTIVE_LIMITS -> ReactiveLimitsSerDe.INSTANCE.readMinMaxReactiveLimits(cs, context);
                 case REGULATING_TERMINAL -> {
                     IidmSerDeUtil.assertMinimumVersion(ROOT_ELEMENT_NAME, REGULATING_TERMINAL, IidmSerDeUtil.ErrorMessage.NOT_SUPPORTED, IidmVersion.V_1_6, context);
-                    TerminalRefSerDe.readTerminalRef(context, cs.getNetwork(), cs::setRegulatingTerminal);
+                    TerminalRefSerDe.readTerminalRef(context, cs.getNetwork(), cs, VscConverterStation::setRegulatingTerminal);
                 }
                 default -> readSubElement(elementName, cs, context);
             }
@@ -99,7 +99,7 @@ public class VoltageRegulationSerDe extends AbstractVersionableNetworkExtensionS
 
         context.getReader().readChildNodes(elementName -> {
             if (elementName.equals("terminalRef")) {
-                TerminalRefSerDe.readTerminalRef(convertContext(context), battery.getTerminal().getVoltageLevel().getNetwork(), voltageRegulation::setRegulatingTerminal);
+                TerminalRefSerDe.readTerminalRef(convertContext(context), battery.getTerminal().getVoltageLevel().getNetwork(), voltageRegulation, VoltageRegulation::setRegulatingTerminal);
             } else {
                 throw new AssertionError("Unexpected element: " + elementName);
             }
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.datasource.DirectoryDataSource;
+import com.powsybl.commons.datasource.MemDataSource;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static com.powsybl.iidm.serde.IidmSerDeConstants.CURRENT_IIDM_VERSION;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ColumnarImporterTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private static String toXml(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, os);
+        return os.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testMetaInfos() {
+        var importer = new ColumnarImporter();
+        assertEquals("CIIDM", importer.getFormat());
+        assertEquals("IIDM columnar v " + CURRENT_IIDM_VERSION.toString(".") + " importer", importer.getComment());
+        assertEquals(List.of("ciidm"), importer.getSupportedExtensions());
+        assertEquals(1, importer.getParameters().size());
+        assertEquals("CIIDM", new ColumnarExporter().getFormat());
+    }
+
+    @Test
+    void testRoundTripThroughDirectory() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        DirectoryDataSource dataSource = new DirectoryDataSource(tmpDir, "network");
+        new ColumnarExporter().export(network, new Properties(), dataSource);
+        assertTrue(Files.exists(tmpDir.resolve("network.xiidm")));
+        assertTrue(Files.exists(tmpDir.resolve("network.ciidm")));
+
+        var importer = new ColumnarImporter();
+        assertTrue(importer.exists(dataSource));
+        assertFalse(new XMLImporter().exists(new DirectoryDataSource(tmpDir, "network", "ciidm", null)));
+        // branch flows are not in the XIIDM file, they come from the columnar one
+        Network network2 = importer.importData(dataSource, NetworkFactory.findDefault(), new Properties(), ReportNode.NO_OP);
+        assertEquals(toXml(network), toXml(network2));
+    }
+
+    @Test
+    void testRoundTripThroughStream() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        MemDataSource dataSource = new MemDataSource();
+        new ColumnarExporter().export(network, new Properties(), dataSource);
+
+        var importer = new ColumnarImporter();
+        assertTrue(importer.exists(dataSource));
+        Network network2 = importer.importData(dataSource, NetworkFactory.findDefault(), new Properties(), ReportNode.NO_OP);
+        assertEquals(toXml(network), toXml(network2));
+
+        MemDataSource copy = new MemDataSource();
+        importer.copy(dataSource, copy);
+        assertTrue(importer.exists(copy));
+    }
+
+    @Test
+    void testSelectedSubstations() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        MemDataSource dataSource = new MemDataSource();
+        new ColumnarExporter().export(network, new Properties(), dataSource);
+
+        Properties parameters = new Properties();
+        parameters.put(ColumnarImporter.SUBSTATIONS, "P1");
+        Network network2 = new ColumnarImporter().importData(dataSource, NetworkFactory.findDefault(), parameters, ReportNode.NO_OP);
+        assertEquals(302.4440612792969, network2.getLine("NHV1_NHV2_1").getTerminal1().getP(), 0);
+        assertTrue(Double.isNaN(network2.getTwoWindingsTransformer("NHV2_NLOAD").getTerminal1().getP()));
+    }
+
+    @Test
+    void testNotImportable() {
+        MemDataSource dataSource = new MemDataSource();
+        assertFalse(new ColumnarImporter().exists(dataSource));
+    }
+}
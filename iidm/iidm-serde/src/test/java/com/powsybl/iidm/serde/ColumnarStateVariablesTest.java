@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ColumnarStateVariablesTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private static String toXml(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, os);
+        return os.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void busBreakerTest() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        Path file = tmpDir.resolve("sv.bin");
+        ColumnarStateVariablesWriter.write(network, file);
+
+        Network network2 = EurostagTutorialExample1Factory.create();
+        network2.setCaseDate(network.getCaseDate());
+        try (ColumnarStateVariablesReader reader = ColumnarStateVariablesReader.open(file)) {
+            assertEquals(List.of("p", "q"), reader.getColumnNames("load"));
+            assertEquals(1, reader.getCount("load"));
+            assertEquals("LOAD", reader.getId("load", 0));
+            assertEquals(600.0, reader.getValue("load", "p", 0));
+            assertEquals(2, reader.getCount("line"));
+            assertEquals("NHV1_NHV2_2", reader.getId("line", 1));
+            assertEquals(-137.18849182128906, reader.getValue("line", "q2", 1));
+            assertEquals(4, reader.getCount("bus"));
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getValue("load", "p", 1));
+            PowsyblException e = assertThrows(PowsyblException.class, () -> reader.getCount("foo"));
+            assertEquals("Block 'foo' not found", e.getMessage());
+            e = assertThrows(PowsyblException.class, () -> reader.getValue("load", "foo", 0));
+            assertEquals("Column 'foo' not found in block 'load'", e.getMessage());
+
+            reader.apply(network2);
+        }
+        assertEquals(toXml(network), toXml(network2));
+    }
+
+    @Test
+    void nodeBreakerTest() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        network.getSwitch("S1VL2_COUPLER").setOpen(true);
+        network.getBusView().getBuses().forEach(b -> b.setV(400).setAngle(1));
+        network.getGenerator("GH1").getTerminal().setP(-80).setQ(-10);
+        network.getTwoWindingsTransformer("TWT").getPhaseTapChanger().setTapPosition(10);
+        network.getShuntCompensator("SHUNT").setSectionCount(0);
+        Path file = tmpDir.resolve("sv.bin");
+        ColumnarStateVariablesWriter.write(network, file);
+
+        Network network2 = FourSubstationsNodeBreakerFactory.create();
+        try (ColumnarStateVariablesReader reader = ColumnarStateVariablesReader.open(file)) {
+            reader.apply(network2);
+        }
+        assertEquals(toXml(network), toXml(network2));
+    }
+
+    @Test
+    void selectiveLoadingTest() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        Path file = tmpDir.resolve("sv.bin");
+        ColumnarStateVariablesWriter.write(network, file);
+
+        Network network2 = EurostagTutorialExample1Factory.create();
+        try (ColumnarStateVariablesReader reader = ColumnarStateVariablesReader.open(file)) {
+            reader.apply(network2, Set.of("P1"));
+        }
+        assertEquals(-605.558349609375, network2.getGenerator("GEN").getTerminal().getP(), 0);
+        assertEquals(402.1428451538086, network2.getBusBreakerView().getBus("NHV1").getV(), 0);
+        // lines are loaded as one of their sides is in P1
+        assertEquals(302.4440612792969, network2.getLine("NHV1_NHV2_1").getTerminal1().getP(), 0);
+        assertTrue(Double.isNaN(network2.getLoad("LOAD").getTerminal().getP()));
+        assertTrue(Double.isNaN(network2.getBusBreakerView().getBus("NLOAD").getV()));
+    }
+
+    @Test
+    void selectiveLoadingOnPartialNetworkTest() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        Path file = tmpDir.resolve("sv.bin");
+        ColumnarStateVariablesWriter.write(network, file);
+
+        // LOAD is in substation P2
+        Network network2 = EurostagTutorialExample1Factory.create();
+        network2.getLoad("LOAD").remove();
+        try (ColumnarStateVariablesReader reader = ColumnarStateVariablesReader.open(file)) {
+            reader.apply(network2, Set.of("P1"));
+            assertEquals(-605.558349609375, network2.getGenerator("GEN").getTerminal().getP(), 0);
+            assertTrue(Double.isNaN(network2.getBusBreakerView().getBus("NLOAD").getV()));
+
+            // the missing load is ignored
+            reader.apply(network2, Set.of("P2", "UNKNOWN"));
+            assertFalse(Double.isNaN(network2.getBusBreakerView().getBus("NLOAD").getV()));
+            assertEquals(network.getTwoWindingsTransformer("NHV2_NLOAD").getTerminal2().getP(),
+                    network2.getTwoWindingsTransformer("NHV2_NLOAD").getTerminal2().getP(), 0);
+        }
+    }
+
+    @Test
+    void invalidFileTest() throws IOException {
+        Path file = tmpDir.resolve("sv.bin");
+        Files.write(file, new byte[32]);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> ColumnarStateVariablesReader.open(file));
+        assertEquals("Invalid state variables file", e.getMessage());
+    }
+
+    @Test
+    void missingElementTest() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        Path file = tmpDir.resolve("sv.bin");
+        ColumnarStateVariablesWriter.write(network, file);
+
+        Network network2 = EurostagTutorialExample1Factory.create();
+        network2.getLoad("LOAD").remove();
+        try (ColumnarStateVariablesReader reader = ColumnarStateVariablesReader.open(file)) {
+            PowsyblException e = assertThrows(PowsyblException.class, () -> reader.apply(network2));
+            assertEquals("Element 'LOAD' of block 'load' not found", e.getMessage());
+        }
+    }
+}
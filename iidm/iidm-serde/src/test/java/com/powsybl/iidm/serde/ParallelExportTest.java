@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.commons.io.TreeDataWriter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyLevel;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerWithExtensionsFactory;
+import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ParallelExportTest {
+
+    private static byte[] write(Network network, ExportOptions options) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, options, os);
+        return os.toByteArray();
+    }
+
+    private static void assertSameOutput(Network network, ExportOptions options) {
+        byte[] expected = write(network, options.setParallel(false));
+        byte[] actual = write(network, options.setParallel(true));
+        assertArrayEquals(expected, actual);
+    }
+
+    static Stream<Arguments> provideArguments() {
+        return Arrays.stream(TreeDataFormat.values())
+                .flatMap(format -> Stream.of(
+                        Arguments.of(EurostagTutorialExample1Factory.createWithTieLinesAndAreas(), format),
+                        Arguments.of(FourSubstationsNodeBreakerFactory.create(), format),
+                        Arguments.of(FourSubstationsNodeBreakerWithExtensionsFactory.create(), format),
+                        Arguments.of(ThreeWindingsTransformerNetworkFactory.create(), format)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideArguments")
+    void sameOutputAsSequentialExport(Network network, TreeDataFormat format) {
+        assertSameOutput(network, new ExportOptions().setFormat(format));
+        assertSameOutput(network, new ExportOptions().setFormat(format).setSorted(true));
+        assertSameOutput(network, new ExportOptions().setFormat(format).setTopologyLevel(TopologyLevel.BUS_BREAKER));
+        assertSameOutput(network, new ExportOptions().setFormat(format).setTopologyLevel(TopologyLevel.BUS_BRANCH));
+    }
+
+    @Test
+    void subnetworks() {
+        Network network = Network.merge(EurostagTutorialExample1Factory.create(), FourSubstationsNodeBreakerFactory.create());
+        for (TreeDataFormat format : TreeDataFormat.values()) {
+            assertSameOutput(network, new ExportOptions().setFormat(format));
+        }
+    }
+
+    @Test
+    void variantMultiThreadAccess() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        network.getGenerator("GH1").setTargetP(42);
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        network.getVariantManager().setWorkingVariant("v");
+        assertSameOutput(network, new ExportOptions());
+    }
+
+    @Test
+    void anonymized() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        assertSameOutput(network, new ExportOptions().setAnonymized(true));
+    }
+
+    @Test
+    void replayVersions() {
+        RecordingTreeDataWriter recordingWriter = new RecordingTreeDataWriter();
+        Map<String, String> versions = Map.of("extension", "1.0");
+        recordingWriter.writeStartNode("namespace", "node");
+        recordingWriter.setVersions(versions);
+        recordingWriter.writeEndNode();
+
+        TreeDataWriter writer = Mockito.mock(TreeDataWriter.class);
+        recordingWriter.replay(writer);
+        InOrder inOrder = Mockito.inOrder(writer);
+        inOrder.verify(writer).writeStartNode("namespace", "node");
+        inOrder.verify(writer).setVersions(versions);
+        inOrder.verify(writer).writeEndNode();
+        inOrder.verifyNoMoreInteractions();
+    }
+}
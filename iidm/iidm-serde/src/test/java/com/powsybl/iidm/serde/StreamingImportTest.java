@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.TreeDataReader;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import com.powsybl.iidm.network.test.PhaseShifterTestCaseFactory;
+import com.powsybl.iidm.serde.anonymizer.SimpleAnonymizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static com.powsybl.iidm.serde.IidmSerDeConstants.CURRENT_IIDM_VERSION;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class StreamingImportTest {
+
+    private static final String PROBE_ID = "PROBE";
+
+    private static byte[] write(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, os);
+        return os.toByteArray();
+    }
+
+    private static Network read(byte[] xml, boolean streaming, NetworkFactory networkFactory) {
+        return NetworkSerDe.read(new ByteArrayInputStream(xml), new ImportOptions().setStreaming(streaming), null,
+                networkFactory, ReportNode.NO_OP);
+    }
+
+    static Stream<Arguments> provideNetworks() {
+        return Stream.of(
+                Arguments.of(EurostagTutorialExample1Factory.createWithTieLinesAndAreas()),
+                Arguments.of(EurostagTutorialExample1Factory.createRemoteVoltageTcc()),
+                Arguments.of(FourSubstationsNodeBreakerFactory.create()),
+                Arguments.of(PhaseShifterTestCaseFactory.create()),
+                Arguments.of(createNetwork(10))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideNetworks")
+    void sameNetworkAsDefaultImport(Network network) {
+        byte[] xml = write(network);
+        Network expected = read(xml, false, NetworkFactory.findDefault());
+        Network actual = read(xml, true, NetworkFactory.findDefault());
+        assertEquals(new String(write(expected), StandardCharsets.UTF_8), new String(write(actual), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void missingTerminalReference() {
+        String xml = new String(write(createNetwork(2)), StandardCharsets.UTF_8).replace("regulatingTerminal id=\"L1\"", "regulatingTerminal id=\"UNKNOWN\"");
+        PowsyblException e = assertThrows(PowsyblException.class,
+                () -> read(xml.getBytes(StandardCharsets.UTF_8), true, NetworkFactory.findDefault()));
+        assertEquals("Terminal reference identifiable not found: 'UNKNOWN'", e.getMessage());
+    }
+
+    /**
+     * Each generator regulates the voltage of the load of the next substation, which is a forward reference in the
+     * file, and the network ends with a line to detect that the whole file has been read.
+     */
+    private static Network createNetwork(int substationCount) {
+        Network network = Network.create("test", "test");
+        for (int i = 0; i < substationCount; i++) {
+            VoltageLevel vl = network.newSubstation()
+                    .setId("S" + i)
+                    .add()
+                    .newVoltageLevel()
+                    .setId("VL" + i)
+                    .setNominalV(400)
+                    .setTopologyKind(TopologyKind.BUS_BREAKER)
+                    .add();
+            vl.getBusBreakerView().newBus()
+                    .setId("B" + i)
+                    .add();
+            vl.newLoad()
+                    .setId("L" + i)
+                    .setBus("B" + i)
+                    .setP0(10)
+                    .setQ0(1)
+                    .add();
+            vl.newGenerator()
+                    .setId("G" + i)
+                    .setBus("B" + i)
+                    .setMinP(0)
+                    .setMaxP(100)
+                    .setTargetP(10)
+                    .setTargetV(400)
+                    .setVoltageRegulatorOn(true)
+                    .add();
+        }
+        for (int i = 0; i < substationCount; i++) {
+            network.getGenerator("G" + i).setRegulatingTerminal(network.getLoad("L" + ((i + 1) % substationCount)).getTerminal());
+        }
+        network.newLine()
+                .setId(PROBE_ID)
+                .setBus1("B0")
+                .setBus2("B1")
+                .setR(1)
+                .setX(1)
+                .add();
+        return network;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void terminalReferencesBuffering(boolean streaming) {
+        int substationCount = 100;
+        Network network = createNetwork(substationCount);
+        NetworkDeserializerContext context = new NetworkDeserializerContext(new SimpleAnonymizer(), Mockito.mock(TreeDataReader.class),
+                new ImportOptions().setStreaming(streaming), CURRENT_IIDM_VERSION, Collections.emptyMap());
+        for (int i = 0; i < substationCount; i++) {
+            Generator g = network.getGenerator("G" + i);
+            g.setRegulatingTerminal(null);
+            context.addTerminalReference("L" + ((i + 2) % substationCount), null, network, g, Generator::setRegulatingTerminal);
+        }
+
+        // in streaming mode, references are buffered in the compact table instead of one end task each
+        assertEquals(streaming ? substationCount : 0, context.getPendingTerminalReferenceCount());
+        assertEquals(streaming ? 0 : substationCount, context.getEndTaskCount());
+        assertSame(network.getGenerator("G0").getTerminal(), network.getGenerator("G0").getRegulatingTerminal());
+
+        context.executeEndTasks(network, DeserializationEndTask.Step.AFTER_EXTENSIONS, ReportNode.NO_OP);
+        assertEquals(0, context.getPendingTerminalReferenceCount());
+        assertEquals(0, context.getEndTaskCount());
+        for (int i = 0; i < substationCount; i++) {
+            assertSame(network.getLoad("L" + ((i + 2) % substationCount)).getTerminal(), network.getGenerator("G" + i).getRegulatingTerminal());
+        }
+    }
+}
@@ -377,6 +377,36 @@ public interface UndirectedGraph<V, E> {
      */
     List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled, Comparator<TIntArrayList> comparator);
 
+    /**
+     * Find at most {@code maxPathCount} paths from the specified vertex.
+     * The search stops as soon as {@code maxPathCount} paths have been found, so that the paths returned are the first
+     * ones found by a depth first search, sorted afterward with the given comparator.
+     *
+     * @param from the vertex index where the traverse has to start.
+     * @param pathComplete a function that returns true when the target vertex is found.
+     * @param pathCancelled a function that returns true when the edge must not be traversed.
+     * @param comparator a comparator used to sort the paths
+     * @param maxPathCount the maximum number of paths to find, {@link Integer#MAX_VALUE} to find all of them.
+     * @return a list that contains the index of the traversed edges.
+     */
+    List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled, Comparator<TIntArrayList> comparator,
+                                     int maxPathCount);
+
+    /**
+     * Find at most {@code maxPathCount} paths from each of the specified vertices.
+     * The searches are run in parallel in the common fork-join pool, so the functions and the comparator have to be
+     * thread safe and the graph must not be modified during the search.
+     *
+     * @param from the vertex indices where the traverses have to start.
+     * @param pathComplete a function that returns true when the target vertex is found.
+     * @param pathCancelled a function that returns true when the edge must not be traversed.
+     * @param comparator a comparator used to sort the paths
+     * @param maxPathCount the maximum number of paths to find from each vertex, {@link Integer#MAX_VALUE} to find all of them.
+     * @return for each vertex of {@code from}, in the same order, the list of the paths found from this vertex.
+     */
+    List<List<TIntArrayList>> findAllPaths(int[] from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
+                                           Comparator<TIntArrayList> comparator, int maxPathCount);
+
     /**
      * Add a {@link UndirectedGraphListener} to get notified when the graph changes.
      *
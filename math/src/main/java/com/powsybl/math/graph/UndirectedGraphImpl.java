@@ -17,8 +17,6 @@ import gnu.trove.set.hash.TIntHashSet;
 import java.io.PrintStream;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -35,7 +33,7 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     private static final int EDGES_CAPACITY = 15;
 
-    private static final int NEIGHBORS_CAPACITY = 2;
+    private static final ThreadLocal<TraversalBuffers> TRAVERSAL_BUFFERS = ThreadLocal.withInitial(TraversalBuffers::new);
 
     private static final class Vertex<E> {
 
@@ -91,16 +89,121 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     }
 
+    /**
+     * Compressed sparse row snapshot of the adjacency of the graph: the edges adjacent to vertex {@code v} are stored
+     * from index {@code offsets[v]} (inclusive) to index {@code offsets[v + 1]} (exclusive) of the {@code edges} array,
+     * in increasing edge index order, and the {@code sources} and {@code targets} arrays give the traversal direction
+     * of each of them starting from {@code v}.
+     */
+    private static final class CsrAdjacency {
+
+        private final int[] offsets;
+
+        private final int[] edges;
+
+        private final int[] sources;
+
+        private final int[] targets;
+
+        private final int edgeCapacity;
+
+        private CsrAdjacency(int vertexCapacity, List<? extends Edge<?>> edgeList) {
+            offsets = new int[vertexCapacity + 1];
+            for (Edge<?> edge : edgeList) {
+                if (edge != null) {
+                    offsets[edge.getV1() + 1]++;
+                    offsets[edge.getV2() + 1]++;
+                }
+            }
+            for (int v = 0; v < vertexCapacity; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            int size = offsets[vertexCapacity];
+            edges = new int[size];
+            sources = new int[size];
+            targets = new int[size];
+            int[] next = Arrays.copyOf(offsets, vertexCapacity);
+            for (int e = 0; e < edgeList.size(); e++) {
+                Edge<?> edge = edgeList.get(e);
+                if (edge != null) {
+                    int v1 = edge.getV1();
+                    int v2 = edge.getV2();
+                    add(next[v1]++, e, v1, v2);
+                    add(next[v2]++, e, v2, v1);
+                }
+            }
+            edgeCapacity = edgeList.size();
+        }
+
+        private void add(int i, int e, int source, int target) {
+            edges[i] = e;
+            sources[i] = source;
+            targets[i] = target;
+        }
+
+        private int getDegree(int v) {
+            return offsets[v + 1] - offsets[v];
+        }
+    }
+
+    /**
+     * Buffers reused by the traversals of a thread, so that a traversal does not allocate anything: bitsets of the
+     * encountered edges and vertices, and the indexes in the {@link CsrAdjacency} of the edges to traverse. They are
+     * left cleared after each traversal.
+     */
+    private static final class TraversalBuffers {
+
+        private long[] encounteredEdges = new long[0];
+
+        private long[] encounteredVertices = new long[0];
+
+        private int[] edgesToTraverse = new int[0];
+
+        private boolean inUse = false;
+
+        private int edgeWordCount = 0;
+
+        private int vertexWordCount = 0;
+
+        private static int wordCount(int bitCount) {
+            return (bitCount + 63) >>> 6;
+        }
+
+        private void ensureCapacity(int vertexCapacity, CsrAdjacency adjacency) {
+            edgeWordCount = Math.max(edgeWordCount, wordCount(adjacency.edgeCapacity));
+            vertexWordCount = Math.max(vertexWordCount, wordCount(vertexCapacity));
+            if (encounteredEdges.length < edgeWordCount) {
+                encounteredEdges = Arrays.copyOf(encounteredEdges, edgeWordCount);
+            }
+            if (encounteredVertices.length < vertexWordCount) {
+                encounteredVertices = Arrays.copyOf(encounteredVertices, vertexWordCount);
+            }
+            if (edgesToTraverse.length < adjacency.edges.length) {
+                edgesToTraverse = new int[adjacency.edges.length];
+            }
+        }
+
+        private void clearEdges() {
+            Arrays.fill(encounteredEdges, 0, edgeWordCount, 0L);
+        }
+
+        private void release() {
+            clearEdges();
+            Arrays.fill(encounteredVertices, 0, vertexWordCount, 0L);
+            edgeWordCount = 0;
+            vertexWordCount = 0;
+            inUse = false;
+        }
+    }
+
     /* vertices */
     private final List<Vertex<V>> vertices = new ArrayList<>(VERTICES_CAPACITY);
 
     /* edges */
     private final List<Edge<E>> edges = new ArrayList<>(EDGES_CAPACITY);
 
-    /* cached adjacency list */
-    private TIntArrayList[] adjacencyListCache;
-
-    private final Lock adjacencyListCacheLock = new ReentrantLock();
+    /* cached adjacency, immutable so that it can be read without locking */
+    private volatile CsrAdjacency adjacencyCache;
 
     private final TIntHashSet availableVertices = new TIntHashSet();
 
@@ -422,9 +525,8 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     @Override
     public IntStream getEdgeConnectedToVertexStream(int v) {
         checkVertex(v);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
-        return IntStream.range(0, adjacentEdges.size()).map(adjacentEdges::getQuick);
+        CsrAdjacency adjacency = getAdjacency();
+        return IntStream.range(adjacency.offsets[v], adjacency.offsets[v + 1]).map(i -> adjacency.edges[i]);
     }
 
     @Override
@@ -456,85 +558,120 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         checkVertex(v1);
         checkVertex(v2);
         List<E> edgeObjects = new ArrayList<>(1);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v1];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if (edge.getV1() == v1 && edge.getV2() == v2
-                    || edge.getV1() == v2 && edge.getV2() == v1) {
-                edgeObjects.add(edge.getObject());
+        CsrAdjacency adjacency = getAdjacency();
+        for (int i = adjacency.offsets[v1]; i < adjacency.offsets[v1 + 1]; i++) {
+            if (adjacency.targets[i] == v2) {
+                edgeObjects.add(edges.get(adjacency.edges[i]).getObject());
             }
         }
         return edgeObjects;
     }
 
     /**
-     * Create the adjacency list of this graph.
-     * @return the adjacency list as a {@link TIntArrayList} of {@link TIntArrayList}.
+     * Get the adjacency of this graph, lazily built after each modification.
+     * @return the adjacency as an immutable {@link CsrAdjacency}.
      */
-    private TIntArrayList[] getAdjacencyList() {
-        adjacencyListCacheLock.lock();
-        try {
-            if (adjacencyListCache == null) {
-                adjacencyListCache = new TIntArrayList[vertices.size()];
-                for (int v = 0; v < vertices.size(); v++) {
-                    Vertex<V> vertex = vertices.get(v);
-                    if (vertex != null) {
-                        adjacencyListCache[v] = new TIntArrayList(NEIGHBORS_CAPACITY);
-                    }
-                }
-                for (int e = 0; e < edges.size(); e++) {
-                    Edge<E> edge = edges.get(e);
-                    if (edge != null) {
-                        int v1 = edge.getV1();
-                        int v2 = edge.getV2();
-                        adjacencyListCache[v1].add(e);
-                        adjacencyListCache[v2].add(e);
-                    }
-                }
-            }
-            return adjacencyListCache;
-        } finally {
-            adjacencyListCacheLock.unlock();
+    private CsrAdjacency getAdjacency() {
+        CsrAdjacency adjacency = adjacencyCache;
+        if (adjacency == null) {
+            adjacency = new CsrAdjacency(vertices.size(), edges);
+            adjacencyCache = adjacency;
         }
+        return adjacency;
     }
 
     /**
      * Invalidate the adjacency list.
      */
     private void invalidateAdjacencyList() {
-        adjacencyListCache = null;
+        adjacencyCache = null;
     }
 
-    private void traverseVertex(int vToTraverse, boolean[] vEncountered, Deque<DirectedEdge> edgesToTraverse,
-                                TIntArrayList[] adjacencyList, TraversalType traversalType) {
-        if (vEncountered[vToTraverse]) {
-            return;
+    private static boolean isEncountered(long[] bitset, int i) {
+        return (bitset[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void setEncountered(long[] bitset, int i) {
+        bitset[i >>> 6] |= 1L << i;
+    }
+
+    /**
+     * Mark a vertex as encountered and add its adjacent edges to the edges to traverse, in reverse order for a depth
+     * first traversal as the last added edge is traversed first.
+     * @return the new end of the edges to traverse
+     */
+    private static int traverseVertex(int v, boolean[] encounteredVertices, long[] encounteredVertexBits, int[] edgesToTraverse,
+                                      int end, CsrAdjacency adjacency, TraversalType traversalType) {
+        if (encounteredVertices != null) {
+            if (encounteredVertices[v]) {
+                return end;
+            }
+            encounteredVertices[v] = true;
+        } else {
+            if (isEncountered(encounteredVertexBits, v)) {
+                return end;
+            }
+            setEncountered(encounteredVertexBits, v);
+        }
+        int first = adjacency.offsets[v];
+        int last = adjacency.offsets[v + 1];
+        int newEnd = end;
+        if (traversalType == TraversalType.DEPTH_FIRST) {
+            for (int i = last - 1; i >= first; i--) {
+                edgesToTraverse[newEnd++] = i;
+            }
+        } else {
+            for (int i = first; i < last; i++) {
+                edgesToTraverse[newEnd++] = i;
+            }
         }
-        vEncountered[vToTraverse] = true;
-        TIntArrayList adjacentEdges = adjacencyList[vToTraverse];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            // For depth-first traversal, we're going to poll the last element added in the deque. Hence, edges have to
-            // be added in reverse order, otherwise the depth-first traversal will be "on the right side" instead of
-            // "on the left side" of the tree. That is, it would always go deeper taking with last neighbour of visited vertex.
-            int iEdge = switch (traversalType) {
-                case DEPTH_FIRST -> adjacentEdges.size() - i - 1;
-                case BREADTH_FIRST -> i;
-            };
+        return newEnd;
+    }
 
-            int adjacentEdgeIndex = adjacentEdges.getQuick(iEdge);
-            boolean flippedEdge = edges.get(adjacentEdgeIndex).v1 != vToTraverse;
-            edgesToTraverse.add(new DirectedEdge(adjacentEdgeIndex, flippedEdge));
+    private static TraversalBuffers acquireTraversalBuffers() {
+        TraversalBuffers buffers = TRAVERSAL_BUFFERS.get();
+        if (buffers.inUse) {
+            // nested traversal from a traverser
+            buffers = new TraversalBuffers();
         }
+        buffers.inUse = true;
+        return buffers;
     }
 
     /**
-     * Record to store which edge has to be traversed and in which direction
-     * @param index index of the edge within the edges list
-     * @param flippedDirection if true, edge.getNode2() has already been visited, otherwise it's edge.getNode1()
+     * Traverse the graph, encountered vertices being either stored in the given boolean array or, if null, in the
+     * reusable buffers.
      */
-    private record DirectedEdge(int index, boolean flippedDirection) {
+    private boolean traverse(int v, TraversalType traversalType, Traverser traverser, boolean[] encounteredVertices,
+                             TraversalBuffers buffers) {
+        CsrAdjacency adjacency = getAdjacency();
+        buffers.ensureCapacity(vertices.size(), adjacency);
+        long[] encounteredEdges = buffers.encounteredEdges;
+        long[] encounteredVertexBits = buffers.encounteredVertices;
+        int[] edgesToTraverse = buffers.edgesToTraverse;
+        // as each vertex is traversed once, each adjacency entry is added at most once
+        int start = 0;
+        int end = traverseVertex(v, encounteredVertices, encounteredVertexBits, edgesToTraverse, 0, adjacency, traversalType);
+        boolean keepGoing = true;
+        while (start < end && keepGoing) {
+            int i = traversalType == TraversalType.DEPTH_FIRST ? edgesToTraverse[--end] : edgesToTraverse[start++];
+            int e = adjacency.edges[i];
+            if (!isEncountered(encounteredEdges, e)) {
+                setEncountered(encounteredEdges, e);
+                int vDest = adjacency.targets[i];
+                TraverseResult traverserResult = traverser.traverse(adjacency.sources[i], e, vDest);
+                switch (traverserResult) {
+                    case CONTINUE -> end = traverseVertex(vDest, encounteredVertices, encounteredVertexBits, edgesToTraverse, end, adjacency, traversalType);
+                    case TERMINATE_TRAVERSER -> keepGoing = false; // the whole traversing needs to stop
+                    case TERMINATE_PATH -> {
+                        // Path ends on edge e before reaching vDest, continuing with next edge
+                    }
+                }
+            }
+        }
+        // encountered edges are not shared between 2 traversals
+        buffers.clearEdges();
+        return keepGoing;
     }
 
     @Override
@@ -547,64 +684,50 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
             throw new PowsyblException("Encountered array is too small");
         }
 
-        boolean[] encounteredEdges = new boolean[edges.size()];
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        boolean keepGoing = true;
-
-        Deque<DirectedEdge> edgesToTraverse = new ArrayDeque<>();
-        traverseVertex(v, encounteredVertices, edgesToTraverse, adjacencyList, traversalType);
-        while (!edgesToTraverse.isEmpty() && keepGoing) {
-            DirectedEdge directedEdge = switch (traversalType) {
-                case DEPTH_FIRST -> edgesToTraverse.pollLast();
-                case BREADTH_FIRST -> edgesToTraverse.pollFirst();
-            };
-
-            if (!encounteredEdges[directedEdge.index]) {
-                encounteredEdges[directedEdge.index] = true;
-
-                Edge<E> edge = edges.get(directedEdge.index);
-                int vOrigin = directedEdge.flippedDirection ? edge.getV2() : edge.getV1();
-                int vDest = directedEdge.flippedDirection ? edge.getV1() : edge.getV2();
-
-                TraverseResult traverserResult = traverser.traverse(vOrigin, directedEdge.index, vDest);
-                switch (traverserResult) {
-                    case CONTINUE -> traverseVertex(vDest, encounteredVertices, edgesToTraverse, adjacencyList, traversalType);
-                    case TERMINATE_TRAVERSER -> keepGoing = false; // the whole traversing needs to stop
-                    case TERMINATE_PATH -> {
-                        // Path ends on edge e before reaching vDest, continuing with next edge in the deque
-                    }
-                }
-            }
+        TraversalBuffers buffers = acquireTraversalBuffers();
+        try {
+            return traverse(v, traversalType, traverser, encounteredVertices, buffers);
+        } finally {
+            buffers.release();
         }
-        return keepGoing;
     }
 
     @Override
     public boolean traverse(int v, TraversalType traversalType, Traverser traverser) {
-        boolean[] encountered = new boolean[vertices.size()];
-        Arrays.fill(encountered, false);
-        return traverse(v, traversalType, traverser, encountered);
+        checkVertex(v);
+        Objects.requireNonNull(traverser);
+        TraversalBuffers buffers = acquireTraversalBuffers();
+        try {
+            return traverse(v, traversalType, traverser, null, buffers);
+        } finally {
+            buffers.release();
+        }
     }
 
     @Override
     public boolean traverse(int[] startingVertices, TraversalType traversalType, Traverser traverser) {
-        boolean[] encountered = new boolean[vertices.size()];
-        Arrays.fill(encountered, false);
-        for (int startingVertex : startingVertices) {
-            if (!encountered[startingVertex] && !traverse(startingVertex, traversalType, traverser, encountered)) {
-                return false;
+        Objects.requireNonNull(traverser);
+        TraversalBuffers buffers = acquireTraversalBuffers();
+        try {
+            buffers.ensureCapacity(vertices.size(), getAdjacency());
+            for (int startingVertex : startingVertices) {
+                checkVertex(startingVertex);
+                if (!isEncountered(buffers.encounteredVertices, startingVertex)
+                        && !traverse(startingVertex, traversalType, traverser, null, buffers)) {
+                    return false;
+                }
             }
+            return true;
+        } finally {
+            buffers.release();
         }
-        return true;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * This method allocates a {@link List} of {@link TIntArrayList} to store the paths, a {@link BitSet} to store the encountered vertices
-     * and calls {@link #findAllPaths(int, Predicate, Predicate, TIntArrayList, BitSet, List)}.
-     * </p>
      * In the output, the paths are sorted by size considering the number of switches in each path.
+     * </p>
      */
     @Override
     public List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled) {
@@ -614,96 +737,116 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     /**
      * {@inheritDoc}
      * <p>
-     * This method allocates a {@link List} of {@link TIntArrayList} to store the paths, a {@link BitSet} to store the encountered vertices
-     * and calls {@link #findAllPaths(int, Predicate, Predicate, TIntArrayList, BitSet, List)}.
      * In the output, the paths are sorted by using the given comparator.
      * </p>
      */
+    @Override
     public List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled, Comparator<TIntArrayList> comparator) {
+        return findAllPaths(from, pathComplete, pathCancelled, comparator, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled, Comparator<TIntArrayList> comparator,
+                                            int maxPathCount) {
         Objects.requireNonNull(pathComplete);
-        List<TIntArrayList> paths = new ArrayList<>();
-        BitSet encountered = new BitSet(vertices.size());
-        TIntArrayList path = new TIntArrayList(1);
-        findAllPaths(from, pathComplete, pathCancelled, path, encountered, paths);
+        Objects.requireNonNull(comparator);
+        checkMaxPathCount(maxPathCount);
+        checkVertex(from);
+        List<TIntArrayList> paths = findPaths(from, pathComplete, pathCancelled, maxPathCount, getAdjacency());
 
         // sort paths by size according to the given comparator
         paths.sort(comparator);
         return paths;
     }
 
-    /**
-     * This method is called by {@link #findAllPaths(int, Predicate, Predicate, TIntArrayList, BitSet, List)} each time a vertex is traversed.
-     * The path is added to the paths list if it's complete, otherwise this method calls the {@link #findAllPaths(int, Predicate, Predicate, TIntArrayList, BitSet, List)}
-     * to continue the recursion.
-     *
-     * @param e the index of the current edge.
-     * @param v1or2 the index of the current vertex.
-     * @param pathComplete a function that returns true when the target vertex is found.
-     * @param pathCancelled pathCanceled a function that returns true when the edge must not be traversed.
-     * @param path a list that contains the traversed edges.
-     * @param encountered a BitSet that contains the traversed vertex.
-     * @param paths a list that contains the complete paths.
-     * @return true if the path is complete, false otherwise.
-     */
-    private boolean findAllPaths(int e, int v1or2, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
-                                 TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
-        if (encountered.get(v1or2)) {
-            return false;
-        }
-        Vertex<V> obj1or2 = vertices.get(v1or2);
-        path.add(e);
-        if (Boolean.TRUE.equals(pathComplete.test(obj1or2.getObject()))) {
-            paths.add(path);
-            return true;
-        } else {
-            findAllPaths(v1or2, pathComplete, pathCancelled, path, encountered, paths);
-            return false;
+    @Override
+    public List<List<TIntArrayList>> findAllPaths(int[] from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
+                                                  Comparator<TIntArrayList> comparator, int maxPathCount) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(pathComplete);
+        Objects.requireNonNull(comparator);
+        checkMaxPathCount(maxPathCount);
+        for (int v : from) {
+            checkVertex(v);
+        }
+        // build the adjacency once before sharing it between the searches
+        CsrAdjacency adjacency = getAdjacency();
+        IntStream starts = Arrays.stream(from);
+        if (from.length > 1) {
+            starts = starts.parallel();
+        }
+        return starts.mapToObj(v -> {
+            List<TIntArrayList> paths = findPaths(v, pathComplete, pathCancelled, maxPathCount, adjacency);
+            paths.sort(comparator);
+            return paths;
+        }).toList();
+    }
+
+    private static void checkMaxPathCount(int maxPathCount) {
+        if (maxPathCount < 1) {
+            throw new PowsyblException("Max path count should be positive");
         }
     }
 
     /**
-     * This method is called by {@link #findAllPaths(int, Predicate, Predicate)} or {@link #findAllPaths(int, int, Predicate, Predicate, TIntArrayList, BitSet, List)}.
-     * For each adjacent edges for which the pathCanceled returns {@literal false}, traverse the other vertex calling {@link #findAllPaths(int, int, Predicate, Predicate, TIntArrayList, BitSet, List)}.
+     * Iterative depth first search of the paths starting from a vertex, a vertex being traversed at most once in a
+     * path. The current path is extended edge by edge and backtracked once all the edges of its last vertex have been
+     * explored, so that the paths are found in the same order as a recursive search. Only the given adjacency and
+     * local state are used so that several searches can run concurrently.
      *
-     * @param v the current vertex
+     * @param from the vertex index where the search starts.
      * @param pathComplete a function that returns true when the target vertex is found.
      * @param pathCancelled a function that returns true when the edge must not be traversed.
-     * @param path a list that contains the traversed edges.
-     * @param encountered a BitSet that contains the traversed vertex.
-     * @param paths a list that contains the complete paths.
+     * @param maxPathCount the search stops once this number of paths has been found.
+     * @param adjacency the adjacency of the graph.
+     * @return the list of the paths, in the order they have been found.
      */
-    private void findAllPaths(int v, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
-                              TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
-        checkVertex(v);
-        encountered.set(v, true);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if (pathCancelled != null && pathCancelled.test(edge.getObject())) {
+    private List<TIntArrayList> findPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
+                                          int maxPathCount, CsrAdjacency adjacency) {
+        List<TIntArrayList> paths = new ArrayList<>();
+        BitSet onPath = new BitSet(vertices.size());
+        // edges of the current path
+        TIntArrayList path = new TIntArrayList();
+        // vertices of the current path, and for each of them the index in the adjacency of the next edge to explore
+        TIntArrayList pathVertices = new TIntArrayList();
+        TIntArrayList nextIndexes = new TIntArrayList();
+        onPath.set(from);
+        pathVertices.add(from);
+        nextIndexes.add(adjacency.offsets[from]);
+        while (!pathVertices.isEmpty() && paths.size() < maxPathCount) {
+            int depth = pathVertices.size() - 1;
+            int v = pathVertices.getQuick(depth);
+            int i = nextIndexes.getQuick(depth);
+            if (i == adjacency.offsets[v + 1]) {
+                // all the edges of the last vertex have been explored, backtrack
+                onPath.clear(v);
+                pathVertices.removeAt(depth);
+                nextIndexes.removeAt(depth);
+                if (depth > 0) {
+                    path.removeAt(depth - 1);
+                }
                 continue;
             }
-            int v1 = edge.getV1();
-            int v2 = edge.getV2();
-            TIntArrayList path2;
-            BitSet encountered2;
-            if (i < adjacentEdges.size() - 1) {
-                path2 = new TIntArrayList(path);
-                encountered2 = new BitSet(vertices.size());
-                encountered2.or(encountered);
-            } else {
-                path2 = path;
-                encountered2 = encountered;
+            nextIndexes.setQuick(depth, i + 1);
+            int e = adjacency.edges[i];
+            if (pathCancelled != null && pathCancelled.test(edges.get(e).getObject())) {
+                continue;
+            }
+            int vDest = adjacency.targets[i];
+            if (onPath.get(vDest)) {
+                continue;
             }
-            if (v == v2) {
-                findAllPaths(e, v1, pathComplete, pathCancelled, path2, encountered2, paths);
-            } else if (v == v1) {
-                findAllPaths(e, v2, pathComplete, pathCancelled, path2, encountered2, paths);
+            path.add(e);
+            if (pathComplete.test(vertices.get(vDest).getObject())) {
+                paths.add(new TIntArrayList(path));
+                path.removeAt(path.size() - 1);
             } else {
-                throw new IllegalStateException();
+                onPath.set(vDest);
+                pathVertices.add(vDest);
+                nextIndexes.add(adjacency.offsets[vDest]);
             }
         }
+        return paths;
     }
 
     @Override
@@ -795,17 +938,6 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         }
     }
 
-    private void removeIsolatedVertices(int v, TIntArrayList[] adjacencyList, boolean notify) {
-        Vertex<V> vertex = vertices.get(v);
-        if (vertex != null && vertex.getObject() == null) {
-            TIntArrayList adjacentEdges = adjacencyList[v];
-            if (adjacentEdges.isEmpty()) {
-                removeVertexInternal(v, notify);
-                adjacencyList[v] = null;
-            }
-        }
-    }
-
     @Override
     public void removeIsolatedVertices() {
         removeIsolatedVertices(true);
@@ -813,9 +945,17 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     @Override
     public void removeIsolatedVertices(boolean notify) {
-        TIntArrayList[] adjacencyList = getAdjacencyList();
+        CsrAdjacency adjacency = getAdjacency();
+        boolean removed = false;
         for (int v = 0; v < vertices.size(); v++) {
-            removeIsolatedVertices(v, adjacencyList, notify);
+            Vertex<V> vertex = vertices.get(v);
+            if (vertex != null && vertex.getObject() == null && adjacency.getDegree(v) == 0) {
+                removeVertexInternal(v, notify);
+                removed = true;
+            }
+        }
+        if (removed) {
+            invalidateAdjacencyList();
         }
     }
 }
@@ -19,7 +19,9 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -332,6 +334,47 @@ class UndirectedGraphImplTest {
         assertArrayEquals(new int[] {1, 4, 5}, paths.get(2).toArray());
     }
 
+    @Test
+    void testFindAllPathsWithLimitAndMultipleSources() {
+        UndirectedGraphImpl<Object, Object> grid = UndirectedGraphTraversalBenchmark.createGrid(3);
+        grid.setVertexObject(8, "end");
+        Predicate<Object> isEnd = "end"::equals;
+        Comparator<TIntArrayList> bySize = Comparator.comparing(TIntArrayList::size);
+
+        // self avoiding paths between opposite corners of a 3x3 grid
+        List<TIntArrayList> allPaths = grid.findAllPaths(0, isEnd, null);
+        assertEquals(12, allPaths.size());
+        assertEquals(4, allPaths.get(0).size());
+        assertEquals(8, allPaths.get(11).size());
+
+        List<TIntArrayList> somePaths = grid.findAllPaths(0, isEnd, null, bySize, 5);
+        assertEquals(5, somePaths.size());
+        assertTrue(allPaths.containsAll(somePaths));
+
+        // edges leaving the start vertex to the right are cancelled
+        assertEquals(6, grid.findAllPaths(0, isEnd, null, bySize, Integer.MAX_VALUE).stream().filter(p -> p.get(0) == 0).count());
+        grid.removeEdge(0);
+        assertEquals(0, grid.addEdge(0, 1, "cancelled"));
+
+        List<List<TIntArrayList>> pathsBySource = grid.findAllPaths(new int[] {0, 4, 2}, isEnd, "cancelled"::equals, bySize, Integer.MAX_VALUE);
+        assertEquals(3, pathsBySource.size());
+        for (int i = 0; i < 3; i++) {
+            int v = new int[] {0, 4, 2}[i];
+            assertEquals(grid.findAllPaths(v, isEnd, "cancelled"::equals), pathsBySource.get(i));
+        }
+        assertEquals(6, pathsBySource.get(0).size());
+
+        // the limit applies to each start vertex
+        List<List<TIntArrayList>> firstPathsBySource = grid.findAllPaths(new int[] {0, 4, 2}, isEnd, "cancelled"::equals, bySize, 1);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, firstPathsBySource.get(i).size());
+            assertTrue(pathsBySource.get(i).containsAll(firstPathsBySource.get(i)));
+        }
+
+        assertThrows(PowsyblException.class, () -> grid.findAllPaths(0, isEnd, null, bySize, 0));
+        assertThrows(PowsyblException.class, () -> grid.findAllPaths(new int[] {0, 9}, isEnd, null, bySize, 1));
+    }
+
     /**
      * <pre>
      *           0
@@ -663,6 +706,45 @@ class UndirectedGraphImplTest {
         assertEquals(2, graph.getVertexCount());
     }
 
+    @Test
+    void testNestedAndSuccessiveTraversals() {
+        UndirectedGraphImpl<Object, Object> grid = UndirectedGraphTraversalBenchmark.createGrid(10);
+        int[] count = new int[2];
+        // a traversal started from a traverser does not share the encountered vertices and edges of the outer one
+        grid.traverse(0, TraversalType.DEPTH_FIRST, (v1, e, v2) -> {
+            if (count[0]++ == 0) {
+                grid.traverse(99, TraversalType.BREADTH_FIRST, (v3, e2, v4) -> {
+                    count[1]++;
+                    return TraverseResult.CONTINUE;
+                });
+            }
+            return TraverseResult.CONTINUE;
+        });
+        assertEquals(180, count[0]);
+        assertEquals(180, count[1]);
+
+        // buffers are cleared after a traversal, even when it has been stopped
+        count[0] = 0;
+        grid.traverse(0, TraversalType.BREADTH_FIRST, (v1, e, v2) -> count[0]++ < 10 ? TraverseResult.CONTINUE : TraverseResult.TERMINATE_TRAVERSER);
+        assertEquals(11, count[0]);
+        count[0] = 0;
+        grid.traverse(new int[] {0, 55}, TraversalType.BREADTH_FIRST, (v1, e, v2) -> {
+            count[0]++;
+            return TraverseResult.CONTINUE;
+        });
+        assertEquals(180, count[0]);
+
+        // adjacency is updated after a modification
+        grid.removeEdge(0);
+        grid.removeEdge(1);
+        count[0] = 0;
+        grid.traverse(0, TraversalType.DEPTH_FIRST, (v1, e, v2) -> {
+            count[0]++;
+            return TraverseResult.CONTINUE;
+        });
+        assertEquals(0, count[0]);
+    }
+
     private record GraphPath(int v1, int e, int v2) {
     }
 }
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full traversals of a large grid graph, comparing the compressed sparse row traversal of {@link UndirectedGraphImpl}
+ * with the previous implementation based on an array of adjacency lists, boolean arrays and a deque of edges to
+ * traverse, copied here as {@code legacy}. Not run by unit tests, launch the {@link #main} method to run it.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UndirectedGraphTraversalBenchmark {
+
+    @Param({"300"})
+    private int gridSize;
+
+    @Param({"DEPTH_FIRST", "BREADTH_FIRST"})
+    private TraversalType traversalType;
+
+    private UndirectedGraphImpl<Object, Object> graph;
+
+    private TIntArrayList[] legacyAdjacency;
+
+    private int traversedEdgeCount;
+
+    private record DirectedEdge(int index, int v1or2) {
+    }
+
+    static UndirectedGraphImpl<Object, Object> createGrid(int gridSize) {
+        UndirectedGraphImpl<Object, Object> graph = new UndirectedGraphImpl<>(gridSize * gridSize);
+        for (int v = 0; v < gridSize * gridSize; v++) {
+            graph.addVertex(false);
+        }
+        for (int i = 0; i < gridSize; i++) {
+            for (int j = 0; j < gridSize; j++) {
+                int v = i * gridSize + j;
+                if (j + 1 < gridSize) {
+                    graph.addEdge(v, v + 1, null, false);
+                }
+                if (i + 1 < gridSize) {
+                    graph.addEdge(v, v + gridSize, null, false);
+                }
+            }
+        }
+        return graph;
+    }
+
+    @Setup
+    public void setUp() {
+        graph = createGrid(gridSize);
+        legacyAdjacency = new TIntArrayList[graph.getVertexCapacity()];
+        for (int v = 0; v < legacyAdjacency.length; v++) {
+            legacyAdjacency[v] = new TIntArrayList(4);
+        }
+        for (int e : graph.getEdges()) {
+            legacyAdjacency[graph.getEdgeVertex1(e)].add(e);
+            legacyAdjacency[graph.getEdgeVertex2(e)].add(e);
+        }
+    }
+
+    private TraverseResult countEdge(int v1, int e, int v2) {
+        traversedEdgeCount++;
+        return TraverseResult.CONTINUE;
+    }
+
+    @Benchmark
+    public int csrTraverse() {
+        traversedEdgeCount = 0;
+        graph.traverse(0, traversalType, this::countEdge);
+        return traversedEdgeCount;
+    }
+
+    @Benchmark
+    public int csrTraverseWithEncounteredArray() {
+        traversedEdgeCount = 0;
+        graph.traverse(0, traversalType, this::countEdge, new boolean[graph.getVertexCapacity()]);
+        return traversedEdgeCount;
+    }
+
+    @Benchmark
+    public int legacyTraverse() {
+        traversedEdgeCount = 0;
+        boolean[] encounteredVertices = new boolean[graph.getVertexCapacity()];
+        boolean[] encounteredEdges = new boolean[graph.getEdgeCount()];
+        Deque<DirectedEdge> edgesToTraverse = new ArrayDeque<>();
+        legacyTraverseVertex(0, encounteredVertices, edgesToTraverse);
+        while (!edgesToTraverse.isEmpty()) {
+            DirectedEdge directedEdge = traversalType == TraversalType.DEPTH_FIRST ? edgesToTraverse.pollLast() : edgesToTraverse.pollFirst();
+            int e = directedEdge.index();
+            if (!encounteredEdges[e]) {
+                encounteredEdges[e] = true;
+                int vOrigin = directedEdge.v1or2();
+                int v1 = graph.getEdgeVertex1(e);
+                int vDest = v1 == vOrigin ? graph.getEdgeVertex2(e) : v1;
+                if (countEdge(vOrigin, e, vDest) == TraverseResult.CONTINUE) {
+                    legacyTraverseVertex(vDest, encounteredVertices, edgesToTraverse);
+                }
+            }
+        }
+        return traversedEdgeCount;
+    }
+
+    private void legacyTraverseVertex(int v, boolean[] encounteredVertices, Deque<DirectedEdge> edgesToTraverse) {
+        if (encounteredVertices[v]) {
+            return;
+        }
+        encounteredVertices[v] = true;
+        TIntArrayList adjacentEdges = legacyAdjacency[v];
+        if (traversalType == TraversalType.DEPTH_FIRST) {
+            for (int i = adjacentEdges.size() - 1; i >= 0; i--) {
+                edgesToTraverse.add(new DirectedEdge(adjacentEdges.getQuick(i), v));
+            }
+        } else {
+            for (int i = 0; i < adjacentEdges.size(); i++) {
+                edgesToTraverse.add(new DirectedEdge(adjacentEdges.getQuick(i), v));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UndirectedGraphTraversalBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}
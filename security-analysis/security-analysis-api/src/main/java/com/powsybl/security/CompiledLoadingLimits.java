@@ -0,0 +1,273 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.iidm.network.limitmodification.result.AbstractDistinctLimitsContainer;
+import com.powsybl.iidm.network.limitmodification.result.LimitsContainer;
+import com.powsybl.iidm.network.util.LimitViolationUtils;
+import com.powsybl.security.detectors.LoadingLimitType;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Loading limits of all the branches and three windings transformers of a network, with their reductions already
+ * applied, flattened in arrays indexed by monitored element side.
+ * <p>
+ * Limits are compiled once, with a {@link LimitsComputer} (for instance a
+ * {@link com.powsybl.security.limitreduction.DefaultLimitReductionsApplier}), and can then be used to check the values
+ * of many network states without navigating the network limits again: only actual violations lead to allocations.
+ * Detected violations are the same as the ones of {@link LimitViolationDetection}. As limit reductions may depend on
+ * the contingency, limits have to be compiled again for each set of contingencies sharing the same reductions.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CompiledLoadingLimits {
+
+    private final LimitType limitType;
+
+    private final LimitViolationType limitViolationType;
+
+    private final int size;
+
+    private final Terminal[] terminals;
+
+    private final String[] ids;
+
+    private final String[] names;
+
+    private final ThreeSides[] sides;
+
+    // reduced permanent limit, used for the detection, and original one with its reduction, used for the reporting
+    private final double[] permanentLimits;
+
+    private final double[] originalPermanentLimits;
+
+    private final double[] permanentLimitReductions;
+
+    // temporary limits of element side k are at indexes temporaryLimitStarts[k] to temporaryLimitStarts[k + 1] excluded
+    private final int[] temporaryLimitStarts;
+
+    private final double[] temporaryLimits;
+
+    private final double[] originalTemporaryLimits;
+
+    private final double[] temporaryLimitReductions;
+
+    private final int[] acceptableDurations;
+
+    private final String[] temporaryLimitNames;
+
+    // limit and reduction reported when the value is above the last temporary limit
+    private final double[] lastOverloadLimits;
+
+    private final double[] lastOverloadReductions;
+
+    private CompiledLoadingLimits(LimitType limitType, LimitViolationType limitViolationType, List<Entry> entries) {
+        this.limitType = limitType;
+        this.limitViolationType = limitViolationType;
+        size = entries.size();
+        terminals = new Terminal[size];
+        ids = new String[size];
+        names = new String[size];
+        sides = new ThreeSides[size];
+        permanentLimits = new double[size];
+        originalPermanentLimits = new double[size];
+        permanentLimitReductions = new double[size];
+        temporaryLimitStarts = new int[size + 1];
+        lastOverloadLimits = new double[size];
+        lastOverloadReductions = new double[size];
+        int temporaryLimitCount = entries.stream().mapToInt(e -> e.limits.getLimits().getTemporaryLimits().size()).sum();
+        temporaryLimits = new double[temporaryLimitCount];
+        originalTemporaryLimits = new double[temporaryLimitCount];
+        temporaryLimitReductions = new double[temporaryLimitCount];
+        acceptableDurations = new int[temporaryLimitCount];
+        temporaryLimitNames = new String[temporaryLimitCount];
+        int t = 0;
+        for (int k = 0; k < size; k++) {
+            Entry entry = entries.get(k);
+            LimitsContainer<LoadingLimits> container = entry.limits;
+            AbstractDistinctLimitsContainer<?, ?> distinctContainer = container.isDistinct() ? (AbstractDistinctLimitsContainer<?, ?>) container : null;
+            terminals[k] = entry.terminal;
+            ids[k] = entry.identifiable.getId();
+            names[k] = entry.identifiable.getOptionalName().orElse(null);
+            sides[k] = entry.side;
+            permanentLimits[k] = container.getLimits().getPermanentLimit();
+            originalPermanentLimits[k] = container.getOriginalLimits().getPermanentLimit();
+            permanentLimitReductions[k] = distinctContainer != null ? distinctContainer.getPermanentLimitReduction() : 1;
+            temporaryLimitStarts[k] = t;
+            Collection<LoadingLimits.TemporaryLimit> entryTemporaryLimits = container.getLimits().getTemporaryLimits();
+            for (LoadingLimits.TemporaryLimit tl : entryTemporaryLimits) {
+                temporaryLimits[t] = tl.getValue();
+                originalTemporaryLimits[t] = distinctContainer != null ? distinctContainer.getOriginalTemporaryLimit(tl.getAcceptableDuration()) : tl.getValue();
+                temporaryLimitReductions[t] = distinctContainer != null ? distinctContainer.getTemporaryLimitReduction(tl.getAcceptableDuration()) : 1;
+                acceptableDurations[t] = tl.getAcceptableDuration();
+                temporaryLimitNames[t] = tl.getName();
+                t++;
+            }
+            if (!entryTemporaryLimits.isEmpty()) {
+                // same reporting as LimitViolationUtils: with a single temporary limit and distinct limits,
+                // the original permanent limit is reported
+                boolean reportPermanent = distinctContainer != null && entryTemporaryLimits.size() == 1;
+                lastOverloadLimits[k] = reportPermanent ? originalPermanentLimits[k] : originalTemporaryLimits[t - 1];
+                lastOverloadReductions[k] = reportPermanent ? permanentLimitReductions[k] : temporaryLimitReductions[t - 1];
+            }
+        }
+        temporaryLimitStarts[size] = t;
+    }
+
+    private record Entry(Identifiable<?> identifiable, ThreeSides side, Terminal terminal, LimitsContainer<LoadingLimits> limits) {
+    }
+
+    /**
+     * Compile the limits of the given type of all the branches and three windings transformers of the network.
+     *
+     * @param network        The network whose limits are compiled.
+     * @param limitType      The type of the limits to compile.
+     * @param limitsComputer The computer of the limit reductions to apply.
+     */
+    public static CompiledLoadingLimits compile(Network network, LimitType limitType,
+                                                LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(limitType);
+        Objects.requireNonNull(limitsComputer);
+        LimitViolationType limitViolationType = LimitViolationDetection.toLimitViolationType(limitType);
+        List<Entry> entries = new ArrayList<>();
+        network.getBranchStream().forEach(branch -> {
+            for (TwoSides side : TwoSides.values()) {
+                addEntry(entries, branch, side.toThreeSides(), branch.getTerminal(side), limitType, limitsComputer);
+            }
+        });
+        network.getThreeWindingsTransformerStream().forEach(transformer -> {
+            for (ThreeSides side : ThreeSides.values()) {
+                addEntry(entries, transformer, side, transformer.getTerminal(side), limitType, limitsComputer);
+            }
+        });
+        return new CompiledLoadingLimits(limitType, limitViolationType, entries);
+    }
+
+    private static void addEntry(List<Entry> entries, Identifiable<?> identifiable, ThreeSides side, Terminal terminal,
+                                 LimitType limitType, LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer) {
+        LimitViolationUtils.getLimits(identifiable, side, limitType, limitsComputer)
+                .ifPresent(limits -> entries.add(new Entry(identifiable, side, terminal, limits)));
+    }
+
+    public LimitType getLimitType() {
+        return limitType;
+    }
+
+    /**
+     * Get the number of monitored element sides, i.e. the size of the value arrays.
+     */
+    public int size() {
+        return size;
+    }
+
+    public String getId(int index) {
+        return ids[index];
+    }
+
+    public ThreeSides getSide(int index) {
+        return sides[index];
+    }
+
+    /**
+     * Fill the array with the values of the monitored element sides, read from the current network state.
+     */
+    public void readValues(double[] values) {
+        checkValuesSize(values);
+        for (int k = 0; k < size; k++) {
+            values[k] = LimitViolationUtils.getValueForLimit(terminals[k], limitType);
+        }
+    }
+
+    /**
+     * Fill the array with the currents of the monitored element sides, read from the current network state after
+     * a DC load flow: undefined currents are approximated from the active power using the DC power factor.
+     */
+    public void readValuesDc(double dcPowerFactor, double[] values) {
+        if (limitType != LimitType.CURRENT) {
+            throw new IllegalStateException("DC approximation is only available for current limits");
+        }
+        checkValuesSize(values);
+        for (int k = 0; k < size; k++) {
+            values[k] = LimitViolationDetection.getTerminalIOrAnApproximation(terminals[k], dcPowerFactor);
+        }
+    }
+
+    private void checkValuesSize(double[] values) {
+        if (values.length != size) {
+            throw new IllegalArgumentException("Values array size " + values.length + " is different from monitored element sides count " + size);
+        }
+    }
+
+    /**
+     * Check the values of the current network state and feed the consumer with the limit violations.
+     */
+    public void check(Set<LoadingLimitType> loadingLimitTypes, Consumer<LimitViolation> consumer) {
+        double[] values = new double[size];
+        readValues(values);
+        check(values, loadingLimitTypes, consumer);
+    }
+
+    /**
+     * Check the values of the monitored element sides and feed the consumer with the limit violations.
+     *
+     * @param values            The values, indexed as the monitored element sides.
+     * @param loadingLimitTypes The loading limit types to consider.
+     * @param consumer          Will be fed with possibly created limit violations.
+     */
+    public void check(double[] values, Set<LoadingLimitType> loadingLimitTypes, Consumer<LimitViolation> consumer) {
+        checkValuesSize(values);
+        Objects.requireNonNull(consumer);
+        boolean checkTemporary = loadingLimitTypes.contains(LoadingLimitType.TATL);
+        boolean checkPermanent = loadingLimitTypes.contains(LoadingLimitType.PATL);
+        for (int k = 0; k < size; k++) {
+            double value = values[k];
+            if (Double.isNaN(value) || Double.isNaN(permanentLimits[k])) {
+                continue;
+            }
+            boolean overloadOnTemporary = checkTemporary && checkTemporaryLimits(k, value, consumer);
+            if (!overloadOnTemporary && checkPermanent && value >= permanentLimits[k]) {
+                consumer.accept(new LimitViolation(ids[k], names[k], limitViolationType, LimitViolationUtils.PERMANENT_LIMIT_NAME,
+                        Integer.MAX_VALUE, originalPermanentLimits[k], permanentLimitReductions[k], value, sides[k]));
+            }
+        }
+    }
+
+    private boolean checkTemporaryLimits(int k, double value, Consumer<LimitViolation> consumer) {
+        int start = temporaryLimitStarts[k];
+        int end = temporaryLimitStarts[k + 1];
+        if (start == end) {
+            return false;
+        }
+        double previousLimit = permanentLimits[k];
+        for (int t = start; t < end; t++) {
+            if (value >= previousLimit && value < temporaryLimits[t]) {
+                boolean afterPermanent = t == start;
+                consumer.accept(new LimitViolation(ids[k], names[k], limitViolationType,
+                        afterPermanent ? LimitViolationUtils.PERMANENT_LIMIT_NAME : temporaryLimitNames[t - 1],
+                        acceptableDurations[t],
+                        afterPermanent ? originalPermanentLimits[k] : originalTemporaryLimits[t - 1],
+                        afterPermanent ? permanentLimitReductions[k] : temporaryLimitReductions[t - 1],
+                        value, sides[k]));
+                return true;
+            }
+            previousLimit = temporaryLimits[t];
+        }
+        int last = end - 1;
+        if (value < temporaryLimits[last]) {
+            return false;
+        }
+        consumer.accept(new LimitViolation(ids[k], names[k], limitViolationType, temporaryLimitNames[last],
+                acceptableDurations[last], lastOverloadLimits[k], lastOverloadReductions[k], value, sides[k]));
+        return true;
+    }
+}
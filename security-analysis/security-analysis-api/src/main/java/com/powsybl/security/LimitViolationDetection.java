@@ -51,6 +51,24 @@ public final class LimitViolationDetection {
         network.getVoltageAngleLimitsStream().forEach(valOk -> checkVoltageAngle(valOk, consumer));
     }
 
+    /**
+     * Same as {@link #checkAll(Network, Set, LimitsComputer, Consumer)}, but loading limits are checked
+     * using limits compiled beforehand, for instance once for all the contingencies of an analysis.
+     *
+     * @param network           The network on which physical values must be checked.
+     * @param currentLimitTypes The current limit type to consider.
+     * @param compiledLimits    The compiled loading limits of the network, with the limit reductions to apply.
+     * @param consumer          Will be fed with possibly created limit violations.
+     */
+    public static void checkAll(Network network, Set<LoadingLimitType> currentLimitTypes,
+                                CompiledLoadingLimits compiledLimits, Consumer<LimitViolation> consumer) {
+        compiledLimits.check(currentLimitTypes, consumer);
+        network.getVoltageLevelStream()
+                .flatMap(vl -> vl.getBusView().getBusStream())
+                .forEach(b -> checkVoltage(b, consumer));
+        network.getVoltageAngleLimitsStream().forEach(valOk -> checkVoltageAngle(valOk, consumer));
+    }
+
     /**
      * Checks whether the current and voltage values on all equipments
      * of the specified {@link Network} should be considered as {@link LimitViolation}s.
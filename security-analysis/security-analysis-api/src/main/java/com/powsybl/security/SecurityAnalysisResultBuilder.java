@@ -23,6 +23,12 @@ import java.util.*;
  * <p>
  * Encapsulates filtering of limit violations with a provided {@link LimitViolationFilter},
  * as well as notifications to {@link SecurityAnalysisInterceptor}s.
+ * <p>
+ * If a {@link SecurityAnalysisResultSink} is provided, post-contingency results are written to it as soon as they are
+ * completed instead of being kept in memory, and the built result does not contain any post-contingency result. In that
+ * case, interceptors still receive each post-contingency result with
+ * {@link SecurityAnalysisInterceptor#onPostContingencyResult}, but the result they receive with
+ * {@link SecurityAnalysisInterceptor#onSecurityAnalysisResult} has no post-contingency result.
  *
  * @author Sylvain Leclerc {@literal <sylvain.leclerc at rte-france.com>}
  */
@@ -31,6 +37,8 @@ public class SecurityAnalysisResultBuilder {
     private final LimitViolationFilter filter;
     private final SecurityAnalysisResultContext context;
     private final List<SecurityAnalysisInterceptor> interceptors;
+    private final SecurityAnalysisResultSink sink;
+    private final Object sinkLock = new Object();
 
     // Below are volatile objects used for building the actual complete result
     private PreContingencyResult preContingencyResult;
@@ -39,9 +47,15 @@ public class SecurityAnalysisResultBuilder {
 
     public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context,
                                          Collection<SecurityAnalysisInterceptor> interceptors) {
+        this(filter, context, interceptors, null);
+    }
+
+    public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context,
+                                         Collection<SecurityAnalysisInterceptor> interceptors, SecurityAnalysisResultSink sink) {
         this.filter = Objects.requireNonNull(filter);
         this.context = Objects.requireNonNull(context);
         this.interceptors = ImmutableList.copyOf(interceptors);
+        this.sink = sink;
         this.preContingencyResult = new PreContingencyResult();
     }
 
@@ -50,7 +64,14 @@ public class SecurityAnalysisResultBuilder {
     }
 
     private void addPostContingencyResult(PostContingencyResult result) {
-        postContingencyResults.add(Objects.requireNonNull(result));
+        Objects.requireNonNull(result);
+        if (sink != null) {
+            synchronized (sinkLock) {
+                sink.writePostContingencyResult(result);
+            }
+        } else {
+            postContingencyResults.add(result);
+        }
     }
 
     /**
@@ -126,6 +147,11 @@ public class SecurityAnalysisResultBuilder {
         SecurityAnalysisResult res = new SecurityAnalysisResult(preContingencyResult, postContingencyResults, operatorStrategyResults);
         res.setNetworkMetadata(new NetworkMetadata(context.getNetwork()));
         interceptors.forEach(i -> i.onSecurityAnalysisResult(res, context));
+        if (sink != null) {
+            synchronized (sinkLock) {
+                sink.end(res);
+            }
+        }
 
         return res;
     }
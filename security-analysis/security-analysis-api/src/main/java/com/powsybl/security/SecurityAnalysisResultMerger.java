@@ -8,9 +8,11 @@
 package com.powsybl.security;
 
 import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * @author Yichen Tang {@literal <yichen.tang at rte-france.com>}
@@ -21,18 +23,71 @@ public final class SecurityAnalysisResultMerger {
     public static final SecurityAnalysisResult FAILED_SECURITY_ANALYSIS_RESULT = new SecurityAnalysisResult(FAILED_N_STATE_RESULT,
             LoadFlowResult.ComponentResult.Status.FAILED, Collections.emptyList());
 
-    public static SecurityAnalysisResult merge(SecurityAnalysisResult[] results) {
-        //If one of the subtasks has failed, return a failed result
-        Objects.requireNonNull(results);
-        for (SecurityAnalysisResult subResult : results) {
-            if (subResult.getPreContingencyResult().getStatus() != LoadFlowResult.ComponentResult.Status.CONVERGED) {
+    /**
+     * Incremental merge of the results of a security analysis split into a given number of parts, each part computing
+     * the same pre-contingency state and a subset of the contingencies. Partial results can be added in any order, and
+     * from several threads: only their post-contingency and operator strategy results are kept, so that partial results
+     * do not need to be kept until the end of the analysis. The merged result lists the results of the parts in the
+     * order of the parts.
+     */
+    public static final class Accumulator {
+
+        private final PreContingencyResult[] preContingencyResults;
+        private final List<List<PostContingencyResult>> postContingencyResults;
+        private final List<List<OperatorStrategyResult>> operatorStrategyResults;
+        private NetworkMetadata networkMetadata;
+        private boolean failed = false;
+
+        public Accumulator(int partCount) {
+            if (partCount <= 0) {
+                throw new IllegalArgumentException("Invalid part count: " + partCount);
+            }
+            preContingencyResults = new PreContingencyResult[partCount];
+            postContingencyResults = new ArrayList<>(Collections.nCopies(partCount, null));
+            operatorStrategyResults = new ArrayList<>(Collections.nCopies(partCount, null));
+        }
+
+        public synchronized Accumulator add(int part, SecurityAnalysisResult result) {
+            Objects.requireNonNull(result);
+            if (preContingencyResults[part] != null) {
+                throw new IllegalStateException("Result of part " + part + " already added");
+            }
+            preContingencyResults[part] = result.getPreContingencyResult();
+            if (result.getPreContingencyResult().getStatus() != LoadFlowResult.ComponentResult.Status.CONVERGED) {
+                failed = true;
+            }
+            postContingencyResults.set(part, result.getPostContingencyResults());
+            operatorStrategyResults.set(part, result.getOperatorStrategyResults());
+            if (networkMetadata == null) {
+                networkMetadata = result.getNetworkMetadata();
+            }
+            return this;
+        }
+
+        public synchronized SecurityAnalysisResult getResult() {
+            //If one of the subtasks has failed, return a failed result
+            if (failed) {
                 return FAILED_SECURITY_ANALYSIS_RESULT;
             }
+            for (int part = 0; part < preContingencyResults.length; part++) {
+                if (preContingencyResults[part] == null) {
+                    throw new IllegalStateException("Result of part " + part + " is missing");
+                }
+            }
+            return new SecurityAnalysisResult(preContingencyResults[0],
+                    postContingencyResults.stream().flatMap(List::stream).toList(),
+                    operatorStrategyResults.stream().flatMap(List::stream).toList())
+                    .setNetworkMetadata(networkMetadata);
         }
-        return new SecurityAnalysisResult(results[0].getPreContingencyLimitViolationsResult(), results[0].getPreContingencyResult().getStatus(),
-                Arrays.stream(results).flatMap(result -> result.getPostContingencyResults().stream()).collect(Collectors.toList()))
-                .setNetworkMetadata(results[0].getNetworkMetadata());
+    }
 
+    public static SecurityAnalysisResult merge(SecurityAnalysisResult[] results) {
+        Objects.requireNonNull(results);
+        Accumulator accumulator = new Accumulator(results.length);
+        for (int i = 0; i < results.length; i++) {
+            accumulator.add(i, results[i]);
+        }
+        return accumulator.getResult();
     }
 
     public static SecurityAnalysisResult merge(Collection<SecurityAnalysisResult> results) {
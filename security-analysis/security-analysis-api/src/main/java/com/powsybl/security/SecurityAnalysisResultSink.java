@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.security.results.PostContingencyResult;
+
+/**
+ * A consumer of security analysis results, to which post-contingency results are pushed as soon as each contingency
+ * is completed, so that they do not have to be kept in memory until the end of the analysis.
+ * <p>
+ * Post-contingency results may be written from several threads, but never at the same time.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface SecurityAnalysisResultSink {
+
+    void writePostContingencyResult(PostContingencyResult result);
+
+    /**
+     * Called once all the post-contingency results have been written.
+     *
+     * @param summary the result of the analysis, without its post-contingency results.
+     */
+    default void end(SecurityAnalysisResult summary) {
+        // nothing to do by default
+    }
+}
@@ -24,6 +24,7 @@ public class SecurityAnalysisRunParameters extends AbstractSecurityAnalysisRunPa
 
     private SecurityAnalysisParameters securityAnalysisParameters;
     private List<LimitReduction> limitReductions = new ArrayList<>();
+    private SecurityAnalysisResultSink resultSink;
 
     /**
      * Returns a {@link SecurityAnalysisRunParameters} instance with default value on each field.
@@ -51,6 +52,14 @@ public class SecurityAnalysisRunParameters extends AbstractSecurityAnalysisRunPa
         return limitReductions;
     }
 
+    /**
+     * The sink to which post-contingency results are written as they are computed, or {@code null} if they are kept in
+     * the result.
+     */
+    public SecurityAnalysisResultSink getResultSink() {
+        return resultSink;
+    }
+
     /**
      * Sets the security analysis parameters, see {@link SecurityAnalysisParameters}.
      */
@@ -69,6 +78,16 @@ public class SecurityAnalysisRunParameters extends AbstractSecurityAnalysisRunPa
         return self();
     }
 
+    /**
+     * Sets the sink to which post-contingency results are written as they are computed, see
+     * {@link SecurityAnalysisResultSink}. Providers creating their result with a {@link SecurityAnalysisResultBuilder}
+     * then return a result without any post-contingency result. A {@code null} sink keeps them in the result.
+     */
+    public SecurityAnalysisRunParameters setResultSink(SecurityAnalysisResultSink resultSink) {
+        this.resultSink = resultSink;
+        return self();
+    }
+
     public SecurityAnalysisRunParameters addLimitReduction(LimitReduction limitReduction) {
         Objects.requireNonNull(limitReduction, "LimitReduction should not be null");
         limitReductions.add(limitReduction);
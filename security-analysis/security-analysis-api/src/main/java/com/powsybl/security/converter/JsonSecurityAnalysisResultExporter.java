@@ -9,11 +9,13 @@ package com.powsybl.security.converter;
 
 import com.google.auto.service.AutoService;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.json.SecurityAnalysisResultSerializer;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.util.Properties;
 
 /**
  * A SecurityAnalysisResultExporter implementation which export the result in JSON
@@ -40,4 +42,9 @@ public class JsonSecurityAnalysisResultExporter implements SecurityAnalysisResul
             throw new UncheckedIOException(e);
         }
     }
+
+    @Override
+    public SecurityAnalysisResultSink createSink(Properties parameters, Writer writer) {
+        return SecurityAnalysisResultSerializer.createSink(writer);
+    }
 }
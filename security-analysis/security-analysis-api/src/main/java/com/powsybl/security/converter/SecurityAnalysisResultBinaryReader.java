@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.json.SecurityAnalysisResultSerializer;
+import com.powsybl.security.results.PostContingencyResult;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static com.powsybl.security.json.LimitViolationDeserializer.VIOLATION_LOCATION_SUPPORT;
+import static com.powsybl.security.json.SecurityAnalysisResultDeserializer.SOURCE_VERSION_ATTRIBUTE;
+
+/**
+ * Read a security analysis result file written by {@link SecurityAnalysisResultBinaryWriter}, post-contingency results
+ * being read and passed to a consumer one at a time.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SecurityAnalysisResultBinaryReader {
+
+    private SecurityAnalysisResultBinaryReader() {
+    }
+
+    /**
+     * Read the post-contingency results of the file and pass them to a consumer in their writing order.
+     *
+     * @return the result of the analysis, without its post-contingency results.
+     */
+    public static SecurityAnalysisResult read(InputStream is, Consumer<PostContingencyResult> consumer) {
+        Objects.requireNonNull(is);
+        Objects.requireNonNull(consumer);
+        ObjectMapper objectMapper = SecurityAnalysisResultBinaryWriter.createObjectMapper();
+        ObjectReader postContingencyResultReader = objectMapper.readerFor(PostContingencyResult.class)
+                .withAttribute(SOURCE_VERSION_ATTRIBUTE, SecurityAnalysisResultSerializer.VERSION)
+                .withAttribute(VIOLATION_LOCATION_SUPPORT, true);
+        try {
+            DataInputStream dis = new DataInputStream(new BufferedInputStream(new GZIPInputStream(is, 65536)));
+            if (dis.readInt() != SecurityAnalysisResultBinaryWriter.MAGIC) {
+                throw new PowsyblException("Invalid security analysis result file");
+            }
+            int version = dis.readInt();
+            if (version != SecurityAnalysisResultBinaryWriter.VERSION) {
+                throw new PowsyblException("Unsupported security analysis result file version: " + version);
+            }
+            while (true) {
+                byte type = dis.readByte();
+                byte[] bytes = new byte[dis.readInt()];
+                dis.readFully(bytes);
+                if (type == SecurityAnalysisResultBinaryWriter.POST_CONTINGENCY_RESULT) {
+                    consumer.accept(postContingencyResultReader.readValue(bytes));
+                } else if (type == SecurityAnalysisResultBinaryWriter.SUMMARY) {
+                    return objectMapper.readValue(bytes, SecurityAnalysisResult.class);
+                } else {
+                    throw new PowsyblException("Invalid security analysis result file");
+                }
+            }
+        } catch (EOFException e) {
+            throw new PowsyblException("Truncated security analysis result file", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static SecurityAnalysisResult read(Path file, Consumer<PostContingencyResult> consumer) {
+        Objects.requireNonNull(file);
+        try (InputStream is = Files.newInputStream(file)) {
+            return read(is, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Read the whole result, including all the post-contingency results.
+     */
+    public static SecurityAnalysisResult read(Path file) {
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        SecurityAnalysisResult summary = read(file, postContingencyResults::add);
+        return new SecurityAnalysisResult(summary.getPreContingencyResult(), postContingencyResults, summary.getOperatorStrategyResults())
+                .setNetworkMetadata(summary.getNetworkMetadata());
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.action.json.ActionJsonModule;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
+import com.powsybl.security.json.SecurityAnalysisJsonModule;
+import com.powsybl.security.results.PostContingencyResult;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A sink writing a security analysis result to a compressed binary file, as it is computed.
+ * <p>
+ * The file is a sequence of length-prefixed records: one record per post-contingency result, in their writing order,
+ * followed by a record for the rest of the result. Each record is encoded with the JSON serializers of the results
+ * (including their extensions), and the whole file is compressed. The file can be read back with
+ * {@link SecurityAnalysisResultBinaryReader}, one post-contingency result at a time.
+ * The underlying stream is not closed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SecurityAnalysisResultBinaryWriter implements SecurityAnalysisResultSink {
+
+    static final int MAGIC = 0x53415253; // "SARS"
+
+    static final int VERSION = 1;
+
+    static final byte POST_CONTINGENCY_RESULT = 1;
+
+    static final byte SUMMARY = 2;
+
+    private final ObjectMapper objectMapper = createObjectMapper();
+
+    private final GZIPOutputStream gzos;
+
+    private final DataOutputStream dos;
+
+    public SecurityAnalysisResultBinaryWriter(OutputStream os) {
+        Objects.requireNonNull(os);
+        try {
+            gzos = new GZIPOutputStream(os, 65536);
+            dos = new DataOutputStream(gzos);
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static ObjectMapper createObjectMapper() {
+        return JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .registerModule(new ActionJsonModule());
+    }
+
+    private void writeRecord(byte type, Object value) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(value);
+        dos.writeByte(type);
+        dos.writeInt(bytes.length);
+        dos.write(bytes);
+    }
+
+    @Override
+    public void writePostContingencyResult(PostContingencyResult result) {
+        Objects.requireNonNull(result);
+        try {
+            writeRecord(POST_CONTINGENCY_RESULT, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void end(SecurityAnalysisResult summary) {
+        Objects.requireNonNull(summary);
+        try {
+            writeRecord(SUMMARY, summary);
+            dos.flush();
+            gzos.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
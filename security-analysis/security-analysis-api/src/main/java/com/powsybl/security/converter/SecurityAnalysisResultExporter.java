@@ -8,8 +8,12 @@
 package com.powsybl.security.converter;
 
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
+import com.powsybl.security.results.PostContingencyResult;
 
 import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -50,4 +54,29 @@ public interface SecurityAnalysisResultExporter {
     default void export(SecurityAnalysisResult result, Properties parameters, Writer writer) {
         export(result, writer);
     }
+
+    /**
+     * Create a sink exporting a result of a security analysis as it is computed.
+     * By default, post-contingency results are kept in memory and the whole result is exported at the end.
+     *
+     * @param parameters The export parameters
+     * @param writer The writer used for the export
+     */
+    default SecurityAnalysisResultSink createSink(Properties parameters, Writer writer) {
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        return new SecurityAnalysisResultSink() {
+            @Override
+            public void writePostContingencyResult(PostContingencyResult result) {
+                postContingencyResults.add(result);
+            }
+
+            @Override
+            public void end(SecurityAnalysisResult summary) {
+                SecurityAnalysisResult result = new SecurityAnalysisResult(summary.getPreContingencyResult(), postContingencyResults,
+                        summary.getOperatorStrategyResults())
+                        .setNetworkMetadata(summary.getNetworkMetadata());
+                export(result, parameters, writer);
+            }
+        };
+    }
 }
@@ -9,6 +9,7 @@ package com.powsybl.security.converter;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -94,4 +95,13 @@ public final class SecurityAnalysisResultExporters {
 
         exporter.export(result, parameters, writer);
     }
+
+    public static SecurityAnalysisResultSink createSink(Properties parameters, Writer writer, String format) {
+        SecurityAnalysisResultExporter exporter = getExporter(format);
+        if (exporter == null) {
+            throw new PowsyblException("Unsupported format: " + format + " [" + getFormats() + "]");
+        }
+
+        return exporter.createSink(parameters, writer);
+    }
 }
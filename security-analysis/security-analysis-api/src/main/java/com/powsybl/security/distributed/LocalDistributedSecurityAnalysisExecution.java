@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.distributed;
+
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.Partition;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.security.*;
+import com.powsybl.security.execution.SecurityAnalysisExecution;
+import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
+import com.powsybl.security.execution.SecurityAnalysisInputBuildStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Execute a security analysis by splitting the contingencies into a specified number of subtasks, all of them run
+ * inside this JVM, on a bounded pool of threads.
+ * <p>
+ * Contrary to {@link DistributedSecurityAnalysisExecution}, the network is not serialized: each subtask runs on its own
+ * clone of the network variant. As the variant manager does not support structural changes concurrent with the use of
+ * variants, all the clones are created before any subtask is started and removed once all the subtasks are ended.
+ * Variant multi-thread access is enabled on the network during the execution if it is not already, and disabled
+ * again at the end.
+ * Results of the subtasks are merged as they arrive with a {@link SecurityAnalysisResultMerger.Accumulator}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class LocalDistributedSecurityAnalysisExecution implements SecurityAnalysisExecution {
+
+    private final String providerName;
+    private final SecurityAnalysisInputBuildStrategy inputBuildStrategy;
+    private final int subtaskCount;
+    private final int threadCount;
+
+    public LocalDistributedSecurityAnalysisExecution(String providerName, SecurityAnalysisInputBuildStrategy inputBuildStrategy,
+                                                     int subtaskCount) {
+        this(providerName, inputBuildStrategy, subtaskCount, Math.min(subtaskCount, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public LocalDistributedSecurityAnalysisExecution(String providerName, SecurityAnalysisInputBuildStrategy inputBuildStrategy,
+                                                     int subtaskCount, int threadCount) {
+        this.providerName = providerName;
+        this.inputBuildStrategy = requireNonNull(inputBuildStrategy);
+        checkArgument(subtaskCount > 0, "Sub-tasks count must be positive.");
+        checkArgument(threadCount > 0, "Thread count must be positive.");
+        this.subtaskCount = subtaskCount;
+        this.threadCount = threadCount;
+    }
+
+    @Override
+    public CompletableFuture<SecurityAnalysisReport> execute(ComputationManager computationManager, SecurityAnalysisExecutionInput data) {
+        SecurityAnalysis.Runner runner = SecurityAnalysis.find(providerName);
+        SecurityAnalysisInput input = inputBuildStrategy.buildFrom(data);
+        Network network = input.getNetworkVariant().getNetwork();
+        String variantId = input.getNetworkVariant().getVariantId();
+        List<Contingency> contingencies = input.getContingenciesProvider().getContingencies(network);
+        // a partition cannot be empty, except if there is no contingency at all
+        int partCount = Math.max(1, Math.min(subtaskCount, contingencies.size()));
+
+        VariantManager variantManager = network.getVariantManager();
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+        String workingVariantId = multiThreadAccessAllowed ? null : variantManager.getWorkingVariantId();
+        List<String> subtaskVariantIds = IntStream.range(0, partCount)
+                .mapToObj(part -> variantId + "_subtask_" + part)
+                .toList();
+        variantManager.cloneVariant(variantId, subtaskVariantIds, true);
+        variantManager.allowVariantMultiThreadAccess(true);
+
+        SecurityAnalysisRunParameters runParameters = new SecurityAnalysisRunParameters()
+                .setSecurityAnalysisParameters(input.getParameters())
+                .setComputationManager(computationManager)
+                .setFilter(input.getFilter())
+                .setInterceptors(new ArrayList<>(input.getInterceptors()))
+                .setOperatorStrategies(data.getOperatorStrategies())
+                .setActions(data.getActions())
+                .setMonitors(data.getMonitors())
+                .setLimitReductions(data.getLimitReductions());
+
+        SecurityAnalysisResultMerger.Accumulator accumulator = new SecurityAnalysisResultMerger.Accumulator(partCount);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, partCount));
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partCount);
+        for (int part = 0; part < partCount; part++) {
+            int partIndex = part;
+            Partition partition = new Partition(part + 1, partCount);
+            List<Contingency> subContingencies = contingencies.subList(partition.startIndex(contingencies.size()), partition.endIndex(contingencies.size()));
+            String subtaskVariantId = subtaskVariantIds.get(part);
+            futures.add(CompletableFuture.runAsync(() -> {
+                SecurityAnalysisReport report = runner.runAsync(network, subtaskVariantId, n -> new ArrayList<>(subContingencies), runParameters)
+                        .join();
+                accumulator.add(partIndex, report.getResult());
+            }, executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((unused, throwable) -> {
+                    executor.shutdown();
+                    // no subtask uses its variant anymore
+                    subtaskVariantIds.forEach(variantManager::removeVariant);
+                    if (!multiThreadAccessAllowed) {
+                        variantManager.setWorkingVariant(workingVariantId);
+                        variantManager.allowVariantMultiThreadAccess(false);
+                    }
+                })
+                .thenApply(unused -> new SecurityAnalysisReport(accumulator.getResult()));
+    }
+}
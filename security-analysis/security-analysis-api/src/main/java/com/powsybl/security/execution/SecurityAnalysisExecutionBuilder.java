@@ -9,9 +9,11 @@ package com.powsybl.security.execution;
 
 import com.powsybl.contingency.ContingenciesProviders;
 import com.powsybl.security.SecurityAnalysisInput;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.distributed.DistributedSecurityAnalysisExecution;
 import com.powsybl.security.distributed.ExternalSecurityAnalysisConfig;
 import com.powsybl.security.distributed.ForwardedSecurityAnalysisExecution;
+import com.powsybl.security.distributed.LocalDistributedSecurityAnalysisExecution;
 
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -26,6 +28,10 @@ public class SecurityAnalysisExecutionBuilder extends AbstractSecurityAnalysisEx
 
     private final SecurityAnalysisInputBuildStrategy inputBuildStrategy;
 
+    private boolean local = false;
+
+    private SecurityAnalysisResultSink resultSink = null;
+
     /**
      * Create a new builder.
      *
@@ -40,13 +46,32 @@ public class SecurityAnalysisExecutionBuilder extends AbstractSecurityAnalysisEx
         this.inputBuildStrategy = Objects.requireNonNull(inputBuildStrategy);
     }
 
+    /**
+     * If true, a distributed execution runs its subtasks in this JVM, see {@link LocalDistributedSecurityAnalysisExecution}.
+     */
+    public SecurityAnalysisExecutionBuilder local(boolean local) {
+        this.local = local;
+        return this;
+    }
+
+    /**
+     * Sets the sink to which post-contingency results are written as they are computed, see
+     * {@link SecurityAnalysisResultSink}. Only used for local executions which are not distributed.
+     */
+    public SecurityAnalysisExecutionBuilder resultSink(SecurityAnalysisResultSink resultSink) {
+        this.resultSink = resultSink;
+        return this;
+    }
+
     public SecurityAnalysisExecution build() {
         if (forward) {
             return new ForwardedSecurityAnalysisExecution(externalConfig.get(), taskCount);
+        } else if (taskCount != null && local) {
+            return new LocalDistributedSecurityAnalysisExecution(providerName, inputBuildStrategy, taskCount);
         } else if (taskCount != null) {
             return new DistributedSecurityAnalysisExecution(externalConfig.get(), taskCount);
         } else {
-            return new SecurityAnalysisExecutionImpl(providerName, inputBuildStrategy());
+            return new SecurityAnalysisExecutionImpl(providerName, inputBuildStrategy(), resultSink);
         }
     }
 
@@ -11,6 +11,7 @@ import com.powsybl.computation.ComputationManager;
 import com.powsybl.security.SecurityAnalysis;
 import com.powsybl.security.SecurityAnalysisInput;
 import com.powsybl.security.SecurityAnalysisReport;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.SecurityAnalysisRunParameters;
 
 import java.util.ArrayList;
@@ -30,6 +31,7 @@ public class SecurityAnalysisExecutionImpl implements SecurityAnalysisExecution
 
     private final String staticProviderName;
     private final SecurityAnalysisInputBuildStrategy inputBuildStrategy;
+    private final SecurityAnalysisResultSink resultSink;
 
     /**
      * The execution will use the default security-analysis implementation defined in the platform.
@@ -46,8 +48,18 @@ public class SecurityAnalysisExecutionImpl implements SecurityAnalysisExecution
     }
 
     public SecurityAnalysisExecutionImpl(String staticProviderName, SecurityAnalysisInputBuildStrategy inputBuildStrategy) {
+        this(staticProviderName, inputBuildStrategy, null);
+    }
+
+    /**
+     * The execution will write post-contingency results to {@literal resultSink} as they are computed, see
+     * {@link SecurityAnalysisRunParameters#setResultSink}.
+     */
+    public SecurityAnalysisExecutionImpl(String staticProviderName, SecurityAnalysisInputBuildStrategy inputBuildStrategy,
+                                         SecurityAnalysisResultSink resultSink) {
         this.staticProviderName = staticProviderName;
         this.inputBuildStrategy = requireNonNull(inputBuildStrategy);
+        this.resultSink = resultSink;
     }
 
     private static SecurityAnalysisInput buildDefault(SecurityAnalysisExecutionInput executionInput) {
@@ -66,7 +78,8 @@ public class SecurityAnalysisExecutionImpl implements SecurityAnalysisExecution
                 .setOperatorStrategies(data.getOperatorStrategies())
                 .setActions(data.getActions())
                 .setMonitors(data.getMonitors())
-                .setLimitReductions(data.getLimitReductions());
+                .setLimitReductions(data.getLimitReductions())
+                .setResultSink(resultSink);
         return runner.runAsync(input.getNetworkVariant().getNetwork(),
                 input.getNetworkVariant().getVariantId(),
                 input.getContingenciesProvider(),
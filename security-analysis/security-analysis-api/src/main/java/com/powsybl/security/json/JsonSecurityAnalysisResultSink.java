@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
+import com.powsybl.security.results.PostContingencyResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Write a security analysis result in JSON, post-contingency results being written as soon as they are received.
+ * Post-contingency results are written before the pre-contingency result, which is only known at the end.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class JsonSecurityAnalysisResultSink implements SecurityAnalysisResultSink {
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonGenerator generator;
+
+    JsonSecurityAnalysisResultSink(ObjectMapper objectMapper, Writer writer) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+        Objects.requireNonNull(writer);
+        try {
+            generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeStringField("version", SecurityAnalysisResultSerializer.VERSION);
+            generator.writeFieldName("postContingencyResults");
+            generator.writeStartArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writePostContingencyResult(PostContingencyResult result) {
+        try {
+            generator.writeObject(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void end(SecurityAnalysisResult summary) {
+        try {
+            generator.writeEndArray();
+            SerializerProvider serializerProvider = objectMapper.getSerializerProviderInstance();
+            if (summary.getNetworkMetadata() != null) {
+                generator.writeObjectField("network", summary.getNetworkMetadata());
+            }
+            generator.writeObjectField("preContingencyResult", summary.getPreContingencyResult());
+            generator.writeObjectField("operatorStrategyResults", summary.getOperatorStrategyResults());
+            JsonUtil.writeExtensions(summary, generator, serializerProvider);
+            generator.writeEndObject();
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.powsybl.action.json.ActionJsonModule;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.security.SecurityAnalysisResult;
+import com.powsybl.security.SecurityAnalysisResultSink;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -46,15 +47,24 @@ public class SecurityAnalysisResultSerializer extends StdSerializer<SecurityAnal
         jsonGenerator.writeEndObject();
     }
 
+    private static ObjectMapper createObjectMapper() {
+        return JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .registerModule(new ActionJsonModule());
+    }
+
     public static void write(SecurityAnalysisResult result, Writer writer) throws IOException {
         Objects.requireNonNull(result);
         Objects.requireNonNull(writer);
 
-        ObjectMapper objectMapper = JsonUtil.createObjectMapper()
-                .registerModule(new SecurityAnalysisJsonModule())
-                .registerModule(new ActionJsonModule());
-
-        ObjectWriter objectWriter = objectMapper.writerWithDefaultPrettyPrinter();
+        ObjectWriter objectWriter = createObjectMapper().writerWithDefaultPrettyPrinter();
         objectWriter.writeValue(writer, result);
     }
+
+    /**
+     * Create a sink writing the result in JSON as it is computed. The writer is not closed by the sink.
+     */
+    public static SecurityAnalysisResultSink createSink(Writer writer) {
+        return new JsonSecurityAnalysisResultSink(createObjectMapper(), writer);
+    }
 }
@@ -37,6 +37,7 @@ import static com.powsybl.contingency.ContingencyContextType.*;
  */
 public abstract class AbstractLimitReductionsApplier<P, L> extends AbstractLimitsComputerWithCache<P, L> {
     private final List<LimitReduction> limitReductionList;
+    private final ReducedLimitsCache<P, L> sharedCache;
     private List<LimitReduction> reductionsForThisContingency = Collections.emptyList();
 
     /**
@@ -44,8 +45,19 @@ public abstract class AbstractLimitReductionsApplier<P, L> extends AbstractLimit
      * @param limitReductionList the list of the reductions to use when computing reduced limits.
      */
     protected AbstractLimitReductionsApplier(List<LimitReduction> limitReductionList) {
+        this(limitReductionList, null);
+    }
+
+    /**
+     * Create a new {@link AbstractLimitReductionsApplier} using a list of reductions and a cache of reduced limits
+     * which may be shared with other appliers using the same reductions.
+     * @param limitReductionList the list of the reductions to use when computing reduced limits.
+     * @param sharedCache the shared cache of reduced limits, or <code>null</code> to use only the internal cache.
+     */
+    protected AbstractLimitReductionsApplier(List<LimitReduction> limitReductionList, ReducedLimitsCache<P, L> sharedCache) {
         super();
         this.limitReductionList = limitReductionList;
+        this.sharedCache = sharedCache;
         computeReductionsForThisContingency(null);
     }
 
@@ -58,12 +70,23 @@ public abstract class AbstractLimitReductionsApplier<P, L> extends AbstractLimit
             return originalLimits.map(IdenticalLimitsContainer::new);
         }
 
-        AbstractLimitsReducerCreator<L, AbstractLimitsReducer<L>> limitsReducerCreator = Objects.requireNonNull(getLimitsReducerCreator());
-        NetworkElement networkElement = Objects.requireNonNull(asNetworkElement(processable));
-        AbstractLimitsReducer<L> limitsReducer = limitsReducerCreator.create(networkElement.getId(), originalLimits.get());
-        updateLimitReducer(limitsReducer, networkElement, limitType, side, monitoringOnly);
-
-        LimitsContainer<L> limitsContainer = limitsReducer.getLimits();
+        ReducedLimitsCache.Key<P, L> sharedCacheKey = null;
+        LimitsContainer<L> limitsContainer = null;
+        if (sharedCache != null) {
+            sharedCacheKey = new ReducedLimitsCache.Key<>(processable, originalLimits.get(), limitType, side, monitoringOnly,
+                    reductionsForThisContingency);
+            limitsContainer = sharedCache.get(sharedCacheKey);
+        }
+        if (limitsContainer == null) {
+            AbstractLimitsReducerCreator<L, AbstractLimitsReducer<L>> limitsReducerCreator = Objects.requireNonNull(getLimitsReducerCreator());
+            NetworkElement networkElement = Objects.requireNonNull(asNetworkElement(processable));
+            AbstractLimitsReducer<L> limitsReducer = limitsReducerCreator.create(networkElement.getId(), originalLimits.get());
+            updateLimitReducer(limitsReducer, networkElement, limitType, side, monitoringOnly);
+            limitsContainer = limitsReducer.getLimits();
+            if (sharedCache != null) {
+                sharedCache.put(sharedCacheKey, limitsContainer);
+            }
+        }
         // Cache the value to avoid recomputing it
         putInCache(processable, limitType, side, monitoringOnly, limitsContainer);
         return Optional.of(limitsContainer);
@@ -22,6 +22,7 @@ import com.powsybl.security.limitreduction.computation.DefaultLimitsReducer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * <p>Implementation of {@link AbstractLimitReductionsApplier} working with {@link com.powsybl.iidm.network.Identifiable}.</p>
@@ -49,6 +50,18 @@ public class DefaultLimitReductionsApplier extends AbstractLimitReductionsApplie
         super(limitReductionList);
     }
 
+    /**
+     * Create a new {@link AbstractLimitReductionsApplier} for {@link com.powsybl.iidm.network.Identifiable}
+     * using a list of reductions and a cache of reduced limits shared with other appliers, for instance the ones
+     * of the other threads of a security analysis.
+     *
+     * @param limitReductionList the list of the reductions to use when computing reduced limits.
+     * @param sharedCache the shared cache of reduced limits.
+     */
+    public DefaultLimitReductionsApplier(List<LimitReduction> limitReductionList, ReducedLimitsCache<Identifiable<?>, LoadingLimits> sharedCache) {
+        super(limitReductionList, Objects.requireNonNull(sharedCache));
+    }
+
     @Override
     protected OriginalLimitsGetter<Identifiable<?>, LoadingLimits> getOriginalLimitsGetter() {
         return LimitViolationUtils::getLoadingLimits;
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.limitreduction;
+
+import com.powsybl.iidm.network.LimitType;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.iidm.network.limitmodification.result.LimitsContainer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>A thread-safe and bounded cache of reduced limits, which can be shared by several
+ * {@link AbstractLimitReductionsApplier}s, for instance by the workers of a multi-threaded security analysis.</p>
+ * <p>Reduced limits are stored by network element, original limits (i.e. selected limits group), limit type, side,
+ * monitoring only flag and list of the limit reductions applicable to the working contingency: contingencies
+ * with the same applicable reductions reuse each other's reduced limits. When the cache is full, the least recently
+ * used entries are evicted.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ReducedLimitsCache<P, L> {
+
+    public static final int DEFAULT_MAX_SIZE = 100_000;
+
+    private final int maxSize;
+
+    private final Map<Key<P, L>, LimitsContainer<L>> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    record Key<P, L>(P processable, L originalLimits, LimitType type, ThreeSides side, boolean monitoringOnly,
+                     List<LimitReduction> reductions) {
+    }
+
+    public ReducedLimitsCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ReducedLimitsCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache max size: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key<P, L>, LimitsContainer<L>> eldest) {
+                if (size() > ReducedLimitsCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    LimitsContainer<L> get(Key<P, L> key) {
+        LimitsContainer<L> limitsContainer;
+        synchronized (cache) {
+            limitsContainer = cache.get(key);
+        }
+        if (limitsContainer != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return limitsContainer;
+    }
+
+    void put(Key<P, L> key, LimitsContainer<L> limitsContainer) {
+        synchronized (cache) {
+            cache.put(key, limitsContainer);
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Get the ratio of the lookups which found reduced limits in the cache, or <code>NaN</code> if there was no lookup.
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+
+    /**
+     * Clear the cached reduced limits and reset the metrics.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ReducedLimitsCache(size=" + size() + ", hitCount=" + getHitCount() + ", missCount=" + getMissCount()
+                + ", evictionCount=" + getEvictionCount() + ")";
+    }
+}
@@ -24,6 +24,7 @@ import com.powsybl.security.execution.AbstractSecurityAnalysisExecutionBuilder;
 import com.powsybl.security.execution.AbstractSecurityAnalysisExecutionInput;
 import com.powsybl.security.json.limitreduction.LimitReductionListSerDeUtil;
 import com.powsybl.security.monitor.StateMonitor;
+import com.powsybl.security.results.PostContingencyResult;
 import com.powsybl.security.strategy.OperatorStrategyList;
 import com.powsybl.tools.ToolOptions;
 import com.powsybl.tools.ToolRunningContext;
@@ -34,6 +35,7 @@ import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Properties;
@@ -88,19 +90,30 @@ public abstract class AbstractSecurityAnalysisTool<T extends AbstractSecurityAna
         T executionInput = getExecutionInput(network);
         updateInput(options, executionInput);
 
-        Supplier<SecurityAnalysisReport> supplier = getReportSupplier(context, options, executionBuilder, executionInput);
-
-        SecurityAnalysisResult result = options.getPath(OUTPUT_LOG_OPTION)
-                .map(logPath -> runSecurityAnalysisWithLog(supplier, logPath))
-                .orElseGet(supplier).getResult();
+        SecurityAnalysisResult result;
+        boolean resultWritten = false;
+        if (outputFile != null && options.hasOption(STREAM_OUTPUT_OPTION)) {
+            context.getOutputStream().println("Writing results to '" + outputFile + "' as they are computed");
+            try (Writer writer = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+                EndTrackingResultSink sink = new EndTrackingResultSink(SecurityAnalysisResultExporters.createSink(new Properties(), writer, format));
+                setResultSink(executionBuilder, sink);
+                result = runSecurityAnalysis(context, options, executionBuilder, executionInput);
+                resultWritten = sink.ended;
+            }
+        } else {
+            result = runSecurityAnalysis(context, options, executionBuilder, executionInput);
+        }
 
         if (result.getPreContingencyResult().getStatus() != LoadFlowResult.ComponentResult.Status.CONVERGED) {
             context.getErrorStream().println("Pre-contingency state divergence");
         }
 
         if (outputFile != null) {
-            context.getOutputStream().println("Writing results to '" + outputFile + "'");
-            SecurityAnalysisResultExporters.export(result, outputFile, format);
+            // a streamed result has already been written to the output file
+            if (!resultWritten) {
+                context.getOutputStream().println("Writing results to '" + outputFile + "'");
+                SecurityAnalysisResultExporters.export(result, outputFile, format);
+            }
         } else {
             // To avoid the closing of System.out
             Writer writer = new OutputStreamWriter(context.getOutputStream());
@@ -108,6 +121,46 @@ public abstract class AbstractSecurityAnalysisTool<T extends AbstractSecurityAna
         }
     }
 
+    private SecurityAnalysisResult runSecurityAnalysis(ToolRunningContext context, ToolOptions options, R executionBuilder, T executionInput) {
+        Supplier<SecurityAnalysisReport> supplier = getReportSupplier(context, options, executionBuilder, executionInput);
+        return options.getPath(OUTPUT_LOG_OPTION)
+                .map(logPath -> runSecurityAnalysisWithLog(supplier, logPath))
+                .orElseGet(supplier).getResult();
+    }
+
+    /**
+     * Sets the sink to which the execution writes post-contingency results as they are computed. By default, the sink
+     * is not used and the whole result is exported at the end of the execution.
+     */
+    protected void setResultSink(R executionBuilder, SecurityAnalysisResultSink sink) {
+        // streaming is not supported by default
+    }
+
+    /**
+     * Sink recording whether the execution has ended it, that is whether the result has been written by the sink.
+     */
+    private static final class EndTrackingResultSink implements SecurityAnalysisResultSink {
+
+        private final SecurityAnalysisResultSink delegate;
+
+        private volatile boolean ended = false;
+
+        private EndTrackingResultSink(SecurityAnalysisResultSink delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void writePostContingencyResult(PostContingencyResult result) {
+            delegate.writePostContingencyResult(result);
+        }
+
+        @Override
+        public void end(SecurityAnalysisResult summary) {
+            delegate.end(summary);
+            ended = true;
+        }
+    }
+
     protected String getFormat(ToolOptions options, Path outputFile) throws ParseException {
         return outputFile != null ? options.getValue(OUTPUT_FORMAT_OPTION)
                     .orElseThrow(() -> new ParseException("Missing required option: " + OUTPUT_FORMAT_OPTION))
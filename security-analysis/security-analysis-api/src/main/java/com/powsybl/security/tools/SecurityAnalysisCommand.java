@@ -73,6 +73,9 @@ public class SecurityAnalysisCommand implements Command {
                 .hasArg()
                 .argName("FORMAT")
                 .build());
+        options.addOption(Option.builder().longOpt(STREAM_OUTPUT_OPTION)
+                .desc("write post-contingency results to the output file as they are computed")
+                .build());
         options.addOption(Option.builder().longOpt(CONTINGENCIES_FILE_OPTION)
                 .desc("the contingencies path")
                 .hasArg()
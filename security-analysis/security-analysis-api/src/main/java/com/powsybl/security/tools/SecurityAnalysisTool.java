@@ -20,6 +20,7 @@ import com.powsybl.security.LimitViolationFilter;
 import com.powsybl.security.SecurityAnalysisInput;
 import com.powsybl.security.SecurityAnalysisParameters;
 import com.powsybl.security.SecurityAnalysisReport;
+import com.powsybl.security.SecurityAnalysisResultSink;
 import com.powsybl.security.distributed.ExternalSecurityAnalysisConfig;
 import com.powsybl.security.execution.SecurityAnalysisExecutionBuilder;
 import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
@@ -109,6 +110,11 @@ public class SecurityAnalysisTool extends AbstractSecurityAnalysisTool<SecurityA
                 .setParameters(SecurityAnalysisParameters.load());
     }
 
+    @Override
+    protected void setResultSink(SecurityAnalysisExecutionBuilder executionBuilder, SecurityAnalysisResultSink sink) {
+        executionBuilder.resultSink(sink);
+    }
+
     @Override
     protected Supplier<SecurityAnalysisReport> getReportSupplier(ToolRunningContext context, ToolOptions options, SecurityAnalysisExecutionBuilder executionBuilder,
                                                                  SecurityAnalysisExecutionInput executionInput) {
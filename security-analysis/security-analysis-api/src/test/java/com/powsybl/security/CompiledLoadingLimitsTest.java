@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.criteria.NetworkElementIdListCriterion;
+import com.powsybl.iidm.criteria.duration.EqualityTemporaryDurationCriterion;
+import com.powsybl.iidm.criteria.duration.PermanentDurationCriterion;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.security.detectors.AbstractLimitViolationDetectionTest;
+import com.powsybl.security.detectors.LoadingLimitType;
+import com.powsybl.security.limitreduction.DefaultLimitReductionsApplier;
+import com.powsybl.security.limitreduction.LimitReduction;
+import com.powsybl.security.limitreduction.SimpleLimitsComputer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class CompiledLoadingLimitsTest extends AbstractLimitViolationDetectionTest {
+
+    @BeforeEach
+    void setUp() {
+        violationsCollector = new ArrayList<>();
+    }
+
+    private static void check(Identifiable<?> identifiable, ThreeSides side, double value, LimitType limitType,
+                              LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer, Consumer<LimitViolation> consumer) {
+        CompiledLoadingLimits limits = CompiledLoadingLimits.compile(identifiable.getNetwork(), limitType, limitsComputer);
+        double[] values = new double[limits.size()];
+        Arrays.fill(values, Double.NaN);
+        for (int k = 0; k < limits.size(); k++) {
+            if (limits.getId(k).equals(identifiable.getId()) && limits.getSide(k) == side) {
+                values[k] = value;
+            }
+        }
+        limits.check(values, EnumSet.allOf(LoadingLimitType.class), consumer);
+    }
+
+    @Override
+    protected void checkLimitViolation(Branch<?> branch, TwoSides side, double currentValue, Consumer<LimitViolation> consumer,
+                                       LimitType limitType, double limitReduction) {
+        check(branch, side.toThreeSides(), currentValue, limitType, new SimpleLimitsComputer(limitReduction), consumer);
+    }
+
+    @Override
+    protected void checkCurrent(Branch<?> branch, TwoSides side, double currentValue, Consumer<LimitViolation> consumer) {
+        checkLimitViolation(branch, side, currentValue, consumer, LimitType.CURRENT, 1.0);
+    }
+
+    @Override
+    protected void checkCurrent(ThreeWindingsTransformer transfo, ThreeSides side, double currentValue, Consumer<LimitViolation> consumer) {
+        check(transfo, side, currentValue, LimitType.CURRENT, LimitsComputer.NO_MODIFICATIONS, consumer);
+    }
+
+    @Override
+    protected void checkActivePower(Branch<?> branch, TwoSides side, double value, Consumer<LimitViolation> consumer) {
+        checkLimitViolation(branch, side, value, consumer, LimitType.ACTIVE_POWER, 1.0);
+    }
+
+    @Override
+    protected void checkActivePower(ThreeWindingsTransformer transfo, ThreeSides side, double value, Consumer<LimitViolation> consumer) {
+        check(transfo, side, value, LimitType.ACTIVE_POWER, LimitsComputer.NO_MODIFICATIONS, consumer);
+    }
+
+    @Override
+    protected void checkApparentPower(Branch<?> branch, TwoSides side, double value, Consumer<LimitViolation> consumer) {
+        checkLimitViolation(branch, side, value, consumer, LimitType.APPARENT_POWER, 1.0);
+    }
+
+    @Override
+    protected void checkApparentPower(ThreeWindingsTransformer transfo, ThreeSides side, double value, Consumer<LimitViolation> consumer) {
+        check(transfo, side, value, LimitType.APPARENT_POWER, LimitsComputer.NO_MODIFICATIONS, consumer);
+    }
+
+    @Override
+    protected void checkVoltage(Bus b, int voltageValue, Consumer<LimitViolation> consumer) {
+        // voltage limits are not compiled
+        LimitViolationDetection.checkVoltage(b, voltageValue, consumer);
+    }
+
+    @Override
+    protected void checkVoltageAngle(VoltageAngleLimit voltageAngleLimit, double voltageAngleDifference, Consumer<LimitViolation> consumer) {
+        // voltage angle limits are not compiled
+        LimitViolationDetection.checkVoltageAngle(voltageAngleLimit, voltageAngleDifference, consumer);
+    }
+
+    private static LimitReduction createReduction(String lineId, double value, boolean permanent) {
+        return LimitReduction.builder(LimitType.CURRENT, value)
+                .withMonitoringOnly(false)
+                .withContingencyContext(ContingencyContext.none())
+                .withNetworkElementCriteria(new NetworkElementIdListCriterion(Set.of(lineId)))
+                .withLimitDurationCriteria(permanent ? new PermanentDurationCriterion() : new EqualityTemporaryDurationCriterion(60))
+                .build();
+    }
+
+    @Test
+    void testLimitReductions() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        DefaultLimitReductionsApplier computer = new DefaultLimitReductionsApplier(List.of(createReduction("NHV1_NHV2_1", 0.5, true)));
+        check(network.getLine("NHV1_NHV2_1"), ThreeSides.ONE, 315, LimitType.CURRENT, computer, violationsCollector::add);
+        assertEquals(1, violationsCollector.size());
+        LimitViolation violation = violationsCollector.get(0);
+        assertEquals(0.5, violation.getLimitReduction());
+        assertEquals(Integer.MAX_VALUE, violation.getAcceptableDuration());
+        assertEquals(500., violation.getLimit(), 0.01);
+
+        violationsCollector.clear();
+        computer = new DefaultLimitReductionsApplier(List.of(createReduction("NHV1_NHV2_1", 0.5, false)));
+        check(network.getLine("NHV1_NHV2_1"), ThreeSides.TWO, 751, LimitType.CURRENT, computer, violationsCollector::add);
+        assertEquals(1, violationsCollector.size());
+        violation = violationsCollector.get(0);
+        assertEquals(0.5, violation.getLimitReduction());
+        assertEquals(0, violation.getAcceptableDuration());
+        assertEquals(1500, violation.getLimit(), 0.01);
+        assertEquals("1'", violation.getLimitName());
+    }
+
+    @Test
+    void testSameViolationsAsLimitViolationDetection() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        network.getVoltageLevel("VLHV1").getBusView().getBusStream().forEach(b -> b.setV(380));
+        network.getVoltageLevel("VLHV2").getBusView().getBusStream().forEach(b -> b.setV(380));
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(800).setQ(300);
+        network.getLine("NHV1_NHV2_1").getTerminal2().setP(-790).setQ(-290);
+        network.getLine("NHV1_NHV2_2").getTerminal1().setP(300).setQ(100);
+        Set<LoadingLimitType> loadingLimitTypes = EnumSet.allOf(LoadingLimitType.class);
+        for (double reduction : new double[] {1.0, 0.9, 0.5}) {
+            SimpleLimitsComputer limitsComputer = new SimpleLimitsComputer(reduction);
+            List<LimitViolation> expected = new ArrayList<>();
+            LimitViolationDetection.checkAll(network, loadingLimitTypes, limitsComputer, v -> {
+                if (v.getLimitType() == LimitViolationType.CURRENT) {
+                    expected.add(v);
+                }
+            });
+            List<LimitViolation> violations = new ArrayList<>();
+            CompiledLoadingLimits compiledLimits = CompiledLoadingLimits.compile(network, LimitType.CURRENT, limitsComputer);
+            LimitViolationDetection.checkAll(network, loadingLimitTypes, compiledLimits, v -> {
+                if (v.getLimitType() == LimitViolationType.CURRENT) {
+                    violations.add(v);
+                }
+            });
+            assertFalse(expected.isEmpty());
+            assertEquals(expected.size(), violations.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(0, LimitViolations.comparator().compare(expected.get(i), violations.get(i)));
+                assertEquals(expected.get(i).getLimit(), violations.get(i).getLimit(), 0);
+                assertEquals(expected.get(i).getLimitReduction(), violations.get(i).getLimitReduction(), 0);
+                assertEquals(expected.get(i).getAcceptableDuration(), violations.get(i).getAcceptableDuration());
+            }
+        }
+    }
+
+    @Test
+    void testDcValues() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(800);
+        CompiledLoadingLimits limits = CompiledLoadingLimits.compile(network, LimitType.CURRENT, LimitsComputer.NO_MODIFICATIONS);
+        assertEquals(LimitType.CURRENT, limits.getLimitType());
+        double[] values = new double[limits.size()];
+        limits.readValuesDc(1.0, values);
+        for (int k = 0; k < limits.size(); k++) {
+            if (limits.getId(k).equals("NHV1_NHV2_1") && limits.getSide(k) == ThreeSides.ONE) {
+                assertEquals(LimitViolationDetection.getTerminalIOrAnApproximation(network.getLine("NHV1_NHV2_1").getTerminal1(), 1.0), values[k], 0);
+            }
+        }
+
+        double[] invalidValues = new double[limits.size() + 1];
+        Set<LoadingLimitType> loadingLimitTypes = EnumSet.allOf(LoadingLimitType.class);
+        assertThrows(IllegalArgumentException.class, () -> limits.check(invalidValues, loadingLimitTypes, violationsCollector::add));
+        CompiledLoadingLimits activePowerLimits = CompiledLoadingLimits.compile(network, LimitType.ACTIVE_POWER, LimitsComputer.NO_MODIFICATIONS);
+        assertThrows(IllegalStateException.class, () -> activePowerLimits.readValuesDc(1.0, values));
+    }
+}
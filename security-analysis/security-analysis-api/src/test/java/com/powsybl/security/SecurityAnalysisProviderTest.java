@@ -18,6 +18,6 @@ class SecurityAnalysisProviderTest {
 
     @Test
     void findAllProvidersTest() {
-        assertEquals(5, SecurityAnalysisProvider.findAll().size());
+        assertEquals(6, SecurityAnalysisProvider.findAll().size());
     }
 }
@@ -13,6 +13,7 @@ import com.powsybl.security.strategy.ConditionalActions;
 import com.powsybl.security.strategy.OperatorStrategy;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -149,6 +150,63 @@ class SecurityAnalysisResultBuilderTest {
         assertEquals(1, violations2.stream().filter(l -> l.getLimitType() == LimitViolationType.HIGH_VOLTAGE).count());
     }
 
+    @Test
+    void completeResultWithSink() {
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        List<SecurityAnalysisResult> summaries = new ArrayList<>();
+        SecurityAnalysisResultSink sink = new SecurityAnalysisResultSink() {
+            @Override
+            public void writePostContingencyResult(PostContingencyResult result) {
+                postContingencyResults.add(result);
+            }
+
+            @Override
+            public void end(SecurityAnalysisResult summary) {
+                summaries.add(summary);
+            }
+        };
+        List<PostContingencyResult> interceptedPostContingencyResults = new ArrayList<>();
+        List<SecurityAnalysisResult> interceptedResults = new ArrayList<>();
+        SecurityAnalysisInterceptor interceptor = new DefaultSecurityAnalysisInterceptor() {
+            @Override
+            public void onPostContingencyResult(PostContingencyResult postContingencyResult, SecurityAnalysisResultContext context) {
+                interceptedPostContingencyResults.add(postContingencyResult);
+            }
+
+            @Override
+            public void onSecurityAnalysisResult(SecurityAnalysisResult result, SecurityAnalysisResultContext context) {
+                interceptedResults.add(result);
+            }
+        };
+        SecurityAnalysisResultBuilder builder = new SecurityAnalysisResultBuilder(new LimitViolationFilter(),
+                new RunningContext(network, network.getVariantManager().getWorkingVariantId()), List.of(interceptor), sink);
+
+        builder.preContingency()
+                .setStatus(LoadFlowResult.ComponentResult.Status.CONVERGED)
+                .endPreContingency();
+        builder.contingency(new Contingency("contingency1"))
+                .setStatus(PostContingencyComputationStatus.CONVERGED)
+                .setConnectivityResult(new ConnectivityResult(0, 0, 0.0, 0.0, Collections.emptySet()))
+                .endContingency();
+        assertEquals(1, postContingencyResults.size());
+        assertEquals("contingency1", postContingencyResults.get(0).getContingency().getId());
+        assertTrue(summaries.isEmpty());
+
+        builder.contingency(new Contingency("contingency2"))
+                .setStatus(PostContingencyComputationStatus.FAILED)
+                .setConnectivityResult(new ConnectivityResult(0, 0, 0.0, 0.0, Collections.emptySet()))
+                .endContingency();
+        SecurityAnalysisResult res = builder.build();
+
+        assertTrue(res.getPostContingencyResults().isEmpty());
+        assertSame(LoadFlowResult.ComponentResult.Status.CONVERGED, res.getPreContingencyResult().getStatus());
+        assertEquals(List.of("contingency1", "contingency2"), postContingencyResults.stream().map(r -> r.getContingency().getId()).toList());
+        assertEquals(List.of(res), summaries);
+        // interceptors receive each post-contingency result, but not in the final result
+        assertEquals(postContingencyResults, interceptedPostContingencyResults);
+        assertEquals(List.of(res), interceptedResults);
+    }
+
     static class MockContext extends DefaultSecurityAnalysisResultContext {
 
         private int calledCount = 0;
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Yichen Tang {@literal <yichen.tang at rte-france.com>}
@@ -75,4 +76,20 @@ class SecurityAnalysisResultMergerTest {
         SecurityAnalysisResult mergedResult = SecurityAnalysisResultMerger.merge(results);
         assertEquals(SecurityAnalysisResultMerger.FAILED_SECURITY_ANALYSIS_RESULT, mergedResult);
     }
+
+    @Test
+    void testAccumulator() {
+        SecurityAnalysisResultMerger.Accumulator accumulator = new SecurityAnalysisResultMerger.Accumulator(2);
+        accumulator.add(1, result2);
+        assertThrows(IllegalStateException.class, accumulator::getResult);
+        accumulator.add(0, result1);
+        assertThrows(IllegalStateException.class, () -> accumulator.add(0, result1));
+        SecurityAnalysisResult mergedResult = accumulator.getResult();
+        assertEquals(preContingencyResult, mergedResult.getPreContingencyLimitViolationsResult());
+        assertEquals(Arrays.asList(postContingencyResult, postContingencyResult2), mergedResult.getPostContingencyResults());
+
+        assertEquals(SecurityAnalysisResultMerger.FAILED_SECURITY_ANALYSIS_RESULT, new SecurityAnalysisResultMerger.Accumulator(2)
+                .add(1, failedResult)
+                .getResult());
+    }
 }
@@ -179,6 +179,56 @@ class ExporterTest extends AbstractSerDeTest {
         assertThrows(PowsyblException.class, () -> SecurityAnalysisResultExporters.export(result, null, pathInvalidFormat, "XXX"));
     }
 
+    private static SecurityAnalysisResult writeToSink(SecurityAnalysisResult result, SecurityAnalysisResultSink sink) {
+        result.getPostContingencyResults().forEach(sink::writePostContingencyResult);
+        SecurityAnalysisResult summary = new SecurityAnalysisResult(result.getPreContingencyResult(), Collections.emptyList(), result.getOperatorStrategyResults())
+                .setNetworkMetadata(result.getNetworkMetadata());
+        sink.end(summary);
+        return summary;
+    }
+
+    private static String toJson(SecurityAnalysisResult result) {
+        StringWriter writer = new StringWriter();
+        SecurityAnalysisResultExporters.export(result, null, writer, "JSON");
+        return writer.toString();
+    }
+
+    @Test
+    void streamJson() throws IOException {
+        SecurityAnalysisResult result = create();
+
+        Path path = tmpDir.resolve("result.json");
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            writeToSink(result, SecurityAnalysisResultExporters.createSink(null, writer, "JSON"));
+        }
+        assertEquals(toJson(result), toJson(SecurityAnalysisResultDeserializer.read(path)));
+
+        // Check invalid format
+        Writer writer = new StringWriter();
+        assertThrows(PowsyblException.class, () -> SecurityAnalysisResultExporters.createSink(null, writer, "XXX"));
+    }
+
+    @Test
+    void roundTripBinary() throws IOException {
+        SecurityAnalysisResult result = create();
+
+        Path path = tmpDir.resolve("result.bin");
+        try (OutputStream os = Files.newOutputStream(path)) {
+            writeToSink(result, new SecurityAnalysisResultBinaryWriter(os));
+        }
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        SecurityAnalysisResult summary = SecurityAnalysisResultBinaryReader.read(path, postContingencyResults::add);
+        assertTrue(summary.getPostContingencyResults().isEmpty());
+        assertEquals(1, postContingencyResults.size());
+        assertEquals("contingency", postContingencyResults.get(0).getContingency().getId());
+        assertEquals(toJson(result), toJson(SecurityAnalysisResultBinaryReader.read(path)));
+
+        // Check invalid file
+        Path invalidPath = tmpDir.resolve("invalid.bin");
+        Files.write(invalidPath, new byte[] {1, 2, 3});
+        assertThrows(UncheckedIOException.class, () -> SecurityAnalysisResultBinaryReader.read(invalidPath));
+    }
+
     private static void writeJson(SecurityAnalysisResult result, Path path) {
         SecurityAnalysisResultExporter exporter = SecurityAnalysisResultExporters.getExporter("JSON");
         assertNotNull(exporter);
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.distributed;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.*;
+import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
+import com.powsybl.security.results.PostContingencyResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class LocalDistributedSecurityAnalysisExecutionTest {
+
+    private static final Set<String> VARIANT_IDS = Collections.synchronizedSet(new HashSet<>());
+
+    private static volatile boolean failing = false;
+
+    private Network network;
+
+    private SecurityAnalysisExecutionInput input;
+
+    private List<Contingency> contingencies;
+
+    @BeforeEach
+    void setUp() {
+        network = EurostagTutorialExample1Factory.create();
+        input = new SecurityAnalysisExecutionInput()
+                .setNetworkVariant(network, VariantManagerConstants.INITIAL_VARIANT_ID);
+        contingencies = IntStream.range(0, 10).mapToObj(i -> new Contingency("c" + i)).toList();
+        VARIANT_IDS.clear();
+        failing = false;
+    }
+
+    private LocalDistributedSecurityAnalysisExecution createExecution(int subtaskCount) {
+        return new LocalDistributedSecurityAnalysisExecution("LocalDistributedTestProvider",
+            executionInput -> new SecurityAnalysisInput(executionInput.getNetworkVariant())
+                    .setContingencies(n -> contingencies),
+            subtaskCount, 2);
+    }
+
+    @Test
+    void test() {
+        SecurityAnalysisResult result = createExecution(4).execute(LocalComputationManager.getDefault(), input)
+                .join()
+                .getResult();
+        assertEquals(LoadFlowResult.ComponentResult.Status.CONVERGED, result.getPreContingencyResult().getStatus());
+        assertEquals(contingencies.stream().map(Contingency::getId).toList(),
+                result.getPostContingencyResults().stream().map(r -> r.getContingency().getId()).toList());
+        assertEquals(4, VARIANT_IDS.size());
+        assertFalse(VARIANT_IDS.contains(VariantManagerConstants.INITIAL_VARIANT_ID));
+        // subtask variants are removed
+        assertEquals(List.of(VariantManagerConstants.INITIAL_VARIANT_ID), new ArrayList<>(network.getVariantManager().getVariantIds()));
+        // variant multi-thread access is disabled again
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    void testMultiThreadAccessAlreadyAllowed() {
+        network.getVariantManager().allowVariantMultiThreadAccess(true);
+        createExecution(4).execute(LocalComputationManager.getDefault(), input).join();
+        assertTrue(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+        assertEquals(List.of(VariantManagerConstants.INITIAL_VARIANT_ID), new ArrayList<>(network.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    void testMoreSubtasksThanContingencies() {
+        contingencies = contingencies.subList(0, 3);
+        SecurityAnalysisResult result = createExecution(8).execute(LocalComputationManager.getDefault(), input)
+                .join()
+                .getResult();
+        assertEquals(3, result.getPostContingencyResults().size());
+        assertEquals(3, VARIANT_IDS.size());
+    }
+
+    @Test
+    void testFailure() {
+        failing = true;
+        CompletableFuture<SecurityAnalysisReport> future = createExecution(4).execute(LocalComputationManager.getDefault(), input);
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertEquals("Failure", e.getCause().getMessage());
+        assertEquals(List.of(VariantManagerConstants.INITIAL_VARIANT_ID), new ArrayList<>(network.getVariantManager().getVariantIds()));
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> createExecution(0));
+    }
+
+    @AutoService(SecurityAnalysisProvider.class)
+    public static class SecurityAnalysisProviderMock implements SecurityAnalysisProvider {
+
+        @Override
+        public CompletableFuture<SecurityAnalysisReport> run(Network network, String workingVariantId, ContingenciesProvider contingenciesProvider, SecurityAnalysisRunParameters runParameters) {
+            if (failing) {
+                throw new IllegalStateException("Failure");
+            }
+            network.getVariantManager().setWorkingVariant(workingVariantId);
+            VARIANT_IDS.add(workingVariantId);
+            List<PostContingencyResult> postContingencyResults = contingenciesProvider.getContingencies(network).stream()
+                    .map(c -> new PostContingencyResult(c, PostContingencyComputationStatus.CONVERGED, Collections.emptyList()))
+                    .toList();
+            return CompletableFuture.completedFuture(new SecurityAnalysisReport(
+                    new SecurityAnalysisResult(LimitViolationsResult.empty(), LoadFlowResult.ComponentResult.Status.CONVERGED, postContingencyResults)));
+        }
+
+        @Override
+        public String getName() {
+            return "LocalDistributedTestProvider";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1.0";
+        }
+    }
+}
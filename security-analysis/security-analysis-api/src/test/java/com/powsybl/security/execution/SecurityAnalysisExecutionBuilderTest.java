@@ -17,6 +17,7 @@ import com.powsybl.security.*;
 import com.powsybl.security.distributed.DistributedSecurityAnalysisExecution;
 import com.powsybl.security.distributed.ExternalSecurityAnalysisConfig;
 import com.powsybl.security.distributed.ForwardedSecurityAnalysisExecution;
+import com.powsybl.security.distributed.LocalDistributedSecurityAnalysisExecution;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -93,6 +94,13 @@ class SecurityAnalysisExecutionBuilderTest {
         assertInstanceOf(DistributedSecurityAnalysisExecution.class, builder.build());
     }
 
+    @Test
+    void checkLocalDistributed() {
+        builder.distributed(12)
+                .local(true);
+        assertInstanceOf(LocalDistributedSecurityAnalysisExecution.class, builder.build());
+    }
+
     @Test
     void checkSubtaskHasOnly5Contingencies() {
         SecurityAnalysisExecution execution = builder.subTask(new Partition(1, 2)).build();
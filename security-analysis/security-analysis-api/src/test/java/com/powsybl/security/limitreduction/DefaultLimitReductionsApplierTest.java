@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -221,6 +222,84 @@ class DefaultLimitReductionsApplierTest {
         assertTrue(optLimits.get().isDistinct());
     }
 
+    @Test
+    void sharedCacheTest() {
+        Network network2 = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        Line line1 = network2.getLine("NHV1_NHV2_1");
+        Line line2 = network2.getLine("NHV1_NHV2_2");
+        List<LimitReduction> reductions = List.of(
+                LimitReduction.builder(LimitType.CURRENT, 0.9)
+                        .withContingencyContext(ContingencyContext.specificContingency("contingency1"))
+                        .withNetworkElementCriteria(new NetworkElementIdListCriterion(Set.of("NHV1_NHV2_1")))
+                        .build(),
+                LimitReduction.builder(LimitType.CURRENT, 0.5)
+                        .withNetworkElementCriteria(new NetworkElementIdListCriterion(Set.of("NHV1_NHV2_2")))
+                        .build());
+        ReducedLimitsCache<Identifiable<?>, LoadingLimits> cache = new ReducedLimitsCache<>();
+        assertTrue(Double.isNaN(cache.getHitRate()));
+        DefaultLimitReductionsApplier applier1 = new DefaultLimitReductionsApplier(reductions, cache);
+        DefaultLimitReductionsApplier applier2 = new DefaultLimitReductionsApplier(reductions, cache);
+
+        LimitsContainer<LoadingLimits> limits1 = applier1.computeLimits(line2, LimitType.CURRENT, ThreeSides.ONE, false).orElseThrow();
+        assertEquals(550, limits1.getLimits().getPermanentLimit(), 0.01);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // same reductions in another applier: the reduced limits are reused
+        assertSame(limits1, applier2.computeLimits(line2, LimitType.CURRENT, ThreeSides.ONE, false).orElseThrow());
+        // same applicable reductions for another contingency: the reduced limits are reused
+        applier2.setWorkingContingency("contingency0");
+        assertSame(limits1, applier2.computeLimits(line2, LimitType.CURRENT, ThreeSides.ONE, false).orElseThrow());
+        assertEquals(1, cache.getHitCount());
+
+        // other applicable reductions: the reduced limits are computed again
+        applier2.setWorkingContingency("contingency1");
+        LimitsContainer<LoadingLimits> limits2 = applier2.computeLimits(line2, LimitType.CURRENT, ThreeSides.ONE, false).orElseThrow();
+        assertNotSame(limits1, limits2);
+        assertEquals(550, limits2.getLimits().getPermanentLimit(), 0.01);
+        assertEquals(450, applier2.computeLimits(line1, LimitType.CURRENT, ThreeSides.ONE, false).orElseThrow().getLimits().getPermanentLimit(), 0.01);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.25, cache.getHitRate(), 0);
+        assertEquals(3, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void sharedCacheEvictionTest() {
+        Network network2 = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        List<LimitReduction> reductions = List.of(LimitReduction.builder(LimitType.CURRENT, 0.5).build());
+        ReducedLimitsCache<Identifiable<?>, LoadingLimits> cache = new ReducedLimitsCache<>(1);
+        assertEquals(1, cache.getMaxSize());
+        DefaultLimitReductionsApplier applier1 = new DefaultLimitReductionsApplier(reductions, cache);
+        applier1.computeLimits(network2.getLine("NHV1_NHV2_1"), LimitType.CURRENT, ThreeSides.ONE, false);
+        applier1.computeLimits(network2.getLine("NHV1_NHV2_2"), LimitType.CURRENT, ThreeSides.ONE, false);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertThrows(IllegalArgumentException.class, () -> new ReducedLimitsCache<>(0));
+    }
+
+    @Test
+    void sharedCacheMultiThreadTest() {
+        Network network2 = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        List<Line> lines = network2.getLineStream().toList();
+        List<LimitReduction> reductions = List.of(LimitReduction.builder(LimitType.CURRENT, 0.5).build());
+        ReducedLimitsCache<Identifiable<?>, LoadingLimits> cache = new ReducedLimitsCache<>();
+        int workerCount = 8;
+        List<LimitsContainer<LoadingLimits>> limits = IntStream.range(0, workerCount).parallel()
+                .mapToObj(i -> new DefaultLimitReductionsApplier(reductions, cache))
+                .flatMap(a -> lines.stream().map(l -> a.computeLimits(l, LimitType.CURRENT, ThreeSides.TWO, false).orElseThrow()))
+                .toList();
+        assertEquals(workerCount * lines.size(), limits.size());
+        assertTrue(limits.stream().allMatch(l -> Math.abs(l.getLimits().getPermanentLimit() - 0.5 * l.getOriginalLimits().getPermanentLimit()) < 0.01));
+        assertEquals(lines.size(), cache.size());
+        assertEquals(workerCount * lines.size(), cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getHitCount() > 0);
+    }
+
     @ParameterizedTest(name = "{0}")
     @MethodSource("getNoChangesComputers")
     void noChangesTest(String desc, DefaultLimitReductionsApplier noChangesComputer) {
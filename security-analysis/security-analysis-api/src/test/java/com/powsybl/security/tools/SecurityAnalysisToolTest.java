@@ -17,14 +17,18 @@ import com.powsybl.computation.ComputationException;
 import com.powsybl.computation.ComputationExceptionBuilder;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.ImportersLoaderList;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowResult;
 import com.powsybl.security.*;
 import com.powsybl.security.distributed.ExternalSecurityAnalysisConfig;
 import com.powsybl.security.execution.SecurityAnalysisExecutionBuilder;
 import com.powsybl.security.execution.SecurityAnalysisExecutionInput;
+import com.powsybl.security.json.SecurityAnalysisResultDeserializer;
 import com.powsybl.security.preprocessor.SecurityAnalysisPreprocessor;
 import com.powsybl.security.preprocessor.SecurityAnalysisPreprocessorFactory;
+import com.powsybl.security.results.PostContingencyResult;
 import com.powsybl.security.results.PreContingencyResult;
 import com.powsybl.tools.test.AbstractToolTest;
 import com.powsybl.tools.Tool;
@@ -72,12 +76,13 @@ class SecurityAnalysisToolTest extends AbstractToolTest {
 
     @Override
     public void assertCommand() {
-        assertCommand(tool.getCommand(), "security-analysis", 14, 1);
+        assertCommand(tool.getCommand(), "security-analysis", 15, 1);
         assertOption(tool.getCommand().getOptions(), "case-file", true, true);
         assertOption(tool.getCommand().getOptions(), "parameters-file", false, true);
         assertOption(tool.getCommand().getOptions(), "limit-types", false, true);
         assertOption(tool.getCommand().getOptions(), "output-file", false, true);
         assertOption(tool.getCommand().getOptions(), "output-format", false, true);
+        assertOption(tool.getCommand().getOptions(), "stream-output", false, false);
         assertOption(tool.getCommand().getOptions(), "contingencies-file", false, true);
         assertOption(tool.getCommand().getOptions(), "with-extensions", false, true);
         assertOption(tool.getCommand().getOptions(), "task-count", false, true);
@@ -240,6 +245,35 @@ class SecurityAnalysisToolTest extends AbstractToolTest {
         }
     }
 
+    @Test
+    void testRunWithStreamedOutput() throws Exception {
+        try (ByteArrayOutputStream bout = new ByteArrayOutputStream();
+             ByteArrayOutputStream berr = new ByteArrayOutputStream();
+             PrintStream out = new PrintStream(bout);
+             PrintStream err = new PrintStream(berr);
+             ComputationManager cm = mock(ComputationManager.class)) {
+            CommandLine cl = mockCommandLine(ImmutableMap.of("case-file", "network.xml",
+                    SecurityAnalysisToolConstants.OUTPUT_FILE_OPTION, "result.json",
+                    SecurityAnalysisToolConstants.OUTPUT_FORMAT_OPTION, "JSON"),
+                    ImmutableSet.of("skip-postproc", SecurityAnalysisToolConstants.STREAM_OUTPUT_OPTION));
+
+            ToolRunningContext context = new ToolRunningContext(out, err, fileSystem, cm, cm);
+
+            SecurityAnalysisExecutionBuilder builder = new SecurityAnalysisExecutionBuilder(ExternalSecurityAnalysisConfig::new,
+                    "SecurityAnalysisToolStreamingProviderMock",
+                executionInput -> new SecurityAnalysisInput(executionInput.getNetworkVariant()));
+
+            tool.run(cl, context, builder,
+                    new ImportersLoaderList(new NetworkImporterMock()),
+                    TableFormatterConfig::new);
+
+            // post-contingency results written to the sink are in the output file
+            SecurityAnalysisResult result = SecurityAnalysisResultDeserializer.read(fileSystem.getPath("result.json"));
+            assertEquals(List.of("contingency1"), result.getPostContingencyResults().stream().map(r -> r.getContingency().getId()).toList());
+            assertTrue(bout.toString().contains("as they are computed"));
+        }
+    }
+
     @Test
     void testRunWithBuilderCreation() throws Exception {
 
@@ -285,6 +319,32 @@ class SecurityAnalysisToolTest extends AbstractToolTest {
         }
     }
 
+    @AutoService(SecurityAnalysisProvider.class)
+    public static class SecurityAnalysisStreamingProviderMock implements SecurityAnalysisProvider {
+
+        @Override
+        public CompletableFuture<SecurityAnalysisReport> run(Network network, String workingVariantId, ContingenciesProvider contingenciesProvider, SecurityAnalysisRunParameters runParameters) {
+            SecurityAnalysisResultSink sink = runParameters.getResultSink();
+            assertNotNull(sink);
+            sink.writePostContingencyResult(new PostContingencyResult(new Contingency("contingency1"), PostContingencyComputationStatus.CONVERGED,
+                    Collections.emptyList()));
+            SecurityAnalysisResult summary = new SecurityAnalysisResult(LimitViolationsResult.empty(), LoadFlowResult.ComponentResult.Status.CONVERGED,
+                    Collections.emptyList());
+            sink.end(summary);
+            return CompletableFuture.completedFuture(new SecurityAnalysisReport(summary));
+        }
+
+        @Override
+        public String getName() {
+            return "SecurityAnalysisToolStreamingProviderMock";
+        }
+
+        @Override
+        public String getVersion() {
+            return "1.0";
+        }
+    }
+
     @AutoService(SecurityAnalysisProvider.class)
     public static class SecurityAnalysisExceptionProviderMock implements SecurityAnalysisProvider {
 
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Run a sensitivity analysis on the factors of a {@link SensitivityFactorPartitionedReader}.
+ * <p>
+ * Partitions are parsed concurrently on the executor of the computation manager, at most {@code parallelism}
+ * partitions ahead of the one being computed, so that only a bounded number of partitions are in memory. The
+ * provider is run on each partition in the partition order, as soon as the partition is parsed, and its results are
+ * written to the result writer with the factor indexes shifted by the number of factors of the previous partitions.
+ * Contingency statuses are merged over the partitions and written at the end: a contingency fails if it failed for
+ * one of the partitions, and has no impact if it had no impact for all of them.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class PartitionedSensitivityAnalysis {
+
+    private final SensitivityAnalysisProvider provider;
+    private final Network network;
+    private final String workingVariantId;
+    private final SensitivityFactorPartitionedReader factorReader;
+    private final SensitivityResultWriter resultWriter;
+    private final List<Contingency> contingencies;
+    private final List<SensitivityVariableSet> variableSets;
+    private final SensitivityAnalysisParameters parameters;
+    private final ComputationManager computationManager;
+    private final ReportNode reportNode;
+    private final int parallelism;
+
+    private final List<CompletableFuture<List<SensitivityFactor>>> parsedPartitions;
+
+    private final SensitivityAnalysisResult.Status[] statuses;
+
+    PartitionedSensitivityAnalysis(SensitivityAnalysisProvider provider, Network network, String workingVariantId,
+                                   SensitivityFactorPartitionedReader factorReader, SensitivityResultWriter resultWriter,
+                                   List<Contingency> contingencies, List<SensitivityVariableSet> variableSets,
+                                   SensitivityAnalysisParameters parameters, ComputationManager computationManager,
+                                   ReportNode reportNode, int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        this.provider = provider;
+        this.network = network;
+        this.workingVariantId = workingVariantId;
+        this.factorReader = factorReader;
+        this.resultWriter = resultWriter;
+        this.contingencies = contingencies;
+        this.variableSets = variableSets;
+        this.parameters = parameters;
+        this.computationManager = computationManager;
+        this.reportNode = reportNode;
+        this.parallelism = parallelism;
+        int partitionCount = factorReader.getPartitionCount();
+        parsedPartitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            parsedPartitions.add(null);
+        }
+        statuses = new SensitivityAnalysisResult.Status[contingencies.size()];
+    }
+
+    private static List<SensitivityFactor> parse(SensitivityFactorReader reader) {
+        List<SensitivityFactor> factors = new ArrayList<>();
+        reader.read((functionType, functionId, variableType, variableId, variableSet, contingencyContext) ->
+                factors.add(new SensitivityFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext)));
+        return factors;
+    }
+
+    private synchronized CompletableFuture<List<SensitivityFactor>> schedule(int partition) {
+        CompletableFuture<List<SensitivityFactor>> future = parsedPartitions.get(partition);
+        if (future == null) {
+            Executor executor = computationManager.getExecutor();
+            SensitivityFactorReader partitionReader = factorReader.getPartition(partition);
+            future = CompletableFuture.supplyAsync(() -> parse(partitionReader), executor);
+            parsedPartitions.set(partition, future);
+        }
+        return future;
+    }
+
+    private synchronized void release(int partition) {
+        // completed futures are kept to be able to detect an already scheduled partition, but not their factors
+        parsedPartitions.set(partition, CompletableFuture.completedFuture(List.of()));
+    }
+
+    private static SensitivityAnalysisResult.Status merge(SensitivityAnalysisResult.Status status1, SensitivityAnalysisResult.Status status2) {
+        if (status1 == null || status1 == SensitivityAnalysisResult.Status.NO_IMPACT
+                || status2 == SensitivityAnalysisResult.Status.FAILURE) {
+            return status2;
+        }
+        return status1;
+    }
+
+    private SensitivityResultWriter createPartitionResultWriter(int factorOffset) {
+        return new SensitivityResultWriter() {
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+                resultWriter.writeSensitivityValue(factorOffset + factorIndex, contingencyIndex, value, functionReference);
+            }
+
+            @Override
+            public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+                statuses[contingencyIndex] = merge(statuses[contingencyIndex], status);
+            }
+        };
+    }
+
+    private CompletableFuture<Void> run(int partition, int factorOffset) {
+        if (partition == parsedPartitions.size()) {
+            for (int i = 0; i < statuses.length; i++) {
+                if (statuses[i] != null) {
+                    resultWriter.writeContingencyStatus(i, statuses[i]);
+                }
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        int ahead = partition + parallelism - 1;
+        if (ahead < parsedPartitions.size()) {
+            schedule(ahead);
+        }
+        return schedule(partition).thenCompose(factors -> {
+            release(partition);
+            SensitivityFactorReader partitionReader = handler -> {
+                for (SensitivityFactor factor : factors) {
+                    handler.onFactor(factor.getFunctionType(), factor.getFunctionId(), factor.getVariableType(), factor.getVariableId(),
+                            factor.isVariableSet(), factor.getContingencyContext());
+                }
+            };
+            return provider.run(network, workingVariantId, partitionReader, createPartitionResultWriter(factorOffset), contingencies,
+                            variableSets, parameters, computationManager, reportNode)
+                    // the next partition is run asynchronously, so that already completed futures do not make the stack grow
+                    // with the number of partitions
+                    .thenComposeAsync(unused -> run(partition + 1, factorOffset + factors.size()), computationManager.getExecutor());
+        });
+    }
+
+    CompletableFuture<Void> run() {
+        for (int partition = 0; partition < Math.min(parallelism, parsedPartitions.size()); partition++) {
+            schedule(partition);
+        }
+        return run(0, 0);
+    }
+}
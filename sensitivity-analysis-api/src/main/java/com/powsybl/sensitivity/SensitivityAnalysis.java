@@ -69,6 +69,36 @@ public final class SensitivityAnalysis {
             return provider.run(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode);
         }
 
+        /**
+         * Run the analysis on each partition of the factors in the partition order, partitions being parsed
+         * concurrently, at most {@code parallelism} partitions ahead of the partition being computed.
+         * Factor indexes of the results are the indexes of the factors in the concatenation of the partitions.
+         */
+        public CompletableFuture<Void> runAsync(Network network,
+                                                String workingVariantId,
+                                                SensitivityFactorPartitionedReader factorReader,
+                                                SensitivityResultWriter resultWriter,
+                                                List<Contingency> contingencies,
+                                                List<SensitivityVariableSet> variableSets,
+                                                SensitivityAnalysisParameters parameters,
+                                                ComputationManager computationManager,
+                                                ReportNode reportNode,
+                                                int parallelism) {
+            Objects.requireNonNull(network, "Network should not be null");
+            Objects.requireNonNull(workingVariantId, "Working variant ID should not be null");
+            Objects.requireNonNull(factorReader, "Sensitivity factors reader should not be null");
+            Objects.requireNonNull(resultWriter, "Sensitivity results writer should not be null");
+            Objects.requireNonNull(contingencies, "Contingency list should not be null");
+            Objects.requireNonNull(variableSets, "VariableSet list should not be null");
+            Objects.requireNonNull(parameters, "Sensitivity analysis parameters should not be null");
+            Objects.requireNonNull(computationManager, "Computation manager should not be null");
+            Objects.requireNonNull(reportNode, "ReportNode should not be null");
+
+            return new PartitionedSensitivityAnalysis(provider, network, workingVariantId, factorReader, resultWriter, contingencies,
+                    variableSets, parameters, computationManager, reportNode, parallelism)
+                    .run();
+        }
+
         public CompletableFuture<SensitivityAnalysisResult> runAsync(Network network,
                                                                      String workingVariantId,
                                                                      List<SensitivityFactor> factors,
@@ -87,10 +117,10 @@ public final class SensitivityAnalysis {
             Objects.requireNonNull(reportNode, "ReportNode should not be null");
 
             SensitivityFactorReader factorReader = new SensitivityFactorModelReader(factors, network);
-            SensitivityResultModelWriter resultWriter = new SensitivityResultModelWriter(contingencies);
+            SensitivityResultMatrixWriter resultWriter = new SensitivityResultMatrixWriter(factors, contingencies);
 
             return provider.run(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode)
-                    .thenApply(unused -> new SensitivityAnalysisResult(factors, resultWriter.getContingencyStatuses(), resultWriter.getValues()));
+                    .thenApply(unused -> resultWriter.getResult());
         }
 
         public void run(Network network,
@@ -105,6 +135,19 @@ public final class SensitivityAnalysis {
             runAsync(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode).join();
         }
 
+        public void run(Network network,
+                        String workingVariantId,
+                        SensitivityFactorPartitionedReader factorReader,
+                        SensitivityResultWriter resultWriter,
+                        List<Contingency> contingencies,
+                        List<SensitivityVariableSet> variableSets,
+                        SensitivityAnalysisParameters parameters,
+                        ComputationManager computationManager,
+                        ReportNode reportNode) {
+            runAsync(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode,
+                    Runtime.getRuntime().availableProcessors()).join();
+        }
+
         public SensitivityAnalysisResult run(Network network,
                                              String workingVariantId,
                                              List<SensitivityFactor> factors,
@@ -203,6 +246,19 @@ public final class SensitivityAnalysis {
         return find().runAsync(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode);
     }
 
+    public static CompletableFuture<Void> runAsync(Network network,
+                                                   String workingVariantId,
+                                                   SensitivityFactorPartitionedReader factorReader,
+                                                   SensitivityResultWriter resultWriter,
+                                                   List<Contingency> contingencies,
+                                                   List<SensitivityVariableSet> variableSets,
+                                                   SensitivityAnalysisParameters parameters,
+                                                   ComputationManager computationManager,
+                                                   ReportNode reportNode,
+                                                   int parallelism) {
+        return find().runAsync(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode, parallelism);
+    }
+
     public static CompletableFuture<SensitivityAnalysisResult> runAsync(Network network,
                                                                         String workingVariantId,
                                                                         List<SensitivityFactor> factors,
@@ -226,6 +282,18 @@ public final class SensitivityAnalysis {
         find().run(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode);
     }
 
+    public static void run(Network network,
+                           String workingVariantId,
+                           SensitivityFactorPartitionedReader factorReader,
+                           SensitivityResultWriter resultWriter,
+                           List<Contingency> contingencies,
+                           List<SensitivityVariableSet> variableSets,
+                           SensitivityAnalysisParameters parameters,
+                           ComputationManager computationManager,
+                           ReportNode reportNode) {
+        find().run(network, workingVariantId, factorReader, resultWriter, contingencies, variableSets, parameters, computationManager, reportNode);
+    }
+
     public static SensitivityAnalysisResult run(Network network,
                                                 String workingVariantId,
                                                 List<SensitivityFactor> factors,
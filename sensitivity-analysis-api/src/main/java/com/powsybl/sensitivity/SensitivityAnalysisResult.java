@@ -12,7 +12,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.contingency.Contingency;
-import org.jgrapht.alg.util.Triple;
+import org.jgrapht.alg.util.Pair;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -24,6 +24,12 @@ import java.util.*;
  * <p>
  *     Composed of a list of sensitivity values in pre-contingency and post-contingency states.
  * </p>
+ * <p>
+ *     Sensitivity values and function reference values are stored in primitive arrays indexed by factor index and
+ *     contingency index, contingency ids and factors being mapped to these indexes once, so that a value is
+ *     retrieved without creating any intermediate object. When a value has been written several times for the same
+ *     factor and the same contingency, the last one written is retrieved.
+ * </p>
  *
  * Sensitivity analysis is used to assess the impact of a small modification of a network variables on the value of
  * network functions. A combination of a variable and a function is called a sensitivity factor. It returns
@@ -47,13 +53,13 @@ public class SensitivityAnalysisResult {
 
     private final List<SensitivityContingencyStatus> contingencyStatuses;
 
-    private final List<SensitivityValue> values;
+    private final SensitivityValueMatrix matrix;
 
-    private final Map<String, List<SensitivityValue>> valuesByContingencyId = new HashMap<>();
+    private final Map<String, Integer> contingencyIndexById = new HashMap<>();
 
-    private final Map<SensitivityValueKey, SensitivityValue> valuesByContingencyIdAndFunctionAndVariable = new HashMap<>();
+    private final Map<SensitivityValueKey, int[]> factorIndexesByFunctionAndVariable = new HashMap<>();
 
-    private final Map<Triple<SensitivityFunctionType, String, String>, Double> functionReferenceByContingencyAndFunction = new HashMap<>();
+    private final Map<Pair<SensitivityFunctionType, String>, int[]> factorIndexesByFunction = new HashMap<>();
 
     private final Map<String, SensitivityContingencyStatus> statusByContingencyId = new HashMap<>();
 
@@ -141,23 +147,70 @@ public class SensitivityAnalysisResult {
      * @param values result values of the sensitivity analysis in pre-contingency state and post-contingency states.
      */
     public SensitivityAnalysisResult(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses, List<SensitivityValue> values) {
+        this(factors, contingencyStatuses, SensitivityValueMatrix.of(factors.size(), contingencyStatuses.size(), Objects.requireNonNull(values)));
+    }
+
+    /**
+     * Sensitivity analysis result whose values have been directly written in a matrix, see {@link SensitivityResultMatrixWriter}.
+     */
+    SensitivityAnalysisResult(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses, SensitivityValueMatrix matrix) {
         this.factors = Collections.unmodifiableList(Objects.requireNonNull(factors));
         this.contingencyStatuses = Collections.unmodifiableList(Objects.requireNonNull(contingencyStatuses));
-        this.values = Collections.unmodifiableList(Objects.requireNonNull(values));
-        for (SensitivityValue value : values) {
-            SensitivityFactor factor = factors.get(value.getFactorIndex());
-            String contingencyId = value.getContingencyIndex() != -1 ? contingencyStatuses.get(value.getContingencyIndex()).getContingencyId() : null;
-            valuesByContingencyId.computeIfAbsent(contingencyId, k -> new ArrayList<>())
-                    .add(value);
-            valuesByContingencyIdAndFunctionAndVariable.put(new SensitivityValueKey(contingencyId, factor.getVariableId(), factor.getFunctionId(), factor.getFunctionType(), factor.getVariableType()), value);
-            functionReferenceByContingencyAndFunction.put(Triple.of(factor.getFunctionType(), contingencyId, factor.getFunctionId()), value.getFunctionReference());
+        this.matrix = Objects.requireNonNull(matrix);
+
+        // ids are mapped to indexes once, values are then directly read from the matrix
+        Map<SensitivityValueKey, List<Integer>> factorIndexesByKey = new HashMap<>();
+        Map<Pair<SensitivityFunctionType, String>, List<Integer>> factorIndexesByFunctionKey = new HashMap<>();
+        for (int factorIndex = 0; factorIndex < factors.size(); factorIndex++) {
+            SensitivityFactor factor = factors.get(factorIndex);
+            factorIndexesByKey.computeIfAbsent(new SensitivityValueKey(null, factor.getVariableId(), factor.getFunctionId(), factor.getFunctionType(), factor.getVariableType()),
+                    k -> new ArrayList<>(1)).add(factorIndex);
+            factorIndexesByFunctionKey.computeIfAbsent(Pair.of(factor.getFunctionType(), factor.getFunctionId()), k -> new ArrayList<>(1))
+                    .add(factorIndex);
         }
+        factorIndexesByKey.forEach((key, indexes) -> factorIndexesByFunctionAndVariable.put(key, toArray(indexes)));
+        factorIndexesByFunctionKey.forEach((key, indexes) -> factorIndexesByFunction.put(key, toArray(indexes)));
 
-        for (SensitivityContingencyStatus status : contingencyStatuses) {
+        for (int contingencyIndex = 0; contingencyIndex < contingencyStatuses.size(); contingencyIndex++) {
+            SensitivityContingencyStatus status = contingencyStatuses.get(contingencyIndex);
+            contingencyIndexById.putIfAbsent(status.getContingencyId(), contingencyIndex);
             this.statusByContingencyId.put(status.getContingencyId(), status);
         }
     }
 
+    private static int[] toArray(List<Integer> indexes) {
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Get the contingency index of a contingency id, -1 for the pre-contingency state (null id) and -2 for an unknown
+     * contingency.
+     */
+    private int getContingencyIndex(String contingencyId) {
+        if (contingencyId == null) {
+            return -1;
+        }
+        return contingencyIndexById.getOrDefault(contingencyId, -2);
+    }
+
+    /**
+     * Find among the given factors the one having the last value written for the given contingency.
+     */
+    private int findFactorIndex(int[] factorIndexes, int contingencyIndex) {
+        int lastFactorIndex = -1;
+        if (factorIndexes != null && contingencyIndex != -2) {
+            int lastPosition = -1;
+            for (int factorIndex : factorIndexes) {
+                int position = matrix.getPosition(factorIndex, contingencyIndex);
+                if (position > lastPosition) {
+                    lastPosition = position;
+                    lastFactorIndex = factorIndex;
+                }
+            }
+        }
+        return lastFactorIndex;
+    }
+
     /**
      * Get a list of all the sensitivity factors.
      *
@@ -182,7 +235,7 @@ public class SensitivityAnalysisResult {
      * @return a list of all the sensitivity values.
      */
     public List<SensitivityValue> getValues() {
-        return values;
+        return matrix.getValues();
     }
 
     /**
@@ -192,7 +245,8 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated to a given contingency ID.
      */
     public List<SensitivityValue> getValues(String contingencyId) {
-        return valuesByContingencyId.getOrDefault(contingencyId, Collections.emptyList());
+        int contingencyIndex = getContingencyIndex(contingencyId);
+        return contingencyIndex != -2 ? matrix.getValues(contingencyIndex) : Collections.emptyList();
     }
 
     /**
@@ -201,7 +255,7 @@ public class SensitivityAnalysisResult {
      * @return a list of all the pre-contingency sensitivity values.
      */
     public List<SensitivityValue> getPreContingencyValues() {
-        return valuesByContingencyId.getOrDefault(null, Collections.emptyList());
+        return matrix.getValues(-1);
     }
 
     /**
@@ -214,9 +268,10 @@ public class SensitivityAnalysisResult {
      * @return the sensitivity value associated with a given function and a given variable for a given contingency.
      */
     public double getSensitivityValue(String contingencyId, String variableId, String functionId, SensitivityFunctionType functionType, SensitivityVariableType variableType) {
-        SensitivityValue value = valuesByContingencyIdAndFunctionAndVariable.get(new SensitivityValueKey(contingencyId, variableId, functionId, functionType, variableType));
-        if (value != null) {
-            return value.getValue();
+        int contingencyIndex = getContingencyIndex(contingencyId);
+        int factorIndex = findFactorIndex(factorIndexesByFunctionAndVariable.get(new SensitivityValueKey(null, variableId, functionId, functionType, variableType)), contingencyIndex);
+        if (factorIndex != -1) {
+            return matrix.getValue(factorIndex, contingencyIndex);
         }
         throw new PowsyblException("Sensitivity value not found for contingency '" + contingencyId + "', function '"
                                    + functionId + "', variable '" + variableId + "'" + "', functionType '" + functionType);
@@ -404,12 +459,13 @@ public class SensitivityAnalysisResult {
      * @return the function reference value
      */
     public double getFunctionReferenceValue(String contingencyId, String functionId, SensitivityFunctionType functionType) {
-        Double value = functionReferenceByContingencyAndFunction.get(Triple.of(functionType, contingencyId, functionId));
-        if (value == null) {
+        int contingencyIndex = getContingencyIndex(contingencyId);
+        int factorIndex = findFactorIndex(factorIndexesByFunction.get(Pair.of(functionType, functionId)), contingencyIndex);
+        if (factorIndex == -1) {
             throw new PowsyblException("Reference flow value not found for contingency '" + contingencyId + "', function '" + functionId + "'"
                                        + "', functionType '" + functionType);
         }
-        return value;
+        return matrix.getFunctionReference(factorIndex, contingencyIndex);
     }
 
     /**
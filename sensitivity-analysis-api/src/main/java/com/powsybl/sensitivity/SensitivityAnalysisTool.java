@@ -105,7 +105,7 @@ public class SensitivityAnalysisTool implements Tool {
                     .argName("FILE")
                     .build());
                 options.addOption(Option.builder().longOpt(OUTPUT_FILE_OPTION)
-                    .desc("Sensitivity results output path")
+                    .desc("Sensitivity results output path (json, csv or bin)")
                     .hasArg()
                     .argName("FILE")
                     .required()
@@ -135,12 +135,20 @@ public class SensitivityAnalysisTool implements Tool {
         };
     }
 
-    private static boolean isCsv(Path outputFile) {
+    private enum OutputFormat {
+        JSON,
+        CSV,
+        BINARY
+    }
+
+    private static OutputFormat getOutputFormat(Path outputFile) {
         String fileName = outputFile.getFileName().toString();
         if (fileName.endsWith(".json")) {
-            return false;
+            return OutputFormat.JSON;
         } else if (fileName.endsWith(".csv")) {
-            return true;
+            return OutputFormat.CSV;
+        } else if (fileName.endsWith(".bin")) {
+            return OutputFormat.BINARY;
         } else {
             throw new PowsyblException("Unsupported output format: " + fileName);
         }
@@ -154,23 +162,24 @@ public class SensitivityAnalysisTool implements Tool {
     public void run(CommandLine line, ToolRunningContext context) throws Exception {
         Path caseFile = context.getFileSystem().getPath(line.getOptionValue(CASE_FILE_OPTION));
         Path outputFile = context.getFileSystem().getPath(line.getOptionValue(OUTPUT_FILE_OPTION));
-        boolean csv = isCsv(outputFile);
+        OutputFormat outputFormat = getOutputFormat(outputFile);
         Path outputFileStatus = null;
 
-        if (csv) {
+        if (outputFormat == OutputFormat.CSV) {
             if (line.hasOption(OUTPUT_CONTINGENCY_STATUS_FILE_OPTION)) {
                 outputFileStatus = context.getFileSystem().getPath(line.getOptionValue(OUTPUT_CONTINGENCY_STATUS_FILE_OPTION));
             } else {
                 outputFileStatus = context.getFileSystem().getPath(buildContingencyStatusPath(line.getOptionValue(OUTPUT_FILE_OPTION)));
             }
-            boolean contingencyCsv = isCsv(outputFileStatus);
-            if (!contingencyCsv) {
+            if (getOutputFormat(outputFileStatus) != OutputFormat.CSV) {
                 throw new PowsyblException(OUTPUT_FILE_OPTION + " and " + OUTPUT_CONTINGENCY_STATUS_FILE_OPTION + " files must have the same format (csv).");
             }
 
             if (line.hasOption(SINGLE_OUTPUT)) {
                 throw new PowsyblException("Unsupported " + SINGLE_OUTPUT + " option does not support csv file as argument of " + OUTPUT_FILE_OPTION + ". Must be json.");
             }
+        } else if (outputFormat == OutputFormat.BINARY && line.hasOption(SINGLE_OUTPUT)) {
+            throw new PowsyblException("Unsupported " + SINGLE_OUTPUT + " option does not support bin file as argument of " + OUTPUT_FILE_OPTION + ". Must be json.");
         }
 
         Path factorsFile = context.getFileSystem().getPath(line.getOptionValue(FACTORS_FILE_OPTION));
@@ -210,7 +219,7 @@ public class SensitivityAnalysisTool implements Tool {
         Stopwatch stopwatch = Stopwatch.createStarted();
         try (ComputationManager computationManager = DefaultComputationManagerConfig.load().createLongTimeExecutionComputationManager()) {
             SensitivityAnalysisParametersRecord parametersRecord = new SensitivityAnalysisParametersRecord(factorsReader, params, network, contingencies,
-                variableSets, computationManager, outputFile, outputFileStatus, csv);
+                variableSets, computationManager, outputFile, outputFileStatus, outputFormat);
             run(line, parametersRecord);
         }
         context.getOutputStream().println("Analysis done in " + stopwatch.elapsed(TimeUnit.MILLISECONDS) + " ms");
@@ -224,12 +233,12 @@ public class SensitivityAnalysisTool implements Tool {
                                                        ComputationManager computationManager,
                                                        Path outputFile,
                                                        Path outputFileStatus,
-                                                       boolean csv) {
+                                                       OutputFormat outputFormat) {
     }
 
     private void run(CommandLine line, SensitivityAnalysisParametersRecord parametersRecord) {
         if (line.hasOption(SINGLE_OUTPUT)) {
-            if (parametersRecord.csv) {
+            if (parametersRecord.outputFormat != OutputFormat.JSON) {
                 throw new PowsyblException("Unsupported " + SINGLE_OUTPUT + " option does not support csv file as argument of " + OUTPUT_FILE_OPTION + ". Must be json.");
             }
             List<SensitivityFactor> factors = new ArrayList<>();
@@ -241,7 +250,7 @@ public class SensitivityAnalysisTool implements Tool {
             ObjectMapper sensiObjectMapper = JsonUtil.createObjectMapper().registerModule(new SensitivityJsonModule());
             JsonUtil.writeJson(parametersRecord.outputFile, result, sensiObjectMapper);
         } else {
-            if (parametersRecord.csv) {
+            if (parametersRecord.outputFormat == OutputFormat.CSV) {
                 try (Writer writer = Files.newBufferedWriter(parametersRecord.outputFile, StandardCharsets.UTF_8);
                      Writer writerStatuses = Files.newBufferedWriter(parametersRecord.outputFileStatus, StandardCharsets.UTF_8);
                      TableFormatter formatter = SensitivityResultCsvWriter.createTableFormatter(writer);
@@ -253,6 +262,15 @@ public class SensitivityAnalysisTool implements Tool {
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
                 }
+            } else if (parametersRecord.outputFormat == OutputFormat.BINARY) {
+                try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(parametersRecord.outputFile));
+                     SensitivityResultBinaryWriter valuesWriter = new SensitivityResultBinaryWriter(os, parametersRecord.contingencies)) {
+                    SensitivityAnalysis.run(parametersRecord.network, parametersRecord.network.getVariantManager().getWorkingVariantId(),
+                        parametersRecord.factorsReader, valuesWriter, parametersRecord.contingencies, parametersRecord.variableSets, parametersRecord.params,
+                        parametersRecord.computationManager, ReportNode.NO_OP);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
             } else {
                 JsonFactory factory = JsonUtil.createJsonFactory();
                 try (BufferedWriter writer = Files.newBufferedWriter(parametersRecord.outputFile, StandardCharsets.UTF_8);
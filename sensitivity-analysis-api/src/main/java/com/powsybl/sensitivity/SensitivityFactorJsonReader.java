@@ -7,13 +7,20 @@
  */
 package com.powsybl.sensitivity;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.contingency.ContingencyContext;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -27,29 +34,91 @@ public class SensitivityFactorJsonReader implements SensitivityFactorReader {
         this.jsonFile = Objects.requireNonNull(jsonFile);
     }
 
+    private static void read(JsonParser parser, Handler handler) {
+        try {
+            var context = new SensitivityFactor.ParsingContext();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    SensitivityFactor.parseJson(parser, context);
+                } else if (token == JsonToken.END_OBJECT) {
+                    handler.onFactor(context.functionType, context.functionId, context.variableType, context.variableId, context.variableSet,
+                            ContingencyContext.create(context.contingencyId, context.contingencyContextType));
+                    context.reset();
+                } else if (token == JsonToken.END_ARRAY) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void read(Handler handler) {
         Objects.requireNonNull(handler);
 
         JsonUtil.parseJson(jsonFile, parser -> {
-            try {
-                var context = new SensitivityFactor.ParsingContext();
-                JsonToken token;
-                while ((token = parser.nextToken()) != null) {
-                    if (token == JsonToken.FIELD_NAME) {
-                        SensitivityFactor.parseJson(parser, context);
-                    } else if (token == JsonToken.END_OBJECT) {
-                        handler.onFactor(context.functionType, context.functionId, context.variableType, context.variableId, context.variableSet,
-                                ContingencyContext.create(context.contingencyId, context.contingencyContextType));
-                        context.reset();
-                    } else if (token == JsonToken.END_ARRAY) {
-                        break;
-                    }
-                }
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
+            read(parser, handler);
             return null;
         });
     }
+
+    /**
+     * Split the factors of the file into partitions of at most {@code factorsPerPartition} factors, which can then be
+     * parsed concurrently. Partition boundaries are found by a scan of the file which skips the content of the factors,
+     * and each partition parses only its own range of bytes of the file.
+     */
+    public SensitivityFactorPartitionedReader partition(int factorsPerPartition) {
+        if (factorsPerPartition <= 0) {
+            throw new IllegalArgumentException("Invalid number of factors per partition: " + factorsPerPartition);
+        }
+        List<long[]> ranges = new ArrayList<>();
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(jsonFile));
+             JsonParser parser = JsonUtil.createJsonFactory().createParser(is)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new PowsyblException("Sensitivity factors JSON array expected");
+            }
+            long start = -1;
+            long end = -1;
+            int count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                if (count == 0) {
+                    start = parser.currentTokenLocation().getByteOffset();
+                }
+                parser.skipChildren();
+                end = parser.currentLocation().getByteOffset();
+                if (++count == factorsPerPartition) {
+                    ranges.add(new long[] {start, end});
+                    count = 0;
+                }
+            }
+            if (count > 0) {
+                ranges.add(new long[] {start, end});
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<SensitivityFactorReader> partitions = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            partitions.add(handler -> readRange(range[0], range[1], handler));
+        }
+        return SensitivityFactorPartitionedReader.of(Collections.unmodifiableList(partitions));
+    }
+
+    private void readRange(long start, long end, Handler handler) {
+        Objects.requireNonNull(handler);
+        try (InputStream is = Files.newInputStream(jsonFile)) {
+            ByteStreams.skipFully(is, start);
+            InputStream rangeIs = new SequenceInputStream(Collections.enumeration(List.of(
+                    new ByteArrayInputStream("[".getBytes(StandardCharsets.UTF_8)),
+                    new BufferedInputStream(ByteStreams.limit(is, end - start)),
+                    new ByteArrayInputStream("]".getBytes(StandardCharsets.UTF_8)))));
+            try (JsonParser parser = JsonUtil.createJsonFactory().createParser(rangeIs)) {
+                read(parser, handler);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A source of sensitivity factors split into independent partitions, which can be read concurrently.
+ * <p>
+ * The factors of the whole source are the concatenation of the factors of each partition in the partition order, so
+ * the index of a factor is its index in its partition plus the number of factors of the previous partitions.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface SensitivityFactorPartitionedReader {
+
+    int getPartitionCount();
+
+    /**
+     * Get a reader of the factors of a partition. Readers of different partitions must be usable from different
+     * threads at the same time.
+     */
+    SensitivityFactorReader getPartition(int partition);
+
+    static SensitivityFactorPartitionedReader of(List<? extends SensitivityFactorReader> partitions) {
+        Objects.requireNonNull(partitions);
+        return new SensitivityFactorPartitionedReader() {
+            @Override
+            public int getPartitionCount() {
+                return partitions.size();
+            }
+
+            @Override
+            public SensitivityFactorReader getPartition(int partition) {
+                return partitions.get(partition);
+            }
+        };
+    }
+}
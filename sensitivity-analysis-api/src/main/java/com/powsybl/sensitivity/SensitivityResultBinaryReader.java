@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Streaming reader of a sensitivity result file written by {@link SensitivityResultBinaryWriter}.
+ * <p>
+ * Only the contingency ids, the contingency statuses and the chunk index are read when the file is opened. Values are
+ * then read chunk by chunk and passed to a {@link SensitivityResultWriter}, either for the whole file or for a single
+ * contingency, in which case only the chunks of this contingency are read.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class SensitivityResultBinaryReader implements AutoCloseable {
+
+    private static final SensitivityAnalysisResult.Status[] STATUSES = SensitivityAnalysisResult.Status.values();
+
+    private final FileChannel channel;
+
+    private final List<String> contingencyIds;
+
+    private final Map<String, Integer> contingencyIndexById = new HashMap<>();
+
+    private final byte[] statuses;
+
+    private final int[] chunkContingencyIndexes;
+
+    private final int[] chunkSizes;
+
+    private final long[] chunkPositions;
+
+    private SensitivityResultBinaryReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long size = channel.size();
+        ByteBuffer trailer = ByteBuffer.allocate(SensitivityResultBinaryWriter.TRAILER_SIZE);
+        if (size < 3L * Integer.BYTES + SensitivityResultBinaryWriter.TRAILER_SIZE) {
+            throw new PowsyblException("Invalid sensitivity result file");
+        }
+        readFully(trailer, size - SensitivityResultBinaryWriter.TRAILER_SIZE);
+        long statusesPosition = trailer.getLong(0);
+        long indexPosition = trailer.getLong(Long.BYTES);
+        if (trailer.getInt(2 * Long.BYTES) != SensitivityResultBinaryWriter.MAGIC) {
+            throw new PowsyblException("Invalid sensitivity result file");
+        }
+
+        DataInputStream header = createInputStream(0);
+        if (header.readInt() != SensitivityResultBinaryWriter.MAGIC) {
+            throw new PowsyblException("Invalid sensitivity result file");
+        }
+        int version = header.readInt();
+        if (version != SensitivityResultBinaryWriter.VERSION) {
+            throw new PowsyblException("Unsupported sensitivity result file version: " + version);
+        }
+        int contingencyCount = header.readInt();
+        List<String> ids = new ArrayList<>(contingencyCount);
+        for (int i = 0; i < contingencyCount; i++) {
+            int length = header.readInt();
+            if (length < 0) {
+                throw new PowsyblException("Invalid sensitivity result file");
+            }
+            byte[] bytes = new byte[length];
+            header.readFully(bytes);
+            String id = new String(bytes, StandardCharsets.UTF_8);
+            ids.add(id);
+            contingencyIndexById.putIfAbsent(id, i);
+        }
+        contingencyIds = Collections.unmodifiableList(ids);
+
+        statuses = new byte[contingencyCount];
+        createInputStream(statusesPosition).readFully(statuses);
+
+        DataInputStream index = createInputStream(indexPosition);
+        int chunkCount = index.readInt();
+        chunkContingencyIndexes = new int[chunkCount];
+        chunkSizes = new int[chunkCount];
+        chunkPositions = new long[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            chunkContingencyIndexes[i] = index.readInt();
+            chunkSizes[i] = index.readInt();
+            chunkPositions[i] = index.readLong();
+        }
+    }
+
+    public static SensitivityResultBinaryReader open(Path file) {
+        Objects.requireNonNull(file);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                return new SensitivityResultBinaryReader(channel);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private DataInputStream createInputStream(long position) throws IOException {
+        channel.position(position);
+        return new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        long p = position;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, p);
+            if (n < 0) {
+                throw new EOFException();
+            }
+            p += n;
+        }
+    }
+
+    public List<String> getContingencyIds() {
+        return contingencyIds;
+    }
+
+    public List<SensitivityAnalysisResult.SensitivityContingencyStatus> getContingencyStatuses() {
+        List<SensitivityAnalysisResult.SensitivityContingencyStatus> contingencyStatuses = new ArrayList<>(contingencyIds.size());
+        for (int i = 0; i < contingencyIds.size(); i++) {
+            contingencyStatuses.add(statuses[i] != -1 ? new SensitivityAnalysisResult.SensitivityContingencyStatus(contingencyIds.get(i), STATUSES[statuses[i]]) : null);
+        }
+        return contingencyStatuses;
+    }
+
+    private void readChunk(int chunk, ByteBuffer buffer, SensitivityResultWriter writer) throws IOException {
+        int count = chunkSizes[chunk];
+        int contingencyIndex = chunkContingencyIndexes[chunk];
+        buffer.clear().limit(count * SensitivityResultBinaryWriter.CHUNK_VALUE_SIZE);
+        readFully(buffer, chunkPositions[chunk]);
+        int valuesOffset = count * Integer.BYTES;
+        int functionReferencesOffset = valuesOffset + count * Double.BYTES;
+        for (int i = 0; i < count; i++) {
+            writer.writeSensitivityValue(buffer.getInt(i * Integer.BYTES),
+                                         contingencyIndex,
+                                         buffer.getDouble(valuesOffset + i * Double.BYTES),
+                                         buffer.getDouble(functionReferencesOffset + i * Double.BYTES));
+        }
+    }
+
+    private ByteBuffer createChunkBuffer(int contingencyIndex) {
+        int maxChunkSize = 0;
+        for (int chunk = 0; chunk < chunkSizes.length; chunk++) {
+            if (contingencyIndex == -2 || chunkContingencyIndexes[chunk] == contingencyIndex) {
+                maxChunkSize = Math.max(maxChunkSize, chunkSizes[chunk]);
+            }
+        }
+        return ByteBuffer.allocate(maxChunkSize * SensitivityResultBinaryWriter.CHUNK_VALUE_SIZE);
+    }
+
+    /**
+     * Read all the values of the file in their writing order, then all the contingency statuses.
+     */
+    public void read(SensitivityResultWriter writer) {
+        Objects.requireNonNull(writer);
+        try {
+            ByteBuffer buffer = createChunkBuffer(-2);
+            for (int chunk = 0; chunk < chunkSizes.length; chunk++) {
+                readChunk(chunk, buffer, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] != -1) {
+                writer.writeContingencyStatus(i, STATUSES[statuses[i]]);
+            }
+        }
+    }
+
+    /**
+     * Read only the values of a contingency, and its status.
+     *
+     * @param contingencyId the contingency id, or null for the pre-contingency values.
+     */
+    public void read(String contingencyId, SensitivityResultWriter writer) {
+        Objects.requireNonNull(writer);
+        int contingencyIndex = -1;
+        if (contingencyId != null) {
+            Integer index = contingencyIndexById.get(contingencyId);
+            if (index == null) {
+                throw new PowsyblException("Contingency '" + contingencyId + "' not found");
+            }
+            contingencyIndex = index;
+        }
+        try {
+            ByteBuffer buffer = createChunkBuffer(contingencyIndex);
+            for (int chunk = 0; chunk < chunkSizes.length; chunk++) {
+                if (chunkContingencyIndexes[chunk] == contingencyIndex) {
+                    readChunk(chunk, buffer, writer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (contingencyIndex != -1 && statuses[contingencyIndex] != -1) {
+            writer.writeContingencyStatus(contingencyIndex, STATUSES[statuses[contingencyIndex]]);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
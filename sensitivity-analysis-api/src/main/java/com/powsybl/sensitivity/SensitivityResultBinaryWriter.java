@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.google.common.io.CountingOutputStream;
+import com.powsybl.contingency.Contingency;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sensitivity result writer producing a compact binary file, made of chunks of values of a same contingency (or of the
+ * pre-contingency state), each chunk storing its factor indexes, sensitivity values and function reference values as
+ * three separate columns.
+ * <p>
+ * Values are buffered until the chunk is full or until a value of another contingency is written, so that the memory
+ * used by the writer does not depend on the number of values. The file layout is:
+ * <pre>
+ * header   : magic (int), version (int), contingency count (int), then for each contingency: id byte length (int),
+ *            id UTF-8 bytes
+ * chunk *  : factor indexes (int * count), sensitivity values (double * count), function references (double * count)
+ * statuses : contingency status ordinal or -1 if not written (byte * contingency count)
+ * index    : chunk count (int), then for each chunk: contingency index (int), value count (int), position (long)
+ * trailer  : statuses position (long), index position (long), magic (int)
+ * </pre>
+ * The file can be read back with {@link SensitivityResultBinaryReader}, either fully or contingency by contingency.
+ * The header is written when the writer is created and the end of the file when it is first closed, closing it again
+ * having no effect. The underlying stream is flushed but not closed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SensitivityResultBinaryWriter implements SensitivityResultWriter, AutoCloseable {
+
+    static final int MAGIC = 0x53454e53; // "SENS"
+
+    static final int VERSION = 2;
+
+    static final int TRAILER_SIZE = 2 * Long.BYTES + Integer.BYTES;
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    static final int CHUNK_VALUE_SIZE = Integer.BYTES + 2 * Double.BYTES;
+
+    private static final int NO_CONTINGENCY = -2;
+
+    private final CountingOutputStream cos;
+
+    private final DataOutputStream dos;
+
+    private final int contingencyCount;
+
+    private final int chunkSize;
+
+    private final int[] factorIndexes;
+
+    private final double[] values;
+
+    private final double[] functionReferences;
+
+    /**
+     * Encoding buffer of a chunk, so that a chunk is written to the stream at once.
+     */
+    private final ByteBuffer chunkBuffer;
+
+    private int size = 0;
+
+    private int chunkContingencyIndex = NO_CONTINGENCY;
+
+    private int[] chunkContingencyIndexes = new int[16];
+
+    private int[] chunkSizes = new int[16];
+
+    private long[] chunkPositions = new long[16];
+
+    private int chunkCount = 0;
+
+    private final byte[] statuses;
+
+    private boolean closed = false;
+
+    public SensitivityResultBinaryWriter(OutputStream os, List<Contingency> contingencies) {
+        this(os, contingencies, DEFAULT_CHUNK_SIZE);
+    }
+
+    public SensitivityResultBinaryWriter(OutputStream os, List<Contingency> contingencies, int chunkSize) {
+        Objects.requireNonNull(os);
+        Objects.requireNonNull(contingencies);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        cos = new CountingOutputStream(os);
+        dos = new DataOutputStream(cos);
+        contingencyCount = contingencies.size();
+        this.chunkSize = chunkSize;
+        factorIndexes = new int[chunkSize];
+        values = new double[chunkSize];
+        functionReferences = new double[chunkSize];
+        chunkBuffer = ByteBuffer.allocate(chunkSize * CHUNK_VALUE_SIZE);
+        statuses = new byte[contingencyCount];
+        Arrays.fill(statuses, (byte) -1);
+        try {
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            dos.writeInt(contingencyCount);
+            for (Contingency contingency : contingencies) {
+                byte[] id = contingency.getId().getBytes(StandardCharsets.UTF_8);
+                dos.writeInt(id.length);
+                dos.write(id);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void checkFactorIndex(int factorIndex) {
+        if (factorIndex < 0) {
+            throw new IllegalArgumentException("Invalid factor index: " + factorIndex);
+        }
+    }
+
+    private void checkContingencyIndex(int contingencyIndex) {
+        if (contingencyIndex < -1 || contingencyIndex >= contingencyCount) {
+            throw new IllegalArgumentException("Invalid contingency index: " + contingencyIndex);
+        }
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        checkFactorIndex(factorIndex);
+        checkContingencyIndex(contingencyIndex);
+        if (contingencyIndex != chunkContingencyIndex || size == chunkSize) {
+            flushChunk();
+            chunkContingencyIndex = contingencyIndex;
+        }
+        factorIndexes[size] = factorIndex;
+        values[size] = value;
+        functionReferences[size] = functionReference;
+        size++;
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        if (contingencyIndex < 0 || contingencyIndex >= contingencyCount) {
+            throw new IllegalArgumentException("Invalid contingency index: " + contingencyIndex);
+        }
+        statuses[contingencyIndex] = (byte) status.ordinal();
+    }
+
+    private void flushChunk() {
+        if (size == 0) {
+            return;
+        }
+        if (chunkCount == chunkContingencyIndexes.length) {
+            int newLength = chunkCount * 2;
+            chunkContingencyIndexes = Arrays.copyOf(chunkContingencyIndexes, newLength);
+            chunkSizes = Arrays.copyOf(chunkSizes, newLength);
+            chunkPositions = Arrays.copyOf(chunkPositions, newLength);
+        }
+        chunkContingencyIndexes[chunkCount] = chunkContingencyIndex;
+        chunkSizes[chunkCount] = size;
+        chunkPositions[chunkCount] = cos.getCount();
+        chunkCount++;
+        chunkBuffer.clear();
+        for (int i = 0; i < size; i++) {
+            chunkBuffer.putInt(factorIndexes[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            chunkBuffer.putDouble(values[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            chunkBuffer.putDouble(functionReferences[i]);
+        }
+        try {
+            dos.write(chunkBuffer.array(), 0, chunkBuffer.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        size = 0;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flushChunk();
+        try {
+            long statusesPosition = cos.getCount();
+            dos.write(statuses);
+            long indexPosition = cos.getCount();
+            dos.writeInt(chunkCount);
+            for (int i = 0; i < chunkCount; i++) {
+                dos.writeInt(chunkContingencyIndexes[i]);
+                dos.writeInt(chunkSizes[i]);
+                dos.writeLong(chunkPositions[i]);
+            }
+            dos.writeLong(statusesPosition);
+            dos.writeLong(indexPosition);
+            dos.writeInt(MAGIC);
+            dos.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.contingency.Contingency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sensitivity result writer directly filling the value storage of a {@link SensitivityAnalysisResult}, without creating
+ * any {@link SensitivityValue} object.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class SensitivityResultMatrixWriter implements SensitivityResultWriter {
+
+    private final List<SensitivityFactor> factors;
+
+    private final List<Contingency> contingencies;
+
+    private final SensitivityValueMatrix matrix;
+
+    private final List<SensitivityAnalysisResult.SensitivityContingencyStatus> contingencyStatuses;
+
+    public SensitivityResultMatrixWriter(List<SensitivityFactor> factors, List<Contingency> contingencies) {
+        this.factors = Objects.requireNonNull(factors);
+        this.contingencies = Objects.requireNonNull(contingencies);
+        matrix = new SensitivityValueMatrix(factors.size(), contingencies.size());
+        contingencyStatuses = new ArrayList<>(Collections.nCopies(contingencies.size(), null));
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        matrix.set(factorIndex, contingencyIndex, value, functionReference);
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        contingencyStatuses.set(contingencyIndex, new SensitivityAnalysisResult.SensitivityContingencyStatus(contingencies.get(contingencyIndex).getId(), status));
+    }
+
+    public SensitivityAnalysisResult getResult() {
+        return new SensitivityAnalysisResult(factors, contingencyStatuses, matrix);
+    }
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sparse storage of sensitivity values and function reference values, indexed by factor index and contingency index.
+ * <p>
+ * Values are stored in primitive arrays in their writing order, so that the memory used only depends on the number of
+ * values written, whatever the number of factors and contingencies. A primitive hash index gives the position of the
+ * last value written for a factor and a contingency. As with a list of {@link SensitivityValue}, a value written twice
+ * for the same factor and the same contingency is listed twice, and the last one written is the one found by a lookup.
+ * <p>
+ * The lists of values are read-only views over the primitive arrays: a {@link SensitivityValue} object is created each
+ * time an element of a list is read, and is not kept. The lists reflect the values written before they have been
+ * requested, they must not be requested while values are written.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class SensitivityValueMatrix {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final long NO_KEY = -1;
+
+    private final int factorCount;
+
+    private final int contingencyCount;
+
+    private int[] factorIndexes = new int[INITIAL_CAPACITY];
+
+    private int[] contingencyIndexes = new int[INITIAL_CAPACITY];
+
+    private double[] values = new double[INITIAL_CAPACITY];
+
+    private double[] functionReferences = new double[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * Open addressing hash index from a cell (state index * factor count + factor index, the state index being 0 for
+     * the pre-contingency state and contingency index + 1 otherwise) to the position of its last written value.
+     */
+    private long[] indexKeys = newIndexKeys(INITIAL_CAPACITY * 2);
+
+    private int[] indexPositions = new int[INITIAL_CAPACITY * 2];
+
+    private int indexSize = 0;
+
+    /**
+     * Positions in the writing order of the values of each state, created on demand.
+     */
+    private volatile int[][] positionsByState;
+
+    SensitivityValueMatrix(int factorCount, int contingencyCount) {
+        if (factorCount < 0) {
+            throw new IllegalArgumentException("Invalid factor count: " + factorCount);
+        }
+        if (contingencyCount < 0) {
+            throw new IllegalArgumentException("Invalid contingency count: " + contingencyCount);
+        }
+        this.factorCount = factorCount;
+        this.contingencyCount = contingencyCount;
+    }
+
+    /**
+     * Create a matrix from a list of values, the list not being kept once its values have been copied.
+     */
+    static SensitivityValueMatrix of(int factorCount, int contingencyCount, List<SensitivityValue> values) {
+        SensitivityValueMatrix matrix = new SensitivityValueMatrix(factorCount, contingencyCount);
+        for (SensitivityValue value : values) {
+            matrix.set(value.getFactorIndex(), value.getContingencyIndex(), value.getValue(), value.getFunctionReference());
+        }
+        return matrix;
+    }
+
+    private static long[] newIndexKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, NO_KEY);
+        return keys;
+    }
+
+    int getFactorCount() {
+        return factorCount;
+    }
+
+    int getContingencyCount() {
+        return contingencyCount;
+    }
+
+    private void checkFactorIndex(int factorIndex) {
+        if (factorIndex < 0 || factorIndex >= factorCount) {
+            throw new IllegalArgumentException("Invalid factor index: " + factorIndex);
+        }
+    }
+
+    private void checkContingencyIndex(int contingencyIndex) {
+        if (contingencyIndex < -1 || contingencyIndex >= contingencyCount) {
+            throw new IllegalArgumentException("Invalid contingency index: " + contingencyIndex);
+        }
+    }
+
+    private long getKey(int factorIndex, int contingencyIndex) {
+        return (long) (contingencyIndex + 1) * factorCount + factorIndex;
+    }
+
+    private int getSlot(long key) {
+        int mask = indexKeys.length - 1;
+        int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (indexKeys[slot] != NO_KEY && indexKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void putPosition(long key, int position) {
+        int slot = getSlot(key);
+        if (indexKeys[slot] == NO_KEY) {
+            indexKeys[slot] = key;
+            indexSize++;
+        }
+        indexPositions[slot] = position;
+        // keep the load factor under 1/2
+        if (indexSize * 2 > indexKeys.length) {
+            long[] oldKeys = indexKeys;
+            int[] oldPositions = indexPositions;
+            indexKeys = newIndexKeys(oldKeys.length * 2);
+            indexPositions = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != NO_KEY) {
+                    int newSlot = getSlot(oldKeys[i]);
+                    indexKeys[newSlot] = oldKeys[i];
+                    indexPositions[newSlot] = oldPositions[i];
+                }
+            }
+        }
+    }
+
+    synchronized void set(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        checkFactorIndex(factorIndex);
+        checkContingencyIndex(contingencyIndex);
+        if (size == values.length) {
+            int newCapacity = size * 2;
+            factorIndexes = Arrays.copyOf(factorIndexes, newCapacity);
+            contingencyIndexes = Arrays.copyOf(contingencyIndexes, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+            functionReferences = Arrays.copyOf(functionReferences, newCapacity);
+        }
+        factorIndexes[size] = factorIndex;
+        contingencyIndexes[size] = contingencyIndex;
+        values[size] = value;
+        functionReferences[size] = functionReference;
+        putPosition(getKey(factorIndex, contingencyIndex), size);
+        size++;
+        positionsByState = null;
+    }
+
+    /**
+     * Get the position in the writing order of the last value written for a factor and a contingency, -1 if there is
+     * no such value.
+     */
+    synchronized int getPosition(int factorIndex, int contingencyIndex) {
+        checkFactorIndex(factorIndex);
+        checkContingencyIndex(contingencyIndex);
+        int slot = getSlot(getKey(factorIndex, contingencyIndex));
+        return indexKeys[slot] != NO_KEY ? indexPositions[slot] : -1;
+    }
+
+    boolean contains(int factorIndex, int contingencyIndex) {
+        return getPosition(factorIndex, contingencyIndex) != -1;
+    }
+
+    synchronized double getValue(int factorIndex, int contingencyIndex) {
+        int position = getPosition(factorIndex, contingencyIndex);
+        return position != -1 ? values[position] : Double.NaN;
+    }
+
+    synchronized double getFunctionReference(int factorIndex, int contingencyIndex) {
+        int position = getPosition(factorIndex, contingencyIndex);
+        return position != -1 ? functionReferences[position] : Double.NaN;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Get the values in their writing order.
+     */
+    List<SensitivityValue> getValues() {
+        return new ValueList(factorIndexes, contingencyIndexes, values, functionReferences, null, size);
+    }
+
+    /**
+     * Get the values of a contingency (or of the pre-contingency state for a -1 index) in their writing order.
+     */
+    List<SensitivityValue> getValues(int contingencyIndex) {
+        checkContingencyIndex(contingencyIndex);
+        int[][] positions = positionsByState;
+        if (positions == null) {
+            positions = indexPositionsByState();
+            positionsByState = positions;
+        }
+        int[] statePositions = positions[contingencyIndex + 1];
+        return new ValueList(factorIndexes, contingencyIndexes, values, functionReferences, statePositions, statePositions.length);
+    }
+
+    private int[][] indexPositionsByState() {
+        int[] counts = new int[contingencyCount + 1];
+        for (int i = 0; i < size; i++) {
+            counts[contingencyIndexes[i] + 1]++;
+        }
+        int[][] positions = new int[contingencyCount + 1][];
+        for (int state = 0; state <= contingencyCount; state++) {
+            positions[state] = new int[counts[state]];
+        }
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < size; i++) {
+            int state = contingencyIndexes[i] + 1;
+            positions[state][counts[state]++] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Read-only view over some of the values, the value objects being created on each read. The values listed are
+     * given by their positions in the writing order, or are the first ones written if there are no positions.
+     */
+    private static final class ValueList extends AbstractList<SensitivityValue> {
+
+        private final int[] factorIndexes;
+
+        private final int[] contingencyIndexes;
+
+        private final double[] values;
+
+        private final double[] functionReferences;
+
+        private final int[] positions;
+
+        private final int size;
+
+        private ValueList(int[] factorIndexes, int[] contingencyIndexes, double[] values, double[] functionReferences,
+                          int[] positions, int size) {
+            this.factorIndexes = factorIndexes;
+            this.contingencyIndexes = contingencyIndexes;
+            this.values = values;
+            this.functionReferences = functionReferences;
+            this.positions = positions;
+            this.size = size;
+        }
+
+        @Override
+        public SensitivityValue get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            int i = positions != null ? positions[index] : index;
+            return new SensitivityValue(factorIndexes[i], contingencyIndexes[i], values[i], functionReferences[i]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -288,4 +289,90 @@ class SensitivityAnalysisResultTest extends AbstractSerDeTest {
         roundTripTest(result, (result2, jsonFile) -> JsonUtil.writeJson(jsonFile, result, objectMapper),
             jsonFile -> JsonUtil.readJson(jsonFile, SensitivityAnalysisResult.class, objectMapper), "/SensitivityAnalysisResultRefV1.json");
     }
+
+    @Test
+    void testMatrixWriter() {
+        SensitivityFactor factor1 = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l",
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, "g",
+                false, ContingencyContext.all());
+        SensitivityFactor factor2 = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l",
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, "g2",
+                false, ContingencyContext.all());
+        List<SensitivityFactor> factors = List.of(factor1, factor2);
+        List<Contingency> contingencies = List.of(new Contingency("c1", new BranchContingency("l1")),
+                                                  new Contingency("c2", new BranchContingency("l2")));
+
+        SensitivityResultMatrixWriter writer = new SensitivityResultMatrixWriter(factors, contingencies);
+        writer.writeSensitivityValue(1, 1, 5d, 6d);
+        writer.writeSensitivityValue(0, -1, 1d, 2d);
+        writer.writeSensitivityValue(1, -1, 3d, 2d);
+        writer.writeSensitivityValue(1, 1, 7d, 8d); // listed twice, the last value is the one found
+        writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.NO_IMPACT);
+        writer.writeContingencyStatus(1, SensitivityAnalysisResult.Status.SUCCESS);
+        assertThrows(IllegalArgumentException.class, () -> writer.writeSensitivityValue(2, -1, 0d, 0d));
+        assertThrows(IllegalArgumentException.class, () -> writer.writeSensitivityValue(0, 2, 0d, 0d));
+
+        SensitivityAnalysisResult result = writer.getResult();
+        assertEquals(4, result.getValues().size());
+        assertEquals(1, result.getValues().get(0).getFactorIndex());
+        assertEquals(1, result.getValues().get(0).getContingencyIndex());
+        assertEquals(5d, result.getValues().get(0).getValue(), 0d);
+        assertEquals(7d, result.getValues().get(3).getValue(), 0d);
+        assertEquals(8d, result.getValues().get(3).getFunctionReference(), 0d);
+        // the lists are views over the values written, the value objects being created on each read
+        SensitivityValue lastValue = result.getValues("c2").get(1);
+        assertEquals(1, lastValue.getFactorIndex());
+        assertEquals(1, lastValue.getContingencyIndex());
+        assertEquals(7d, lastValue.getValue(), 0d);
+        assertNotSame(lastValue, result.getValues("c2").get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getValues("c2").get(2));
+        assertThrows(UnsupportedOperationException.class, () -> result.getValues().remove(0));
+        assertEquals(2, result.getPreContingencyValues().size());
+        assertEquals(0, result.getValues("c1").size());
+        assertEquals(2, result.getValues("c2").size());
+        assertEquals(0, result.getValues("unknown").size());
+
+        assertEquals(1d, result.getSensitivityValue("g", "l", SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, SensitivityVariableType.INJECTION_ACTIVE_POWER), 0d);
+        assertEquals(3d, result.getBranchFlow1SensitivityValue("g2", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER), 0d);
+        assertEquals(7d, result.getBranchFlow1SensitivityValue("c2", "g2", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER), 0d);
+        assertEquals(2d, result.getBranchFlow1FunctionReferenceValue("l"), 0d);
+        assertEquals(8d, result.getBranchFlow1FunctionReferenceValue("c2", "l"), 0d);
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow1SensitivityValue("c1", "g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow1SensitivityValue("unknown", "g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow1FunctionReferenceValue("c1", "l"));
+        assertEquals(SensitivityAnalysisResult.Status.NO_IMPACT, result.getContingencyStatus("c1"));
+    }
+
+    @Test
+    void testLastWrittenValueIsFound() {
+        // two factors with the same function and variable
+        SensitivityFactor factor1 = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l",
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, "g",
+                false, ContingencyContext.none());
+        SensitivityFactor factor2 = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l",
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, "g",
+                false, ContingencyContext.all());
+        List<SensitivityFactor> factors = List.of(factor1, factor2);
+        List<SensitivityValue> values = List.of(new SensitivityValue(1, -1, 1d, 2d),
+                                                new SensitivityValue(0, -1, 3d, 4d),
+                                                new SensitivityValue(0, -1, 5d, 6d));
+        for (SensitivityAnalysisResult result : List.of(new SensitivityAnalysisResult(factors, Collections.emptyList(), values), write(factors, values))) {
+            assertEquals(3, result.getValues().size());
+            assertEquals(5d, result.getBranchFlow1SensitivityValue("g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER), 0d);
+            assertEquals(6d, result.getBranchFlow1FunctionReferenceValue("l"), 0d);
+        }
+
+        // the given list is copied and not kept
+        List<SensitivityValue> mutableValues = new ArrayList<>(values);
+        SensitivityAnalysisResult result = new SensitivityAnalysisResult(factors, Collections.emptyList(), mutableValues);
+        mutableValues.clear();
+        assertEquals(3, result.getPreContingencyValues().size());
+        assertEquals(5d, result.getPreContingencyValues().get(2).getValue(), 0d);
+    }
+
+    private static SensitivityAnalysisResult write(List<SensitivityFactor> factors, List<SensitivityValue> values) {
+        SensitivityResultMatrixWriter writer = new SensitivityResultMatrixWriter(factors, Collections.emptyList());
+        values.forEach(v -> writer.writeSensitivityValue(v.getFactorIndex(), v.getContingencyIndex(), v.getValue(), v.getFunctionReference()));
+        return writer.getResult();
+    }
 }
@@ -7,19 +7,31 @@
  */
 package com.powsybl.sensitivity;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.contingency.BranchContingency;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyContext;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.sensitivity.json.SensitivityJsonModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -122,4 +134,72 @@ class SensitivityAnalysisTest {
         SensitivityAnalysisResult result = SensitivityAnalysis.run(network, List.of(factor), parameters);
         assertEquals(1, result.getValues().size());
     }
+
+    private static SensitivityFactor createFactor(int i, ContingencyContext contingencyContext) {
+        return new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "NHV1_NHV2_1",
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, "GEN" + i, false, contingencyContext);
+    }
+
+    private static List<SensitivityFactor> readFactors(SensitivityFactorReader reader) {
+        List<SensitivityFactor> factors = new ArrayList<>();
+        reader.read((functionType, functionId, variableType, variableId, variableSet, contingencyContext) ->
+                factors.add(new SensitivityFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext)));
+        return factors;
+    }
+
+    @Test
+    void testRunPartitioned() {
+        List<Contingency> contingencies2 = List.of(new Contingency("NHV1_NHV2_2", new BranchContingency("NHV1_NHV2_2")));
+        List<List<SensitivityFactor>> partitions = List.of(
+                List.of(createFactor(0, ContingencyContext.none()), createFactor(1, ContingencyContext.specificContingency("NHV1_NHV2_2"))),
+                List.of(),
+                List.of(createFactor(2, ContingencyContext.none())),
+                List.of(createFactor(3, ContingencyContext.specificContingency("NHV1_NHV2_2")), createFactor(4, ContingencyContext.none())));
+        SensitivityFactorPartitionedReader partitionedReader = SensitivityFactorPartitionedReader.of(partitions.stream()
+                .map(factors -> new SensitivityFactorModelReader(factors, network))
+                .toList());
+        SensitivityResultModelWriter resultWriter2 = new SensitivityResultModelWriter(contingencies2);
+        SensitivityAnalysis.runAsync(network, VariantManagerConstants.INITIAL_VARIANT_ID, partitionedReader, resultWriter2,
+                contingencies2, variableSets, parameters, LocalComputationManager.getDefault(), ReportNode.NO_OP, 2)
+                .join();
+        List<SensitivityValue> values = resultWriter2.getValues();
+        assertEquals(5, values.size());
+        assertEquals(List.of(0, 1, 2, 3, 4), values.stream().map(SensitivityValue::getFactorIndex).toList());
+        assertEquals(List.of(-1, 0, -1, 0, -1), values.stream().map(SensitivityValue::getContingencyIndex).toList());
+        assertEquals(SensitivityAnalysisResult.Status.SUCCESS, resultWriter2.getContingencyStatuses().get(0).getStatus());
+    }
+
+    @Test
+    void testRunManyPartitions() {
+        // a chain of completed partitions must not make the stack grow with the number of partitions
+        int partitionCount = 10000;
+        SensitivityFactorPartitionedReader partitionedReader = SensitivityFactorPartitionedReader.of(IntStream.range(0, partitionCount)
+                .mapToObj(i -> new SensitivityFactorModelReader(List.of(createFactor(i, ContingencyContext.none())), network))
+                .toList());
+        SensitivityResultModelWriter resultWriter2 = new SensitivityResultModelWriter(Collections.emptyList());
+        SensitivityAnalysis.runAsync(network, VariantManagerConstants.INITIAL_VARIANT_ID, partitionedReader, resultWriter2,
+                Collections.emptyList(), variableSets, parameters, LocalComputationManager.getDefault(), ReportNode.NO_OP, 2)
+                .join();
+        assertEquals(partitionCount, resultWriter2.getValues().size());
+    }
+
+    @Test
+    void testJsonPartitions(@TempDir Path tmpDir) throws IOException {
+        List<SensitivityFactor> factors = IntStream.range(0, 5)
+                .mapToObj(i -> createFactor(i, i % 2 == 0 ? ContingencyContext.none() : ContingencyContext.all()))
+                .toList();
+        Path factorsFile = tmpDir.resolve("factors.json");
+        try (Writer writer = Files.newBufferedWriter(factorsFile, StandardCharsets.UTF_8)) {
+            new ObjectMapper().registerModule(new SensitivityJsonModule()).writerWithDefaultPrettyPrinter().writeValue(writer, factors);
+        }
+        SensitivityFactorJsonReader jsonReader = new SensitivityFactorJsonReader(factorsFile);
+        SensitivityFactorPartitionedReader partitionedReader = jsonReader.partition(2);
+        assertEquals(3, partitionedReader.getPartitionCount());
+        List<SensitivityFactor> partitionedFactors = new ArrayList<>();
+        for (int partition = 0; partition < partitionedReader.getPartitionCount(); partition++) {
+            partitionedFactors.addAll(readFactors(partitionedReader.getPartition(partition)));
+        }
+        assertEquals(readFactors(jsonReader).toString(), partitionedFactors.toString());
+        assertEquals(factors.toString(), partitionedFactors.toString());
+    }
 }
@@ -171,6 +171,41 @@ class SensitivityAnalysisToolTest extends AbstractToolTest {
 
     }
 
+    @Test
+    void runBinaryOutput() {
+        String expectedOut = "Loading network 'network.xiidm'" + System.lineSeparator() +
+                "Running analysis..." + System.lineSeparator();
+        assertCommandSuccessfulMatch(new String[] {COMMAND_NAME,
+            "--case-file", "network.xiidm",
+            "--factors-file", "factors.json",
+            "--contingencies-file", "contingencies.json",
+            "--variable-sets-file", "variableSets.json",
+            "--parameters-file", "parameters.json",
+            "--output-file", "output.bin"},
+                expectedOut);
+
+        SensitivityResultModelWriter writer = new SensitivityResultModelWriter(List.of(new Contingency("NHV1_NHV2_2", new BranchContingency("NHV1_NHV2_2"))));
+        try (SensitivityResultBinaryReader reader = SensitivityResultBinaryReader.open(fileSystem.getPath("output.bin"))) {
+            assertEquals(List.of("NHV1_NHV2_2"), reader.getContingencyIds());
+            reader.read(writer);
+        }
+        assertEquals(2, writer.getValues().size());
+        assertEquals(0, writer.getValues().get(0).getFactorIndex());
+        assertEquals(0, writer.getValues().get(0).getContingencyIndex());
+        assertEquals(1, writer.getValues().get(1).getFactorIndex());
+        assertEquals(SensitivityAnalysisResult.Status.SUCCESS, writer.getContingencyStatuses().get(0).getStatus());
+    }
+
+    @Test
+    void checkThrowsSingleOutputBinary() {
+        assertCommandErrorMatch(new String[] {COMMAND_NAME,
+            "--case-file", "network.xiidm",
+            "--factors-file", "factors.json",
+            "--output-file", "output.bin",
+            "--single-output"},
+                "Unsupported single-output option does not support bin file as argument of output-file. Must be json.");
+    }
+
     @Test
     void checkFailsWhenNetworkFileNotFound() {
         assertCommandErrorMatch(new String[] {COMMAND_NAME,
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.Contingency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class SensitivityResultBinaryTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private List<Contingency> contingencies;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        contingencies = List.of(new Contingency("c1", new BranchContingency("l1")),
+                                new Contingency("c2", new BranchContingency("l2")),
+                                new Contingency("c3", new BranchContingency("l3")));
+        file = tmpDir.resolve("result.bin");
+        try (OutputStream os = Files.newOutputStream(file);
+             SensitivityResultBinaryWriter writer = new SensitivityResultBinaryWriter(os, contingencies, 2)) {
+            writer.writeSensitivityValue(0, -1, 1.0, 10.0);
+            writer.writeSensitivityValue(1, -1, 2.0, 20.0);
+            writer.writeSensitivityValue(2, -1, 3.0, 30.0);
+            writer.writeSensitivityValue(0, 1, 4.0, 40.0);
+            writer.writeSensitivityValue(0, 0, 5.0, 50.0);
+            writer.writeSensitivityValue(1, 1, 6.0, 60.0);
+            writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+            writer.writeContingencyStatus(1, SensitivityAnalysisResult.Status.FAILURE);
+        }
+    }
+
+    private static void assertValue(SensitivityValue value, int factorIndex, int contingencyIndex, double v, double functionReference) {
+        assertEquals(factorIndex, value.getFactorIndex());
+        assertEquals(contingencyIndex, value.getContingencyIndex());
+        assertEquals(v, value.getValue(), 0);
+        assertEquals(functionReference, value.getFunctionReference(), 0);
+    }
+
+    @Test
+    void readAllTest() {
+        SensitivityResultModelWriter writer = new SensitivityResultModelWriter(contingencies);
+        try (SensitivityResultBinaryReader reader = SensitivityResultBinaryReader.open(file)) {
+            assertEquals(List.of("c1", "c2", "c3"), reader.getContingencyIds());
+            List<SensitivityAnalysisResult.SensitivityContingencyStatus> statuses = reader.getContingencyStatuses();
+            assertEquals(3, statuses.size());
+            assertEquals(SensitivityAnalysisResult.Status.SUCCESS, statuses.get(0).getStatus());
+            assertEquals(SensitivityAnalysisResult.Status.FAILURE, statuses.get(1).getStatus());
+            assertNull(statuses.get(2));
+            reader.read(writer);
+        }
+        List<SensitivityValue> values = writer.getValues();
+        assertEquals(6, values.size());
+        assertValue(values.get(0), 0, -1, 1.0, 10.0);
+        assertValue(values.get(2), 2, -1, 3.0, 30.0);
+        assertValue(values.get(3), 0, 1, 4.0, 40.0);
+        assertValue(values.get(4), 0, 0, 5.0, 50.0);
+        assertValue(values.get(5), 1, 1, 6.0, 60.0);
+        assertEquals("c2", writer.getContingencyStatuses().get(1).getContingencyId());
+        assertEquals(SensitivityAnalysisResult.Status.FAILURE, writer.getContingencyStatuses().get(1).getStatus());
+    }
+
+    @Test
+    void readContingencyTest() {
+        try (SensitivityResultBinaryReader reader = SensitivityResultBinaryReader.open(file)) {
+            SensitivityResultModelWriter writer = new SensitivityResultModelWriter(contingencies);
+            reader.read("c2", writer);
+            assertEquals(2, writer.getValues().size());
+            assertValue(writer.getValues().get(0), 0, 1, 4.0, 40.0);
+            assertValue(writer.getValues().get(1), 1, 1, 6.0, 60.0);
+            assertEquals(SensitivityAnalysisResult.Status.FAILURE, writer.getContingencyStatuses().get(1).getStatus());
+
+            writer = new SensitivityResultModelWriter(contingencies);
+            reader.read(null, writer);
+            assertEquals(3, writer.getValues().size());
+            assertValue(writer.getValues().get(1), 1, -1, 2.0, 20.0);
+
+            writer = new SensitivityResultModelWriter(contingencies);
+            reader.read("c3", writer);
+            assertTrue(writer.getValues().isEmpty());
+
+            PowsyblException e = assertThrows(PowsyblException.class, () -> reader.read("c4", new SensitivityResultModelWriter(contingencies)));
+            assertEquals("Contingency 'c4' not found", e.getMessage());
+        }
+    }
+
+    @Test
+    void invalidTest() throws IOException {
+        Path invalidFile = tmpDir.resolve("invalid.bin");
+        Files.write(invalidFile, new byte[64]);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> SensitivityResultBinaryReader.open(invalidFile));
+        assertEquals("Invalid sensitivity result file", e.getMessage());
+
+        try (OutputStream os = Files.newOutputStream(tmpDir.resolve("other.bin"));
+             SensitivityResultBinaryWriter writer = new SensitivityResultBinaryWriter(os, contingencies)) {
+            assertThrows(IllegalArgumentException.class, () -> writer.writeSensitivityValue(0, 3, 1.0, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> writer.writeContingencyStatus(-1, SensitivityAnalysisResult.Status.SUCCESS));
+            IllegalArgumentException e2 = assertThrows(IllegalArgumentException.class, () -> writer.writeSensitivityValue(-1, 0, 1.0, 1.0));
+            assertEquals("Invalid factor index: -1", e2.getMessage());
+        }
+    }
+
+    @Test
+    void longContingencyIdTest() {
+        // longer than the 64 KB limit of DataOutput.writeUTF
+        String longId = "\u00e9".repeat(40000);
+        List<Contingency> longIdContingencies = List.of(new Contingency(longId, new BranchContingency("l1")));
+        Path longIdFile = tmpDir.resolve("long-id.bin");
+        try (OutputStream os = Files.newOutputStream(longIdFile);
+             SensitivityResultBinaryWriter writer = new SensitivityResultBinaryWriter(os, longIdContingencies)) {
+            writer.writeSensitivityValue(0, 0, 1.0, 10.0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (SensitivityResultBinaryReader reader = SensitivityResultBinaryReader.open(longIdFile)) {
+            assertEquals(List.of(longId), reader.getContingencyIds());
+            SensitivityResultModelWriter writer = new SensitivityResultModelWriter(longIdContingencies);
+            reader.read(longId, writer);
+            assertEquals(1, writer.getValues().size());
+            assertValue(writer.getValues().get(0), 0, 0, 1.0, 10.0);
+        }
+    }
+
+    @Test
+    void closeTwiceTest() throws IOException {
+        Path closedTwiceFile = tmpDir.resolve("closed-twice.bin");
+        try (OutputStream os = Files.newOutputStream(closedTwiceFile)) {
+            SensitivityResultBinaryWriter writer = new SensitivityResultBinaryWriter(os, contingencies, 2);
+            writer.writeSensitivityValue(0, -1, 1.0, 10.0);
+            writer.writeSensitivityValue(1, -1, 2.0, 20.0);
+            writer.writeSensitivityValue(2, -1, 3.0, 30.0);
+            writer.writeSensitivityValue(0, 1, 4.0, 40.0);
+            writer.writeSensitivityValue(0, 0, 5.0, 50.0);
+            writer.writeSensitivityValue(1, 1, 6.0, 60.0);
+            writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+            writer.writeContingencyStatus(1, SensitivityAnalysisResult.Status.FAILURE);
+            writer.close();
+            writer.close();
+        }
+        assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(closedTwiceFile));
+    }
+}
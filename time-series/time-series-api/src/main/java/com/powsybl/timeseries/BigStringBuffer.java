@@ -8,6 +8,8 @@
 package com.powsybl.timeseries;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.IntFunction;
 import java.util.function.IntConsumer;
@@ -88,6 +90,19 @@ public class BigStringBuffer {
         );
     }
 
+    List<List<String>> getDictionaries() {
+        return Arrays.stream(buffers).map(CompactStringBuffer::getDictionary).toList();
+    }
+
+    void setDictionaries(List<List<String>> dictionaries) {
+        if (dictionaries.size() != buffers.length) {
+            throw new IllegalArgumentException("Expected " + buffers.length + " dictionaries, got " + dictionaries.size());
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].setDictionary(dictionaries.get(i));
+        }
+    }
+
     public long capacity() {
         return size;
     }
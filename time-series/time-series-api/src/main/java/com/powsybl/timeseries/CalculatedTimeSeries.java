@@ -45,10 +45,28 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         }
     };
 
+    /**
+     * How values are computed when the calculated time series is materialized, i.e. converted to an array or copied
+     * to a buffer.
+     */
+    public enum EvaluationMode {
+        /**
+         * The expression tree is evaluated for each point.
+         */
+        POINT_BY_POINT,
+        /**
+         * The expression tree is compiled once and evaluated on blocks of points, see {@link NodeCalcBatchEvaluator}.
+         * Values are the same as the ones of the point by point evaluation.
+         */
+        BATCH
+    }
+
     private final String name;
 
     private final NodeCalc nodeCalc;
 
+    private EvaluationMode evaluationMode = EvaluationMode.POINT_BY_POINT;
+
     private TimeSeriesNameResolver resolver;
 
     private final TimeSeriesMetadata metadata;
@@ -76,6 +94,15 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         this.resolver = Objects.requireNonNull(resolver);
     }
 
+    public EvaluationMode getEvaluationMode() {
+        return evaluationMode;
+    }
+
+    public CalculatedTimeSeries setEvaluationMode(EvaluationMode evaluationMode) {
+        this.evaluationMode = Objects.requireNonNull(evaluationMode);
+        return this;
+    }
+
     private List<DoubleTimeSeries> loadData() {
         Set<String> timeSeriesNames = TimeSeriesNames.list(nodeCalc);
         return timeSeriesNames.isEmpty() ? Collections.emptyList() : resolver.getDoubleTimeSeries(timeSeriesNames);
@@ -167,6 +194,10 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         if (metadata.getIndex() == InfiniteTimeSeriesIndex.INSTANCE) {
             throw new TimeSeriesException("Impossible to fill buffer because calculated time series has not been synchronized on a finite time index");
         }
+        if (evaluationMode == EvaluationMode.BATCH) {
+            forEachBatchEvaluatedValueIndex(consumer);
+            return;
+        }
         Iterator<DoublePoint> it = iterator();
         DoublePoint prevPoint = null;
         while (it.hasNext()) {
@@ -185,6 +216,66 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         }
     }
 
+    private void forEachBatchEvaluatedValueIndex(DoubleIntConsumer consumer) {
+        List<DoubleTimeSeries> timeSeriesList = loadData();
+        NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
+        int pointCount = metadata.getIndex().getPointCount();
+        if (timeSeriesList.isEmpty()) {
+            double value = evaluate(resolvedNodeCalc).getValue();
+            for (int i = 0; i < pointCount; i++) {
+                consumer.accept(value, i);
+            }
+            return;
+        }
+
+        // values of the time series are materialized as the point by point evaluation sees them: the last value
+        // of each time series at or before each point, 0 before its first point
+        double[][] timeSeriesValues = new double[timeSeriesList.size()][];
+        boolean[] changePoints = new boolean[pointCount];
+        for (int timeSeriesNum = 0; timeSeriesNum < timeSeriesList.size(); timeSeriesNum++) {
+            timeSeriesValues[timeSeriesNum] = materialize(timeSeriesList.get(timeSeriesNum), changePoints, pointCount);
+        }
+        int firstPoint = 0;
+        while (firstPoint < pointCount && !changePoints[firstPoint]) {
+            firstPoint++;
+        }
+
+        NodeCalcBatchEvaluator evaluator = NodeCalcBatchEvaluator.compile(resolvedNodeCalc);
+        long[] times = null;
+        if (evaluator.isTimeDependent()) {
+            // time of a point is the one of the last point where a value has changed
+            times = new long[pointCount];
+            long time = 0;
+            for (int i = firstPoint; i < pointCount; i++) {
+                if (changePoints[i]) {
+                    time = metadata.getIndex().getInstantAt(i).toEpochMilli();
+                }
+                times[i] = time;
+            }
+        }
+        double[] values = new double[pointCount];
+        evaluator.eval(timeSeriesValues, times, firstPoint, pointCount, values);
+        for (int i = firstPoint; i < pointCount; i++) {
+            consumer.accept(values[i], i);
+        }
+    }
+
+    private static double[] materialize(DoubleTimeSeries timeSeries, boolean[] changePoints, int pointCount) {
+        double[] values = new double[pointCount];
+        DoublePoint prevPoint = null;
+        for (DoublePoint point : timeSeries) {
+            if (prevPoint != null) {
+                Arrays.fill(values, prevPoint.getIndex(), point.getIndex(), prevPoint.getValue());
+            }
+            changePoints[point.getIndex()] = true;
+            prevPoint = point;
+        }
+        if (prevPoint != null) {
+            Arrays.fill(values, prevPoint.getIndex(), pointCount, prevPoint.getValue());
+        }
+        return values;
+    }
+
     @Override
     public void fillBuffer(DoubleBuffer buffer, int timeSeriesOffset) {
         Objects.requireNonNull(buffer);
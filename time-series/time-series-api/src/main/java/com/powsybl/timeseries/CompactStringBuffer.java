@@ -11,8 +11,10 @@ import com.google.common.math.IntMath;
 
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -54,6 +56,15 @@ public class CompactStringBuffer {
         return buffer.capacity();
     }
 
+    List<String> getDictionary() {
+        return IntStream.range(0, dict.size()).mapToObj(dict::get).toList();
+    }
+
+    void setDictionary(List<String> dictionary) {
+        dict.clear();
+        dictionary.forEach(dict::add);
+    }
+
     public String[] toArray() {
         String[] array = new String[buffer.capacity()];
         for (int i = 0; i < buffer.capacity(); i++) {
@@ -0,0 +1,317 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.google.common.base.Stopwatch;
+import com.powsybl.commons.report.ReportNode;
+import com.univocity.parsers.csv.CsvParser;
+import com.univocity.parsers.csv.CsvParserSettings;
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+import org.apache.commons.io.input.CharSequenceReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.powsybl.timeseries.TimeSeries.DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
+
+/**
+ * Parse a time series CSV file with several threads.
+ * <p>
+ * The file is split into line aligned byte ranges, each range being memory-mapped and parsed concurrently into
+ * primitive column buffers. Column data types are detected on the first data line, as
+ * {@link TimeSeries#parseCsv(java.io.BufferedReader, TimeSeriesCsvConfig, ReportNode)} does, and ranges are then
+ * stitched in file order, so that versions, duplicated times and time series indexes are handled the same way.
+ * Quoted values are supported, but quoted values containing line breaks are not: the file is split on line breaks
+ * without taking quotes into account.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class ParallelCsvTimeSeriesParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelCsvTimeSeriesParser.class);
+
+    private static final int MIN_RANGE_SIZE = 1024 * 1024;
+
+    private static final int MAX_RANGE_SIZE = 64 * 1024 * 1024;
+
+    private static final int RANGES_PER_THREAD = 4;
+
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+
+    private final TimeSeriesCsvConfig timeSeriesCsvConfig;
+
+    private final ReportNode reportNode;
+
+    private final int threadCount;
+
+    private final int fixedColumns;
+
+    /**
+     * Values parsed from a range of lines.
+     */
+    private static final class ParsedRange {
+
+        private final TIntArrayList versions = new TIntArrayList();
+
+        private final List<Instant> instants = new ArrayList<>();
+
+        private final Object[] values;
+
+        // tokens of the lines with the default version number, to report them while stitching
+        private final Map<Integer, String[]> defaultVersionLines = new HashMap<>();
+
+        // index of the line whose columns are inconsistent with the header, parsing of the range stops there
+        private int inconsistentLine = -1;
+
+        private ParsedRange(TimeSeries.CsvParsingContext context, int columnCount) {
+            values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = context.getDataType(i) == TimeSeriesDataType.DOUBLE ? new TDoubleArrayList() : new ArrayList<String>();
+            }
+        }
+
+        private int size() {
+            return instants.size();
+        }
+    }
+
+    private ParallelCsvTimeSeriesParser(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig, ReportNode reportNode, int threadCount) {
+        this.file = Objects.requireNonNull(file);
+        this.timeSeriesCsvConfig = Objects.requireNonNull(timeSeriesCsvConfig);
+        this.reportNode = Objects.requireNonNull(reportNode);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        this.threadCount = threadCount;
+        this.fixedColumns = timeSeriesCsvConfig.versioned() ? 2 : 1;
+    }
+
+    static CsvParser createCsvParser(TimeSeriesCsvConfig timeSeriesCsvConfig) {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.getFormat().setDelimiter(timeSeriesCsvConfig.separator());
+        settings.getFormat().setQuoteEscape('"');
+        settings.getFormat().setLineSeparator(System.lineSeparator());
+        settings.setMaxColumns(timeSeriesCsvConfig.getMaxColumns());
+        return new CsvParser(settings);
+    }
+
+    static Map<Integer, List<TimeSeries>> parse(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig, ReportNode reportNode, int threadCount) {
+        return new ParallelCsvTimeSeriesParser(file, timeSeriesCsvConfig, reportNode, threadCount).parse();
+    }
+
+    private Map<Integer, List<TimeSeries>> parse() {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new HashMap<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            CsvParser csvParser = createCsvParser(timeSeriesCsvConfig);
+
+            // header and first data line are parsed first, to get time series names and data types
+            long dataStart = findLineEnd(channel, 0, size);
+            String header = decode(channel, 0, dataStart).toString();
+            TimeSeries.CsvParsingContext context = TimeSeries.readCsvHeader(csvParser.iterate(new StringReader(header)).iterator(), timeSeriesCsvConfig);
+            String[] firstTokens = null;
+            long lineStart = dataStart;
+            while (firstTokens == null && lineStart < size) {
+                long lineEnd = findLineEnd(channel, lineStart, size);
+                firstTokens = csvParser.parseLine(decode(channel, lineStart, lineEnd).toString());
+                lineStart = lineEnd;
+            }
+            if (firstTokens != null) {
+                if (firstTokens.length != context.expectedTokens()) {
+                    throw createInconsistentLineException(0);
+                }
+                context.parseTokenData(firstTokens);
+                context.reInit();
+            }
+
+            List<long[]> ranges = splitInRanges(channel, dataStart, size);
+            List<ParsedRange> parsedRanges = parseRanges(channel, ranges, context);
+            stitch(parsedRanges, context, timeSeriesPerVersion);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long timing = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        int timeSeriesCount = timeSeriesPerVersion.values().stream().mapToInt(List::size).sum();
+        LOGGER.info("{} time series loaded from CSV in {} ms using {} threads", timeSeriesCount, timing, threadCount);
+        TimeseriesReports.timeseriesLoadingTimeDuration(reportNode, timeSeriesCount, timing);
+        return timeSeriesPerVersion;
+    }
+
+    /**
+     * Find the position following the end of the line containing the given position.
+     */
+    private static long findLineEnd(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long bufferPosition = position;
+        while (bufferPosition < size) {
+            buffer.clear();
+            int read = channel.read(buffer, bufferPosition);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return bufferPosition + i + 1;
+                }
+            }
+            bufferPosition += read;
+        }
+        return size;
+    }
+
+    private static CharBuffer decode(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new TimeSeriesException("CSV line range is too large to be mapped: " + (end - start) + " bytes");
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        return StandardCharsets.UTF_8.newDecoder().decode(buffer);
+    }
+
+    private List<long[]> splitInRanges(FileChannel channel, long dataStart, long size) throws IOException {
+        long dataSize = size - dataStart;
+        long rangeSize = Math.min(MAX_RANGE_SIZE, Math.max(MIN_RANGE_SIZE, dataSize / ((long) threadCount * RANGES_PER_THREAD)));
+        List<long[]> ranges = new ArrayList<>();
+        long start = dataStart;
+        while (start < size) {
+            long end = start + rangeSize >= size ? size : findLineEnd(channel, start + rangeSize - 1, size);
+            ranges.add(new long[] {start, end});
+            start = end;
+        }
+        return ranges;
+    }
+
+    private List<ParsedRange> parseRanges(FileChannel channel, List<long[]> ranges, TimeSeries.CsvParsingContext context) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, Math.max(1, ranges.size())));
+        try {
+            List<Future<ParsedRange>> futures = new ArrayList<>(ranges.size());
+            for (long[] range : ranges) {
+                futures.add(executor.submit(() -> parseRange(channel, range[0], range[1], context)));
+            }
+            List<ParsedRange> parsedRanges = new ArrayList<>(ranges.size());
+            for (Future<ParsedRange> future : futures) {
+                parsedRanges.add(future.get());
+            }
+            return parsedRanges;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeSeriesException("CSV parsing has been interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new TimeSeriesException(e.getCause().toString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TimeSeriesException createInconsistentLineException(int line) {
+        return new TimeSeriesException("Columns of line " + line + " are inconsistent with header");
+    }
+
+    @SuppressWarnings("unchecked")
+    private ParsedRange parseRange(FileChannel channel, long start, long end, TimeSeries.CsvParsingContext context) throws IOException {
+        int columnCount = context.expectedTokens() - fixedColumns;
+        ParsedRange parsedRange = new ParsedRange(context, columnCount);
+        CsvParser csvParser = createCsvParser(timeSeriesCsvConfig);
+        for (String[] tokens : csvParser.iterate(new CharSequenceReader(decode(channel, start, end)))) {
+            if (tokens.length != context.expectedTokens()) {
+                // reported while stitching, where the line number is known
+                parsedRange.inconsistentLine = parsedRange.size();
+                csvParser.stopParsing();
+                break;
+            }
+            int version = DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
+            if (timeSeriesCsvConfig.versioned()) {
+                version = Integer.parseInt(tokens[1]);
+                if (version == DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES) {
+                    parsedRange.defaultVersionLines.put(parsedRange.size(), tokens);
+                }
+            }
+            parsedRange.versions.add(version);
+            parsedRange.instants.add(context.parseTokenTime(tokens[0]));
+            for (int i = 0; i < columnCount; i++) {
+                String token = tokens[i + fixedColumns] != null ? tokens[i + fixedColumns].trim() : "";
+                if (context.getDataType(i) == TimeSeriesDataType.DOUBLE) {
+                    ((TDoubleArrayList) parsedRange.values[i]).add(TimeSeries.parseDouble(token));
+                } else {
+                    ((List<String>) parsedRange.values[i]).add(TimeSeries.checkString(token));
+                }
+            }
+        }
+        return parsedRange;
+    }
+
+    /**
+     * Stitch parsed ranges in file order, a new list of time series being created each time the version changes,
+     * as {@link TimeSeries#readCsvValues} does.
+     */
+    private void stitch(List<ParsedRange> parsedRanges, TimeSeries.CsvParsingContext context,
+                        Map<Integer, List<TimeSeries>> timeSeriesPerVersion) {
+        boolean skipDuplicateTimeEntry = timeSeriesCsvConfig.isSkipDuplicateTimeEntry();
+        int currentVersion = Integer.MIN_VALUE;
+        for (int r = 0; r < parsedRanges.size(); r++) {
+            ParsedRange parsedRange = parsedRanges.get(r);
+            int segmentStart = 0;
+            for (int l = 0; l < parsedRange.size(); l++) {
+                int version = parsedRange.versions.getQuick(l);
+                String[] defaultVersionTokens = parsedRange.defaultVersionLines.get(l);
+                if (defaultVersionTokens != null) {
+                    context.checkVersion(version, defaultVersionTokens, reportNode);
+                }
+                if (currentVersion == Integer.MIN_VALUE) {
+                    currentVersion = version;
+                } else if (version != currentVersion) {
+                    context.addValues(parsedRange.instants, parsedRange.values, segmentStart, l);
+                    segmentStart = l;
+                    timeSeriesPerVersion.put(currentVersion, context.createTimeSeries());
+                    context.reInit();
+                    currentVersion = version;
+                }
+                if (skipDuplicateTimeEntry) {
+                    Instant previousInstant = l > segmentStart ? parsedRange.instants.get(l - 1) : context.getLastInstant();
+                    if (parsedRange.instants.get(l).equals(previousInstant)) {
+                        LOGGER.warn("Row with the same time have already been read, the row will be skipped");
+                        context.addValues(parsedRange.instants, parsedRange.values, segmentStart, l);
+                        segmentStart = l + 1;
+                    }
+                }
+            }
+            context.addValues(parsedRange.instants, parsedRange.values, segmentStart, parsedRange.size());
+            if (parsedRange.inconsistentLine != -1) {
+                // line numbered as by the sequential parser
+                throw createInconsistentLineException(context.timesSize());
+            }
+            // release range values as soon as they have been copied
+            parsedRanges.set(r, null);
+        }
+        timeSeriesPerVersion.put(currentVersion, context.createTimeSeries());
+    }
+}
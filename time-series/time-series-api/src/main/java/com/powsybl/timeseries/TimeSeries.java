@@ -18,7 +18,6 @@ import com.powsybl.timeseries.ast.NodeCalc;
 import com.univocity.parsers.common.ParsingContext;
 import com.univocity.parsers.common.ResultIterator;
 import com.univocity.parsers.csv.CsvParser;
-import com.univocity.parsers.csv.CsvParserSettings;
 import gnu.trove.list.array.TDoubleArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -191,6 +190,19 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         }
     }
 
+    /**
+     * Parse a CSV file with several threads, the file being split into line ranges which are parsed concurrently.
+     * Parsed time series are the same as the ones of {@link #parseCsv(Path, TimeSeriesCsvConfig, ReportNode)}.
+     */
+    static Map<Integer, List<TimeSeries>> parseCsvParallel(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig, int threadCount) {
+        return parseCsvParallel(file, timeSeriesCsvConfig, ReportNode.NO_OP, threadCount);
+    }
+
+    static Map<Integer, List<TimeSeries>> parseCsvParallel(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig,
+                                                           ReportNode reportNode, int threadCount) {
+        return ParallelCsvTimeSeriesParser.parse(file, timeSeriesCsvConfig, reportNode, threadCount);
+    }
+
     static double parseDouble(String token) {
         return token.isEmpty() ? Double.NaN : Double.parseDouble(token);
     }
@@ -252,23 +264,26 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
             // Change the value if it is versioned
             if (timeSeriesCsvConfig.versioned()) {
                 version = Integer.parseInt(tokens[1]);
+                checkVersion(version, tokens, reportNode);
+            }
+            return version;
+        }
 
-                // If the version is equals to the default version, either log a warning or throw an exception
-                if (version == DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES) {
-                    String line = String.join(";", tokens);
-                    if (timeSeriesCsvConfig.withStrictVersioningImport()) {
-                        throw new TimeSeriesException(String.format("The version number for a versioned TimeSeries cannot be equals to the default version number (%s) at line \"%s\"",
-                            DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
-                            line));
-                    } else {
-                        TimeseriesReports.warnsOnTimeseriesVersionNumber(reportNode, DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES, line);
-                        LOGGER.warn("The version number for a versioned TimeSeries should not be equals to the default version number ({}) at line \"{}}\"",
-                            DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
-                            line);
-                    }
+        void checkVersion(int version, String[] tokens, ReportNode reportNode) {
+            // If the version is equals to the default version, either log a warning or throw an exception
+            if (version == DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES) {
+                String line = String.join(";", tokens);
+                if (timeSeriesCsvConfig.withStrictVersioningImport()) {
+                    throw new TimeSeriesException(String.format("The version number for a versioned TimeSeries cannot be equals to the default version number (%s) at line \"%s\"",
+                        DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
+                        line));
+                } else {
+                    TimeseriesReports.warnsOnTimeseriesVersionNumber(reportNode, DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES, line);
+                    LOGGER.warn("The version number for a versioned TimeSeries should not be equals to the default version number ({}) at line \"{}}\"",
+                        DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
+                        line);
                 }
             }
-            return version;
         }
 
         int timesSize() {
@@ -337,6 +352,31 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
             };
         }
 
+        TimeSeriesDataType getDataType(int column) {
+            return dataTypes[column];
+        }
+
+        Instant getLastInstant() {
+            return instants.isEmpty() ? null : instants.get(instants.size() - 1);
+        }
+
+        /**
+         * Append already parsed values, from index {@code from} included to index {@code to} excluded.
+         */
+        void addValues(List<Instant> parsedInstants, Object[] parsedValues, int from, int to) {
+            instants.addAll(parsedInstants.subList(from, to));
+            for (int i = 0; i < dataTypes.length; i++) {
+                if (dataTypes[i] == TimeSeriesDataType.DOUBLE) {
+                    TDoubleArrayList doubleValues = (TDoubleArrayList) parsedValues[i];
+                    ((TDoubleArrayList) values[i]).add(doubleValues.toArray(from, to - from));
+                } else if (dataTypes[i] == TimeSeriesDataType.STRING) {
+                    ((List<String>) values[i]).addAll(((List<String>) parsedValues[i]).subList(from, to));
+                } else {
+                    throw assertDataType(dataTypes[i]);
+                }
+            }
+        }
+
         void reInit() {
             // re-init
             instants.clear();
@@ -483,12 +523,7 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
 
         Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new HashMap<>();
 
-        CsvParserSettings settings = new CsvParserSettings();
-        settings.getFormat().setDelimiter(timeSeriesCsvConfig.separator());
-        settings.getFormat().setQuoteEscape('"');
-        settings.getFormat().setLineSeparator(System.lineSeparator());
-        settings.setMaxColumns(timeSeriesCsvConfig.getMaxColumns());
-        CsvParser csvParser = new CsvParser(settings);
+        CsvParser csvParser = ParallelCsvTimeSeriesParser.createCsvParser(timeSeriesCsvConfig);
         ResultIterator<String[], ParsingContext> iterator = csvParser.iterate(reader).iterator();
         CsvParsingContext context = readCsvHeader(iterator, timeSeriesCsvConfig);
         readCsvValues(iterator, context, timeSeriesPerVersion, reportNode);
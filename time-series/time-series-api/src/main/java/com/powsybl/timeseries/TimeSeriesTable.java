@@ -7,7 +7,10 @@
  */
 package com.powsybl.timeseries;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.google.common.base.Stopwatch;
+import com.powsybl.commons.json.JsonUtil;
 import gnu.trove.list.array.TIntArrayList;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -20,9 +23,12 @@ import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -60,6 +66,10 @@ import static com.powsybl.timeseries.TimeSeries.writeInstantToNanoString;
  *     <li>Concurrency between data loading and other operations (CSV writing, statistics computation) is NOT supported</li>
  * </ul>
  *
+ * A table created with {@link #createMapped} stores its values in memory-mapped files of a directory instead of
+ * the heap or direct memory, so that tables larger than the available memory can be queried. Once {@link #flush()}ed,
+ * such a table can be reopened with {@link #openMapped}, without reloading the time series.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class TimeSeriesTable {
@@ -159,6 +169,47 @@ public class TimeSeriesTable {
 
     private final Lock statsLock = new ReentrantLock();
 
+    // directory of the header and data files of a memory-mapped table, null otherwise
+    private final Path directory;
+
+    private static final String HEADER_FILE_NAME = "table.json";
+
+    private static final String DATA_FILE_NAME = "data.bin";
+
+    private static final String HEADER_VERSION = "1.0";
+
+    /**
+     * Allocates consecutive regions of a file mapped in memory.
+     */
+    private static final class MappedFileAllocator implements IntFunction<ByteBuffer> {
+
+        private final Path file;
+
+        private long position = 0;
+
+        private final List<MappedByteBuffer> buffers = new ArrayList<>();
+
+        private MappedFileAllocator(Path file) {
+            this.file = Objects.requireNonNull(file);
+        }
+
+        @Override
+        public synchronized ByteBuffer apply(int size) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+                position += size;
+                buffers.add(buffer);
+                return buffer;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private synchronized void force() {
+            buffers.forEach(MappedByteBuffer::force);
+        }
+    }
+
     public TimeSeriesTable(int fromVersion, int toVersion, TimeSeriesIndex tableIndex) {
         this(fromVersion, toVersion, tableIndex, ByteBuffer::allocateDirect);
     }
@@ -173,6 +224,20 @@ public class TimeSeriesTable {
         this.toVersion = toVersion;
         this.tableIndex = Objects.requireNonNull(tableIndex);
         this.byteBufferAllocator = Objects.requireNonNull(byteBufferAllocator);
+        this.directory = null;
+    }
+
+    private TimeSeriesTable(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, Path directory) {
+        TimeSeriesVersions.check(fromVersion);
+        TimeSeriesVersions.check(toVersion);
+        if (toVersion < fromVersion) {
+            throw new TimeSeriesException("toVersion (" + toVersion + ") is expected to be greater than fromVersion (" + fromVersion + ")");
+        }
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.tableIndex = Objects.requireNonNull(tableIndex);
+        this.directory = Objects.requireNonNull(directory);
+        this.byteBufferAllocator = new MappedFileAllocator(directory.resolve(DATA_FILE_NAME));
     }
 
     public static TimeSeriesTable createDirectMem(int fromVersion, int toVersion, TimeSeriesIndex tableIndex) {
@@ -183,27 +248,171 @@ public class TimeSeriesTable {
         return new TimeSeriesTable(fromVersion, toVersion, tableIndex, ByteBuffer::allocate);
     }
 
+    /**
+     * Create a table whose values are stored in memory-mapped files of the given directory. Existing table data of
+     * the directory is overwritten.
+     */
+    public static TimeSeriesTable createMapped(int fromVersion, int toVersion, TimeSeriesIndex tableIndex, Path directory) {
+        Objects.requireNonNull(directory);
+        try {
+            Files.createDirectories(directory);
+            Files.deleteIfExists(directory.resolve(HEADER_FILE_NAME));
+            Files.deleteIfExists(directory.resolve(DATA_FILE_NAME));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new TimeSeriesTable(fromVersion, toVersion, tableIndex, directory);
+    }
+
+    /**
+     * Reopen a table created by {@link #createMapped} and then {@link #flush()}ed, possibly by another JVM. Data is
+     * mapped again, not read: only the pages which are accessed are loaded in memory.
+     */
+    public static TimeSeriesTable openMapped(Path directory) {
+        Objects.requireNonNull(directory);
+        Path headerFile = directory.resolve(HEADER_FILE_NAME);
+        if (!Files.exists(headerFile)) {
+            throw new TimeSeriesException("Time series table header file " + headerFile + " not found");
+        }
+        MappedTableHeader header = JsonUtil.parseJson(headerFile, TimeSeriesTable::parseHeader);
+
+        // check data file size before mapping it, as mapping would extend a truncated file
+        long pointCount = (long) (header.toVersion - header.fromVersion + 1) * header.tableIndex.getPointCount();
+        long doubleCount = header.metadata.stream().filter(m -> m.getDataType() == TimeSeriesDataType.DOUBLE).count();
+        long expectedSize = pointCount * (doubleCount * Double.BYTES + (header.metadata.size() - doubleCount) * Integer.BYTES);
+        try {
+            long size = Files.size(directory.resolve(DATA_FILE_NAME));
+            if (size != expectedSize) {
+                throw new TimeSeriesException("Time series table data file size (" + size + ") is different from the expected one (" + expectedSize + ")");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        TimeSeriesTable table = new TimeSeriesTable(header.fromVersion, header.toVersion, header.tableIndex, directory);
+        table.initTable(header.metadata, false);
+        table.stringBuffer.setDictionaries(header.stringDictionaries);
+        return table;
+    }
+
+    private static final class MappedTableHeader {
+        private int fromVersion = -1;
+        private int toVersion = -1;
+        private TimeSeriesIndex tableIndex;
+        private final List<TimeSeriesMetadata> metadata = new ArrayList<>();
+        private final List<List<String>> stringDictionaries = new ArrayList<>();
+    }
+
+    private static MappedTableHeader parseHeader(JsonParser parser) {
+        MappedTableHeader header = new MappedTableHeader();
+        try {
+            parser.nextToken();
+            JsonUtil.parseObject(parser, name -> {
+                switch (name) {
+                    case "version" -> {
+                        String version = parser.nextTextValue();
+                        if (!HEADER_VERSION.equals(version)) {
+                            throw new TimeSeriesException("Unsupported time series table header version " + version);
+                        }
+                    }
+                    case "fromVersion" -> header.fromVersion = parser.nextIntValue(-1);
+                    case "toVersion" -> header.toVersion = parser.nextIntValue(-1);
+                    case RegularTimeSeriesIndex.TYPE -> header.tableIndex = RegularTimeSeriesIndex.parseJson(parser);
+                    case IrregularTimeSeriesIndex.TYPE -> header.tableIndex = IrregularTimeSeriesIndex.parseJson(parser, TimeSeriesIndex.ExportFormat.NANOSECONDS);
+                    case "metadata" -> JsonUtil.parseObjectArray(parser, header.metadata::add, TimeSeriesMetadata::parseJson);
+                    case "stringDictionaries" -> {
+                        parser.nextToken();
+                        while (parser.nextToken() == JsonToken.START_ARRAY) {
+                            List<String> dictionary = new ArrayList<>();
+                            while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                                dictionary.add(parser.getText());
+                            }
+                            header.stringDictionaries.add(dictionary);
+                        }
+                    }
+                    default -> {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (header.tableIndex == null) {
+            throw new TimeSeriesException("Time series table index is missing");
+        }
+        return header;
+    }
+
+    /**
+     * Write the values of a memory-mapped table to its files, and its time series metadata to a header file, so that
+     * the table can then be reopened with {@link #openMapped}.
+     */
+    public void flush() {
+        if (directory == null) {
+            throw new TimeSeriesException("Time series table is not memory-mapped");
+        }
+        if (timeSeriesMetadata == null) {
+            throw new TimeSeriesException("Time series table is empty");
+        }
+        ((MappedFileAllocator) byteBufferAllocator).force();
+        JsonUtil.writeJson(directory.resolve(HEADER_FILE_NAME), generator -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("version", HEADER_VERSION);
+                generator.writeNumberField("fromVersion", fromVersion);
+                generator.writeNumberField("toVersion", toVersion);
+                generator.writeFieldName(tableIndex.getType());
+                tableIndex.writeJson(generator, TimeSeriesIndex.ExportFormat.NANOSECONDS);
+                generator.writeFieldName("metadata");
+                generator.writeStartArray();
+                for (TimeSeriesMetadata metadata : timeSeriesMetadata) {
+                    metadata.writeJson(generator);
+                }
+                generator.writeEndArray();
+                generator.writeFieldName("stringDictionaries");
+                generator.writeStartArray();
+                for (List<String> dictionary : stringBuffer.getDictionaries()) {
+                    generator.writeStartArray();
+                    for (String value : dictionary) {
+                        generator.writeString(value);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
     private void initTable(List<DoubleTimeSeries> doubleTimeSeries, List<StringTimeSeries> stringTimeSeries) {
+        List<TimeSeriesMetadata> sortedMetadata = new ArrayList<>(doubleTimeSeries.size() + stringTimeSeries.size());
+        doubleTimeSeries.stream()
+                .map(TimeSeries::getMetadata)
+                .sorted(Comparator.comparing(TimeSeriesMetadata::getName))
+                .forEach(sortedMetadata::add);
+        stringTimeSeries.stream()
+                .map(TimeSeries::getMetadata)
+                .sorted(Comparator.comparing(TimeSeriesMetadata::getName))
+                .forEach(sortedMetadata::add);
+        initTable(sortedMetadata, true);
+    }
+
+    private void initTable(List<TimeSeriesMetadata> sortedMetadata, boolean fillWithNaN) {
         initLock.lock();
         try {
             if (timeSeriesMetadata != null) {
                 return; // already initialized
             }
 
-            timeSeriesMetadata = new ArrayList<>(doubleTimeSeries.size() + stringTimeSeries.size());
+            timeSeriesMetadata = new ArrayList<>(sortedMetadata);
 
-            for (DoubleTimeSeries timeSeries : doubleTimeSeries.stream()
-                                                               .sorted(Comparator.comparing(ts -> ts.getMetadata().getName()))
-                                                               .toList()) {
-                timeSeriesMetadata.add(timeSeries.getMetadata());
-                int i = doubleTimeSeriesNames.add(timeSeries.getMetadata().getName());
-                timeSeriesIndexDoubleOrString.add(i);
-            }
-            for (StringTimeSeries timeSeries : stringTimeSeries.stream()
-                                                               .sorted(Comparator.comparing(ts -> ts.getMetadata().getName()))
-                                                               .toList()) {
-                timeSeriesMetadata.add(timeSeries.getMetadata());
-                int i = stringTimeSeriesNames.add(timeSeries.getMetadata().getName());
+            for (TimeSeriesMetadata metadata : sortedMetadata) {
+                int i = metadata.getDataType() == TimeSeriesDataType.DOUBLE ? doubleTimeSeriesNames.add(metadata.getName())
+                                                                           : stringTimeSeriesNames.add(metadata.getName());
                 timeSeriesIndexDoubleOrString.add(i);
             }
 
@@ -215,7 +424,8 @@ public class TimeSeriesTable {
 
             // allocate double buffer
             long doubleBufferSize = (long) versionCount * doubleTimeSeriesNames.size() * tableIndex.getPointCount();
-            doubleBuffer = createDoubleBuffer(byteBufferAllocator, doubleBufferSize, Double.NaN);
+            doubleBuffer = fillWithNaN ? createDoubleBuffer(byteBufferAllocator, doubleBufferSize, Double.NaN)
+                                       : createDoubleBuffer(byteBufferAllocator, doubleBufferSize);
 
             // allocate string buffer
             long stringBufferSize = (long) versionCount * stringTimeSeriesNames.size() * tableIndex.getPointCount();
@@ -0,0 +1,348 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries.ast;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.*;
+
+/**
+ * Evaluate a resolved {@link NodeCalc} tree on many points at once.
+ * <p>
+ * The tree is compiled once into a sequence of instructions, one per distinct node, each instruction writing its
+ * result to its own register. Points are then evaluated by blocks: each instruction is a simple loop over the
+ * {@code double} values of a block, which the JIT compiler is able to vectorize, instead of a tree visit per point.
+ * Results are the same as the ones of {@link NodeCalcEvaluator}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class NodeCalcBatchEvaluator {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private enum OpCode {
+        CONSTANT,
+        TIME_SERIES,
+        TIME,
+        BINARY_OPERATION,
+        UNARY_OPERATION,
+        MIN,
+        MAX,
+        BINARY_MIN,
+        BINARY_MAX
+    }
+
+    private record Instruction(OpCode opCode, int left, int right, double value,
+                               BinaryOperation.Operator binaryOperator, UnaryOperation.Operator unaryOperator) {
+
+        static Instruction of(OpCode opCode, int left, int right) {
+            return new Instruction(opCode, left, right, Double.NaN, null, null);
+        }
+    }
+
+    private final List<Instruction> instructions;
+
+    private final int resultRegister;
+
+    private final boolean timeDependent;
+
+    private NodeCalcBatchEvaluator(List<Instruction> instructions, int resultRegister) {
+        this.instructions = instructions;
+        this.resultRegister = resultRegister;
+        this.timeDependent = instructions.stream().anyMatch(instruction -> instruction.opCode == OpCode.TIME);
+    }
+
+    /**
+     * Compiles a tree whose time series names have already been resolved to numbers, see {@link NodeCalcResolver}.
+     */
+    public static NodeCalcBatchEvaluator compile(NodeCalc nodeCalc) {
+        Objects.requireNonNull(nodeCalc);
+        Compiler compiler = new Compiler();
+        int resultRegister = NodeCalcVisitors.visit(nodeCalc, null, compiler);
+        return new NodeCalcBatchEvaluator(compiler.instructions, resultRegister);
+    }
+
+    /**
+     * Whether or not the evaluation depends on the time of the points, in which case times have to be given to
+     * {@link #eval}.
+     */
+    public boolean isTimeDependent() {
+        return timeDependent;
+    }
+
+    /**
+     * Evaluate points from index {@code from} included to index {@code to} excluded.
+     *
+     * @param timeSeriesValues values of the time series, indexed by time series number and then by point
+     * @param times            times in milliseconds of the points, only needed if the evaluation is time dependent
+     * @param from             index of the first evaluated point
+     * @param to               index following the last evaluated point
+     * @param result           array receiving the result of the evaluation of each point
+     */
+    public void eval(double[][] timeSeriesValues, long[] times, int from, int to, double[] result) {
+        Objects.requireNonNull(timeSeriesValues);
+        Objects.requireNonNull(result);
+        if (timeDependent) {
+            Objects.requireNonNull(times);
+        }
+        double[][] registers = new double[instructions.size()][];
+        for (int r = 0; r < registers.length; r++) {
+            Instruction instruction = instructions.get(r);
+            registers[r] = new double[BLOCK_SIZE];
+            if (instruction.opCode == OpCode.CONSTANT) {
+                Arrays.fill(registers[r], instruction.value);
+            }
+        }
+        for (int blockStart = from; blockStart < to; blockStart += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, to - blockStart);
+            for (int r = 0; r < registers.length; r++) {
+                evalBlock(instructions.get(r), registers, registers[r], timeSeriesValues, times, blockStart, length);
+            }
+            System.arraycopy(registers[resultRegister], 0, result, blockStart, length);
+        }
+    }
+
+    private static void evalBlock(Instruction instruction, double[][] registers, double[] out,
+                                  double[][] timeSeriesValues, long[] times, int blockStart, int length) {
+        switch (instruction.opCode) {
+            case CONSTANT -> {
+                // already filled
+            }
+            case TIME_SERIES -> System.arraycopy(timeSeriesValues[instruction.left], blockStart, out, 0, length);
+            case TIME -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = times[blockStart + i];
+                }
+            }
+            case BINARY_OPERATION -> evalBinaryOperation(instruction.binaryOperator, registers[instruction.left], registers[instruction.right], out, length);
+            case UNARY_OPERATION -> evalUnaryOperation(instruction.unaryOperator, registers[instruction.left], out, length);
+            case MIN -> {
+                double[] in = registers[instruction.left];
+                for (int i = 0; i < length; i++) {
+                    out[i] = Math.min(in[i], instruction.value);
+                }
+            }
+            case MAX -> {
+                double[] in = registers[instruction.left];
+                for (int i = 0; i < length; i++) {
+                    out[i] = Math.max(in[i], instruction.value);
+                }
+            }
+            case BINARY_MIN -> {
+                double[] left = registers[instruction.left];
+                double[] right = registers[instruction.right];
+                for (int i = 0; i < length; i++) {
+                    out[i] = Math.min(left[i], right[i]);
+                }
+            }
+            case BINARY_MAX -> {
+                double[] left = registers[instruction.left];
+                double[] right = registers[instruction.right];
+                for (int i = 0; i < length; i++) {
+                    out[i] = Math.max(left[i], right[i]);
+                }
+            }
+        }
+    }
+
+    private static void evalBinaryOperation(BinaryOperation.Operator operator, double[] left, double[] right, double[] out, int length) {
+        // one loop per operator, so that loops stay simple enough to be vectorized
+        switch (operator) {
+            case PLUS -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] + right[i];
+                }
+            }
+            case MINUS -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] - right[i];
+                }
+            }
+            case MULTIPLY -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] * right[i];
+                }
+            }
+            case DIVIDE -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] / right[i];
+                }
+            }
+            case LESS_THAN -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] < right[i] ? 1d : 0d;
+                }
+            }
+            case LESS_THAN_OR_EQUALS_TO -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] <= right[i] ? 1d : 0d;
+                }
+            }
+            case GREATER_THAN -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] > right[i] ? 1d : 0d;
+                }
+            }
+            case GREATER_THAN_OR_EQUALS_TO -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] >= right[i] ? 1d : 0d;
+                }
+            }
+            case EQUALS -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] == right[i] ? 1d : 0d;
+                }
+            }
+            case NOT_EQUALS -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = left[i] != right[i] ? 1d : 0d;
+                }
+            }
+        }
+    }
+
+    private static void evalUnaryOperation(UnaryOperation.Operator operator, double[] in, double[] out, int length) {
+        switch (operator) {
+            case ABS -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = Math.abs(in[i]);
+                }
+            }
+            case NEGATIVE -> {
+                for (int i = 0; i < length; i++) {
+                    out[i] = -in[i];
+                }
+            }
+            case POSITIVE -> System.arraycopy(in, 0, out, 0, length);
+        }
+    }
+
+    /**
+     * Post-order visitor emitting one instruction per node, and returning the register of the node result.
+     */
+    private static final class Compiler implements NodeCalcVisitor<Integer, Void> {
+
+        private final List<Instruction> instructions = new ArrayList<>();
+
+        private final Map<NodeCalc, Integer> cachedRegisters = new IdentityHashMap<>();
+
+        private int emit(Instruction instruction) {
+            instructions.add(instruction);
+            return instructions.size() - 1;
+        }
+
+        private int emitConstant(double value) {
+            return emit(new Instruction(OpCode.CONSTANT, -1, -1, value, null, null));
+        }
+
+        @Override
+        public Integer visit(IntegerNodeCalc nodeCalc, Void arg) {
+            return emitConstant(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Integer visit(FloatNodeCalc nodeCalc, Void arg) {
+            return emitConstant(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Integer visit(DoubleNodeCalc nodeCalc, Void arg) {
+            return emitConstant(nodeCalc.getValue());
+        }
+
+        @Override
+        public Integer visit(BigDecimalNodeCalc nodeCalc, Void arg) {
+            return emitConstant(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Integer visit(BinaryOperation nodeCalc, Void arg, Integer left, Integer right) {
+            return emit(new Instruction(OpCode.BINARY_OPERATION, left, right, Double.NaN, nodeCalc.getOperator(), null));
+        }
+
+        @Override
+        public Integer visit(TimeNodeCalc nodeCalc, Void arg, Integer child) {
+            return emit(Instruction.of(OpCode.TIME, -1, -1));
+        }
+
+        @Override
+        public NodeCalc iterate(TimeNodeCalc nodeCalc, Void arg) {
+            return null;
+        }
+
+        @Override
+        public Integer visit(UnaryOperation nodeCalc, Void arg, Integer child) {
+            return emit(new Instruction(OpCode.UNARY_OPERATION, child, -1, Double.NaN, null, nodeCalc.getOperator()));
+        }
+
+        @Override
+        public NodeCalc iterate(UnaryOperation nodeCalc, Void arg) {
+            return nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(MinNodeCalc nodeCalc, Void arg, Integer child) {
+            return emit(new Instruction(OpCode.MIN, child, -1, nodeCalc.getMin(), null, null));
+        }
+
+        @Override
+        public NodeCalc iterate(MinNodeCalc nodeCalc, Void arg) {
+            return nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(MaxNodeCalc nodeCalc, Void arg, Integer child) {
+            return emit(new Instruction(OpCode.MAX, child, -1, nodeCalc.getMax(), null, null));
+        }
+
+        @Override
+        public NodeCalc iterate(MaxNodeCalc nodeCalc, Void arg) {
+            return nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(CachedNodeCalc nodeCalc, Void arg, Integer child) {
+            // a cached node shares the register of its child, which is only computed once
+            if (child == null) {
+                return cachedRegisters.get(nodeCalc);
+            }
+            cachedRegisters.put(nodeCalc, child);
+            return child;
+        }
+
+        @Override
+        public NodeCalc iterate(CachedNodeCalc nodeCalc, Void arg) {
+            return cachedRegisters.containsKey(nodeCalc) ? null : nodeCalc.getChild();
+        }
+
+        @Override
+        public Integer visit(TimeSeriesNameNodeCalc nodeCalc, Void arg) {
+            throw new IllegalStateException("NodeCalc should have been resolved before");
+        }
+
+        @Override
+        public Integer visit(TimeSeriesNumNodeCalc nodeCalc, Void arg) {
+            return emit(Instruction.of(OpCode.TIME_SERIES, nodeCalc.getTimeSeriesNum(), -1));
+        }
+
+        @Override
+        public Integer visit(BinaryMinCalc nodeCalc, Void arg, Integer left, Integer right) {
+            return emit(Instruction.of(OpCode.BINARY_MIN, left, right));
+        }
+
+        @Override
+        public Integer visit(BinaryMaxCalc nodeCalc, Void arg, Integer left, Integer right) {
+            return emit(Instruction.of(OpCode.BINARY_MAX, left, right));
+        }
+
+        @Override
+        public Pair<NodeCalc, NodeCalc> iterate(AbstractBinaryNodeCalc nodeCalc, Void arg) {
+            return Pair.of(nodeCalc.getLeft(), nodeCalc.getRight());
+        }
+    }
+}
@@ -18,9 +18,11 @@ import org.junit.jupiter.api.Test;
 import org.threeten.extra.Interval;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.BinaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -418,4 +420,60 @@ class CalculatedTimeSeriesTest {
         e0 = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseJson(jsonValueNull));
         assertEquals("Unexpected JSON token: VALUE_NULL", e0.getMessage());
     }
+
+    @Test
+    void batchEvaluationTest() {
+        int pointCount = 2500;
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(Instant.ofEpochMilli(0), Instant.ofEpochMilli(pointCount - 1), Duration.ofMillis(1));
+        double[] values1 = new double[pointCount];
+        double[] values2 = new double[pointCount - 100];
+        for (int i = 0; i < pointCount; i++) {
+            values1[i] = i % 13 == 0 ? Double.NaN : Math.sin(i / 10.0) * 100;
+        }
+        for (int i = 0; i < values2.length; i++) {
+            values2[i] = i / 500; // compressible step values
+        }
+        TimeSeriesMetadata metadata1 = new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, index);
+        TimeSeriesMetadata metadata2 = new TimeSeriesMetadata("ts2", TimeSeriesDataType.DOUBLE, index);
+        DoubleTimeSeries ts1 = new StoredDoubleTimeSeries(metadata1, new UncompressedDoubleDataChunk(0, values1));
+        // starts after the first point and compressed
+        DoubleTimeSeries ts2 = new StoredDoubleTimeSeries(metadata2, new UncompressedDoubleDataChunk(100, values2).tryToCompress());
+        TimeSeriesNameResolver resolver = new FromStoreTimeSeriesNameResolver(new ReadOnlyTimeSeriesStoreCache(ts1, ts2), 1);
+
+        NodeCalc cached = new CachedNodeCalc(BinaryOperation.multiply(new TimeSeriesNameNodeCalc("ts1"), new DoubleNodeCalc(2.5)));
+        List<NodeCalc> nodeCalcs = new ArrayList<>();
+        List<BinaryOperator<NodeCalc>> binaryOperations = List.of(BinaryOperation::plus, BinaryOperation::minus, BinaryOperation::multiply,
+                BinaryOperation::div, BinaryOperation::lessThan, BinaryOperation::lessThanOrEqualsTo, BinaryOperation::greaterThan,
+                BinaryOperation::greaterThanOrEqualsTo, BinaryOperation::equals, BinaryOperation::notEquals);
+        for (BinaryOperator<NodeCalc> binaryOperation : binaryOperations) {
+            nodeCalcs.add(binaryOperation.apply(cached, new TimeSeriesNameNodeCalc("ts2")));
+        }
+        nodeCalcs.add(BinaryOperation.plus(UnaryOperation.abs(cached), UnaryOperation.negative(new TimeSeriesNameNodeCalc("ts2"))));
+        nodeCalcs.add(BinaryOperation.minus(UnaryOperation.positive(cached), cached));
+        nodeCalcs.add(new BinaryMinCalc(new MinNodeCalc(cached, 10), new MaxNodeCalc(new TimeSeriesNameNodeCalc("ts2"), 2)));
+        nodeCalcs.add(new BinaryMaxCalc(new FloatNodeCalc(1.5f), BinaryOperation.div(new TimeSeriesNameNodeCalc("ts1"), new IntegerNodeCalc(3))));
+        nodeCalcs.add(BinaryOperation.plus(new TimeNodeCalc(new TimeSeriesNameNodeCalc("ts2")), new BigDecimalNodeCalc(BigDecimal.ONE)));
+        // time only depends on the points where the compressed time series changes
+        nodeCalcs.add(BinaryOperation.multiply(new TimeNodeCalc(new TimeSeriesNameNodeCalc("ts2")), new TimeSeriesNameNodeCalc("ts2")));
+        for (NodeCalc nodeCalc : nodeCalcs) {
+            CalculatedTimeSeries pointByPoint = new CalculatedTimeSeries("calc", nodeCalc, resolver);
+            CalculatedTimeSeries batch = new CalculatedTimeSeries("calc", nodeCalc, resolver)
+                    .setEvaluationMode(CalculatedTimeSeries.EvaluationMode.BATCH);
+            assertEquals(CalculatedTimeSeries.EvaluationMode.POINT_BY_POINT, pointByPoint.getEvaluationMode());
+            assertEquals(CalculatedTimeSeries.EvaluationMode.BATCH, batch.getEvaluationMode());
+            assertArrayEquals(pointByPoint.toArray(), batch.toArray(), 0, nodeCalc.toString());
+        }
+
+        // without any time series
+        timeSeries.setEvaluationMode(CalculatedTimeSeries.EvaluationMode.BATCH);
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> timeSeries.toArray());
+        assertTrue(e.getMessage().contains("has not been synchronized on a finite time index"));
+        timeSeries.synchronize(index);
+        double[] expected = new double[pointCount];
+        Arrays.fill(expected, 1);
+        assertArrayEquals(expected, timeSeries.toArray(), 0);
+
+        NodeCalc unresolved = new TimeSeriesNameNodeCalc("ts1");
+        assertThrows(IllegalStateException.class, () -> NodeCalcBatchEvaluator.compile(unresolved));
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.TimeSeries.TimeFormat;
+import org.apache.commons.io.file.PathUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a large versioned time series CSV file, comparing {@link TimeSeries#parseCsv(Path, TimeSeriesCsvConfig)}
+ * with {@link TimeSeries#parseCsvParallel(Path, TimeSeriesCsvConfig, int)}. Not run by unit tests, launch the
+ * {@link #main} method to run it.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class CsvParsingBenchmark {
+
+    @Param({"8760"})
+    private int pointCount;
+
+    @Param({"200"})
+    private int timeSeriesCount;
+
+    @Param({"4"})
+    private int threadCount;
+
+    private Path tmpDir;
+
+    private Path file;
+
+    private final TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS);
+
+    @Setup
+    public void setUp() throws IOException {
+        tmpDir = Files.createTempDirectory("csv-parsing-benchmark");
+        file = tmpDir.resolve("ts.csv");
+        ParallelCsvTimeSeriesParserTest.writeLargeCsv(file, 2, pointCount, timeSeriesCount);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        PathUtils.deleteDirectory(tmpDir);
+    }
+
+    @Benchmark
+    public Map<Integer, List<TimeSeries>> sequential() {
+        return TimeSeries.parseCsv(file, timeSeriesCsvConfig);
+    }
+
+    @Benchmark
+    public Map<Integer, List<TimeSeries>> parallel() {
+        return TimeSeries.parseCsvParallel(file, timeSeriesCsvConfig, threadCount);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CsvParsingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+                .run();
+    }
+}
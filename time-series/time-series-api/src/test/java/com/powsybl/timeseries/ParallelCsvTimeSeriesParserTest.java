@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.TimeSeries.TimeFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ParallelCsvTimeSeriesParserTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private Path write(String csv) throws IOException {
+        Path file = tmpDir.resolve("ts.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static void assertSameAsSequential(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig, int threadCount) {
+        Map<Integer, List<TimeSeries>> expected = TimeSeries.parseCsv(file, timeSeriesCsvConfig);
+        Map<Integer, List<TimeSeries>> actual = TimeSeries.parseCsvParallel(file, timeSeriesCsvConfig, threadCount);
+        assertEquals(expected, actual);
+    }
+
+    static void writeLargeCsv(Path file, int versionCount, int pointCount, int doubleTimeSeriesCount) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("Time;Version");
+            for (int i = 0; i < doubleTimeSeriesCount; i++) {
+                writer.write(";ts" + i);
+            }
+            writer.write(";tsString");
+            writer.newLine();
+            for (int version = 1; version <= versionCount; version++) {
+                for (int point = 0; point < pointCount; point++) {
+                    writer.write(Long.toString(point * 3_600_000L));
+                    writer.write(';');
+                    writer.write(Integer.toString(version));
+                    for (int i = 0; i < doubleTimeSeriesCount; i++) {
+                        writer.write(';');
+                        if ((point + i) % 17 != 0) {
+                            writer.write(Double.toString(version * 1000.0 + i + point / 7.0));
+                        }
+                    }
+                    writer.write(';');
+                    writer.write(point % 3 == 0 ? "" : "s" + (point % 5));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSameAsSequential() throws IOException {
+        Path file = write("""
+                Time;Version;ts1;ts2
+                0.000;1;1.0;
+                0.001;1;;a
+                0.002;1;3.0;"b;c"
+                0.000;2;4.0;c
+                0.001;2;5.0;
+
+                0.002;2;6.0;d
+                """);
+        assertSameAsSequential(file, new TimeSeriesCsvConfig(';', true, TimeFormat.FRACTIONS_OF_SECOND, true), 2);
+    }
+
+    @Test
+    void testSkipDuplicateTimeEntry() throws IOException {
+        Path file = write("""
+                Time;Version;ts1;ts2
+                0.000000000;1;1.0;
+                0.000000001;1;;a
+                0.000000001;1;;b
+                0.000000002;1;3.0;b
+                0.000000000;2;4.0;c
+                0.000000000;2;4.5;c
+                0.000000001;2;5.0;
+                0.000000002;2;6.0;d
+                """);
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', true, TimeFormat.FRACTIONS_OF_SECOND, true, true);
+        assertSameAsSequential(file, timeSeriesCsvConfig, 4);
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = TimeSeries.parseCsvParallel(file, timeSeriesCsvConfig, 4);
+        assertArrayEquals(new double[] {4.0, 5.0, 6.0}, ((DoubleTimeSeries) timeSeriesPerVersion.get(2).get(0)).toArray(), 0);
+    }
+
+    @Test
+    void testManyRanges() throws IOException {
+        // large enough to be split in several ranges
+        Path file = tmpDir.resolve("large.csv");
+        writeLargeCsv(file, 3, 2000, 50);
+        assertTrue(Files.size(file) > 3 * 1024 * 1024);
+        assertSameAsSequential(file, new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS), 4);
+    }
+
+    @Test
+    void testErrors() throws IOException {
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS, true);
+        Path emptyFile = write("");
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseCsvParallel(emptyFile, timeSeriesCsvConfig, 2));
+        assertEquals("CSV header is missing", e.getMessage());
+
+        Path onlyOneTime = write("""
+                Time;Version;ts1
+                0;1;1.0
+                """);
+        e = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseCsvParallel(onlyOneTime, timeSeriesCsvConfig, 2));
+        assertEquals("At least 2 rows are expected", e.getMessage());
+
+        Path unexpectedTokens = write("""
+                Time;Version;ts1
+                0;1;1.0
+                1;1;2.0;3.0
+                """);
+        e = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseCsvParallel(unexpectedTokens, timeSeriesCsvConfig, 2));
+        assertEquals("Columns of line 1 are inconsistent with header", e.getMessage());
+
+        // lines are numbered as by the sequential parser
+        Path unexpectedTokensAfterVersionChange = write("""
+                Time;Version;ts1
+                0;1;1.0
+                1;1;2.0
+                0;2;1.0
+                1;2;2.0;3.0
+                """);
+        String expectedMessage = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseCsv(unexpectedTokensAfterVersionChange, timeSeriesCsvConfig)).getMessage();
+        e = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseCsvParallel(unexpectedTokensAfterVersionChange, timeSeriesCsvConfig, 2));
+        assertEquals(expectedMessage, e.getMessage());
+
+        Path defaultVersion = write("""
+                Time;Version;ts1
+                0;-1;1.0
+                1;-1;2.0
+                """);
+        e = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseCsvParallel(defaultVersion, timeSeriesCsvConfig, 2));
+        assertTrue(e.getMessage().startsWith("The version number for a versioned TimeSeries cannot be equals to the default version number"));
+
+        assertThrows(IllegalArgumentException.class, () -> TimeSeries.parseCsvParallel(defaultVersion, timeSeriesCsvConfig, 0));
+    }
+}
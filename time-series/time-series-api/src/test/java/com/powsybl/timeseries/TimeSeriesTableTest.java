@@ -9,9 +9,14 @@ package com.powsybl.timeseries;
 
 import com.powsybl.timeseries.TimeSeries.TimeFormat;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -21,6 +26,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -67,18 +73,20 @@ class TimeSeriesTableTest {
     }
 
     private static TimeSeriesTable getTimeSeriesTable(TimeSeriesIndex index) {
+        // load time series in the table
+        TimeSeriesTable table = new TimeSeriesTable(1, 1, index);
+        loadTimeSeries(table, index);
+        return table;
+    }
+
+    private static void loadTimeSeries(TimeSeriesTable table, TimeSeriesIndex index) {
         TimeSeriesMetadata metadata1 = new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, index);
         TimeSeriesMetadata metadata2 = new TimeSeriesMetadata("ts2", TimeSeriesDataType.DOUBLE, index);
         TimeSeriesMetadata metadata3 = new TimeSeriesMetadata("ts3", TimeSeriesDataType.STRING, index);
         DoubleTimeSeries ts1 = new StoredDoubleTimeSeries(metadata1, new UncompressedDoubleDataChunk(0, new double[] {1, 2, 3, 4}));
         DoubleTimeSeries ts2 = new StoredDoubleTimeSeries(metadata2, new UncompressedDoubleDataChunk(0, new double[] {5, 6, 7, 8}));
         StringTimeSeries ts3 = new StringTimeSeries(metadata3, new UncompressedStringDataChunk(1, new String[] {"a", "b", "c"}));
-
-        // load time series in the table
-        TimeSeriesTable table = new TimeSeriesTable(1, 1, index);
-
         table.load(1, List.of(ts1, ts2, ts3));
-        return table;
     }
 
     @Test
@@ -276,4 +284,50 @@ class TimeSeriesTableTest {
         TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> new TimeSeriesTable(1, 0, index));
         assertTrue(e.getMessage().contains("toVersion (0) is expected to be greater than fromVersion (1)"));
     }
+
+    @Test
+    void testMapped(@TempDir Path tmpDir) throws IOException {
+        TimeSeriesIndex index = new RegularTimeSeriesIndex(Instant.ofEpochMilli(0), Instant.ofEpochMilli(0).plus(Duration.ofNanos(3)), Duration.ofNanos(1));
+        Path directory = tmpDir.resolve("table");
+        TimeSeriesTable table = TimeSeriesTable.createMapped(1, 1, index, directory);
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, table::flush);
+        assertEquals("Time series table is empty", e.getMessage());
+        loadTimeSeries(table, index);
+        double[] ppmcc = table.computePpmcc("ts1", 1);
+        table.flush();
+
+        // reopen the table, as another JVM would do
+        TimeSeriesTable reopenedTable = TimeSeriesTable.openMapped(directory);
+        assertEquals(index, reopenedTable.getTableIndex());
+        assertEquals(List.of("ts1", "ts2", "ts3"), reopenedTable.getTimeSeriesNames());
+        assertEquals(1, reopenedTable.getDoubleTimeSeriesIndex("ts2"));
+        assertEquals(0, reopenedTable.getStringTimeSeriesIndex("ts3"));
+        assertEquals(3, reopenedTable.getDoubleValue(1, 0, 2), 0);
+        assertEquals(8, reopenedTable.getDoubleValue(1, 1, 3), 0);
+        assertNull(reopenedTable.getStringValue(1, 2, 0));
+        assertEquals("c", reopenedTable.getStringValue(1, 2, 3));
+        assertEquals(2.5, reopenedTable.getMean(1, 0), 0);
+        assertArrayEquals(ppmcc, reopenedTable.computePpmcc("ts1", 1), 0);
+        assertEquals(table.toCsvString(new TimeSeriesCsvConfig(ZoneId.of("UTC"))),
+                     reopenedTable.toCsvString(new TimeSeriesCsvConfig(ZoneId.of("UTC"))));
+
+        // updates are persisted by a new flush
+        loadTimeSeries(reopenedTable, index);
+        reopenedTable.flush();
+        assertEquals(7, TimeSeriesTable.openMapped(directory).getDoubleValue(1, 1, 2), 0);
+
+        // truncated data file
+        try (var channel = Files.newByteChannel(directory.resolve("data.bin"), StandardOpenOption.WRITE)) {
+            channel.truncate(8);
+        }
+        e = assertThrows(TimeSeriesException.class, () -> TimeSeriesTable.openMapped(directory));
+        assertEquals("Time series table data file size (8) is different from the expected one (80)", e.getMessage());
+
+        Path otherDirectory = tmpDir.resolve("other");
+        e = assertThrows(TimeSeriesException.class, () -> TimeSeriesTable.openMapped(otherDirectory));
+        assertTrue(e.getMessage().contains("not found"));
+        TimeSeriesTable memTable = TimeSeriesTable.createMem(1, 1, index);
+        e = assertThrows(TimeSeriesException.class, memTable::flush);
+        assertEquals("Time series table is not memory-mapped", e.getMessage());
+    }
 }
@@ -0,0 +1,342 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.api;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Property bags sharing the same property names, with values stored by columns.
+ * <p>
+ * Property names are stored once for all the bags, and each column stores the values of a property as codes in a
+ * dictionary of distinct values. The bags added with {@link #addRow(String...)} are lightweight views on a row of the
+ * columns. A view is copied into its own map the first time it is modified or its entries are iterated, it then
+ * behaves as a regular {@link PropertyBag}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ColumnarPropertyBags extends PropertyBags {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<String> propertyNames;
+    private final Map<String, Integer> columnIndexes;
+    private final boolean removeInitialUnderscoreForIdentifiers;
+    private final boolean decodeEscapedIdentifiers;
+
+    // Code 0 is reserved for unbound values
+    private String[] dictionary = new String[INITIAL_CAPACITY];
+    private int dictionarySize = 1;
+    private Map<String, Integer> codes = new HashMap<>();
+
+    private int[][] columns;
+    private int capacity = INITIAL_CAPACITY;
+    private int rowCount = 0;
+
+    public ColumnarPropertyBags(List<String> propertyNames, boolean removeInitialUnderscoreForIdentifiers, boolean decodeEscapedIdentifiers) {
+        this.propertyNames = Objects.requireNonNull(propertyNames);
+        this.removeInitialUnderscoreForIdentifiers = removeInitialUnderscoreForIdentifiers;
+        this.decodeEscapedIdentifiers = decodeEscapedIdentifiers;
+        columnIndexes = new HashMap<>(propertyNames.size() * 2);
+        for (int i = 0; i < propertyNames.size(); i++) {
+            columnIndexes.putIfAbsent(propertyNames.get(i), i);
+        }
+        columns = new int[propertyNames.size()][INITIAL_CAPACITY];
+    }
+
+    public List<String> propertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * Add a bag with the given values, in the same order as the property names. A null value means that the
+     * property is not defined in the bag.
+     *
+     * @return the bag added
+     */
+    public PropertyBag addRow(String... values) {
+        if (values.length != propertyNames.size()) {
+            throw new IllegalArgumentException("Expected " + propertyNames.size() + " values, got " + values.length);
+        }
+        if (rowCount == capacity) {
+            capacity *= 2;
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = Arrays.copyOf(columns[c], capacity);
+            }
+        }
+        for (int c = 0; c < values.length; c++) {
+            columns[c][rowCount] = encode(values[c]);
+        }
+        Row row = new Row(rowCount++);
+        add(row);
+        return row;
+    }
+
+    private int encode(String value) {
+        if (value == null) {
+            return 0;
+        }
+        if (codes == null) {
+            codes = new HashMap<>(dictionarySize * 2);
+            for (int code = 1; code < dictionarySize; code++) {
+                codes.put(dictionary[code], code);
+            }
+        }
+        return codes.computeIfAbsent(value, v -> {
+            if (dictionarySize == dictionary.length) {
+                dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+            }
+            dictionary[dictionarySize] = v;
+            return dictionarySize++;
+        });
+    }
+
+    private String value(int column, int row) {
+        return dictionary[columns[column][row]];
+    }
+
+    /**
+     * Also release the memory only needed to add bags.
+     */
+    @Override
+    public void trimToSize() {
+        super.trimToSize();
+        capacity = Math.max(rowCount, 1);
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = Arrays.copyOf(columns[c], capacity);
+        }
+        dictionary = Arrays.copyOf(dictionary, dictionarySize);
+        codes = null;
+    }
+
+    private final class Row extends PropertyBag {
+
+        private final int index;
+
+        private volatile boolean materialized = false;
+
+        private Row(int index) {
+            super(propertyNames, removeInitialUnderscoreForIdentifiers, decodeEscapedIdentifiers);
+            this.index = index;
+        }
+
+        private String columnValue(Object key) {
+            Integer c = columnIndexes.get(key);
+            return c != null ? value(c, index) : null;
+        }
+
+        private void forEachColumnValue(BiConsumer<String, String> action) {
+            for (int c = 0; c < columns.length; c++) {
+                String value = value(c, index);
+                if (value != null) {
+                    action.accept(propertyNames.get(c), value);
+                }
+            }
+        }
+
+        /**
+         * Copy the values of the row into the map, for the bag to be modified or its entries to be iterated.
+         */
+        private void materialize() {
+            if (!materialized) {
+                synchronized (this) {
+                    if (!materialized) {
+                        forEachColumnValue(super::put);
+                        materialized = true;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String get(Object key) {
+            return materialized ? super.get(key) : columnValue(key);
+        }
+
+        @Override
+        public String getOrDefault(Object key, String defaultValue) {
+            if (materialized) {
+                return super.getOrDefault(key, defaultValue);
+            }
+            String value = columnValue(key);
+            return value != null ? value : defaultValue;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return materialized ? super.containsKey(key) : columnValue(key) != null;
+        }
+
+        @Override
+        public boolean containsValue(Object value) {
+            if (materialized) {
+                return super.containsValue(value);
+            }
+            for (int c = 0; c < columns.length; c++) {
+                String v = value(c, index);
+                if (v != null && v.equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int size() {
+            if (materialized) {
+                return super.size();
+            }
+            int size = 0;
+            for (int c = 0; c < columns.length; c++) {
+                if (columns[c][index] != 0) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super String> action) {
+            if (materialized) {
+                super.forEach(action);
+            } else {
+                forEachColumnValue(action::accept);
+            }
+        }
+
+        @Override
+        public Set<String> keySet() {
+            materialize();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<String> values() {
+            materialize();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            materialize();
+            return super.entrySet();
+        }
+
+        @Override
+        public String put(String key, String value) {
+            materialize();
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends String> m) {
+            materialize();
+            super.putAll(m);
+        }
+
+        @Override
+        public String putIfAbsent(String key, String value) {
+            materialize();
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public String remove(Object key) {
+            materialize();
+            return super.remove(key);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            materialize();
+            return super.remove(key, value);
+        }
+
+        @Override
+        public void clear() {
+            materialize();
+            super.clear();
+        }
+
+        @Override
+        public String replace(String key, String value) {
+            materialize();
+            return super.replace(key, value);
+        }
+
+        @Override
+        public boolean replace(String key, String oldValue, String newValue) {
+            materialize();
+            return super.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super String, ? extends String> function) {
+            materialize();
+            super.replaceAll(function);
+        }
+
+        @Override
+        public String computeIfAbsent(String key, Function<? super String, ? extends String> mappingFunction) {
+            materialize();
+            return super.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public String computeIfPresent(String key, BiFunction<? super String, ? super String, ? extends String> remappingFunction) {
+            materialize();
+            return super.computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public String compute(String key, BiFunction<? super String, ? super String, ? extends String> remappingFunction) {
+            materialize();
+            return super.compute(key, remappingFunction);
+        }
+
+        @Override
+        public String merge(String key, String value, BiFunction<? super String, ? super String, ? extends String> remappingFunction) {
+            materialize();
+            return super.merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public Object clone() {
+            materialize();
+            return super.clone();
+        }
+
+        @Override
+        public int hashCode() {
+            if (materialized) {
+                return super.hashCode();
+            }
+            // Same value as the one computed on the entries of the map
+            int[] entriesHashCode = {0};
+            forEachColumnValue((k, v) -> entriesHashCode[0] += k.hashCode() ^ v.hashCode());
+            return Objects.hash(entriesHashCode[0], propertyNames, removeInitialUnderscoreForIdentifiers);
+        }
+
+        @Override
+        public String toString() {
+            if (materialized) {
+                return super.toString();
+            }
+            StringJoiner joiner = new StringJoiner(", ", "{", "}");
+            forEachColumnValue((k, v) -> joiner.add(k + "=" + v));
+            return joiner.toString();
+        }
+    }
+}
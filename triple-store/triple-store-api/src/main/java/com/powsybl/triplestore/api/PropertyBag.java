@@ -221,13 +221,11 @@ public class PropertyBag extends HashMap<String, String> {
     }
 
     public void setResourceNames(List<String> resourceNames) {
-        this.resourceNames.clear();
-        this.resourceNames.addAll(Objects.requireNonNull(resourceNames));
+        this.resourceNames = new ArrayList<>(Objects.requireNonNull(resourceNames));
     }
 
     public void setClassPropertyNames(List<String> classPropertyNames) {
-        this.classPropertyNames.clear();
-        this.classPropertyNames.addAll(Objects.requireNonNull(classPropertyNames));
+        this.classPropertyNames = new ArrayList<>(Objects.requireNonNull(classPropertyNames));
     }
 
     public boolean isClassProperty(String name) {
@@ -235,8 +233,7 @@ public class PropertyBag extends HashMap<String, String> {
     }
 
     public void setMultivaluedProperty(List<String> multiValuedPropertyNames) {
-        this.multiValuedPropertyNames.clear();
-        this.multiValuedPropertyNames.addAll(Objects.requireNonNull(multiValuedPropertyNames));
+        this.multiValuedPropertyNames = new ArrayList<>(Objects.requireNonNull(multiValuedPropertyNames));
     }
 
     public boolean isMultivaluedProperty(String name) {
@@ -249,16 +246,18 @@ public class PropertyBag extends HashMap<String, String> {
         pb1.setResourceNames(resourceNames);
         pb1.setClassPropertyNames(classPropertyNames);
         pb1.setMultivaluedProperty(multiValuedPropertyNames);
-        pb1.putAll(this);
+        // Do not use putAll, that would copy query results stored by columns into their own map
+        forEach(pb1::put);
         return pb1;
     }
 
     private final List<String> propertyNames;
     private final boolean removeInitialUnderscoreForIdentifiers;
     private final boolean decodeEscapedIdentifiers;
-    private final List<String> resourceNames = new ArrayList<>();
-    private final List<String> classPropertyNames = new ArrayList<>();
-    private final List<String> multiValuedPropertyNames = new ArrayList<>();
+    // Most bags are query results that never set these lists, share an empty one until they are set
+    private List<String> resourceNames = Collections.emptyList();
+    private List<String> classPropertyNames = Collections.emptyList();
+    private List<String> multiValuedPropertyNames = Collections.emptyList();
 
     private static final String NAMESPACE_PREFIX = "data";
     private static final String INDENTATION = "    ";
@@ -9,9 +9,12 @@
 package com.powsybl.triplestore.api;
 
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -43,6 +46,25 @@ public interface TripleStore {
      */
     void read(InputStream is, String base, String contextName);
 
+    /**
+     * Read several files of a data source, the statements of each file being stored under a context named after the
+     * file. Implementations may parse the files concurrently, the result must be the same as reading them one after
+     * the other.
+     *
+     * @param ds the input data source
+     * @param names names of the files of the data source to read
+     * @param base the base URI used to convert relative URI's to absolute URI's
+     */
+    default void read(ReadOnlyDataSource ds, Collection<String> names, String base) {
+        for (String name : names) {
+            try (InputStream is = ds.newInputStream(name)) {
+                read(is, base, name);
+            } catch (IOException e) {
+                throw new TripleStoreException(String.format("Reading %s %s", base, name), e);
+            }
+        }
+    }
+
     /**
      * Write the contents of the Triplestore in the given data source.
      * Statements in each context will be written to separate fileNames in the output data source
@@ -15,6 +15,7 @@ public class TripleStoreOptions {
     private boolean removeInitialUnderscoreForIdentifiers = true;
     private boolean unescapeIdentifiers = true;
     private String queryCatalog = "";
+    private int readParallelism = Runtime.getRuntime().availableProcessors();
 
     public TripleStoreOptions() {
     }
@@ -50,4 +51,19 @@ public class TripleStoreOptions {
     public String queryCatalog() {
         return queryCatalog;
     }
+
+    /**
+     * Maximum number of files parsed concurrently when reading several files at once.
+     */
+    public TripleStoreOptions setReadParallelism(int readParallelism) {
+        if (readParallelism < 1) {
+            throw new IllegalArgumentException("Invalid read parallelism: " + readParallelism);
+        }
+        this.readParallelism = readParallelism;
+        return this;
+    }
+
+    public int getReadParallelism() {
+        return readParallelism;
+    }
 }
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.api.test;
+
+import com.powsybl.triplestore.api.ColumnarPropertyBags;
+import com.powsybl.triplestore.api.PropertyBag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ColumnarPropertyBagsTest {
+
+    private static final List<String> NAMES = List.of("id", "name", "value");
+
+    private static PropertyBag bag(String id, String name, String value) {
+        PropertyBag bag = new PropertyBag(NAMES, true, true);
+        bag.putNonNull("id", id);
+        bag.putNonNull("name", name);
+        bag.putNonNull("value", value);
+        return bag;
+    }
+
+    private static ColumnarPropertyBags bags() {
+        ColumnarPropertyBags bags = new ColumnarPropertyBags(NAMES, true, true);
+        bags.addRow("http://example.com/#_id0", "name0", "1.5");
+        bags.addRow("http://example.com/#_id1", new StringBuilder("name").append(0).toString(), null);
+        bags.addRow("http://example.com/#_id2%20x", null, "true");
+        return bags;
+    }
+
+    @Test
+    void testRows() {
+        ColumnarPropertyBags bags = bags();
+        assertEquals(3, bags.size());
+        assertEquals(NAMES, bags.propertyNames());
+
+        PropertyBag b0 = bags.get(0);
+        assertEquals(NAMES, b0.propertyNames());
+        assertEquals(3, b0.size());
+        assertEquals("id0", b0.getId("id"));
+        assertEquals("_id0", b0.getLocal("id"));
+        assertEquals("name0", b0.get("name"));
+        assertEquals(1.5, b0.asDouble("value"), 0.0);
+
+        PropertyBag b1 = bags.get(1);
+        assertEquals(2, b1.size());
+        assertFalse(b1.containsKey("value"));
+        assertNull(b1.get("value"));
+        assertNull(b1.get("unknown"));
+        assertTrue(Double.isNaN(b1.asDouble("value")));
+        assertEquals("default", b1.getOrDefault("value", "default"));
+        assertTrue(b1.containsValue("name0"));
+        // repeated values are shared
+        assertSame(b0.get("name"), b1.get("name"));
+
+        PropertyBag b2 = bags.get(2);
+        assertEquals("id2 x", b2.getId("id"));
+        assertTrue(b2.asBoolean("value", false));
+        assertFalse(b2.isEmpty());
+    }
+
+    @Test
+    void testSameAsPropertyBag() {
+        ColumnarPropertyBags bags = bags();
+        List<PropertyBag> expected = List.of(
+                bag("http://example.com/#_id0", "name0", "1.5"),
+                bag("http://example.com/#_id1", "name0", null),
+                bag("http://example.com/#_id2%20x", null, "true"));
+        for (int i = 0; i < expected.size(); i++) {
+            PropertyBag actual = bags.get(i);
+            assertEquals(expected.get(i).hashCode(), actual.hashCode());
+            assertEquals(expected.get(i).tabulate(), actual.tabulate());
+            assertEquals(expected.get(i), actual);
+            Map<String, String> expectedEntries = new HashMap<>(expected.get(i));
+            Map<String, String> entries = new HashMap<>();
+            actual.forEach(entries::put);
+            assertEquals(expectedEntries, entries);
+            assertEquals(expectedEntries, new HashMap<>(actual.copy()));
+            assertEquals(expectedEntries, new HashMap<>(actual));
+        }
+    }
+
+    @Test
+    void testModification() {
+        ColumnarPropertyBags bags = bags();
+        PropertyBag b1 = bags.get(1);
+        b1.put("value", "2.5");
+        assertEquals(3, b1.size());
+        assertEquals(2.5, b1.asDouble("value"), 0.0);
+        assertEquals("name0", b1.get("name"));
+        b1.remove("name");
+        assertEquals(2, b1.size());
+        assertFalse(b1.containsKey("name"));
+
+        // other rows are not modified
+        assertEquals("name0", bags.get(0).get("name"));
+        assertFalse(bags.get(2).containsKey("name"));
+    }
+
+    @Test
+    void testAddAfterTrim() {
+        ColumnarPropertyBags bags = bags();
+        bags.trimToSize();
+        for (int i = 0; i < 100; i++) {
+            bags.addRow("http://example.com/#_id" + (i + 3), "name" + (i % 2), null);
+        }
+        assertEquals(103, bags.size());
+        assertEquals("name0", bags.get(0).get("name"));
+        assertEquals("id102", bags.get(102).getId("id"));
+        assertEquals("name1", bags.get(102).get("name"));
+        assertSame(bags.get(0).get("name"), bags.get(101).get("name"));
+    }
+
+    @Test
+    void testInvalidRow() {
+        ColumnarPropertyBags bags = new ColumnarPropertyBags(NAMES, true, true);
+        assertThrows(IllegalArgumentException.class, () -> bags.addRow("id", "name"));
+    }
+}
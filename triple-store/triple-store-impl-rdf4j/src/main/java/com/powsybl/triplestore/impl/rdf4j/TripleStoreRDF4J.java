@@ -9,6 +9,7 @@
 package com.powsybl.triplestore.impl.rdf4j;
 
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.triplestore.api.*;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.*;
@@ -22,11 +23,14 @@ import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryResult;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.ParserConfig;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
 import org.eclipse.rdf4j.rio.helpers.XMLParserSettings;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.slf4j.Logger;
@@ -37,6 +41,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -79,13 +87,7 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
     public void read(InputStream is, String baseName, String contextName) {
         try (RepositoryConnection conn = repo.getConnection()) {
             conn.setIsolationLevel(IsolationLevels.NONE);
-
-            // Report invalid identifiers but do not fail
-            // (sometimes RDF identifiers contain spaces or begin with #)
-            // This is the default behavior for other triple store engines (e.g. Jena)
-            conn.getParserConfig().addNonFatalError(XMLParserSettings.FAIL_ON_INVALID_NCNAME);
-            conn.getParserConfig().addNonFatalError(BasicParserSettings.VERIFY_URI_SYNTAX);
-            conn.getParserConfig().addNonFatalError(XMLParserSettings.FAIL_ON_DUPLICATE_RDF_ID);
+            configureParser(conn.getParserConfig());
 
             Resource context = context(conn, contextName);
             // We add data with a context (graph) to keep the source of information
@@ -97,6 +99,96 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         }
     }
 
+    /**
+     * Parse the files concurrently, each one into its own list of statements, and add them to the repository in the
+     * order of the names, so that the result is the same as when reading the files one after the other.
+     * <p>
+     * At most {@code parallelism} files are parsed ahead of the one being added: the parsing of the next file only
+     * starts once a parsed file has been added, so that the statements of the whole model are never held in memory
+     * on top of the repository.
+     */
+    @Override
+    public void read(ReadOnlyDataSource ds, Collection<String> names, String baseName) {
+        int parallelism = Math.min(getOptions().getReadParallelism(), names.size());
+        if (parallelism <= 1) {
+            for (String name : names) {
+                try (InputStream is = ds.newInputStream(name)) {
+                    read(is, baseName, name);
+                } catch (IOException x) {
+                    throw new TripleStoreException(String.format("Reading %s %s", baseName, name), x);
+                }
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            Iterator<String> remainingNames = names.iterator();
+            Deque<Future<ParsedFile>> parsedFiles = new ArrayDeque<>(parallelism);
+            while (parsedFiles.size() < parallelism && remainingNames.hasNext()) {
+                String name = remainingNames.next();
+                parsedFiles.add(executor.submit(() -> parse(ds, name, baseName)));
+            }
+            try (RepositoryConnection conn = repo.getConnection()) {
+                conn.setIsolationLevel(IsolationLevels.NONE);
+                while (!parsedFiles.isEmpty()) {
+                    ParsedFile parsedFile = parsedFiles.poll().get();
+                    if (remainingNames.hasNext()) {
+                        String name = remainingNames.next();
+                        parsedFiles.add(executor.submit(() -> parse(ds, name, baseName)));
+                    }
+                    add(conn, parsedFile, baseName);
+                }
+            }
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new TripleStoreException(String.format("Reading %s %s", baseName, names), x);
+        } catch (ExecutionException x) {
+            if (x.getCause() instanceof TripleStoreException tse) {
+                throw tse;
+            }
+            throw new TripleStoreException(String.format("Reading %s %s", baseName, names), x.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record ParsedFile(String contextName, List<Statement> statements, Map<String, String> namespaces) {
+    }
+
+    private static ParsedFile parse(ReadOnlyDataSource ds, String name, String baseName) {
+        RDFParser parser = Rio.createParser(guessFormatFromName(name));
+        configureParser(parser.getParserConfig());
+        List<Statement> statements = new ArrayList<>();
+        Map<String, String> namespaces = new LinkedHashMap<>();
+        parser.setRDFHandler(new StatementCollector(statements, namespaces));
+        try (InputStream is = ds.newInputStream(name)) {
+            parser.parse(is, baseName);
+        } catch (IOException x) {
+            throw new TripleStoreException(String.format("Reading %s %s", baseName, name), x);
+        }
+        return new ParsedFile(name, statements, namespaces);
+    }
+
+    private static void add(RepositoryConnection conn, ParsedFile parsedFile, String baseName) {
+        conn.add(parsedFile.statements(), context(conn, parsedFile.contextName()));
+        // Same as when the parser inserts directly in the repository: do not redefine existing prefixes
+        parsedFile.namespaces().forEach((prefix, namespace) -> {
+            if (conn.getNamespace(prefix) == null) {
+                conn.setNamespace(prefix, namespace);
+            }
+        });
+        addNamespaceForBase(conn, baseName);
+    }
+
+    private static void configureParser(ParserConfig parserConfig) {
+        // Report invalid identifiers but do not fail
+        // (sometimes RDF identifiers contain spaces or begin with #)
+        // This is the default behavior for other triple store engines (e.g. Jena)
+        parserConfig.addNonFatalError(XMLParserSettings.FAIL_ON_INVALID_NCNAME);
+        parserConfig.addNonFatalError(BasicParserSettings.VERIFY_URI_SYNTAX);
+        parserConfig.addNonFatalError(XMLParserSettings.FAIL_ON_DUPLICATE_RDF_ID);
+    }
+
     private static RDFFormat guessFormatFromName(String name) {
         if (name.endsWith(".ttl")) {
             return RDFFormat.TURTLE;
@@ -194,20 +286,25 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
                 // This means that we have to filter distinct results
                 try (TupleQueryResult r = QueryResults.distinctResults(q.evaluate())) {
                     List<String> names = r.getBindingNames();
+                    // Results are stored by columns, property names and repeated values are shared by all the bags
+                    ColumnarPropertyBags columnarResults = new ColumnarPropertyBags(names, getOptions().isRemoveInitialUnderscoreForIdentifiers(), getOptions().unescapeIdentifiers());
                     while (r.hasNext()) {
                         BindingSet s = r.next();
-                        PropertyBag result = new PropertyBag(names, getOptions().isRemoveInitialUnderscoreForIdentifiers(), getOptions().unescapeIdentifiers());
-
-                        names.forEach(name -> {
-                            if (s.hasBinding(name)) {
-                                String value = s.getBinding(name).getValue().stringValue();
-                                result.put(name, value);
+                        String[] values = new String[names.size()];
+                        boolean bound = false;
+                        for (int i = 0; i < values.length; i++) {
+                            Binding binding = s.getBinding(names.get(i));
+                            if (binding != null) {
+                                values[i] = binding.getValue().stringValue();
+                                bound = true;
                             }
-                        });
-                        if (result.size() > 0) {
-                            results.add(result);
+                        }
+                        if (bound) {
+                            columnarResults.addRow(values);
                         }
                     }
+                    columnarResults.trimToSize();
+                    results = columnarResults;
                 }
             } catch (MalformedQueryException x) {
                 int line = 1;
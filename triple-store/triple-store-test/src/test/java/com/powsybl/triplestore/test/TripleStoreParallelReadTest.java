@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.test;
+
+import com.powsybl.commons.datasource.ResourceDataSource;
+import com.powsybl.commons.datasource.ResourceSet;
+import com.powsybl.triplestore.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class TripleStoreParallelReadTest {
+
+    private static final String BASE = "foo:cgmes-rtcs";
+
+    private static final List<String> NAMES = List.of("rtc-EQ.xml", "rtc-SSH.xml");
+
+    private static TripleStore read(String impl, int readParallelism) {
+        TripleStore tripleStore = TripleStoreFactory.create(impl, new TripleStoreOptions().setReadParallelism(readParallelism));
+        tripleStore.read(new ResourceDataSource("rtc", new ResourceSet("/cgmes-rtcs", NAMES)), NAMES, BASE);
+        return tripleStore;
+    }
+
+    @Test
+    void testSameAsSequential() {
+        QueryCatalog queries = new QueryCatalog("cgmes-rtcs/cgmes-rtcs.sparql");
+        for (String impl : TripleStoreFactory.allImplementations()) {
+            TripleStore sequential = read(impl, 1);
+            TripleStore parallel = read(impl, 2);
+            assertEquals(Set.of("contexts:rtc-EQ.xml", "contexts:rtc-SSH.xml"), parallel.contextNames());
+            assertEquals(sequential.contextNames(), parallel.contextNames());
+            assertEquals(new HashSet<>(sequential.getNamespaces()), new HashSet<>(parallel.getNamespaces()));
+
+            PropertyBags expected = sequential.query(queries.get("tapChangerControls"));
+            PropertyBags actual = parallel.query(queries.get("tapChangerControls"));
+            assertEquals(2, actual.size());
+            assertEquals(expected.pluckLocals("TapChangerControl"), actual.pluckLocals("TapChangerControl"));
+        }
+    }
+
+    @Test
+    void testParsingAheadIsBounded() throws InterruptedException {
+        CountDownLatch firstFileOpened = new CountDownLatch(1);
+        CountDownLatch releaseFirstFile = new CountDownLatch(1);
+        AtomicInteger openedFiles = new AtomicInteger();
+        ResourceDataSource ds = new ResourceDataSource("rtc", new ResourceSet("/cgmes-rtcs", NAMES)) {
+            @Override
+            public InputStream newInputStream(String fileName) {
+                if (openedFiles.getAndIncrement() == 0) {
+                    firstFileOpened.countDown();
+                    try {
+                        releaseFirstFile.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.newInputStream(fileName);
+            }
+        };
+        List<String> names = List.of("rtc-EQ.xml", "rtc-SSH.xml", "rtc-EQ.xml", "rtc-SSH.xml", "rtc-EQ.xml");
+        TripleStore tripleStore = TripleStoreFactory.create("rdf4j", new TripleStoreOptions().setReadParallelism(2));
+        Thread reader = new Thread(() -> tripleStore.read(ds, names, BASE));
+        reader.start();
+        try {
+            assertTrue(firstFileOpened.await(10, TimeUnit.SECONDS));
+            // while the first file is not parsed, no file after the window of 2 files is opened
+            Thread.sleep(200);
+            assertEquals(2, openedFiles.get());
+        } finally {
+            releaseFirstFile.countDown();
+            reader.join();
+        }
+        assertEquals(5, openedFiles.get());
+        assertEquals(Set.of("contexts:rtc-EQ.xml", "contexts:rtc-SSH.xml"), tripleStore.contextNames());
+    }
+
+    @Test
+    void testInvalidReadParallelism() {
+        TripleStoreOptions options = new TripleStoreOptions();
+        assertThrows(IllegalArgumentException.class, () -> options.setReadParallelism(0));
+    }
+
+    @Test
+    void testMissingFile() {
+        for (String impl : TripleStoreFactory.allImplementations()) {
+            TripleStore tripleStore = TripleStoreFactory.create(impl, new TripleStoreOptions().setReadParallelism(2));
+            ResourceDataSource ds = new ResourceDataSource("rtc", new ResourceSet("/cgmes-rtcs", NAMES));
+            List<String> names = List.of("rtc-EQ.xml", "missing.xml");
+            assertThrows(TripleStoreException.class, () -> tripleStore.read(ds, names, BASE));
+        }
+    }
+}